@@ -243,6 +243,11 @@ public abstract class ImmutableKeyValuePairs<K, V> {
       return false;
     }
     ImmutableKeyValuePairs<?, ?> that = (ImmutableKeyValuePairs<?, ?>) o;
+    // Skip comparing every key and value when the cached hash codes already tell them apart, as
+    // they do for most mismatches when used as keys of hash maps.
+    if (hashcode != 0 && that.hashcode != 0 && hashcode != that.hashcode) {
+      return false;
+    }
     return Arrays.equals(this.data, that.data);
   }
 
@@ -56,6 +56,18 @@ class ImmutableKeyValuePairsTest {
     assertThat(new TestPairs(new Object[] {"one", 55, "two", "b"}).isEmpty()).isFalse();
   }
 
+  @Test
+  void equalsWithCachedHashCodes() {
+    TestPairs one = new TestPairs(new Object[] {"one", 55});
+    TestPairs equal = new TestPairs(new Object[] {"one", 55});
+    TestPairs other = new TestPairs(new Object[] {"one", 66});
+    assertThat(one).isEqualTo(equal).isNotEqualTo(other);
+
+    // Compare again once hash codes are cached
+    assertThat(one.hashCode()).isEqualTo(equal.hashCode()).isNotEqualTo(other.hashCode());
+    assertThat(one).isEqualTo(equal).isNotEqualTo(other);
+  }
+
   @Test
   void toStringIsHumanReadable() {
     assertThat(new TestPairs(new Object[0]).toString()).isEqualTo("{}");
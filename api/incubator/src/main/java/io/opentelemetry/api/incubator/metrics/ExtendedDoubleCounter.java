@@ -23,4 +23,29 @@ public interface ExtendedDoubleCounter extends DoubleCounter {
   default boolean isEnabled() {
     return true;
   }
+
+  /**
+   * Returns a counter recording values with the given attributes.
+   *
+   * <p>Recording with a bound counter is equivalent to calling {@link #add(double, Attributes,
+   * Context)} with the bound attributes, but implementations may resolve the attributes once
+   * instead of on each call. Binding is meant for attributes recorded often during the lifetime of
+   * the counter, and implementations may retain resources for each bound set of attributes until
+   * the counter is no longer used.
+   *
+   * @param attributes The attributes to associate with recorded values.
+   */
+  default BoundDoubleCounter bind(Attributes attributes) {
+    return new BoundDoubleCounter() {
+      @Override
+      public void add(double value) {
+        ExtendedDoubleCounter.this.add(value, attributes);
+      }
+
+      @Override
+      public void add(double value, Context context) {
+        ExtendedDoubleCounter.this.add(value, attributes, context);
+      }
+    };
+  }
 }
@@ -24,4 +24,29 @@ public interface ExtendedLongCounter extends LongCounter {
   default boolean isEnabled() {
     return true;
   }
+
+  /**
+   * Returns a counter recording values with the given attributes.
+   *
+   * <p>Recording with a bound counter is equivalent to calling {@link #add(long, Attributes,
+   * Context)} with the bound attributes, but implementations may resolve the attributes once
+   * instead of on each call. Binding is meant for attributes recorded often during the lifetime of
+   * the counter, and implementations may retain resources for each bound set of attributes until
+   * the counter is no longer used.
+   *
+   * @param attributes The attributes to associate with recorded values.
+   */
+  default BoundLongCounter bind(Attributes attributes) {
+    return new BoundLongCounter() {
+      @Override
+      public void add(long value) {
+        ExtendedLongCounter.this.add(value, attributes);
+      }
+
+      @Override
+      public void add(long value, Context context) {
+        ExtendedLongCounter.this.add(value, attributes, context);
+      }
+    };
+  }
 }
@@ -7,6 +7,8 @@ package io.opentelemetry.exporter.internal.compression;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Collections;
+import java.util.Map;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -29,4 +31,12 @@ public interface Compressor {
 
   /** Wrap the {@code outputStream} with a compressing output stream. */
   OutputStream compress(OutputStream outputStream) throws IOException;
+
+  /**
+   * Headers to send with each request compressed by this compressor, such as the id of a
+   * dictionary the receiver needs to decompress requests.
+   */
+  default Map<String, String> getHeaders() {
+    return Collections.emptyMap();
+  }
 }
@@ -7,11 +7,19 @@ package io.opentelemetry.exporter.internal.compression;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.util.zip.GZIPOutputStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
 
 /**
  * Gzip {@link Compressor}.
  *
+ * <p>Unlike {@link java.util.zip.GZIPOutputStream}, which allocates a new {@link Deflater} and its
+ * native memory for each stream, {@link Deflater}s are returned to a pool when compressing streams
+ * are closed, and reused by the next ones.
+ *
  * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
  * at any time.
  */
@@ -19,6 +27,9 @@ public final class GzipCompressor implements Compressor {
 
   private static final GzipCompressor INSTANCE = new GzipCompressor();
 
+  // Grows to the number of streams compressed concurrently.
+  private final Queue<Deflater> deflaterPool = new ConcurrentLinkedQueue<>();
+
   private GzipCompressor() {}
 
   public static GzipCompressor getInstance() {
@@ -32,6 +43,79 @@ public final class GzipCompressor implements Compressor {
 
   @Override
   public OutputStream compress(OutputStream outputStream) throws IOException {
-    return new GZIPOutputStream(outputStream);
+    Deflater deflater = deflaterPool.poll();
+    if (deflater == null) {
+      deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, /* nowrap= */ true);
+    }
+    return new GzipOutputStream(outputStream, deflater, deflaterPool);
+  }
+
+  /** Writes the gzip format of RFC 1952 around the raw deflate output of a {@link Deflater}. */
+  private static final class GzipOutputStream extends DeflaterOutputStream {
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final byte[] HEADER = {
+      (byte) GZIP_MAGIC, // Magic number (short)
+      (byte) (GZIP_MAGIC >> 8), // Magic number (short)
+      Deflater.DEFLATED, // Compression method (CM)
+      0, // Flags (FLG)
+      0, // Modification time MTIME (int)
+      0, // Modification time MTIME (int)
+      0, // Modification time MTIME (int)
+      0, // Modification time MTIME (int)
+      0, // Extra flags (XFLG)
+      0 // Operating system (OS)
+    };
+
+    private final Queue<Deflater> deflaterPool;
+    private final CRC32 crc = new CRC32();
+    private boolean finished;
+    private boolean released;
+
+    private GzipOutputStream(OutputStream out, Deflater deflater, Queue<Deflater> deflaterPool)
+        throws IOException {
+      super(out, deflater, 512);
+      this.deflaterPool = deflaterPool;
+      out.write(HEADER);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      super.write(b, off, len);
+      crc.update(b, off, len);
+    }
+
+    @Override
+    public void finish() throws IOException {
+      if (finished) {
+        return;
+      }
+      finished = true;
+      super.finish();
+      byte[] trailer = new byte[8];
+      writeInt((int) crc.getValue(), trailer, 0);
+      writeInt((int) def.getBytesRead(), trailer, 4);
+      out.write(trailer);
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        // Does not end the deflater, as it was passed to the constructor.
+        super.close();
+      } finally {
+        if (!released) {
+          released = true;
+          def.reset();
+          deflaterPool.offer(def);
+        }
+      }
+    }
+
+    private static void writeInt(int value, byte[] buf, int offset) {
+      buf[offset] = (byte) value;
+      buf[offset + 1] = (byte) (value >> 8);
+      buf[offset + 2] = (byte) (value >> 16);
+      buf[offset + 3] = (byte) (value >> 24);
+    }
   }
 }
@@ -174,6 +174,8 @@ public class GrpcExporterBuilder<T extends Marshaler> {
   }
 
   public GrpcExporter<T> build() {
+    Map<String, String> compressorHeaders =
+        compressor == null ? Collections.emptyMap() : compressor.getHeaders();
     Supplier<Map<String, List<String>>> headerSupplier =
         () -> {
           Map<String, List<String>> result = new HashMap<>();
@@ -192,6 +194,8 @@ public class GrpcExporterBuilder<T extends Marshaler> {
                         merged.addAll(v2);
                         return merged;
                       }));
+          compressorHeaders.forEach(
+              (key, value) -> result.put(key, Collections.singletonList(value)));
           return result;
         };
 
@@ -164,6 +164,8 @@ public final class HttpExporterBuilder<T extends Marshaler> {
   }
 
   public HttpExporter<T> build() {
+    Map<String, String> compressorHeaders =
+        compressor == null ? Collections.emptyMap() : compressor.getHeaders();
     Supplier<Map<String, List<String>>> headerSupplier =
         () -> {
           Map<String, List<String>> result = new HashMap<>();
@@ -182,6 +184,8 @@ public final class HttpExporterBuilder<T extends Marshaler> {
                         merged.addAll(v2);
                         return merged;
                       }));
+          compressorHeaders.forEach(
+              (key, value) -> result.put(key, Collections.singletonList(value)));
           return result;
         };
 
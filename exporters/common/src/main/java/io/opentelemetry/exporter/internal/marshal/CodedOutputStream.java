@@ -44,6 +44,8 @@ import static io.opentelemetry.exporter.internal.marshal.WireFormat.MAX_VARINT_S
 import io.opentelemetry.api.internal.ConfigUtil;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 /**
  * Protobuf wire encoder.
@@ -56,7 +58,8 @@ import java.io.OutputStream;
 //
 // Differences
 // - No support for Message/Lite
-// - No support for ByteString or ByteBuffer
+// - No support for ByteString
+// - ByteBuffer support is limited to buffers with enough space remaining for the whole message
 // - No support for message set extensions
 // - No support for Unsafe
 // - No support for Java String, only UTF-8 bytes
@@ -85,6 +88,9 @@ public abstract class CodedOutputStream {
   private static final ThreadLocal<OutputStreamEncoder> THREAD_LOCAL_CODED_OUTPUT_STREAM =
       new ThreadLocal<>();
 
+  private static final ThreadLocal<ByteBufferEncoder> THREAD_LOCAL_BYTE_BUFFER_ENCODER =
+      new ThreadLocal<>();
+
   /**
    * Create a new {@code CodedOutputStream} wrapping the given {@code OutputStream}.
    *
@@ -103,6 +109,24 @@ public abstract class CodedOutputStream {
     return cos;
   }
 
+  /**
+   * Create a new {@code CodedOutputStream} writing to the given {@link ByteBuffer} from its
+   * position, which may be a direct buffer. The position of the buffer is advanced by the number of
+   * bytes written on {@link #flush()}.
+   *
+   * <p>NOTE: The buffer <strong>MUST</strong> have enough space remaining for all the bytes
+   * written, writing past its limit throws {@link java.nio.BufferOverflowException}.
+   */
+  static CodedOutputStream newInstance(final ByteBuffer output) {
+    ByteBufferEncoder cos = THREAD_LOCAL_BYTE_BUFFER_ENCODER.get();
+    if (cos == null) {
+      cos = new ByteBufferEncoder();
+      THREAD_LOCAL_BYTE_BUFFER_ENCODER.set(cos);
+    }
+    cos.reset(output);
+    return cos;
+  }
+
   // Disallow construction outside of this class.
   private CodedOutputStream() {}
 
@@ -582,4 +606,93 @@ public abstract class CodedOutputStream {
       position = 0;
     }
   }
+
+  /**
+   * A {@link CodedOutputStream} that writes directly to a {@link ByteBuffer}, without buffering.
+   * Fixed size values are written in little endian order with a view of the buffer in that order,
+   * so that the order of the buffer passed in does not matter.
+   */
+  private static final class ByteBufferEncoder extends CodedOutputStream {
+    private static final ByteBuffer EMPTY_BUFFER = ByteBuffer.allocate(0);
+
+    private ByteBuffer output = EMPTY_BUFFER;
+    private ByteBuffer buffer = EMPTY_BUFFER;
+
+    void reset(ByteBuffer output) {
+      this.output = output;
+      this.buffer =
+          output.order() == ByteOrder.LITTLE_ENDIAN
+              ? output
+              : output.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    void writeByteArrayNoTag(final byte[] value, int offset, int length) throws IOException {
+      writeUInt32NoTag(length);
+      write(value, offset, length);
+    }
+
+    @Override
+    void write(byte value) {
+      buffer.put(value);
+    }
+
+    @Override
+    void writeInt32NoTag(int value) {
+      if (value >= 0) {
+        writeUInt32NoTag(value);
+      } else {
+        // Must sign-extend.
+        writeUInt64NoTag(value);
+      }
+    }
+
+    @Override
+    void writeUInt32NoTag(int value) {
+      while (true) {
+        if ((value & ~0x7F) == 0) {
+          buffer.put((byte) value);
+          return;
+        } else {
+          buffer.put((byte) ((value & 0x7F) | 0x80));
+          value >>>= 7;
+        }
+      }
+    }
+
+    @Override
+    void writeFixed32NoTag(final int value) {
+      buffer.putInt(value);
+    }
+
+    @Override
+    void writeUInt64NoTag(long value) {
+      while (true) {
+        if ((value & ~0x7FL) == 0) {
+          buffer.put((byte) value);
+          return;
+        } else {
+          buffer.put((byte) (((int) value & 0x7F) | 0x80));
+          value >>>= 7;
+        }
+      }
+    }
+
+    @Override
+    void writeFixed64NoTag(final long value) {
+      buffer.putLong(value);
+    }
+
+    @Override
+    void flush() {
+      if (buffer != output) {
+        output.position(buffer.position());
+      }
+    }
+
+    @Override
+    void write(byte[] value, int offset, int length) {
+      buffer.put(value, offset, length);
+    }
+  }
 }
@@ -8,6 +8,7 @@ package io.opentelemetry.exporter.internal.marshal;
 import com.fasterxml.jackson.core.JsonGenerator;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Marshaler from an SDK structure to protobuf wire format.
@@ -24,6 +25,25 @@ public abstract class Marshaler {
     }
   }
 
+  /**
+   * Marshals into the {@link ByteBuffer} in proto binary format, from its position, which is
+   * advanced by {@link #getBinarySerializedSize()}. The buffer may be a direct buffer, for example
+   * to be written to a NIO channel without copying it.
+   *
+   * @throws IllegalArgumentException if the buffer has less than {@link
+   *     #getBinarySerializedSize()} bytes remaining.
+   */
+  public final void writeBinaryTo(ByteBuffer output) throws IOException {
+    int size = getBinarySerializedSize();
+    if (output.remaining() < size) {
+      throw new IllegalArgumentException(
+          "Buffer has " + output.remaining() + " bytes remaining, " + size + " are required");
+    }
+    try (Serializer serializer = new ProtoSerializer(output)) {
+      writeTo(serializer);
+    }
+  }
+
   /** Marshals into the {@link OutputStream} in proto JSON format. */
   public final void writeJsonTo(OutputStream output) throws IOException {
     try (JsonSerializer serializer = new JsonSerializer(output)) {
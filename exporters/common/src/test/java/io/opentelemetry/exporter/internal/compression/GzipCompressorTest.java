@@ -0,0 +1,48 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class GzipCompressorTest {
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 100, 100_000, 1_000_000})
+  void roundTrip(int size) throws IOException {
+    // Compress several times so that pooled deflaters are reused
+    for (int i = 0; i < 3; i++) {
+      byte[] data = new byte[size];
+      for (int j = 0; j < size; j++) {
+        data[j] = (byte) ((j * 31 + i) % 64);
+      }
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      try (OutputStream os = GzipCompressor.getInstance().compress(baos)) {
+        os.write(data);
+      }
+      assertThat(readAll(new GZIPInputStream(new ByteArrayInputStream(baos.toByteArray()))))
+          .isEqualTo(data);
+    }
+  }
+
+  private static byte[] readAll(InputStream is) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    byte[] buf = new byte[8192];
+    int read;
+    while ((read = is.read(buf)) != -1) {
+      baos.write(buf, 0, read);
+    }
+    return baos.toByteArray();
+  }
+}
@@ -5,15 +5,24 @@
 
 package io.opentelemetry.exporter.internal.marshal;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 
 class MarshalerTest {
 
@@ -47,4 +56,68 @@ class MarshalerTest {
     assertThatThrownBy(() -> marshaler.writeBinaryTo(os)).isInstanceOf(IOException.class);
     assertThatThrownBy(() -> marshaler.writeJsonTo(os)).isInstanceOf(IOException.class);
   }
+
+  private static Stream<Arguments> byteBuffers() {
+    return Stream.of(
+        Arguments.of(ByteBuffer.allocate(1024)),
+        Arguments.of(ByteBuffer.allocate(1024).order(ByteOrder.LITTLE_ENDIAN)),
+        Arguments.of(ByteBuffer.allocateDirect(1024)));
+  }
+
+  @ParameterizedTest
+  @MethodSource("byteBuffers")
+  void writeBinaryTo_ByteBufferMatchesOutputStream(ByteBuffer buffer) throws IOException {
+    Marshaler marshaler = new AllTypesMarshaler();
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    marshaler.writeBinaryTo(expected);
+
+    buffer.position(10);
+    marshaler.writeBinaryTo(buffer);
+    assertThat(buffer.position()).isEqualTo(10 + marshaler.getBinarySerializedSize());
+    byte[] actual = new byte[marshaler.getBinarySerializedSize()];
+    buffer.flip();
+    buffer.position(10);
+    buffer.get(actual);
+    assertThat(actual).isEqualTo(expected.toByteArray());
+  }
+
+  @Test
+  void writeBinaryTo_ByteBufferTooSmall() {
+    Marshaler marshaler = new AllTypesMarshaler();
+    ByteBuffer buffer = ByteBuffer.allocate(marshaler.getBinarySerializedSize() - 1);
+
+    assertThatThrownBy(() -> marshaler.writeBinaryTo(buffer))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThat(buffer.position()).isEqualTo(0);
+  }
+
+  private static class AllTypesMarshaler extends Marshaler {
+    private static final ProtoFieldInfo INT64 = ProtoFieldInfo.create(1, 8, "int64");
+    private static final ProtoFieldInfo UINT32 = ProtoFieldInfo.create(2, 16, "uint32");
+    private static final ProtoFieldInfo FIXED32 = ProtoFieldInfo.create(3, 29, "fixed32");
+    private static final ProtoFieldInfo FIXED64 = ProtoFieldInfo.create(4, 33, "fixed64");
+    private static final ProtoFieldInfo DOUBLE = ProtoFieldInfo.create(5, 41, "double");
+    private static final ProtoFieldInfo BYTES = ProtoFieldInfo.create(6, 50, "bytes");
+    private static final byte[] VALUE = "value".getBytes(StandardCharsets.UTF_8);
+
+    @Override
+    public int getBinarySerializedSize() {
+      return MarshalerUtil.sizeInt64(INT64, -1)
+          + MarshalerUtil.sizeUInt32(UINT32, 300)
+          + MarshalerUtil.sizeFixed32(FIXED32, 0x01020304)
+          + MarshalerUtil.sizeFixed64(FIXED64, 0x0102030405060708L)
+          + MarshalerUtil.sizeDouble(DOUBLE, 1.5)
+          + MarshalerUtil.sizeBytes(BYTES, VALUE);
+    }
+
+    @Override
+    protected void writeTo(Serializer output) throws IOException {
+      output.serializeInt64(INT64, -1);
+      output.serializeUInt32(UINT32, 300);
+      output.serializeFixed32(FIXED32, 0x01020304);
+      output.serializeFixed64(FIXED64, 0x0102030405060708L);
+      output.serializeDouble(DOUBLE, 1.5);
+      output.serializeBytes(BYTES, VALUE);
+    }
+  }
 }
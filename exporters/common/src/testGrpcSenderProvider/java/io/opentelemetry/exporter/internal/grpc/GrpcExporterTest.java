@@ -15,13 +15,17 @@ import io.github.netmikey.logunit.api.LogCapturer;
 import io.grpc.CallOptions;
 import io.grpc.Channel;
 import io.grpc.ManagedChannelBuilder;
+import io.opentelemetry.exporter.internal.compression.Compressor;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
 import io.opentelemetry.exporter.sender.grpc.managedchannel.internal.UpstreamGrpcSender;
 import io.opentelemetry.exporter.sender.okhttp.internal.OkHttpGrpcSender;
 import io.opentelemetry.internal.testing.slf4j.SuppressLogger;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Collections;
+import java.util.Map;
 import javax.annotation.Nullable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
@@ -77,6 +81,46 @@ class GrpcExporterTest {
     assertThat(logCapturer.getEvents()).isEmpty();
   }
 
+  @Test
+  @SetSystemProperty(
+      key = "io.opentelemetry.exporter.internal.grpc.GrpcSenderProvider",
+      value =
+          "io.opentelemetry.exporter.sender.grpc.managedchannel.internal.UpstreamGrpcSenderProvider")
+  void build_upstreamChannelWithCompressorHeaders() {
+    Compressor compressor =
+        new Compressor() {
+          @Override
+          public String getEncoding() {
+            return "zstd";
+          }
+
+          @Override
+          public OutputStream compress(OutputStream outputStream) {
+            return outputStream;
+          }
+
+          @Override
+          public Map<String, String> getHeaders() {
+            return Collections.singletonMap("zstd-dictionary-id", "1");
+          }
+        };
+
+    assertThatThrownBy(
+            () ->
+                new GrpcExporterBuilder<>(
+                        "exporter",
+                        "type",
+                        10,
+                        new URI("http://localhost"),
+                        () -> DummyServiceFutureStub::newFutureStub,
+                        "/path")
+                    .setChannel(ManagedChannelBuilder.forTarget("localhost").build())
+                    .setCompression(compressor)
+                    .build())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("not supported with a ManagedChannel");
+  }
+
   @Test
   @SetSystemProperty(
       key = "io.opentelemetry.exporter.internal.grpc.GrpcSenderProvider",
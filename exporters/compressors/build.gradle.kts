@@ -0,0 +1,14 @@
+plugins {
+  id("otel.java-conventions")
+  id("otel.publish-conventions")
+}
+
+description = "OpenTelemetry Exporter zstd and lz4 Compressors"
+otelJava.moduleName.set("io.opentelemetry.exporter.compressors.internal")
+
+dependencies {
+  implementation(project(":exporters:common"))
+
+  implementation("com.github.luben:zstd-jni")
+  implementation("org.lz4:lz4-java")
+}
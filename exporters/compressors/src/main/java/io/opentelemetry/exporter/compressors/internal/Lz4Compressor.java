@@ -0,0 +1,56 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.compressors.internal;
+
+import io.opentelemetry.exporter.internal.compression.Compressor;
+import java.io.IOException;
+import java.io.OutputStream;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+import net.jpountz.xxhash.XXHash32;
+import net.jpountz.xxhash.XXHashFactory;
+
+/**
+ * Lz4 {@link Compressor}, writing the lz4 frame format.
+ *
+ * <p>The block compressor and checksum are stateless, so a single instance of each is shared by all
+ * compressing streams instead of being looked up from their factories for each stream.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class Lz4Compressor implements Compressor {
+
+  private static final Lz4Compressor INSTANCE = new Lz4Compressor();
+
+  private static final LZ4Compressor BLOCK_COMPRESSOR =
+      LZ4Factory.fastestInstance().fastCompressor();
+  private static final XXHash32 CHECKSUM = XXHashFactory.fastestInstance().hash32();
+
+  private Lz4Compressor() {}
+
+  public static Lz4Compressor getInstance() {
+    return INSTANCE;
+  }
+
+  @Override
+  public String getEncoding() {
+    return "lz4";
+  }
+
+  @Override
+  public OutputStream compress(OutputStream outputStream) throws IOException {
+    // 64KB blocks, the smallest block size, bound the buffers allocated for each stream.
+    return new LZ4FrameOutputStream(
+        outputStream,
+        LZ4FrameOutputStream.BLOCKSIZE.SIZE_64KB,
+        -1L,
+        BLOCK_COMPRESSOR,
+        CHECKSUM,
+        LZ4FrameOutputStream.FLG.Bits.BLOCK_INDEPENDENCE);
+  }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.compressors.internal;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdCompressCtx;
+import com.github.luben.zstd.ZstdDictCompress;
+import io.opentelemetry.exporter.internal.compression.Compressor;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.annotation.Nullable;
+
+/**
+ * Zstd {@link Compressor}.
+ *
+ * <p>Creating a {@link ZstdCompressCtx} allocates its native state, so contexts are returned to a
+ * pool when compressing streams are closed, and reused by the next ones along with their output
+ * buffer. Data written to a compressing stream is buffered and compressed as a single frame when
+ * the stream is closed.
+ *
+ * <p>Requests of a process repeat the same resource attributes, scope names, attribute keys and
+ * span names. A compressor {@linkplain #create(byte[]) created} with a dictionary trained from
+ * sample requests, see {@link #trainDictionary(List, int)}, compresses those repetitions even in
+ * small requests. The id of the dictionary is sent with each request in the {@value
+ * #DICTIONARY_ID_HEADER} header so that the receiver can select the dictionary to decompress with.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class ZstdCompressor implements Compressor {
+
+  public static final String DICTIONARY_ID_HEADER = "zstd-dictionary-id";
+
+  // The default level of the zstd command line tool, a good compromise between speed and ratio.
+  private static final int LEVEL = 3;
+
+  private static final ZstdCompressor INSTANCE = new ZstdCompressor(null, Collections.emptyMap());
+
+  // Grows to the number of streams compressed concurrently.
+  private final Queue<PooledContext> contextPool = new ConcurrentLinkedQueue<>();
+  @Nullable private final ZstdDictCompress dictionary;
+  private final Map<String, String> headers;
+
+  private ZstdCompressor(@Nullable ZstdDictCompress dictionary, Map<String, String> headers) {
+    this.dictionary = dictionary;
+    this.headers = headers;
+  }
+
+  public static ZstdCompressor getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns a compressor which compresses with the {@code dictionary}.
+   *
+   * <p>The public exporter builders and autoconfigure only resolve compressors by name, with
+   * {@link ZstdCompressorProvider}, which compresses without a dictionary. A dictionary compressor
+   * can only be set with {@code setCompression(Compressor)} of the internal {@code
+   * HttpExporterBuilder} and {@code GrpcExporterBuilder}. With the {@code
+   * opentelemetry-exporter-sender-grpc-managed-channel} sender, the exporter must create its own
+   * channel: a {@code ManagedChannel} resolves compressors by encoding from a registry shared with
+   * other compressors, so building an exporter with both a channel and a dictionary compressor
+   * fails.
+   *
+   * @param dictionary a dictionary in the zstd dictionary format, such as one returned by {@link
+   *     #trainDictionary(List, int)}
+   * @throws IllegalArgumentException if the dictionary is not in the zstd dictionary format
+   */
+  public static ZstdCompressor create(byte[] dictionary) {
+    long dictionaryId = Zstd.getDictIdFromDict(dictionary);
+    if (dictionaryId == 0) {
+      throw new IllegalArgumentException("dictionary is not in the zstd dictionary format");
+    }
+    return new ZstdCompressor(
+        new ZstdDictCompress(dictionary, LEVEL),
+        Collections.singletonMap(DICTIONARY_ID_HEADER, Long.toString(dictionaryId)));
+  }
+
+  /**
+   * Trains a dictionary from the binary encoding of sample requests.
+   *
+   * @param samples the sample requests, which should be representative of exported requests
+   * @param maxDictionarySize the maximum size of the dictionary in bytes
+   * @throws IllegalArgumentException if the dictionary cannot be trained from the samples
+   */
+  public static byte[] trainDictionary(List<? extends Marshaler> samples, int maxDictionarySize)
+      throws IOException {
+    byte[][] encodedSamples = new byte[samples.size()][];
+    for (int i = 0; i < encodedSamples.length; i++) {
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      samples.get(i).writeBinaryTo(baos);
+      encodedSamples[i] = baos.toByteArray();
+    }
+    byte[] dictionary = new byte[maxDictionarySize];
+    long size = Zstd.trainFromBuffer(encodedSamples, dictionary);
+    if (Zstd.isError(size)) {
+      throw new IllegalArgumentException("Failed to train dictionary: " + Zstd.getErrorName(size));
+    }
+    return Arrays.copyOf(dictionary, (int) size);
+  }
+
+  @Override
+  public String getEncoding() {
+    return "zstd";
+  }
+
+  @Override
+  public Map<String, String> getHeaders() {
+    return headers;
+  }
+
+  @Override
+  public OutputStream compress(OutputStream outputStream) {
+    PooledContext context = contextPool.poll();
+    if (context == null) {
+      ZstdCompressCtx ctx = new ZstdCompressCtx().setLevel(LEVEL);
+      if (dictionary != null) {
+        ctx.loadDict(dictionary);
+      }
+      context = new PooledContext(ctx);
+    }
+    return new ZstdOutputStream(outputStream, context, contextPool);
+  }
+
+  private static final class PooledContext {
+    private final ZstdCompressCtx ctx;
+    private byte[] dst = new byte[0];
+
+    private PooledContext(ZstdCompressCtx ctx) {
+      this.ctx = ctx;
+    }
+  }
+
+  private static final class ZstdOutputStream extends ByteArrayOutputStream {
+    private final OutputStream out;
+    private final Queue<PooledContext> contextPool;
+    private final PooledContext context;
+    private boolean closed;
+
+    private ZstdOutputStream(
+        OutputStream out, PooledContext context, Queue<PooledContext> contextPool) {
+      super(1024);
+      this.out = out;
+      this.context = context;
+      this.contextPool = contextPool;
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      try {
+        int bound = (int) Zstd.compressBound(count);
+        if (context.dst.length < bound) {
+          context.dst = new byte[bound];
+        }
+        int length =
+            context.ctx.compressByteArray(context.dst, 0, context.dst.length, buf, 0, count);
+        out.write(context.dst, 0, length);
+        out.close();
+      } finally {
+        contextPool.offer(context);
+      }
+    }
+  }
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.compressors.internal;
+
+import io.opentelemetry.exporter.internal.compression.Compressor;
+import io.opentelemetry.exporter.internal.compression.CompressorProvider;
+
+/**
+ * {@link CompressorProvider} SPI implementation for {@link ZstdCompressor}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class ZstdCompressorProvider implements CompressorProvider {
+
+  @Override
+  public Compressor getInstance() {
+    return ZstdCompressor.getInstance();
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.compressors.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.luben.zstd.Zstd;
+import io.opentelemetry.exporter.internal.compression.Compressor;
+import io.opentelemetry.exporter.internal.compression.CompressorUtil;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
+import io.opentelemetry.exporter.internal.marshal.ProtoFieldInfo;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import net.jpountz.lz4.LZ4FrameInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CompressorsTest {
+
+  @ParameterizedTest
+  @ValueSource(strings = {"zstd", "lz4"})
+  void registeredByEncoding(String encoding) {
+    Compressor compressor = CompressorUtil.validateAndResolveCompressor(encoding);
+    assertThat(compressor).isNotNull();
+    assertThat(compressor.getEncoding()).isEqualTo(encoding);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 100, 100_000, 1_000_000})
+  void zstd_RoundTrip(int size) throws IOException {
+    // Compress several times so that pooled contexts are reused
+    for (int i = 0; i < 3; i++) {
+      byte[] data = data(size, i);
+      byte[] compressed = compress(ZstdCompressor.getInstance(), data);
+      assertThat(Zstd.decompress(compressed, data.length)).isEqualTo(data);
+    }
+  }
+
+  @Test
+  void zstdDictionary_RoundTrip() throws IOException {
+    List<Marshaler> samples = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      samples.add(new SampleMarshaler("service.name=checkout span=GET /api/cart/" + i));
+    }
+    byte[] dictionary = ZstdCompressor.trainDictionary(samples, 4096);
+    ZstdCompressor compressor = ZstdCompressor.create(dictionary);
+    assertThat(compressor.getHeaders())
+        .containsEntry(
+            ZstdCompressor.DICTIONARY_ID_HEADER, Long.toString(Zstd.getDictIdFromDict(dictionary)));
+    assertThat(ZstdCompressor.getInstance().getHeaders()).isEmpty();
+
+    for (int i = 0; i < 3; i++) {
+      byte[] data = data(100, i);
+      byte[] compressed = compress(compressor, data);
+      assertThat(Zstd.decompress(compressed, dictionary, data.length)).isEqualTo(data);
+    }
+  }
+
+  @Test
+  void zstdDictionary_InvalidDictionary() {
+    assertThatThrownBy(() -> ZstdCompressor.create(new byte[] {1, 2, 3, 4, 5, 6, 7, 8}))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("dictionary is not in the zstd dictionary format");
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 100, 100_000, 1_000_000})
+  void lz4_RoundTrip(int size) throws IOException {
+    for (int i = 0; i < 3; i++) {
+      byte[] data = data(size, i);
+      byte[] compressed = compress(Lz4Compressor.getInstance(), data);
+      assertThat(readAll(new LZ4FrameInputStream(new ByteArrayInputStream(compressed))))
+          .isEqualTo(data);
+    }
+  }
+
+  private static byte[] compress(Compressor compressor, byte[] data) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (OutputStream os = compressor.compress(baos)) {
+      os.write(data);
+    }
+    return baos.toByteArray();
+  }
+
+  private static byte[] data(int size, int seed) {
+    byte[] data = new byte[size];
+    byte[] text = ("span-" + seed + " resource attributes ").getBytes(StandardCharsets.UTF_8);
+    for (int i = 0; i < size; i++) {
+      data[i] = text[i % text.length];
+    }
+    return data;
+  }
+
+  private static byte[] readAll(InputStream is) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    byte[] buf = new byte[8192];
+    int read;
+    while ((read = is.read(buf)) != -1) {
+      baos.write(buf, 0, read);
+    }
+    return baos.toByteArray();
+  }
+
+  private static class SampleMarshaler extends Marshaler {
+    private static final ProtoFieldInfo VALUE = ProtoFieldInfo.create(1, 10, "value");
+
+    private final byte[] value;
+
+    private SampleMarshaler(String value) {
+      this.value = value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int getBinarySerializedSize() {
+      return MarshalerUtil.sizeBytes(VALUE, value);
+    }
+
+    @Override
+    protected void writeTo(Serializer output) throws IOException {
+      output.serializeString(VALUE, value);
+    }
+  }
+}
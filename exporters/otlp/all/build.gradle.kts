@@ -27,6 +27,7 @@ dependencies {
   testImplementation("io.grpc:grpc-stub")
 
   jmhImplementation(project(":sdk:testing"))
+  jmhImplementation(project(":exporters:compressors"))
   jmhImplementation(project(":exporters:sender:grpc-managed-channel"))
   jmhImplementation("com.linecorp.armeria:armeria")
   jmhImplementation("com.linecorp.armeria:armeria-grpc")
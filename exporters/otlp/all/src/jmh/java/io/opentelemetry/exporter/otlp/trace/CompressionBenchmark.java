@@ -0,0 +1,177 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.otlp.trace;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.exporter.compressors.internal.ZstdCompressor;
+import io.opentelemetry.exporter.internal.compression.Compressor;
+import io.opentelemetry.exporter.internal.compression.GzipCompressor;
+import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.trace.TestSpanData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the CPU time and compression ratio of compressing trace requests with gzip, zstd and
+ * zstd with a dictionary trained from sample requests. The compression ratio is the {@code
+ * uncompressedBytes} counter divided by the {@code compressedBytes} counter.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompressionBenchmark {
+
+  private static final AttributeKey<String> HTTP_METHOD = AttributeKey.stringKey("http.method");
+  private static final AttributeKey<String> HTTP_ROUTE = AttributeKey.stringKey("http.route");
+  private static final AttributeKey<Long> HTTP_STATUS_CODE =
+      AttributeKey.longKey("http.status_code");
+  private static final AttributeKey<String> USER_ID = AttributeKey.stringKey("user.id");
+
+  private static final Resource RESOURCE =
+      Resource.getDefault()
+          .merge(
+              Resource.create(
+                  Attributes.builder()
+                      .put("service.name", "checkout")
+                      .put("service.version", "1.4.2")
+                      .put("deployment.environment", "production")
+                      .put("host.name", "checkout-7d9f8b6c5d-x2x8q")
+                      .build()));
+  private static final InstrumentationScopeInfo INSTRUMENTATION_SCOPE_INFO =
+      InstrumentationScopeInfo.builder("io.opentelemetry.servlet-5.0")
+          .setVersion("2.3.0-alpha")
+          .build();
+  private static final String[] ROUTES = {
+    "/api/cart", "/api/cart/items", "/api/checkout", "/api/orders/{id}", "/api/users/{id}"
+  };
+
+  private static final int NUM_SAMPLES = 500;
+  private static final int MAX_DICTIONARY_SIZE = 16 * 1024;
+
+  @Param({"gzip", "zstd", "zstd-dictionary"})
+  String compression;
+
+  @Param({"1", "16", "512"})
+  int numSpans;
+
+  private Compressor compressor;
+  private byte[] request;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    Random random = new Random(0);
+    switch (compression) {
+      case "gzip":
+        compressor = GzipCompressor.getInstance();
+        break;
+      case "zstd":
+        compressor = ZstdCompressor.getInstance();
+        break;
+      case "zstd-dictionary":
+        List<TraceRequestMarshaler> samples = new ArrayList<>(NUM_SAMPLES);
+        for (int i = 0; i < NUM_SAMPLES; i++) {
+          samples.add(TraceRequestMarshaler.create(spans(1 + random.nextInt(16), random)));
+        }
+        compressor =
+            ZstdCompressor.create(ZstdCompressor.trainDictionary(samples, MAX_DICTIONARY_SIZE));
+        break;
+      default:
+        throw new IllegalStateException("Unknown compression " + compression);
+    }
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    TraceRequestMarshaler.create(spans(numSpans, random)).writeBinaryTo(baos);
+    request = baos.toByteArray();
+  }
+
+  @Benchmark
+  public int compress(CompressedSize compressedSize) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream(request.length);
+    try (OutputStream os = compressor.compress(baos)) {
+      os.write(request);
+    }
+    compressedSize.uncompressedBytes += request.length;
+    compressedSize.compressedBytes += baos.size();
+    return baos.size();
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class CompressedSize {
+    public long uncompressedBytes;
+    public long compressedBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      uncompressedBytes = 0;
+      compressedBytes = 0;
+    }
+  }
+
+  private static List<SpanData> spans(int numSpans, Random random) {
+    List<SpanData> spans = new ArrayList<>(numSpans);
+    for (int i = 0; i < numSpans; i++) {
+      String route = ROUTES[random.nextInt(ROUTES.length)];
+      long startEpochNanos = 1_700_000_000_000_000_000L + random.nextInt(Integer.MAX_VALUE);
+      spans.add(
+          TestSpanData.builder()
+              .setResource(RESOURCE)
+              .setInstrumentationScopeInfo(INSTRUMENTATION_SCOPE_INFO)
+              .setHasEnded(true)
+              .setSpanContext(
+                  SpanContext.create(
+                      String.format("%016x%016x", random.nextLong(), random.nextLong()),
+                      String.format("%016x", random.nextLong()),
+                      TraceFlags.getSampled(),
+                      TraceState.getDefault()))
+              .setParentSpanContext(SpanContext.getInvalid())
+              .setName("GET " + route)
+              .setKind(SpanKind.SERVER)
+              .setStartEpochNanos(startEpochNanos)
+              .setEndEpochNanos(startEpochNanos + random.nextInt(50_000_000))
+              .setAttributes(
+                  Attributes.builder()
+                      .put(HTTP_METHOD, "GET")
+                      .put(HTTP_ROUTE, route)
+                      .put(HTTP_STATUS_CODE, random.nextInt(10) == 0 ? 500L : 200L)
+                      .put(USER_ID, "user-" + random.nextInt(10_000))
+                      .build())
+              .setTotalAttributeCount(4)
+              .setStatus(StatusData.unset())
+              .build());
+    }
+    return spans;
+  }
+}
@@ -8,6 +8,7 @@ package io.opentelemetry.exporter.otlp.http.metrics;
 import io.opentelemetry.exporter.internal.http.HttpExporter;
 import io.opentelemetry.exporter.internal.http.HttpExporterBuilder;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.otlp.RequestSplitter;
 import io.opentelemetry.exporter.internal.otlp.metrics.LowAllocationMetricsRequestMarshaler;
 import io.opentelemetry.exporter.internal.otlp.metrics.MetricsRequestMarshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
@@ -39,18 +40,21 @@ public final class OtlpHttpMetricExporter implements MetricExporter {
   private final AggregationTemporalitySelector aggregationTemporalitySelector;
   private final DefaultAggregationSelector defaultAggregationSelector;
   private final MemoryMode memoryMode;
+  private final int maxRequestSize;
 
   OtlpHttpMetricExporter(
       HttpExporterBuilder<Marshaler> builder,
       HttpExporter<Marshaler> delegate,
       AggregationTemporalitySelector aggregationTemporalitySelector,
       DefaultAggregationSelector defaultAggregationSelector,
-      MemoryMode memoryMode) {
+      MemoryMode memoryMode,
+      int maxRequestSize) {
     this.builder = builder;
     this.delegate = delegate;
     this.aggregationTemporalitySelector = aggregationTemporalitySelector;
     this.defaultAggregationSelector = defaultAggregationSelector;
     this.memoryMode = memoryMode;
+    this.maxRequestSize = maxRequestSize;
   }
 
   /**
@@ -82,7 +86,7 @@ public final class OtlpHttpMetricExporter implements MetricExporter {
    * @since 1.29.0
    */
   public OtlpHttpMetricExporterBuilder toBuilder() {
-    return new OtlpHttpMetricExporterBuilder(builder.copy(), memoryMode);
+    return new OtlpHttpMetricExporterBuilder(builder.copy(), memoryMode, maxRequestSize);
   }
 
   @Override
@@ -101,13 +105,25 @@ public final class OtlpHttpMetricExporter implements MetricExporter {
   }
 
   /**
-   * Submits all the given metrics in a single batch to the OpenTelemetry collector.
+   * Submits all the given metrics in a single batch to the OpenTelemetry collector, split into
+   * several requests if they exceed the maximum request size, when one is configured.
    *
    * @param metrics the list of sampled Metrics to be exported.
    * @return the result of the operation
    */
   @Override
   public CompletableResultCode export(Collection<MetricData> metrics) {
+    if (maxRequestSize > 0) {
+      return RequestSplitter.export(
+          metrics,
+          LowAllocationMetricsRequestMarshaler.createRequestSizer(),
+          maxRequestSize,
+          this::exportRequest);
+    }
+    return exportRequest(metrics);
+  }
+
+  private CompletableResultCode exportRequest(Collection<MetricData> metrics) {
     if (memoryMode == MemoryMode.REUSABLE_DATA) {
       LowAllocationMetricsRequestMarshaler marshaler = marshalerPool.poll();
       if (marshaler == null) {
@@ -155,6 +171,7 @@ public final class OtlpHttpMetricExporter implements MetricExporter {
         "defaultAggregationSelector="
             + DefaultAggregationSelector.asString(defaultAggregationSelector));
     joiner.add("memoryMode=" + memoryMode);
+    joiner.add("maxRequestSize=" + maxRequestSize);
     return joiner.toString();
   }
 }
@@ -14,6 +14,7 @@ import io.opentelemetry.exporter.internal.compression.CompressorProvider;
 import io.opentelemetry.exporter.internal.compression.CompressorUtil;
 import io.opentelemetry.exporter.internal.http.HttpExporterBuilder;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.otlp.internal.OtlpHttpExporterUtil;
 import io.opentelemetry.exporter.otlp.internal.OtlpUserAgent;
 import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.common.export.ProxyOptions;
@@ -52,16 +53,19 @@ public final class OtlpHttpMetricExporterBuilder {
   private DefaultAggregationSelector defaultAggregationSelector =
       DefaultAggregationSelector.getDefault();
   private MemoryMode memoryMode;
+  private int maxRequestSize;
 
-  OtlpHttpMetricExporterBuilder(HttpExporterBuilder<Marshaler> delegate, MemoryMode memoryMode) {
+  OtlpHttpMetricExporterBuilder(
+      HttpExporterBuilder<Marshaler> delegate, MemoryMode memoryMode, int maxRequestSize) {
     this.delegate = delegate;
     this.memoryMode = memoryMode;
+    this.maxRequestSize = maxRequestSize;
     delegate.setMeterProvider(MeterProvider::noop);
     OtlpUserAgent.addUserAgentHeader(delegate::addConstantHeaders);
   }
 
   OtlpHttpMetricExporterBuilder() {
-    this(new HttpExporterBuilder<>("otlp", "metric", DEFAULT_ENDPOINT), DEFAULT_MEMORY_MODE);
+    this(new HttpExporterBuilder<>("otlp", "metric", DEFAULT_ENDPOINT), DEFAULT_MEMORY_MODE, 0);
   }
 
   /**
@@ -253,6 +257,24 @@ public final class OtlpHttpMetricExporterBuilder {
     return this;
   }
 
+  /**
+   * Sets the maximum size in bytes of a request. If unset or {@code 0}, each export is sent in a
+   * single request.
+   *
+   * <p>When set, exported metrics are split into requests of at most {@code maxRequestSize} bytes
+   * in the binary encoding, including the resources and scopes the metrics are grouped under. The
+   * requests are marshaled and sent one after the other, which bounds the memory used to export
+   * large batches. A metric larger than the limit is sent in a request of its own.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * OtlpHttpExporterUtil#setMaxRequestSize(OtlpHttpMetricExporterBuilder, int)}.
+   */
+  OtlpHttpMetricExporterBuilder setMaxRequestSize(int maxRequestSize) {
+    checkArgument(maxRequestSize >= 0, "maxRequestSize must be non-negative");
+    this.maxRequestSize = maxRequestSize;
+    return this;
+  }
+
   OtlpHttpMetricExporterBuilder exportAsJson() {
     delegate.exportAsJson();
     return this;
@@ -269,6 +291,7 @@ public final class OtlpHttpMetricExporterBuilder {
         delegate.build(),
         aggregationTemporalitySelector,
         defaultAggregationSelector,
-        memoryMode);
+        memoryMode,
+        maxRequestSize);
   }
 }
@@ -8,6 +8,7 @@ package io.opentelemetry.exporter.otlp.http.trace;
 import io.opentelemetry.exporter.internal.http.HttpExporter;
 import io.opentelemetry.exporter.internal.http.HttpExporterBuilder;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.otlp.RequestSplitter;
 import io.opentelemetry.exporter.internal.otlp.traces.LowAllocationTraceRequestMarshaler;
 import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
@@ -32,14 +33,17 @@ public final class OtlpHttpSpanExporter implements SpanExporter {
   private final HttpExporterBuilder<Marshaler> builder;
   private final HttpExporter<Marshaler> delegate;
   private final MemoryMode memoryMode;
+  private final int maxRequestSize;
 
   OtlpHttpSpanExporter(
       HttpExporterBuilder<Marshaler> builder,
       HttpExporter<Marshaler> delegate,
-      MemoryMode memoryMode) {
+      MemoryMode memoryMode,
+      int maxRequestSize) {
     this.builder = builder;
     this.delegate = delegate;
     this.memoryMode = memoryMode;
+    this.maxRequestSize = maxRequestSize;
   }
 
   /**
@@ -71,17 +75,29 @@ public final class OtlpHttpSpanExporter implements SpanExporter {
    * @since 1.29.0
    */
   public OtlpHttpSpanExporterBuilder toBuilder() {
-    return new OtlpHttpSpanExporterBuilder(builder.copy(), memoryMode);
+    return new OtlpHttpSpanExporterBuilder(builder.copy(), memoryMode, maxRequestSize);
   }
 
   /**
-   * Submits all the given spans in a single batch to the OpenTelemetry collector.
+   * Submits all the given spans in a single batch to the OpenTelemetry collector, split into
+   * several requests if they exceed the maximum request size, when one is configured.
    *
    * @param spans the list of sampled Spans to be exported.
    * @return the result of the operation
    */
   @Override
   public CompletableResultCode export(Collection<SpanData> spans) {
+    if (maxRequestSize > 0) {
+      return RequestSplitter.export(
+          spans,
+          LowAllocationTraceRequestMarshaler.createRequestSizer(),
+          maxRequestSize,
+          this::exportRequest);
+    }
+    return exportRequest(spans);
+  }
+
+  private CompletableResultCode exportRequest(Collection<SpanData> spans) {
     if (memoryMode == MemoryMode.REUSABLE_DATA) {
       LowAllocationTraceRequestMarshaler marshaler = marshalerPool.poll();
       if (marshaler == null) {
@@ -123,6 +139,7 @@ public final class OtlpHttpSpanExporter implements SpanExporter {
     StringJoiner joiner = new StringJoiner(", ", "OtlpHttpSpanExporter{", "}");
     joiner.add(builder.toString(false));
     joiner.add("memoryMode=" + memoryMode);
+    joiner.add("maxRequestSize=" + maxRequestSize);
     return joiner.toString();
   }
 }
@@ -15,6 +15,7 @@ import io.opentelemetry.exporter.internal.compression.CompressorProvider;
 import io.opentelemetry.exporter.internal.compression.CompressorUtil;
 import io.opentelemetry.exporter.internal.http.HttpExporterBuilder;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.otlp.internal.OtlpHttpExporterUtil;
 import io.opentelemetry.exporter.otlp.internal.OtlpUserAgent;
 import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.common.export.ProxyOptions;
@@ -39,15 +40,18 @@ public final class OtlpHttpSpanExporterBuilder {
 
   private final HttpExporterBuilder<Marshaler> delegate;
   private MemoryMode memoryMode;
+  private int maxRequestSize;
 
-  OtlpHttpSpanExporterBuilder(HttpExporterBuilder<Marshaler> delegate, MemoryMode memoryMode) {
+  OtlpHttpSpanExporterBuilder(
+      HttpExporterBuilder<Marshaler> delegate, MemoryMode memoryMode, int maxRequestSize) {
     this.delegate = delegate;
     this.memoryMode = memoryMode;
+    this.maxRequestSize = maxRequestSize;
     OtlpUserAgent.addUserAgentHeader(delegate::addConstantHeaders);
   }
 
   OtlpHttpSpanExporterBuilder() {
-    this(new HttpExporterBuilder<>("otlp", "span", DEFAULT_ENDPOINT), DEFAULT_MEMORY_MODE);
+    this(new HttpExporterBuilder<>("otlp", "span", DEFAULT_ENDPOINT), DEFAULT_MEMORY_MODE, 0);
   }
 
   /**
@@ -226,12 +230,30 @@ public final class OtlpHttpSpanExporterBuilder {
     return this;
   }
 
+  /**
+   * Sets the maximum size in bytes of a request. If unset or {@code 0}, each export is sent in a
+   * single request.
+   *
+   * <p>When set, exported spans are split into requests of at most {@code maxRequestSize} bytes
+   * in the binary encoding, including the resources and scopes the spans are grouped under. The
+   * requests are marshaled and sent one after the other, which bounds the memory used to export
+   * large batches. A span larger than the limit is sent in a request of its own.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * OtlpHttpExporterUtil#setMaxRequestSize(OtlpHttpSpanExporterBuilder, int)}.
+   */
+  OtlpHttpSpanExporterBuilder setMaxRequestSize(int maxRequestSize) {
+    checkArgument(maxRequestSize >= 0, "maxRequestSize must be non-negative");
+    this.maxRequestSize = maxRequestSize;
+    return this;
+  }
+
   /**
    * Constructs a new instance of the exporter based on the builder's values.
    *
    * @return a new exporter's instance
    */
   public OtlpHttpSpanExporter build() {
-    return new OtlpHttpSpanExporter(delegate, delegate.build(), memoryMode);
+    return new OtlpHttpSpanExporter(delegate, delegate.build(), memoryMode, maxRequestSize);
   }
 }
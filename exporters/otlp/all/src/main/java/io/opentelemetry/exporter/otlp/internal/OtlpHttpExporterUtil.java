@@ -0,0 +1,49 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.otlp.internal;
+
+import io.opentelemetry.exporter.otlp.http.metrics.OtlpHttpMetricExporterBuilder;
+import io.opentelemetry.exporter.otlp.http.trace.OtlpHttpSpanExporterBuilder;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * A collection of methods that allow use of experimental features of the OTLP HTTP exporters prior
+ * to availability in public APIs.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class OtlpHttpExporterUtil {
+
+  private OtlpHttpExporterUtil() {}
+
+  /** Reflectively set the maximum request size to the {@link OtlpHttpSpanExporterBuilder}. */
+  public static void setMaxRequestSize(OtlpHttpSpanExporterBuilder builder, int maxRequestSize) {
+    try {
+      Method method =
+          OtlpHttpSpanExporterBuilder.class.getDeclaredMethod("setMaxRequestSize", int.class);
+      method.setAccessible(true);
+      method.invoke(builder, maxRequestSize);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setMaxRequestSize on OtlpHttpSpanExporterBuilder", e);
+    }
+  }
+
+  /** Reflectively set the maximum request size to the {@link OtlpHttpMetricExporterBuilder}. */
+  public static void setMaxRequestSize(OtlpHttpMetricExporterBuilder builder, int maxRequestSize) {
+    try {
+      Method method =
+          OtlpHttpMetricExporterBuilder.class.getDeclaredMethod("setMaxRequestSize", int.class);
+      method.setAccessible(true);
+      method.invoke(builder, maxRequestSize);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setMaxRequestSize on OtlpHttpMetricExporterBuilder", e);
+    }
+  }
+}
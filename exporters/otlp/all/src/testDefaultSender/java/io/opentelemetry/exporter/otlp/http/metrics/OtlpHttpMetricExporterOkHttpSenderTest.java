@@ -102,7 +102,8 @@ class OtlpHttpMetricExporterOkHttpSenderTest
                   + "retryPolicy=RetryPolicy\\{.*\\}, "
                   + "aggregationTemporalitySelector=AggregationTemporalitySelector\\{.*\\}, "
                   + "defaultAggregationSelector=DefaultAggregationSelector\\{.*\\}, "
-                  + "memoryMode=IMMUTABLE_DATA"
+                  + "memoryMode=IMMUTABLE_DATA, "
+                  + "maxRequestSize=0"
                   + "\\}");
     }
   }
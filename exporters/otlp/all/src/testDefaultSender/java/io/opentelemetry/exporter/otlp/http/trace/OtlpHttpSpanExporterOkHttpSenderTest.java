@@ -49,7 +49,8 @@ class OtlpHttpSpanExporterOkHttpSenderTest
                   + "exportAsJson=false, "
                   + "headers=Headers\\{User-Agent=OBFUSCATED\\}, "
                   + "retryPolicy=RetryPolicy\\{.*\\}, "
-                  + "memoryMode=IMMUTABLE_DATA"
+                  + "memoryMode=IMMUTABLE_DATA, "
+                  + "maxRequestSize=0"
                   + "\\}");
     }
   }
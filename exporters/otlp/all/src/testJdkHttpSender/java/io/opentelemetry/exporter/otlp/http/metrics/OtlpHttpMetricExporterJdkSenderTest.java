@@ -103,7 +103,8 @@ class OtlpHttpMetricExporterJdkSenderTest
                   + "retryPolicy=RetryPolicy\\{.*\\}, "
                   + "aggregationTemporalitySelector=AggregationTemporalitySelector\\{.*\\}, "
                   + "defaultAggregationSelector=DefaultAggregationSelector\\{.*\\}, "
-                  + "memoryMode=IMMUTABLE_DATA"
+                  + "memoryMode=IMMUTABLE_DATA, "
+                  + "maxRequestSize=0"
                   + "\\}");
     }
   }
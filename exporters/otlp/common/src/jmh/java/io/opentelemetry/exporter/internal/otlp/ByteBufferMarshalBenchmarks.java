@@ -0,0 +1,89 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp;
+
+import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares encoding a request into a buffer which can be written to a NIO channel, by encoding to a
+ * stream and copying its bytes into a direct buffer, or by encoding directly into a heap or a
+ * direct buffer.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ByteBufferMarshalBenchmarks {
+
+  @State(Scope.Thread)
+  public static class BufferState {
+    private final NoCopyByteArrayOutputStream stream = new NoCopyByteArrayOutputStream();
+    private TraceRequestMarshaler marshaler;
+    private ByteBuffer heapBuffer;
+    private ByteBuffer directBuffer;
+
+    @Setup
+    public void setup(RequestMarshalState state) {
+      marshaler = TraceRequestMarshaler.create(state.spanDataList);
+      heapBuffer = ByteBuffer.allocate(marshaler.getBinarySerializedSize());
+      directBuffer = ByteBuffer.allocateDirect(marshaler.getBinarySerializedSize());
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public ByteBuffer stream(BufferState state) throws IOException {
+    state.stream.reset();
+    state.marshaler.writeBinaryTo(state.stream);
+    ByteBuffer buffer = state.directBuffer;
+    buffer.clear();
+    buffer.put(state.stream.buf(), 0, state.stream.size());
+    buffer.flip();
+    return buffer;
+  }
+
+  @Benchmark
+  @Threads(1)
+  public ByteBuffer heapBuffer(BufferState state) throws IOException {
+    ByteBuffer buffer = state.heapBuffer;
+    buffer.clear();
+    state.marshaler.writeBinaryTo(buffer);
+    buffer.flip();
+    return buffer;
+  }
+
+  @Benchmark
+  @Threads(1)
+  public ByteBuffer directBuffer(BufferState state) throws IOException {
+    ByteBuffer buffer = state.directBuffer;
+    buffer.clear();
+    state.marshaler.writeBinaryTo(buffer);
+    buffer.flip();
+    return buffer;
+  }
+
+  private static class NoCopyByteArrayOutputStream extends ByteArrayOutputStream {
+    private byte[] buf() {
+      return buf;
+    }
+  }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+/**
+ * Splits the items of an export into consecutive requests of at most a number of bytes in the
+ * binary encoding, and exports the requests one after the other.
+ *
+ * <p>The size of a request includes the messages of the resources and scopes its items are grouped
+ * under. Each request is only collected, and then marshaled by the export function, once the
+ * previous request completed, so that the memory used to marshal an export is bounded by the size
+ * of a request rather than the size of the export. An item larger than the limit is exported in a
+ * request of its own. The export stops at the first request which fails.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class RequestSplitter {
+
+  // The length of a nested message is encoded as a varint32, which takes at most 5 bytes.
+  private static final int MAX_LENGTH_SIZE = 5;
+
+  private RequestSplitter() {}
+
+  /**
+   * Exports {@code items} in requests of at most {@code maxRequestSize} bytes.
+   *
+   * @param items the items to export
+   * @param sizer returns the sizes of the items and of the resources and scopes grouping them
+   * @param maxRequestSize the maximum size of a request
+   * @param exportRequest exports the items of a request
+   * @return the result of the export, which fails as soon as one of the requests fails
+   */
+  public static <T> CompletableResultCode export(
+      Collection<T> items,
+      RequestSizer<T> sizer,
+      int maxRequestSize,
+      Function<Collection<T>, CompletableResultCode> exportRequest) {
+    SplitExport<T> export =
+        new SplitExport<>(new Requests<>(items.iterator(), sizer, maxRequestSize), exportRequest);
+    export.exportRemaining();
+    return export.result;
+  }
+
+  /** Returns the sizes of the items of a request and of the resources and scopes grouping them. */
+  public interface RequestSizer<T> {
+
+    /**
+     * Returns the size of {@code item}, not including the resource and scope it is grouped under.
+     */
+    int getItemSize(T item);
+
+    /** Returns the resource {@code item} is grouped under. */
+    Resource getResource(T item);
+
+    /** Returns the scope {@code item} is grouped under. */
+    InstrumentationScopeInfo getInstrumentationScopeInfo(T item);
+
+    /**
+     * Returns the size of the message grouping the items of {@code resource}, not including its
+     * scopes nor the length of the message.
+     */
+    int getResourceSize(Resource resource);
+
+    /**
+     * Returns the size of the message grouping the items of {@code scope}, not including its items
+     * nor the length of the message.
+     */
+    int getScopeSize(InstrumentationScopeInfo scope);
+  }
+
+  private static final class SplitExport<T> {
+    private final Requests<T> requests;
+    private final Function<Collection<T>, CompletableResultCode> exportRequest;
+    private final CompletableResultCode result = new CompletableResultCode();
+
+    private SplitExport(
+        Requests<T> requests, Function<Collection<T>, CompletableResultCode> exportRequest) {
+      this.requests = requests;
+      this.exportRequest = exportRequest;
+    }
+
+    /**
+     * Exports the remaining requests while they complete synchronously. When a request completes
+     * later, the thread completing it resumes the export.
+     */
+    private void exportRemaining() {
+      while (true) {
+        List<T> request = requests.next();
+        if (request == null) {
+          result.succeed();
+          return;
+        }
+        CompletableResultCode requestResult = exportRequest.apply(request);
+        // Set by the first of this loop and the completion callback, the second one continues
+        AtomicBoolean handedOff = new AtomicBoolean();
+        requestResult.whenComplete(
+            () -> {
+              if (handedOff.getAndSet(true)) {
+                onRequestComplete(requestResult);
+              }
+            });
+        if (!handedOff.getAndSet(true)) {
+          return;
+        }
+        if (!requestResult.isSuccess()) {
+          result.fail();
+          return;
+        }
+      }
+    }
+
+    private void onRequestComplete(CompletableResultCode requestResult) {
+      if (requestResult.isSuccess()) {
+        exportRemaining();
+      } else {
+        result.fail();
+      }
+    }
+  }
+
+  private static final class Requests<T> {
+    private final Iterator<T> items;
+    private final RequestSizer<T> sizer;
+    private final int maxRequestSize;
+
+    // The scopes of each resource of the request being collected
+    private final Map<Resource, Set<InstrumentationScopeInfo>> resourceScopes = new HashMap<>();
+
+    // The first item of the next request, which did not fit in the previous one
+    @Nullable private T pendingItem;
+    private int pendingItemSize;
+
+    private Requests(Iterator<T> items, RequestSizer<T> sizer, int maxRequestSize) {
+      this.items = items;
+      this.sizer = sizer;
+      this.maxRequestSize = maxRequestSize;
+    }
+
+    /** Returns the items of the next request, or {@code null} if all items were returned. */
+    @Nullable
+    private List<T> next() {
+      List<T> request = new ArrayList<>();
+      resourceScopes.clear();
+      long requestSize = 0;
+      if (pendingItem != null) {
+        request.add(pendingItem);
+        requestSize = pendingItemSize + groupingSize(pendingItem);
+        addGrouping(pendingItem);
+        pendingItem = null;
+      }
+      while (items.hasNext()) {
+        T item = items.next();
+        int size = sizer.getItemSize(item);
+        int groupingSize = groupingSize(item);
+        if (!request.isEmpty() && requestSize + groupingSize + size > maxRequestSize) {
+          pendingItem = item;
+          pendingItemSize = size;
+          break;
+        }
+        request.add(item);
+        if (groupingSize > 0) {
+          addGrouping(item);
+        }
+        requestSize += groupingSize + size;
+      }
+      return request.isEmpty() ? null : request;
+    }
+
+    /**
+     * Returns the size of the resource and scope messages the request needs to add to include
+     * {@code item}.
+     */
+    private int groupingSize(T item) {
+      Resource resource = sizer.getResource(item);
+      Set<InstrumentationScopeInfo> scopes = resourceScopes.get(resource);
+      InstrumentationScopeInfo scope = sizer.getInstrumentationScopeInfo(item);
+      int size = 0;
+      if (scopes == null) {
+        size += sizer.getResourceSize(resource) + MAX_LENGTH_SIZE;
+      }
+      if (scopes == null || !scopes.contains(scope)) {
+        size += sizer.getScopeSize(scope) + MAX_LENGTH_SIZE;
+      }
+      return size;
+    }
+
+    private void addGrouping(T item) {
+      resourceScopes
+          .computeIfAbsent(sizer.getResource(item), unused -> new HashSet<>())
+          .add(sizer.getInstrumentationScopeInfo(item));
+    }
+  }
+}
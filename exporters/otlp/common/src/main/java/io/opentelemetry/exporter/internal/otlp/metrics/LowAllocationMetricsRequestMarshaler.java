@@ -7,9 +7,15 @@ package io.opentelemetry.exporter.internal.otlp.metrics;
 
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.marshal.MarshalerContext;
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
 import io.opentelemetry.exporter.internal.marshal.StatelessMarshalerUtil;
+import io.opentelemetry.exporter.internal.otlp.InstrumentationScopeMarshaler;
+import io.opentelemetry.exporter.internal.otlp.RequestSplitter;
+import io.opentelemetry.exporter.internal.otlp.ResourceMarshaler;
 import io.opentelemetry.proto.collector.metrics.v1.internal.ExportMetricsServiceRequest;
+import io.opentelemetry.proto.metrics.v1.internal.ResourceMetrics;
+import io.opentelemetry.proto.metrics.v1.internal.ScopeMetrics;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.metrics.data.MetricData;
 import io.opentelemetry.sdk.resources.Resource;
@@ -78,6 +84,14 @@ public final class LowAllocationMetricsRequestMarshaler extends Marshaler {
         RESOURCE_METRIC_WRITER_KEY);
   }
 
+  /**
+   * Returns a {@link RequestSplitter.RequestSizer} of metrics, which sizes them in the binary
+   * encoding of a request. The returned sizer is not thread-safe.
+   */
+  public static RequestSplitter.RequestSizer<MetricData> createRequestSizer() {
+    return new MetricRequestSizer();
+  }
+
   private static int calculateSize(
       MarshalerContext context,
       Map<Resource, Map<InstrumentationScopeInfo, List<MetricData>>> resourceAndScopeMap) {
@@ -104,4 +118,46 @@ public final class LowAllocationMetricsRequestMarshaler extends Marshaler {
         MetricData::getInstrumentationScopeInfo,
         context);
   }
+
+  private static final class MetricRequestSizer
+      implements RequestSplitter.RequestSizer<MetricData> {
+    private final MarshalerContext context = new MarshalerContext();
+
+    @Override
+    public int getItemSize(MetricData metric) {
+      try {
+        return StatelessMarshalerUtil.sizeMessageWithContext(
+            ScopeMetrics.METRICS, metric, MetricStatelessMarshaler.INSTANCE, context);
+      } finally {
+        context.reset();
+      }
+    }
+
+    @Override
+    public Resource getResource(MetricData metric) {
+      return metric.getResource();
+    }
+
+    @Override
+    public InstrumentationScopeInfo getInstrumentationScopeInfo(MetricData metric) {
+      return metric.getInstrumentationScopeInfo();
+    }
+
+    @Override
+    public int getResourceSize(Resource resource) {
+      return ExportMetricsServiceRequest.RESOURCE_METRICS.getTagSize()
+          + MarshalerUtil.sizeMessage(ResourceMetrics.RESOURCE, ResourceMarshaler.create(resource))
+          + MarshalerUtil.sizeBytes(
+              ResourceMetrics.SCHEMA_URL, MarshalerUtil.toBytes(resource.getSchemaUrl()));
+    }
+
+    @Override
+    public int getScopeSize(InstrumentationScopeInfo scope) {
+      return ResourceMetrics.SCOPE_METRICS.getTagSize()
+          + MarshalerUtil.sizeMessage(
+              ScopeMetrics.SCOPE, InstrumentationScopeMarshaler.create(scope))
+          + MarshalerUtil.sizeBytes(
+              ScopeMetrics.SCHEMA_URL, MarshalerUtil.toBytes(scope.getSchemaUrl()));
+    }
+  }
 }
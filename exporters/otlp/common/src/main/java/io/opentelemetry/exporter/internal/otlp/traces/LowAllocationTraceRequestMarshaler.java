@@ -7,9 +7,15 @@ package io.opentelemetry.exporter.internal.otlp.traces;
 
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.marshal.MarshalerContext;
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
 import io.opentelemetry.exporter.internal.marshal.StatelessMarshalerUtil;
+import io.opentelemetry.exporter.internal.otlp.InstrumentationScopeMarshaler;
+import io.opentelemetry.exporter.internal.otlp.RequestSplitter;
+import io.opentelemetry.exporter.internal.otlp.ResourceMarshaler;
 import io.opentelemetry.proto.collector.trace.v1.internal.ExportTraceServiceRequest;
+import io.opentelemetry.proto.trace.v1.internal.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.internal.ScopeSpans;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.trace.data.SpanData;
@@ -78,6 +84,14 @@ public final class LowAllocationTraceRequestMarshaler extends Marshaler {
         RESOURCE_SPAN_WRITER_KEY);
   }
 
+  /**
+   * Returns a {@link RequestSplitter.RequestSizer} of spans, which sizes them in the binary
+   * encoding of a request. The returned sizer is not thread-safe.
+   */
+  public static RequestSplitter.RequestSizer<SpanData> createRequestSizer() {
+    return new SpanRequestSizer();
+  }
+
   private static int calculateSize(
       MarshalerContext context,
       Map<Resource, Map<InstrumentationScopeInfo, List<SpanData>>> resourceAndScopeMap) {
@@ -104,4 +118,44 @@ public final class LowAllocationTraceRequestMarshaler extends Marshaler {
         SpanData::getInstrumentationScopeInfo,
         context);
   }
+
+  private static final class SpanRequestSizer implements RequestSplitter.RequestSizer<SpanData> {
+    private final MarshalerContext context = new MarshalerContext();
+
+    @Override
+    public int getItemSize(SpanData span) {
+      try {
+        return StatelessMarshalerUtil.sizeMessageWithContext(
+            ScopeSpans.SPANS, span, SpanStatelessMarshaler.INSTANCE, context);
+      } finally {
+        context.reset();
+      }
+    }
+
+    @Override
+    public Resource getResource(SpanData span) {
+      return span.getResource();
+    }
+
+    @Override
+    public InstrumentationScopeInfo getInstrumentationScopeInfo(SpanData span) {
+      return span.getInstrumentationScopeInfo();
+    }
+
+    @Override
+    public int getResourceSize(Resource resource) {
+      return ExportTraceServiceRequest.RESOURCE_SPANS.getTagSize()
+          + MarshalerUtil.sizeMessage(ResourceSpans.RESOURCE, ResourceMarshaler.create(resource))
+          + MarshalerUtil.sizeBytes(
+              ResourceSpans.SCHEMA_URL, MarshalerUtil.toBytes(resource.getSchemaUrl()));
+    }
+
+    @Override
+    public int getScopeSize(InstrumentationScopeInfo scope) {
+      return ResourceSpans.SCOPE_SPANS.getTagSize()
+          + MarshalerUtil.sizeMessage(ScopeSpans.SCOPE, InstrumentationScopeMarshaler.create(scope))
+          + MarshalerUtil.sizeBytes(
+              ScopeSpans.SCHEMA_URL, MarshalerUtil.toBytes(scope.getSchemaUrl()));
+    }
+  }
 }
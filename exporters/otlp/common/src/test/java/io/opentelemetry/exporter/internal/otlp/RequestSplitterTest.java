@@ -0,0 +1,207 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RequestSplitterTest {
+
+  private static final Resource RESOURCE_A =
+      Resource.create(Attributes.builder().put("service.name", "a").build());
+  private static final Resource RESOURCE_B =
+      Resource.create(Attributes.builder().put("service.name", "b").build());
+  private static final InstrumentationScopeInfo SCOPE_A = InstrumentationScopeInfo.create("a");
+  private static final InstrumentationScopeInfo SCOPE_B = InstrumentationScopeInfo.create("b");
+
+  // Each request holds a resource and a scope message of 5 bytes each, which are counted with the
+  // 5 bytes of their maximum length prefix
+  private static final int GROUPING_SIZE = 20;
+
+  @Test
+  void splitsBySize() {
+    List<Collection<Item>> requests = new ArrayList<>();
+    List<Item> items = items(3, 4, 2, 10, 1, 1, 1);
+    CompletableResultCode result =
+        RequestSplitter.export(
+            items,
+            new ItemSizer(),
+            GROUPING_SIZE + 8,
+            request -> {
+              requests.add(new ArrayList<>(request));
+              return CompletableResultCode.ofSuccess();
+            });
+
+    assertThat(result.isSuccess()).isTrue();
+    assertThat(requests)
+        .containsExactly(
+            items.subList(0, 2), items.subList(2, 3), items.subList(3, 4), items.subList(4, 7));
+  }
+
+  @Test
+  void countsResourcesAndScopes() {
+    List<Collection<Item>> requests = new ArrayList<>();
+    Item first = new Item(RESOURCE_A, SCOPE_A, 1);
+    Item sameScope = new Item(RESOURCE_A, SCOPE_A, 1);
+    // Needs a scope message in the request
+    Item otherScope = new Item(RESOURCE_A, SCOPE_B, 1);
+    // Needs a resource and a scope message in the request
+    Item otherResource = new Item(RESOURCE_B, SCOPE_A, 1);
+    CompletableResultCode result =
+        RequestSplitter.export(
+            Arrays.asList(first, sameScope, otherScope, otherResource),
+            new ItemSizer(),
+            GROUPING_SIZE + 13,
+            request -> {
+              requests.add(new ArrayList<>(request));
+              return CompletableResultCode.ofSuccess();
+            });
+
+    assertThat(result.isSuccess()).isTrue();
+    assertThat(requests)
+        .containsExactly(
+            Arrays.asList(first, sameScope, otherScope), Collections.singletonList(otherResource));
+  }
+
+  @Test
+  void empty() {
+    List<Collection<Item>> requests = new ArrayList<>();
+    CompletableResultCode result =
+        RequestSplitter.export(
+            Collections.<Item>emptyList(),
+            new ItemSizer(),
+            GROUPING_SIZE + 8,
+            request -> {
+              requests.add(request);
+              return CompletableResultCode.ofSuccess();
+            });
+
+    assertThat(result.isSuccess()).isTrue();
+    assertThat(requests).isEmpty();
+  }
+
+  @Test
+  void exportsNextRequestWhenPreviousCompletes() {
+    List<CompletableResultCode> requestResults = new ArrayList<>();
+    CompletableResultCode result =
+        RequestSplitter.export(
+            items(5, 5, 5),
+            new ItemSizer(),
+            GROUPING_SIZE + 5,
+            request -> {
+              CompletableResultCode requestResult = new CompletableResultCode();
+              requestResults.add(requestResult);
+              return requestResult;
+            });
+
+    assertThat(requestResults).hasSize(1);
+    requestResults.get(0).succeed();
+    assertThat(requestResults).hasSize(2);
+    assertThat(result.isDone()).isFalse();
+
+    // The remaining requests are not exported after a failure
+    requestResults.get(1).fail();
+    assertThat(requestResults).hasSize(2);
+    assertThat(result.isDone()).isTrue();
+    assertThat(result.isSuccess()).isFalse();
+  }
+
+  @Test
+  void stopsAtFirstSynchronousFailure() {
+    List<Collection<Item>> requests = new ArrayList<>();
+    CompletableResultCode result =
+        RequestSplitter.export(
+            items(5, 5, 5),
+            new ItemSizer(),
+            GROUPING_SIZE + 5,
+            request -> {
+              requests.add(request);
+              return CompletableResultCode.ofFailure();
+            });
+
+    assertThat(requests).hasSize(1);
+    assertThat(result.isDone()).isTrue();
+    assertThat(result.isSuccess()).isFalse();
+  }
+
+  @Test
+  void manyRequestsCompletedSynchronously() {
+    List<Item> items = new ArrayList<>();
+    for (int i = 0; i < 100_000; i++) {
+      items.add(new Item(RESOURCE_A, SCOPE_A, 1));
+    }
+    int[] requestCount = new int[1];
+    CompletableResultCode result =
+        RequestSplitter.export(
+            items,
+            new ItemSizer(),
+            GROUPING_SIZE + 1,
+            request -> {
+              requestCount[0]++;
+              return CompletableResultCode.ofSuccess();
+            });
+
+    assertThat(result.isSuccess()).isTrue();
+    assertThat(requestCount[0]).isEqualTo(100_000);
+  }
+
+  private static List<Item> items(int... sizes) {
+    List<Item> items = new ArrayList<>();
+    for (int size : sizes) {
+      items.add(new Item(RESOURCE_A, SCOPE_A, size));
+    }
+    return items;
+  }
+
+  private static final class Item {
+    private final Resource resource;
+    private final InstrumentationScopeInfo scope;
+    private final int size;
+
+    private Item(Resource resource, InstrumentationScopeInfo scope, int size) {
+      this.resource = resource;
+      this.scope = scope;
+      this.size = size;
+    }
+  }
+
+  private static final class ItemSizer implements RequestSplitter.RequestSizer<Item> {
+    @Override
+    public int getItemSize(Item item) {
+      return item.size;
+    }
+
+    @Override
+    public Resource getResource(Item item) {
+      return item.resource;
+    }
+
+    @Override
+    public InstrumentationScopeInfo getInstrumentationScopeInfo(Item item) {
+      return item.scope;
+    }
+
+    @Override
+    public int getResourceSize(Resource resource) {
+      return 5;
+    }
+
+    @Override
+    public int getScopeSize(InstrumentationScopeInfo scope) {
+      return 5;
+    }
+  }
+}
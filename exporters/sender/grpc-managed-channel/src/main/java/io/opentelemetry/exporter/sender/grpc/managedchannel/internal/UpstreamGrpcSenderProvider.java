@@ -52,7 +52,15 @@ public class UpstreamGrpcSenderProvider implements GrpcSenderProvider {
     if (managedChannel == null) {
       // Shutdown the channel as part of the exporter shutdown sequence if
       shutdownChannel = true;
-      managedChannel = minimalFallbackManagedChannel(endpoint);
+      managedChannel = minimalFallbackManagedChannel(endpoint, compressor);
+    } else if (compressor != null && !compressor.getHeaders().isEmpty()) {
+      // The channel resolves compressors by encoding in its own registry, where this compressor
+      // would replace any other one with the same encoding, such as zstd without a dictionary
+      throw new IllegalArgumentException(
+          "Compressor "
+              + compressor.getEncoding()
+              + " sends headers with each request, which is not supported with a ManagedChannel. "
+              + "Let the exporter create its channel instead.");
     }
 
     String authorityOverride = null;
@@ -67,19 +75,9 @@ public class UpstreamGrpcSenderProvider implements GrpcSenderProvider {
 
     String compression = Codec.Identity.NONE.getMessageEncoding();
     if (compressor != null) {
-      CompressorRegistry.getDefaultInstance()
-          .register(
-              new io.grpc.Compressor() {
-                @Override
-                public String getMessageEncoding() {
-                  return compressor.getEncoding();
-                }
-
-                @Override
-                public OutputStream compress(OutputStream os) throws IOException {
-                  return compressor.compress(os);
-                }
-              });
+      if (!shutdownChannel) {
+        CompressorRegistry.getDefaultInstance().register(toGrpcCompressor(compressor));
+      }
       compression = compressor.getEncoding();
     }
 
@@ -100,16 +98,36 @@ public class UpstreamGrpcSenderProvider implements GrpcSenderProvider {
    * opentelemetry-exporter-sender-grpc-managed-channel} which will always fail to initialize
    * without a fallback channel since there isn't an opportunity to explicitly set the channel.
    *
-   * <p>This only incorporates the target address, port, and whether to use plain text. All
-   * additional settings are intentionally ignored and must be configured with an explicitly set
-   * {@link ManagedChannel}.
+   * <p>This only incorporates the target address, port, whether to use plain text, and the
+   * compressor, which is registered with the channel only. All additional settings are
+   * intentionally ignored and must be configured with an explicitly set {@link ManagedChannel}.
    */
-  private static ManagedChannel minimalFallbackManagedChannel(URI endpoint) {
+  private static ManagedChannel minimalFallbackManagedChannel(
+      URI endpoint, @Nullable Compressor compressor) {
     ManagedChannelBuilder<?> channelBuilder =
         ManagedChannelBuilder.forAddress(endpoint.getHost(), endpoint.getPort());
     if (!endpoint.getScheme().equals("https")) {
       channelBuilder.usePlaintext();
     }
+    if (compressor != null) {
+      CompressorRegistry compressorRegistry = CompressorRegistry.newEmptyInstance();
+      compressorRegistry.register(toGrpcCompressor(compressor));
+      channelBuilder.compressorRegistry(compressorRegistry);
+    }
     return channelBuilder.build();
   }
+
+  private static io.grpc.Compressor toGrpcCompressor(Compressor compressor) {
+    return new io.grpc.Compressor() {
+      @Override
+      public String getMessageEncoding() {
+        return compressor.getEncoding();
+      }
+
+      @Override
+      public OutputStream compress(OutputStream os) throws IOException {
+        return compressor.compress(os);
+      }
+    };
+  }
 }
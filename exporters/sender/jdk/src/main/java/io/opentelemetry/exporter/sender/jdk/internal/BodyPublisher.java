@@ -8,20 +8,36 @@ package io.opentelemetry.exporter.sender.jdk.internal;
 import java.net.http.HttpRequest;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Flow;
 import java.util.function.Supplier;
+import javax.annotation.Nullable;
 
 final class BodyPublisher implements HttpRequest.BodyPublisher {
 
   private final int length;
   private final byte[] content;
   private final Supplier<ByteBuffer> bufSupplier;
+  // Published as is instead of content when not null
+  @Nullable private final ByteBuffer contentBuffer;
 
   BodyPublisher(byte[] content, int length, Supplier<ByteBuffer> bufSupplier) {
     this.content = content;
     this.length = length;
     this.bufSupplier = bufSupplier;
+    this.contentBuffer = null;
+  }
+
+  /**
+   * Publishes the remaining bytes of the buffer, which may be a direct buffer, without copying
+   * them. The buffer must not be modified until the request completes.
+   */
+  BodyPublisher(ByteBuffer contentBuffer) {
+    this.content = new byte[0];
+    this.length = contentBuffer.remaining();
+    this.bufSupplier = () -> ByteBuffer.allocate(0);
+    this.contentBuffer = contentBuffer;
   }
 
   private List<ByteBuffer> copyToBuffers() {
@@ -42,6 +58,18 @@ final class BodyPublisher implements HttpRequest.BodyPublisher {
     return buffers;
   }
 
+  private List<ByteBuffer> buffers() {
+    ByteBuffer contentBuffer = this.contentBuffer;
+    if (contentBuffer == null) {
+      return copyToBuffers();
+    }
+    if (!contentBuffer.hasRemaining()) {
+      return Collections.emptyList();
+    }
+    // Each subscription, such as one per retry, reads the content from the buffer's position
+    return Collections.singletonList(contentBuffer.asReadOnlyBuffer());
+  }
+
   @Override
   public long contentLength() {
     return length;
@@ -49,7 +77,7 @@ final class BodyPublisher implements HttpRequest.BodyPublisher {
 
   @Override
   public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
-    Subscription subscription = new Subscription(copyToBuffers(), subscriber);
+    Subscription subscription = new Subscription(buffers(), subscriber);
     subscriber.onSubscribe(subscription);
   }
 
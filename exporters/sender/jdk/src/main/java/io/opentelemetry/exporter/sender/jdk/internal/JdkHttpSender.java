@@ -51,6 +51,8 @@ public final class JdkHttpSender implements HttpSender {
       ThreadLocal.withInitial(NoCopyByteArrayOutputStream::new);
   private static final ThreadLocal<ByteBufferPool> threadLocalByteBufPool =
       ThreadLocal.withInitial(ByteBufferPool::new);
+  private static final ThreadLocal<ByteBuffer> threadLocalDirectBuf =
+      ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(0));
 
   private final ExecutorService executorService = Executors.newFixedThreadPool(5);
   private final HttpClient client;
@@ -160,22 +162,26 @@ public final class JdkHttpSender implements HttpSender {
     }
     requestBuilder.header("Content-Type", contentType);
 
-    NoCopyByteArrayOutputStream os = threadLocalBaos.get();
-    os.reset();
-    if (compressor != null) {
-      requestBuilder.header("Content-Encoding", compressor.getEncoding());
-      try (OutputStream compressed = compressor.compress(os)) {
-        write(marshaler, compressed);
-      } catch (IOException e) {
-        throw new IllegalStateException(e);
-      }
+    ByteBufferPool byteBufferPool = threadLocalByteBufPool.get();
+    if (compressor == null && !exportAsJson) {
+      // Marshal straight into a direct buffer, which the client writes without copying it
+      requestBuilder.POST(new BodyPublisher(marshalToDirectBuffer(marshaler)));
     } else {
-      write(marshaler, os);
+      NoCopyByteArrayOutputStream os = threadLocalBaos.get();
+      os.reset();
+      if (compressor != null) {
+        requestBuilder.header("Content-Encoding", compressor.getEncoding());
+        try (OutputStream compressed = compressor.compress(os)) {
+          write(marshaler, compressed);
+        } catch (IOException e) {
+          throw new IllegalStateException(e);
+        }
+      } else {
+        write(marshaler, os);
+      }
+      requestBuilder.POST(new BodyPublisher(os.buf(), os.size(), byteBufferPool::getBuffer));
     }
 
-    ByteBufferPool byteBufferPool = threadLocalByteBufPool.get();
-    requestBuilder.POST(new BodyPublisher(os.buf(), os.size(), byteBufferPool::getBuffer));
-
     // If no retry policy, short circuit
     if (retryPolicy == null) {
       return sendRequest(requestBuilder, byteBufferPool);
@@ -233,6 +239,19 @@ public final class JdkHttpSender implements HttpSender {
     }
   }
 
+  private static ByteBuffer marshalToDirectBuffer(Marshaler marshaler) throws IOException {
+    int size = marshaler.getBinarySerializedSize();
+    ByteBuffer buffer = threadLocalDirectBuf.get();
+    if (buffer.capacity() < size) {
+      buffer = ByteBuffer.allocateDirect(Math.max(size, buffer.capacity() * 2));
+      threadLocalDirectBuf.set(buffer);
+    }
+    buffer.clear();
+    marshaler.writeBinaryTo(buffer);
+    buffer.flip();
+    return buffer;
+  }
+
   private HttpResponse<byte[]> sendRequest(
       HttpRequest.Builder requestBuilder, ByteBufferPool byteBufferPool) throws IOException {
     try {
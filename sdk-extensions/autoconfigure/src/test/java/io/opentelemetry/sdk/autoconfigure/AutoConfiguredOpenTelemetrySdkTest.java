@@ -273,7 +273,6 @@ class AutoConfiguredOpenTelemetrySdkTest {
     assertThat(sdkTracerProvider)
         .extracting("sharedState")
         .extracting("activeSpanProcessor")
-        .extracting("worker")
         .extracting("spanExporter")
         .isEqualTo(spanExporter2);
   }
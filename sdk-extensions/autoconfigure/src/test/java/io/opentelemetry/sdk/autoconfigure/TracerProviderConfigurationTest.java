@@ -17,13 +17,13 @@ import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
 import io.opentelemetry.sdk.autoconfigure.spi.ConfigurationException;
 import io.opentelemetry.sdk.autoconfigure.spi.internal.DefaultConfigProperties;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.internal.JcTools;
 import io.opentelemetry.sdk.trace.SdkTracerProvider;
 import io.opentelemetry.sdk.trace.SdkTracerProviderBuilder;
 import io.opentelemetry.sdk.trace.SpanLimits;
 import io.opentelemetry.sdk.trace.SpanProcessor;
 import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
 import io.opentelemetry.sdk.trace.export.SpanExporter;
-import io.opentelemetry.sdk.trace.internal.JcTools;
 import io.opentelemetry.sdk.trace.samplers.Sampler;
 import java.io.Closeable;
 import java.util.ArrayList;
@@ -102,9 +102,11 @@ class TracerProviderConfigurationTest {
         TracerProviderConfiguration.configureBatchSpanProcessor(
             EMPTY, mockSpanExporter, MeterProvider.noop())) {
       assertThat(processor)
-          .extracting("worker")
+          .extracting("workers")
           .satisfies(
-              worker -> {
+              workers -> {
+                assertThat((Object[]) workers).hasSize(1);
+                Object worker = ((Object[]) workers)[0];
                 assertThat(worker)
                     .extracting("scheduleDelayNanos")
                     .isEqualTo(TimeUnit.MILLISECONDS.toNanos(5000));
@@ -135,9 +137,11 @@ class TracerProviderConfigurationTest {
             mockSpanExporter,
             MeterProvider.noop())) {
       assertThat(processor)
-          .extracting("worker")
+          .extracting("workers")
           .satisfies(
-              worker -> {
+              workers -> {
+                assertThat((Object[]) workers).hasSize(1);
+                Object worker = ((Object[]) workers)[0];
                 assertThat(worker)
                     .extracting("scheduleDelayNanos")
                     .isEqualTo(TimeUnit.MILLISECONDS.toNanos(100000));
@@ -197,7 +197,6 @@ class ConfigurableSpanExporterTest {
     assertThat(spanProcessors)
         .hasExactlyElementsOfTypes(BatchSpanProcessor.class)
         .first()
-        .extracting("worker")
         .extracting("spanExporter")
         .asInstanceOf(InstanceOfAssertFactories.type(SpanExporter.class))
         .satisfies(
@@ -12,6 +12,7 @@ import io.opentelemetry.context.internal.shaded.WeakConcurrentMap;
 import io.opentelemetry.sdk.trace.ReadWriteSpan;
 import io.opentelemetry.sdk.trace.ReadableSpan;
 import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.internal.RecyclableSpan;
 import java.lang.ref.Reference;
 import java.util.Arrays;
 import java.util.concurrent.ConcurrentHashMap;
@@ -23,6 +24,11 @@ import java.util.logging.Logger;
  * A {@link SpanProcessor} which will detect spans that are never ended. It will detect spans that
  * are garbage collected without ever having `end()` called on them.
  *
+ * <p>When the tracer provider recycles span storage ({@link
+ * io.opentelemetry.sdk.common.export.MemoryMode#REUSABLE_DATA}), it also detects ended spans that
+ * are garbage collected without their storage having been recycled, which happens when a span
+ * processor retains a span and never releases it. See {@link RecyclableSpan}.
+ *
  * <p>Note: using this SpanProcessor will definitely impact the performance of your application. It
  * is not recommended for production use, as it uses additional memory for each span to track where
  * a leaked span was created.
@@ -38,8 +44,7 @@ public final class LeakDetectingSpanProcessor implements SpanProcessor {
    */
   public static LeakDetectingSpanProcessor create() {
     return new LeakDetectingSpanProcessor(
-        (message, throwable) ->
-            logger.log(Level.WARNING, "Span garbage collected before being ended.", throwable));
+        (message, throwable) -> logger.log(Level.WARNING, message, throwable));
   }
 
   // Visible for testing
@@ -66,6 +71,15 @@ public final class LeakDetectingSpanProcessor implements SpanProcessor {
 
   @Override
   public void onEnd(ReadableSpan span) {
+    if (span instanceof RecyclableSpan && ((RecyclableSpan) span).isRecyclable()) {
+      // Keep tracking the span until its storage is recycled.
+      CallerStackTrace caller = pendingSpans.get(span);
+      if (caller != null) {
+        caller.ended = true;
+        ((RecyclableSpan) span).whenRecycled(() -> pendingSpans.remove(span));
+        return;
+      }
+    }
     pendingSpans.remove(span).ended = true;
   }
 
@@ -107,8 +121,17 @@ public final class LeakDetectingSpanProcessor implements SpanProcessor {
           // call blocks until something is GC'd.
           Reference<? extends ReadableSpan> gcdReference = remove();
           CallerStackTrace caller = map.remove(gcdReference);
-          if (caller != null && !caller.ended) {
-            reporter.accept("Span garbage collected before being ended.", callerError(caller));
+          if (caller == null) {
+            continue;
+          }
+          if (!caller.ended) {
+            reporter.accept(
+                "Span garbage collected before being ended.",
+                callerError(caller, "Span garbage collected before being ended."));
+          } else {
+            reporter.accept(
+                "Span garbage collected before being released.",
+                callerError(caller, "Span garbage collected before being released."));
           }
         }
       } catch (InterruptedException ignored) {
@@ -132,10 +155,11 @@ public final class LeakDetectingSpanProcessor implements SpanProcessor {
     }
   }
 
-  private static AssertionError callerError(CallerStackTrace caller) {
+  private static AssertionError callerError(CallerStackTrace caller, String message) {
     AssertionError toThrow =
         new AssertionError(
-            "Span garbage collected before being ended. Thread: ["
+            message
+                + " Thread: ["
                 + caller.threadName
                 + "] started span : "
                 + caller.spanInformation
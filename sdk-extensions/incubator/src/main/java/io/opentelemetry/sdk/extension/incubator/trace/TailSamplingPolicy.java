@@ -0,0 +1,97 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.internal.RateLimiter;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * A policy deciding whether the spans of a trace buffered by a {@link TailSamplingSpanProcessor}
+ * are kept.
+ */
+@FunctionalInterface
+public interface TailSamplingPolicy {
+
+  /**
+   * Returns a policy keeping traces containing a span with an {@link StatusCode#ERROR} status.
+   */
+  static TailSamplingPolicy errorStatus() {
+    return spans -> {
+      for (ReadableSpan span : spans) {
+        // SDK spans are their own SpanData, which avoids taking a snapshot of each span
+        StatusData status =
+            span instanceof SpanData
+                ? ((SpanData) span).getStatus()
+                : span.toSpanData().getStatus();
+        if (status.getStatusCode() == StatusCode.ERROR) {
+          return true;
+        }
+      }
+      return false;
+    };
+  }
+
+  /** Returns a policy keeping traces containing a span lasting at least the given duration. */
+  static TailSamplingPolicy latencyAtLeast(Duration threshold) {
+    requireNonNull(threshold, "threshold");
+    long thresholdNanos = threshold.toNanos();
+    return spans -> {
+      for (ReadableSpan span : spans) {
+        if (span.getLatencyNanos() >= thresholdNanos) {
+          return true;
+        }
+      }
+      return false;
+    };
+  }
+
+  /**
+   * Returns a policy keeping traces containing a span with the given attribute set to the given
+   * value.
+   */
+  static <T> TailSamplingPolicy attributeEquals(AttributeKey<T> key, T value) {
+    requireNonNull(key, "key");
+    requireNonNull(value, "value");
+    return spans -> {
+      for (ReadableSpan span : spans) {
+        if (value.equals(span.getAttribute(key))) {
+          return true;
+        }
+      }
+      return false;
+    };
+  }
+
+  /**
+   * Returns a policy keeping up to the given number of traces per second, regardless of their
+   * spans. Since policies are evaluated in order, adding it last keeps a baseline of traces that no
+   * other policy kept.
+   */
+  static TailSamplingPolicy rateLimited(double tracesPerSecond) {
+    checkArgument(tracesPerSecond > 0, "tracesPerSecond must be positive");
+    RateLimiter rateLimiter =
+        new RateLimiter(tracesPerSecond, Math.max(tracesPerSecond, 1.0), Clock.getDefault());
+    return spans -> rateLimiter.trySpend(1.0);
+  }
+
+  /**
+   * Returns whether to keep the spans of a trace.
+   *
+   * @param spans the ended spans of the trace recorded by this process, in the order they ended.
+   *     The list is only valid for the duration of the call.
+   */
+  boolean shouldKeep(List<ReadableSpan> spans);
+}
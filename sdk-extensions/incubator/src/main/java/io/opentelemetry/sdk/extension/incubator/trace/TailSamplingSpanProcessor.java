@@ -0,0 +1,410 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import io.opentelemetry.api.internal.GuardedBy;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.internal.ExtendedSpanProcessor;
+import io.opentelemetry.sdk.trace.internal.RecyclableSpan;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link SpanProcessor} which decides whether to keep a trace once its spans have ended, and
+ * only notifies its delegate of the ended spans of kept traces.
+ *
+ * <p>Ended spans are buffered per trace ID until the local root span of the trace ends, that is
+ * the span without a parent or with a remote parent, or until the decision wait elapsed. The
+ * {@link TailSamplingPolicy policies} then decide whether to keep the trace with the spans ended so
+ * far. Spans of a trace ending after its decision follow that decision. The number of buffered
+ * spans, and the number of traces awaiting their decision wait, are bounded: when exceeded, the
+ * oldest traces are decided early.
+ *
+ * <p>The decision only covers the spans recorded by this process. Spans of the same trace recorded
+ * by other services are sampled independently.
+ *
+ * <p>Start events are forwarded to the delegate immediately.
+ */
+public final class TailSamplingSpanProcessor implements SpanProcessor {
+
+  private static final Logger logger = Logger.getLogger(TailSamplingSpanProcessor.class.getName());
+  // Upper bound of the interval at which expired traces are decided.
+  private static final long MAX_SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final SpanProcessor delegate;
+  private final List<TailSamplingPolicy> policies;
+  private final long decisionWaitNanos;
+  private final int maxBufferedSpans;
+
+  private final ConcurrentHashMap<String, TraceBuffer> traces = new ConcurrentHashMap<>();
+  // Traces in the order their first span ended, including traces decided before their decision
+  // wait elapsed, which are removed when they reach the head of the queue.
+  private final ConcurrentLinkedQueue<TraceBuffer> expiryQueue = new ConcurrentLinkedQueue<>();
+  // The size of the expiry queue, which is not constant time to compute.
+  private final AtomicInteger queuedTraces = new AtomicInteger();
+  private final AtomicInteger bufferedSpans = new AtomicInteger();
+  private final DecisionCache decisions;
+  private final ScheduledFuture<?> sweepTask;
+  private final AtomicBoolean isShutdown = new AtomicBoolean();
+
+  /**
+   * Returns a new {@link TailSamplingSpanProcessorBuilder} to construct a {@link
+   * TailSamplingSpanProcessor} notifying the given {@link SpanProcessor} of the spans of kept
+   * traces.
+   */
+  public static TailSamplingSpanProcessorBuilder builder(SpanProcessor delegate) {
+    return new TailSamplingSpanProcessorBuilder(delegate);
+  }
+
+  TailSamplingSpanProcessor(
+      SpanProcessor delegate,
+      List<TailSamplingPolicy> policies,
+      long decisionWaitNanos,
+      int maxBufferedSpans) {
+    this.delegate = delegate;
+    this.policies = policies;
+    this.decisionWaitNanos = decisionWaitNanos;
+    this.maxBufferedSpans = maxBufferedSpans;
+    // There are at most as many queued traces as buffered spans.
+    this.decisions = new DecisionCache(maxBufferedSpans);
+    long sweepIntervalNanos = Math.min(decisionWaitNanos, MAX_SWEEP_INTERVAL_NANOS);
+    this.sweepTask =
+        Sweeper.INSTANCE.scheduleWithFixedDelay(
+            this::decideExpiredTraces,
+            sweepIntervalNanos,
+            sweepIntervalNanos,
+            TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void onStart(Context parentContext, ReadWriteSpan span) {
+    delegate.onStart(parentContext, span);
+  }
+
+  @Override
+  public boolean isStartRequired() {
+    return delegate.isStartRequired();
+  }
+
+  @Override
+  public void onEnd(ReadableSpan span) {
+    if (isShutdown.get()) {
+      return;
+    }
+    String traceId = span.getSpanContext().getTraceId();
+    Boolean decision = decisions.get(traceId);
+    if (decision != null) {
+      if (decision) {
+        delegate.onEnd(span);
+      }
+      return;
+    }
+
+    // Keep the span storage until the trace is decided.
+    if (span instanceof RecyclableSpan) {
+      ((RecyclableSpan) span).retain();
+    }
+    TraceBuffer buffer = traces.computeIfAbsent(traceId, this::newTraceBuffer);
+    if (!buffer.add(span)) {
+      // The trace was decided concurrently.
+      try {
+        if (buffer.isKept()) {
+          delegate.onEnd(span);
+        }
+      } finally {
+        release(span);
+      }
+      return;
+    }
+
+    int spanCount = bufferedSpans.incrementAndGet();
+    if (isLocalRoot(span)) {
+      decide(buffer);
+    }
+    // Traces decided by their local root stay queued until they reach the head of the queue, so
+    // the queue is bounded separately from the buffered spans.
+    while (spanCount > maxBufferedSpans || queuedTraces.get() > maxBufferedSpans) {
+      TraceBuffer oldest = pollExpiryQueue();
+      if (oldest == null) {
+        break;
+      }
+      decide(oldest);
+      spanCount = bufferedSpans.get();
+    }
+  }
+
+  @Override
+  public boolean isEndRequired() {
+    return true;
+  }
+
+  @Override
+  public CompletableResultCode shutdown() {
+    if (isShutdown.getAndSet(true)) {
+      return CompletableResultCode.ofSuccess();
+    }
+    sweepTask.cancel(false);
+    decideAllTraces();
+    return delegate.shutdown();
+  }
+
+  /** Decides all buffered traces with the spans ended so far, then flushes the delegate. */
+  @Override
+  public CompletableResultCode forceFlush() {
+    decideAllTraces();
+    return delegate.forceFlush();
+  }
+
+  private TraceBuffer newTraceBuffer(String traceId) {
+    TraceBuffer buffer = new TraceBuffer(traceId, System.nanoTime());
+    expiryQueue.add(buffer);
+    queuedTraces.incrementAndGet();
+    return buffer;
+  }
+
+  @Nullable
+  private TraceBuffer pollExpiryQueue() {
+    TraceBuffer buffer = expiryQueue.poll();
+    if (buffer != null) {
+      queuedTraces.decrementAndGet();
+    }
+    return buffer;
+  }
+
+  private void decideExpiredTraces() {
+    try {
+      long now = System.nanoTime();
+      TraceBuffer oldest;
+      while ((oldest = expiryQueue.peek()) != null
+          && (oldest.isDecided() || now - oldest.startNanos >= decisionWaitNanos)) {
+        if (expiryQueue.remove(oldest)) {
+          queuedTraces.decrementAndGet();
+          decide(oldest);
+        }
+      }
+    } catch (RuntimeException e) {
+      // Keep the task scheduled.
+      logger.log(Level.WARNING, "Exception thrown while deciding expired traces.", e);
+    }
+  }
+
+  private void decideAllTraces() {
+    // Every trace that is not decided yet is in the expiry queue.
+    TraceBuffer buffer;
+    while ((buffer = pollExpiryQueue()) != null) {
+      decide(buffer);
+    }
+  }
+
+  private void decide(TraceBuffer buffer) {
+    List<ReadableSpan> spans = buffer.decide(policies);
+    if (spans == null) {
+      return;
+    }
+    boolean kept = buffer.isKept();
+    // Record the decision before removing the buffer, so that later spans follow it.
+    decisions.put(buffer.traceId, kept);
+    traces.remove(buffer.traceId, buffer);
+    bufferedSpans.addAndGet(-spans.size());
+    try {
+      if (kept) {
+        ExtendedSpanProcessor.notifyEnd(delegate, spans);
+      }
+    } finally {
+      for (ReadableSpan span : spans) {
+        release(span);
+      }
+    }
+  }
+
+  private static boolean isLocalRoot(ReadableSpan span) {
+    SpanContext parentSpanContext = span.getParentSpanContext();
+    return !parentSpanContext.isValid() || parentSpanContext.isRemote();
+  }
+
+  private static void release(ReadableSpan span) {
+    if (span instanceof RecyclableSpan) {
+      ((RecyclableSpan) span).release();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "TailSamplingSpanProcessor{"
+        + "delegate="
+        + delegate
+        + ", policyCount="
+        + policies.size()
+        + ", decisionWaitNanos="
+        + decisionWaitNanos
+        + ", maxBufferedSpans="
+        + maxBufferedSpans
+        + '}';
+  }
+
+  private static final class TraceBuffer {
+
+    private final String traceId;
+    private final long startNanos;
+
+    @GuardedBy("this")
+    private List<ReadableSpan> spans = new ArrayList<>();
+
+    @GuardedBy("this")
+    private boolean decided;
+
+    @GuardedBy("this")
+    private boolean kept;
+
+    private TraceBuffer(String traceId, long startNanos) {
+      this.traceId = traceId;
+      this.startNanos = startNanos;
+    }
+
+    /** Buffers the span, returning {@code false} if the trace was already decided. */
+    private synchronized boolean add(ReadableSpan span) {
+      if (decided) {
+        return false;
+      }
+      spans.add(span);
+      return true;
+    }
+
+    /**
+     * Decides whether to keep the trace, returning its buffered spans, or {@code null} if it was
+     * already decided.
+     */
+    @Nullable
+    private synchronized List<ReadableSpan> decide(List<TailSamplingPolicy> policies) {
+      if (decided) {
+        return null;
+      }
+      decided = true;
+      List<ReadableSpan> decidedSpans = spans;
+      spans = Collections.emptyList();
+      if (!decidedSpans.isEmpty()) {
+        List<ReadableSpan> view = Collections.unmodifiableList(decidedSpans);
+        for (TailSamplingPolicy policy : policies) {
+          if (policy.shouldKeep(view)) {
+            kept = true;
+            break;
+          }
+        }
+      }
+      return decidedSpans;
+    }
+
+    private synchronized boolean isDecided() {
+      return decided;
+    }
+
+    private synchronized boolean isKept() {
+      return kept;
+    }
+  }
+
+  /**
+   * The latest decisions by trace ID, so that spans ending after a decision follow it. The cache is
+   * striped by trace ID, each stripe evicting its oldest decisions, so that threads ending spans of
+   * different traces rarely contend.
+   */
+  private static final class DecisionCache {
+
+    private final Stripe[] stripes;
+
+    private DecisionCache(int maxSize) {
+      int stripeCount = Math.min(maxStripes(), Integer.highestOneBit(maxSize));
+      int stripeSize = (maxSize + stripeCount - 1) / stripeCount;
+      stripes = new Stripe[stripeCount];
+      for (int i = 0; i < stripeCount; i++) {
+        stripes[i] = new Stripe(stripeSize);
+      }
+    }
+
+    @Nullable
+    private Boolean get(String traceId) {
+      return stripeFor(traceId).get(traceId);
+    }
+
+    private void put(String traceId, boolean kept) {
+      stripeFor(traceId).put(traceId, kept);
+    }
+
+    private Stripe stripeFor(String traceId) {
+      int hash = traceId.hashCode() * 0x9E3779B9;
+      return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static int maxStripes() {
+      int processors = Runtime.getRuntime().availableProcessors();
+      return processors <= 1 ? 1 : Integer.highestOneBit(processors - 1) << 1;
+    }
+
+    private static final class Stripe {
+
+      @GuardedBy("this")
+      private final Map<String, Boolean> decisions;
+
+      private Stripe(int maxSize) {
+        this.decisions =
+            new LinkedHashMap<String, Boolean>() {
+              private static final long serialVersionUID = 0L;
+
+              @Override
+              protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > maxSize;
+              }
+            };
+      }
+
+      @Nullable
+      private synchronized Boolean get(String traceId) {
+        return decisions.get(traceId);
+      }
+
+      private synchronized void put(String traceId, boolean kept) {
+        decisions.put(traceId, kept);
+      }
+    }
+  }
+
+  /** The thread deciding the expired traces of all tail sampling processors. */
+  private static final class Sweeper {
+    private static final ScheduledThreadPoolExecutor INSTANCE = newExecutor();
+
+    private static ScheduledThreadPoolExecutor newExecutor() {
+      ScheduledThreadPoolExecutor executor =
+          new ScheduledThreadPoolExecutor(
+              1,
+              new DaemonThreadFactory(
+                  TailSamplingSpanProcessor.class.getSimpleName() + "_WorkerThread"));
+      // Do not retain processors that were shut down until their next sweep.
+      executor.setRemoveOnCancelPolicy(true);
+      return executor;
+    }
+
+    private Sweeper() {}
+  }
+}
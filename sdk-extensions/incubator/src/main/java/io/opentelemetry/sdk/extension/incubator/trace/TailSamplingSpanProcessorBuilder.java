@@ -0,0 +1,99 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** Builder class for {@link TailSamplingSpanProcessor}. */
+public final class TailSamplingSpanProcessorBuilder {
+
+  // Visible for testing
+  static final long DEFAULT_DECISION_WAIT_MILLIS = 10_000;
+  // Visible for testing
+  static final int DEFAULT_MAX_BUFFERED_SPANS = 10_000;
+
+  private final SpanProcessor delegate;
+  private final List<TailSamplingPolicy> policies = new ArrayList<>();
+  private long decisionWaitNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_DECISION_WAIT_MILLIS);
+  private int maxBufferedSpans = DEFAULT_MAX_BUFFERED_SPANS;
+
+  TailSamplingSpanProcessorBuilder(SpanProcessor delegate) {
+    this.delegate = requireNonNull(delegate, "delegate");
+  }
+
+  /**
+   * Adds a policy deciding whether to keep a trace. A trace is kept if any policy keeps it.
+   * Policies are evaluated in the order they were added, until one keeps the trace.
+   */
+  public TailSamplingSpanProcessorBuilder addPolicy(TailSamplingPolicy policy) {
+    requireNonNull(policy, "policy");
+    policies.add(policy);
+    return this;
+  }
+
+  /**
+   * Sets the maximum time to wait for the local root span of a trace to end, measured from the end
+   * of the first span of the trace, before deciding with the spans ended so far. If unset, defaults
+   * to {@value DEFAULT_DECISION_WAIT_MILLIS}ms.
+   */
+  public TailSamplingSpanProcessorBuilder setDecisionWait(long decisionWait, TimeUnit unit) {
+    requireNonNull(unit, "unit");
+    checkArgument(decisionWait > 0, "decisionWait must be positive");
+    decisionWaitNanos = unit.toNanos(decisionWait);
+    return this;
+  }
+
+  /**
+   * Sets the maximum time to wait for the local root span of a trace to end, measured from the end
+   * of the first span of the trace, before deciding with the spans ended so far. If unset, defaults
+   * to {@value DEFAULT_DECISION_WAIT_MILLIS}ms.
+   */
+  public TailSamplingSpanProcessorBuilder setDecisionWait(Duration decisionWait) {
+    requireNonNull(decisionWait, "decisionWait");
+    return setDecisionWait(decisionWait.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  // Visible for testing
+  long getDecisionWaitNanos() {
+    return decisionWaitNanos;
+  }
+
+  /**
+   * Sets the maximum number of spans buffered while waiting for a decision. When exceeded, the
+   * oldest traces are decided early with the spans ended so far. If unset, defaults to {@value
+   * DEFAULT_MAX_BUFFERED_SPANS}.
+   */
+  public TailSamplingSpanProcessorBuilder setMaxBufferedSpans(int maxBufferedSpans) {
+    checkArgument(maxBufferedSpans > 0, "maxBufferedSpans must be positive");
+    this.maxBufferedSpans = maxBufferedSpans;
+    return this;
+  }
+
+  // Visible for testing
+  int getMaxBufferedSpans() {
+    return maxBufferedSpans;
+  }
+
+  /**
+   * Returns a new {@link TailSamplingSpanProcessor} with the configuration of this builder.
+   *
+   * @throws IllegalStateException if no policy was added
+   */
+  public TailSamplingSpanProcessor build() {
+    if (policies.isEmpty()) {
+      throw new IllegalStateException("At least one policy must be added");
+    }
+    return new TailSamplingSpanProcessor(
+        delegate, new ArrayList<>(policies), decisionWaitNanos, maxBufferedSpans);
+  }
+}
@@ -11,7 +11,15 @@ import static org.awaitility.Awaitility.await;
 import com.google.common.testing.GcFinalization;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
 import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SdkTracerProviderBuilder;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.internal.RecyclableSpan;
+import io.opentelemetry.sdk.trace.internal.SdkTracerProviderUtil;
 import java.lang.ref.WeakReference;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -76,4 +84,76 @@ public class LeakDetectingSpanProcessorTest {
 
     assertThat(logs).isEmpty();
   }
+
+  @Test
+  void garbageCollectedUnreleasedSpan() {
+    List<Throwable> logs = new ArrayList<>();
+    LeakDetectingSpanProcessor spanProcessor =
+        new LeakDetectingSpanProcessor((message, callerStackTrace) -> logs.add(callerStackTrace));
+
+    SdkTracerProviderBuilder builder =
+        SdkTracerProvider.builder()
+            .addSpanProcessor(spanProcessor)
+            .addSpanProcessor(
+                new SpanProcessor() {
+                  @Override
+                  public void onStart(Context parentContext, ReadWriteSpan span) {}
+
+                  @Override
+                  public boolean isStartRequired() {
+                    return false;
+                  }
+
+                  @Override
+                  public void onEnd(ReadableSpan span) {
+                    // Retained and never released.
+                    ((RecyclableSpan) span).retain();
+                  }
+
+                  @Override
+                  public boolean isEndRequired() {
+                    return true;
+                  }
+                });
+    SdkTracerProviderUtil.setMemoryMode(builder, MemoryMode.REUSABLE_DATA);
+    Tracer tracer = builder.build().get("test");
+
+    tracer.spanBuilder("testSpan").startSpan().end();
+
+    await()
+        .atMost(Duration.ofSeconds(30))
+        .untilAsserted(
+            () -> {
+              System.gc();
+              assertThat(logs)
+                  .singleElement()
+                  .satisfies(
+                      callerStackTrace ->
+                          assertThat(callerStackTrace.getMessage())
+                              .matches(
+                                  "Span garbage collected before being released\\. "
+                                      + "Thread: \\[.*\\] started span : .*"));
+            });
+  }
+
+  @Test
+  void garbageCollectedReleasedSpan() {
+    List<Throwable> logs = new ArrayList<>();
+    LeakDetectingSpanProcessor spanProcessor =
+        new LeakDetectingSpanProcessor((message, callerStackTrace) -> logs.add(callerStackTrace));
+
+    SdkTracerProviderBuilder builder = SdkTracerProvider.builder().addSpanProcessor(spanProcessor);
+    SdkTracerProviderUtil.setMemoryMode(builder, MemoryMode.REUSABLE_DATA);
+    Tracer tracer = builder.build().get("test");
+
+    Span testSpan = tracer.spanBuilder("testSpan").startSpan();
+    WeakReference<Span> spanRef = new WeakReference<>(testSpan);
+
+    testSpan.end();
+    testSpan = null;
+
+    GcFinalization.awaitClear(spanRef);
+
+    assertThat(logs).isEmpty();
+  }
 }
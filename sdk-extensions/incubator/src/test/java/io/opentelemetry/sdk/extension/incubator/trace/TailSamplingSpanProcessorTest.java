@@ -0,0 +1,211 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TailSamplingSpanProcessorTest {
+
+  private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+  private SdkTracerProvider tracerProvider;
+
+  @AfterEach
+  void tearDown() {
+    if (tracerProvider != null) {
+      tracerProvider.shutdown();
+    }
+  }
+
+  @Test
+  void errorStatus_keepsTraceOnRootEnd() {
+    Tracer tracer = newTracer(builder().addPolicy(TailSamplingPolicy.errorStatus()));
+
+    Span root = tracer.spanBuilder("root").startSpan();
+    Span child = tracer.spanBuilder("child").setParent(Context.root().with(root)).startSpan();
+    child.setStatus(StatusCode.ERROR);
+    child.end();
+    assertThat(exporter.getFinishedSpanItems()).isEmpty();
+
+    root.end();
+    assertThat(spanNames()).containsExactly("child", "root");
+  }
+
+  @Test
+  void noPolicyMatches_dropsTrace() {
+    Tracer tracer = newTracer(builder().addPolicy(TailSamplingPolicy.errorStatus()));
+
+    Span root = tracer.spanBuilder("root").startSpan();
+    tracer.spanBuilder("child").setParent(Context.root().with(root)).startSpan().end();
+    root.end();
+
+    assertThat(tracerProvider.forceFlush().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    assertThat(exporter.getFinishedSpanItems()).isEmpty();
+  }
+
+  @Test
+  void lateSpans_followDecision() {
+    Tracer tracer = newTracer(builder().addPolicy(TailSamplingPolicy.errorStatus()));
+
+    Span root = tracer.spanBuilder("root").startSpan();
+    Span late = tracer.spanBuilder("late").setParent(Context.root().with(root)).startSpan();
+    root.setStatus(StatusCode.ERROR);
+    root.end();
+    assertThat(spanNames()).containsExactly("root");
+
+    late.end();
+    assertThat(spanNames()).containsExactly("root", "late");
+  }
+
+  @Test
+  void latencyAtLeast() {
+    Tracer tracer =
+        newTracer(builder().addPolicy(TailSamplingPolicy.latencyAtLeast(Duration.ofSeconds(1))));
+
+    tracer
+        .spanBuilder("fast")
+        .setStartTimestamp(0, TimeUnit.SECONDS)
+        .startSpan()
+        .end(10, TimeUnit.MILLISECONDS);
+    tracer
+        .spanBuilder("slow")
+        .setStartTimestamp(0, TimeUnit.SECONDS)
+        .startSpan()
+        .end(2, TimeUnit.SECONDS);
+
+    assertThat(spanNames()).containsExactly("slow");
+  }
+
+  @Test
+  void attributeEquals() {
+    Tracer tracer =
+        newTracer(
+            builder().addPolicy(TailSamplingPolicy.attributeEquals(stringKey("tenant"), "gold")));
+
+    tracer.spanBuilder("silver").setAttribute("tenant", "silver").startSpan().end();
+    tracer.spanBuilder("gold").setAttribute("tenant", "gold").startSpan().end();
+
+    assertThat(spanNames()).containsExactly("gold");
+  }
+
+  @Test
+  void rateLimited() {
+    Tracer tracer = newTracer(builder().addPolicy(TailSamplingPolicy.rateLimited(1)));
+
+    tracer.spanBuilder("first").startSpan().end();
+    tracer.spanBuilder("second").startSpan().end();
+
+    assertThat(spanNames()).containsExactly("first");
+  }
+
+  @Test
+  void maxBufferedSpans_decidesOldestTraces() {
+    Tracer tracer = newTracer(builder().addPolicy(spans -> true).setMaxBufferedSpans(2));
+
+    Span root1 = tracer.spanBuilder("root1").startSpan();
+    tracer.spanBuilder("child1").setParent(Context.root().with(root1)).startSpan().end();
+    Span root2 = tracer.spanBuilder("root2").startSpan();
+    tracer.spanBuilder("child2").setParent(Context.root().with(root2)).startSpan().end();
+    assertThat(exporter.getFinishedSpanItems()).isEmpty();
+
+    Span root3 = tracer.spanBuilder("root3").startSpan();
+    tracer.spanBuilder("child3").setParent(Context.root().with(root3)).startSpan().end();
+    assertThat(spanNames()).containsExactly("child1");
+  }
+
+  @Test
+  void maxBufferedSpans_boundsDecidedTraces() {
+    Tracer tracer = newTracer(builder().addPolicy(spans -> true).setMaxBufferedSpans(2));
+
+    Span root1 = tracer.spanBuilder("root1").startSpan();
+    tracer.spanBuilder("child1").setParent(Context.root().with(root1)).startSpan().end();
+    tracer.spanBuilder("root2").startSpan().end();
+    assertThat(spanNames()).containsExactly("root2");
+
+    // Decided traces still count towards the bound until they expire.
+    tracer.spanBuilder("root3").startSpan().end();
+    assertThat(spanNames()).containsExactly("root2", "root3", "child1");
+  }
+
+  @Test
+  void decisionWait_decidesExpiredTraces() {
+    Tracer tracer =
+        newTracer(builder().addPolicy(spans -> true).setDecisionWait(Duration.ofMillis(10)));
+
+    Span root = tracer.spanBuilder("root").startSpan();
+    tracer.spanBuilder("child").setParent(Context.root().with(root)).startSpan().end();
+
+    await().untilAsserted(() -> assertThat(spanNames()).containsExactly("child"));
+  }
+
+  @Test
+  void forceFlush_decidesBufferedTraces() {
+    Tracer tracer = newTracer(builder().addPolicy(spans -> true));
+
+    Span root = tracer.spanBuilder("root").startSpan();
+    tracer.spanBuilder("child").setParent(Context.root().with(root)).startSpan().end();
+    assertThat(exporter.getFinishedSpanItems()).isEmpty();
+
+    assertThat(tracerProvider.forceFlush().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    assertThat(spanNames()).containsExactly("child");
+  }
+
+  @Test
+  void invalidConfig() {
+    assertThatThrownBy(() -> builder().build())
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("At least one policy must be added");
+    assertThatThrownBy(() -> builder().setMaxBufferedSpans(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxBufferedSpans must be positive");
+    assertThatThrownBy(() -> builder().setDecisionWait(0, TimeUnit.SECONDS))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("decisionWait must be positive");
+  }
+
+  @Test
+  void builderDefaults() {
+    TailSamplingSpanProcessorBuilder builder = builder();
+    assertThat(builder.getDecisionWaitNanos())
+        .isEqualTo(
+            TimeUnit.MILLISECONDS.toNanos(
+                TailSamplingSpanProcessorBuilder.DEFAULT_DECISION_WAIT_MILLIS));
+    assertThat(builder.getMaxBufferedSpans())
+        .isEqualTo(TailSamplingSpanProcessorBuilder.DEFAULT_MAX_BUFFERED_SPANS);
+  }
+
+  private TailSamplingSpanProcessorBuilder builder() {
+    return TailSamplingSpanProcessor.builder(SimpleSpanProcessor.create(exporter));
+  }
+
+  private Tracer newTracer(TailSamplingSpanProcessorBuilder builder) {
+    tracerProvider = SdkTracerProvider.builder().addSpanProcessor(builder.build()).build();
+    return tracerProvider.get("test");
+  }
+
+  private List<String> spanNames() {
+    return exporter.getFinishedSpanItems().stream()
+        .map(SpanData::getName)
+        .collect(Collectors.toList());
+  }
+}
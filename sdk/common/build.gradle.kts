@@ -1,4 +1,5 @@
 import io.opentelemetry.gradle.OtelVersionClassPlugin
+import ru.vyarus.gradle.plugin.animalsniffer.AnimalSniffer
 
 plugins {
   id("otel.java-conventions")
@@ -12,6 +13,13 @@ otelJava.moduleName.set("io.opentelemetry.sdk.common")
 
 val mrJarVersions = listOf(9)
 
+sourceSets {
+  main {
+    val sdkShadedDeps = project(":sdk:trace-shaded-deps")
+    output.dir(sdkShadedDeps.file("build/extracted/shadow"), "builtBy" to ":sdk:trace-shaded-deps:extractShadowJar")
+  }
+}
+
 dependencies {
   api(project(":api:all"))
 
@@ -53,6 +61,12 @@ for (version in mrJarVersions) {
 }
 
 tasks {
+  withType<AnimalSniffer>().configureEach {
+    // We catch NoClassDefFoundError to fallback to non-jctools queues.
+    exclude("**/internal/shaded/jctools/**")
+    exclude("**/internal/JcTools*")
+  }
+
   withType(Jar::class) {
     val sourcePathProvider = if (name.equals("jar")) {
       { ss: SourceSet? -> ss?.output }
@@ -0,0 +1,38 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.internal;
+
+/**
+ * The behavior of a batching processor when its queue is full and a new item is added.
+ *
+ * <p>Items that are discarded under any of these policies are reported as dropped by the
+ * processor's self-metrics.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public enum QueueOverflowPolicy {
+
+  /** Discards the item being added, keeping the items already queued. This is the default. */
+  DROP_NEWEST,
+
+  /**
+   * Discards the oldest queued item to make room for the item being added.
+   *
+   * <p>This favors recent telemetry over older telemetry, at the cost of a queue that supports
+   * removal by producers, which is slower than the default single-consumer queue.
+   */
+  DROP_OLDEST,
+
+  /**
+   * Blocks the thread adding the item until space is available in the queue or the configured
+   * block timeout elapses, in which case the item is discarded.
+   *
+   * <p>This trades producer latency for completeness and should be used with a short timeout, since
+   * the blocked thread is usually an application thread.
+   */
+  BLOCK
+}
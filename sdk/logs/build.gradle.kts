@@ -14,10 +14,21 @@ dependencies {
   api(project(":sdk:common"))
   implementation(project(":api:incubator"))
 
+  // Bundled into :sdk:common
+  compileOnly(project(":sdk:trace-shaded-deps"))
+
   annotationProcessor("com.google.auto.value:auto-value")
 
   testImplementation(project(":sdk:testing"))
 
   testImplementation("org.awaitility:awaitility")
   testImplementation("com.google.guava:guava")
+
+  jmh(project(":sdk:metrics"))
+  jmh(project(":sdk:testing")) {
+    // JMH doesn't handle dependencies that are duplicated between the main and jmh
+    // configurations properly, but luckily here it's simple enough to just exclude transitive
+    // dependencies.
+    isTransitive = false
+  }
 }
@@ -13,11 +13,15 @@ import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import io.opentelemetry.sdk.internal.JcTools;
+import io.opentelemetry.sdk.internal.QueueOverflowPolicy;
 import io.opentelemetry.sdk.logs.LogRecordProcessor;
 import io.opentelemetry.sdk.logs.ReadWriteLogRecord;
 import io.opentelemetry.sdk.logs.data.LogRecordData;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
@@ -26,6 +30,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -34,10 +39,15 @@ import java.util.logging.Logger;
  * pushes them to the exporter pipeline.
  *
  * <p>All logs reported by the SDK implementation are first added to a synchronized queue (with a
- * {@code maxQueueSize} maximum size, if queue is full logs are dropped). Logs are exported either
+ * {@code maxQueueSize} maximum size, if queue is full logs are handled according to the configured
+ * {@link QueueOverflowPolicy}, by default they are dropped). Logs are exported either
  * when there are {@code maxExportBatchSize} pending logs or {@code scheduleDelayNanos} has passed
  * since the last export finished.
  *
+ * <p>When {@code maxConcurrentExports} is greater than one, the next batch is assembled and its
+ * export started while previous exports are still in progress, instead of waiting for each export
+ * to complete. Exports may then complete in any order.
+ *
  * @since 1.27.0
  */
 public final class BatchLogRecordProcessor implements LogRecordProcessor {
@@ -50,6 +60,8 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
       AttributeKey.booleanKey("dropped");
   private static final String LOG_RECORD_PROCESSOR_TYPE_VALUE =
       BatchLogRecordProcessor.class.getSimpleName();
+  // How long a producer parks between attempts to enqueue when blocking on a full queue.
+  private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
 
   private final Worker worker;
   private final AtomicBoolean isShutdown = new AtomicBoolean(false);
@@ -71,7 +83,10 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
       long scheduleDelayNanos,
       int maxQueueSize,
       int maxExportBatchSize,
-      long exporterTimeoutNanos) {
+      long exporterTimeoutNanos,
+      int maxConcurrentExports,
+      QueueOverflowPolicy overflowPolicy,
+      long overflowBlockTimeoutNanos) {
     this.worker =
         new Worker(
             logRecordExporter,
@@ -79,11 +94,25 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
             scheduleDelayNanos,
             maxExportBatchSize,
             exporterTimeoutNanos,
-            new ArrayBlockingQueue<>(maxQueueSize)); // TODO: use JcTools.newFixedSizeQueue(..)
+            newQueue(overflowPolicy, maxQueueSize),
+            maxConcurrentExports,
+            overflowPolicy,
+            overflowBlockTimeoutNanos,
+            isShutdown);
     Thread workerThread = new DaemonThreadFactory(WORKER_THREAD_NAME).newThread(worker);
     workerThread.start();
   }
 
+  private static Queue<ReadWriteLogRecord> newQueue(
+      QueueOverflowPolicy overflowPolicy, int capacity) {
+    // Dropping the oldest log requires producers to poll the queue, which the single-consumer
+    // JcTools queue does not allow.
+    if (overflowPolicy == QueueOverflowPolicy.DROP_OLDEST) {
+      return new ArrayBlockingQueue<>(capacity);
+    }
+    return JcTools.newFixedSizeQueue(capacity);
+  }
+
   @Override
   public void onEmit(Context context, ReadWriteLogRecord logRecord) {
     if (logRecord == null) {
@@ -130,6 +159,10 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
         + worker.maxExportBatchSize
         + ", exporterTimeoutNanos="
         + worker.exporterTimeoutNanos
+        + ", maxConcurrentExports="
+        + worker.maxConcurrentExports
+        + ", overflowPolicy="
+        + worker.overflowPolicy
         + '}';
   }
 
@@ -148,9 +181,19 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
     private final long scheduleDelayNanos;
     private final int maxExportBatchSize;
     private final long exporterTimeoutNanos;
+    private final int maxConcurrentExports;
+    private final QueueOverflowPolicy overflowPolicy;
+    private final long overflowBlockTimeoutNanos;
+    // The shutdown flag of the processor.
+    private final AtomicBoolean isShutdown;
 
     private long nextExportTime;
 
+    // Exports in progress, oldest first.
+    private final ArrayDeque<PendingExport> pendingExports = new ArrayDeque<>();
+    // Batch lists of completed exports, reused to assemble the following batches.
+    private final ArrayDeque<ArrayList<LogRecordData>> freeBatches = new ArrayDeque<>();
+
     private final Queue<ReadWriteLogRecord> queue;
     // When waiting on the logs queue, exporter thread sets this atomic to the number of more
     // logs it needs before doing an export. Writer threads would then wait for the queue to reach
@@ -162,7 +205,7 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
     private final BlockingQueue<Boolean> signal;
     private final AtomicReference<CompletableResultCode> flushRequested = new AtomicReference<>();
     private volatile boolean continueWork = true;
-    private final ArrayList<LogRecordData> batch;
+    private ArrayList<LogRecordData> batch;
 
     private Worker(
         LogRecordExporter logRecordExporter,
@@ -170,12 +213,20 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
         long scheduleDelayNanos,
         int maxExportBatchSize,
         long exporterTimeoutNanos,
-        Queue<ReadWriteLogRecord> queue) {
+        Queue<ReadWriteLogRecord> queue,
+        int maxConcurrentExports,
+        QueueOverflowPolicy overflowPolicy,
+        long overflowBlockTimeoutNanos,
+        AtomicBoolean isShutdown) {
       this.logRecordExporter = logRecordExporter;
       this.scheduleDelayNanos = scheduleDelayNanos;
       this.maxExportBatchSize = maxExportBatchSize;
       this.exporterTimeoutNanos = exporterTimeoutNanos;
       this.queue = queue;
+      this.maxConcurrentExports = maxConcurrentExports;
+      this.overflowPolicy = overflowPolicy;
+      this.overflowBlockTimeoutNanos = overflowBlockTimeoutNanos;
+      this.isShutdown = isShutdown;
       this.signal = new ArrayBlockingQueue<>(1);
       Meter meter = meterProvider.meterBuilder("io.opentelemetry.sdk.logs").build();
       meter
@@ -214,7 +265,7 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
     }
 
     private void addLog(ReadWriteLogRecord logData) {
-      if (!queue.offer(logData)) {
+      if (!queue.offer(logData) && !handleOverflow(logData)) {
         processedLogsCounter.add(1, droppedAttrs);
       } else {
         if (queue.size() >= logsNeeded.get()) {
@@ -223,6 +274,35 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
       }
     }
 
+    // Returns whether the log was enqueued after the queue was found to be full.
+    private boolean handleOverflow(ReadWriteLogRecord logData) {
+      switch (overflowPolicy) {
+        case DROP_OLDEST:
+          do {
+            if (queue.poll() != null) {
+              processedLogsCounter.add(1, droppedAttrs);
+            }
+          } while (!queue.offer(logData));
+          return true;
+        case BLOCK:
+          // Wake up the worker in case it is waiting for more logs before draining.
+          signal.offer(true);
+          long deadline = System.nanoTime() + overflowBlockTimeoutNanos;
+          do {
+            long remaining = deadline - System.nanoTime();
+            // The queue is no longer drained once the processor is shut down.
+            if (remaining <= 0 || isShutdown.get()) {
+              return false;
+            }
+            LockSupport.parkNanos(Math.min(remaining, BLOCK_PARK_NANOS));
+          } while (!queue.offer(logData));
+          return true;
+        case DROP_NEWEST:
+          break;
+      }
+      return false;
+    }
+
     @Override
     public void run() {
       updateNextExportTime();
@@ -231,9 +311,13 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
         if (flushRequested.get() != null) {
           flush();
         }
-        while (!queue.isEmpty() && batch.size() < maxExportBatchSize) {
-          batch.add(queue.poll().toLogRecordData());
+        if (!pendingExports.isEmpty()) {
+          completeFinishedExports();
         }
+        JcTools.drain(
+            queue,
+            maxExportBatchSize - batch.size(),
+            logRecord -> batch.add(logRecord.toLogRecordData()));
         if (batch.size() >= maxExportBatchSize || System.nanoTime() >= nextExportTime) {
           exportCurrentBatch();
           updateNextExportTime();
@@ -258,7 +342,10 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
       int logsToFlush = queue.size();
       while (logsToFlush > 0) {
         ReadWriteLogRecord logRecord = queue.poll();
-        assert logRecord != null;
+        if (logRecord == null) {
+          // Producers may remove logs concurrently when dropping the oldest log.
+          break;
+        }
         batch.add(logRecord.toLogRecordData());
         logsToFlush--;
         if (batch.size() >= maxExportBatchSize) {
@@ -266,6 +353,9 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
         }
       }
       exportCurrentBatch();
+      while (!pendingExports.isEmpty()) {
+        awaitOldestExport();
+      }
       CompletableResultCode flushResult = flushRequested.get();
       if (flushResult != null) {
         flushResult.succeed();
@@ -315,20 +405,82 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
       if (batch.isEmpty()) {
         return;
       }
+      // Wait for the oldest export to complete when as many as allowed are in progress.
+      while (pendingExports.size() >= maxConcurrentExports) {
+        awaitOldestExport();
+      }
+
+      PendingExport export = new PendingExport(batch, System.nanoTime());
+      ArrayList<LogRecordData> nextBatch = freeBatches.poll();
+      batch = nextBatch != null ? nextBatch : new ArrayList<>(maxExportBatchSize);
 
+      CompletableResultCode result;
       try {
-        CompletableResultCode result =
-            logRecordExporter.export(Collections.unmodifiableList(batch));
-        result.join(exporterTimeoutNanos, TimeUnit.NANOSECONDS);
-        if (result.isSuccess()) {
-          processedLogsCounter.add(batch.size(), exportedAttrs);
-        } else {
-          logger.log(Level.FINE, "Exporter failed");
-        }
+        result = logRecordExporter.export(Collections.unmodifiableList(export.batch));
       } catch (RuntimeException e) {
         logger.log(Level.WARNING, "Exporter threw an Exception", e);
-      } finally {
-        batch.clear();
+        result = CompletableResultCode.ofFailure();
+      }
+      export.start(result);
+      pendingExports.add(export);
+      // Without concurrent exports, complete the export before assembling the next batch.
+      if (maxConcurrentExports == 1) {
+        awaitOldestExport();
+      }
+    }
+
+    private void awaitOldestExport() {
+      PendingExport export = pendingExports.remove();
+      long remainingNanos = export.startNanos + exporterTimeoutNanos - System.nanoTime();
+      if (remainingNanos > 0) {
+        export.result.join(remainingNanos, TimeUnit.NANOSECONDS);
+      }
+      completeExport(export);
+    }
+
+    // Exports may complete in any order, so all of them are checked.
+    private void completeFinishedExports() {
+      long now = System.nanoTime();
+      for (Iterator<PendingExport> iterator = pendingExports.iterator(); iterator.hasNext(); ) {
+        PendingExport export = iterator.next();
+        if (export.result.isDone() || now - export.startNanos >= exporterTimeoutNanos) {
+          iterator.remove();
+          completeExport(export);
+        }
+      }
+    }
+
+    private void completeExport(PendingExport export) {
+      if (export.result.isSuccess()) {
+        processedLogsCounter.add(export.batch.size(), exportedAttrs);
+      } else {
+        logger.log(Level.FINE, "Exporter failed");
+      }
+      // An export that timed out may still read the batch, so it is not reused.
+      if (export.result.isDone()) {
+        export.batch.clear();
+        freeBatches.add(export.batch);
+      }
+    }
+
+    // An export started by this worker whose completion was not yet handled.
+    private final class PendingExport {
+
+      private final ArrayList<LogRecordData> batch;
+      private final long startNanos;
+      private CompletableResultCode result = CompletableResultCode.ofFailure();
+
+      private PendingExport(ArrayList<LogRecordData> batch, long startNanos) {
+        this.batch = batch;
+        this.startNanos = startNanos;
+      }
+
+      private void start(CompletableResultCode result) {
+        this.result = result;
+        if (maxConcurrentExports > 1) {
+          // Wake up the worker to handle the completion.
+          result.whenComplete(() -> signal.offer(true));
+        }
       }
     }
   }
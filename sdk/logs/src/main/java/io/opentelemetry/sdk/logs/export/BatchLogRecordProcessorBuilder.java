@@ -9,6 +9,8 @@ import static io.opentelemetry.api.internal.Utils.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.sdk.internal.QueueOverflowPolicy;
+import io.opentelemetry.sdk.logs.internal.SdkLoggerProviderUtil;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
@@ -27,12 +29,20 @@ public final class BatchLogRecordProcessorBuilder {
   static final int DEFAULT_MAX_EXPORT_BATCH_SIZE = 512;
   // Visible for testing
   static final int DEFAULT_EXPORT_TIMEOUT_MILLIS = 30_000;
+  // Visible for testing
+  static final int DEFAULT_MAX_CONCURRENT_EXPORTS = 1;
+  // Visible for testing
+  static final long DEFAULT_OVERFLOW_BLOCK_TIMEOUT_MILLIS = 100;
 
   private final LogRecordExporter logRecordExporter;
   private long scheduleDelayNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_SCHEDULE_DELAY_MILLIS);
   private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
   private int maxExportBatchSize = DEFAULT_MAX_EXPORT_BATCH_SIZE;
   private long exporterTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_EXPORT_TIMEOUT_MILLIS);
+  private int maxConcurrentExports = DEFAULT_MAX_CONCURRENT_EXPORTS;
+  private QueueOverflowPolicy overflowPolicy = QueueOverflowPolicy.DROP_NEWEST;
+  private long overflowBlockTimeoutNanos =
+      TimeUnit.MILLISECONDS.toNanos(DEFAULT_OVERFLOW_BLOCK_TIMEOUT_MILLIS);
   private MeterProvider meterProvider = MeterProvider.noop();
 
   BatchLogRecordProcessorBuilder(LogRecordExporter logRecordExporter) {
@@ -126,6 +136,84 @@ public final class BatchLogRecordProcessorBuilder {
     return this;
   }
 
+  /**
+   * Sets the maximum number of exports that may be in progress at the same time. Values greater
+   * than {@code 1} require the {@link LogRecordExporter} to support concurrent calls to {@link
+   * LogRecordExporter#export(java.util.Collection)}.
+   *
+   * <p>With values greater than {@code 1}, the processor starts exporting a batch without waiting
+   * for its previous exports to complete, which raises throughput when the exporter has a high
+   * round trip latency. Exports may complete in any order. Each export is still abandoned after the
+   * {@linkplain #setExporterTimeout(long, TimeUnit) exporter timeout}.
+   *
+   * <p>Default value is {@code 1}.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkLoggerProviderUtil#setMaxConcurrentExports(BatchLogRecordProcessorBuilder, int)}.
+   *
+   * @param maxConcurrentExports the maximum number of concurrent exports.
+   * @return this.
+   * @see BatchLogRecordProcessorBuilder#DEFAULT_MAX_CONCURRENT_EXPORTS
+   */
+  BatchLogRecordProcessorBuilder setMaxConcurrentExports(int maxConcurrentExports) {
+    checkArgument(maxConcurrentExports > 0, "maxConcurrentExports must be positive.");
+    this.maxConcurrentExports = maxConcurrentExports;
+    return this;
+  }
+
+  // Visible for testing
+  int getMaxConcurrentExports() {
+    return maxConcurrentExports;
+  }
+
+  /**
+   * Sets the {@link QueueOverflowPolicy} applied when a log record is emitted while the queue is
+   * full. If unset, defaults to {@link QueueOverflowPolicy#DROP_NEWEST}.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkLoggerProviderUtil#setOverflowPolicy(BatchLogRecordProcessorBuilder, QueueOverflowPolicy)}.
+   */
+  BatchLogRecordProcessorBuilder setOverflowPolicy(QueueOverflowPolicy overflowPolicy) {
+    requireNonNull(overflowPolicy, "overflowPolicy");
+    this.overflowPolicy = overflowPolicy;
+    return this;
+  }
+
+  // Visible for testing
+  QueueOverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
+  }
+
+  /**
+   * Sets the maximum time a thread emitting a log record waits for space in a full queue when using
+   * {@link QueueOverflowPolicy#BLOCK}, after which the log record is dropped. Log records emitted
+   * after the processor was shut down are dropped without waiting. If unset, defaults to 100ms.
+   */
+  BatchLogRecordProcessorBuilder setOverflowBlockTimeout(long timeout, TimeUnit unit) {
+    requireNonNull(unit, "unit");
+    checkArgument(timeout >= 0, "timeout must be non-negative");
+    overflowBlockTimeoutNanos = unit.toNanos(timeout);
+    return this;
+  }
+
+  /**
+   * Sets the maximum time a thread emitting a log record waits for space in a full queue when using
+   * {@link QueueOverflowPolicy#BLOCK}, after which the log record is dropped. Log records emitted
+   * after the processor was shut down are dropped without waiting. If unset, defaults to 100ms.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkLoggerProviderUtil#setOverflowBlockTimeout(BatchLogRecordProcessorBuilder, Duration)}.
+   */
+  BatchLogRecordProcessorBuilder setOverflowBlockTimeout(Duration timeout) {
+    requireNonNull(timeout, "timeout");
+    return setOverflowBlockTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  // Visible for testing
+  long getOverflowBlockTimeoutNanos() {
+    return overflowBlockTimeoutNanos;
+  }
+
   /**
    * Sets the {@link MeterProvider} to use to collect metrics related to batch export. If not set,
    * metrics will not be collected.
@@ -154,6 +242,9 @@ public final class BatchLogRecordProcessorBuilder {
         scheduleDelayNanos,
         maxQueueSize,
         maxExportBatchSize,
-        exporterTimeoutNanos);
+        exporterTimeoutNanos,
+        maxConcurrentExports,
+        overflowPolicy,
+        overflowBlockTimeoutNanos);
   }
 }
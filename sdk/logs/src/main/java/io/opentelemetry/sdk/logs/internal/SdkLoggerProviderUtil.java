@@ -6,10 +6,13 @@
 package io.opentelemetry.sdk.logs.internal;
 
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.internal.QueueOverflowPolicy;
 import io.opentelemetry.sdk.internal.ScopeConfigurator;
 import io.opentelemetry.sdk.logs.SdkLoggerProviderBuilder;
+import io.opentelemetry.sdk.logs.export.BatchLogRecordProcessorBuilder;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.function.Predicate;
 
 /**
@@ -55,4 +58,58 @@ public final class SdkLoggerProviderUtil {
           "Error calling addLoggerConfiguratorCondition on SdkLoggerProviderBuilder", e);
     }
   }
+
+  /**
+   * Reflectively set the {@link QueueOverflowPolicy} to the {@link BatchLogRecordProcessorBuilder}.
+   */
+  public static void setOverflowPolicy(
+      BatchLogRecordProcessorBuilder batchLogRecordProcessorBuilder,
+      QueueOverflowPolicy overflowPolicy) {
+    try {
+      Method method =
+          BatchLogRecordProcessorBuilder.class.getDeclaredMethod(
+              "setOverflowPolicy", QueueOverflowPolicy.class);
+      method.setAccessible(true);
+      method.invoke(batchLogRecordProcessorBuilder, overflowPolicy);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setOverflowPolicy on BatchLogRecordProcessorBuilder", e);
+    }
+  }
+
+  /**
+   * Reflectively set the maximum time to wait for space in a full queue to the {@link
+   * BatchLogRecordProcessorBuilder}.
+   */
+  public static void setOverflowBlockTimeout(
+      BatchLogRecordProcessorBuilder batchLogRecordProcessorBuilder, Duration timeout) {
+    try {
+      Method method =
+          BatchLogRecordProcessorBuilder.class.getDeclaredMethod(
+              "setOverflowBlockTimeout", Duration.class);
+      method.setAccessible(true);
+      method.invoke(batchLogRecordProcessorBuilder, timeout);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setOverflowBlockTimeout on BatchLogRecordProcessorBuilder", e);
+    }
+  }
+
+  /**
+   * Reflectively set the maximum number of concurrent exports to the {@link
+   * BatchLogRecordProcessorBuilder}.
+   */
+  public static void setMaxConcurrentExports(
+      BatchLogRecordProcessorBuilder batchLogRecordProcessorBuilder, int maxConcurrentExports) {
+    try {
+      Method method =
+          BatchLogRecordProcessorBuilder.class.getDeclaredMethod(
+              "setMaxConcurrentExports", int.class);
+      method.setAccessible(true);
+      method.invoke(batchLogRecordProcessorBuilder, maxConcurrentExports);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setMaxConcurrentExports on BatchLogRecordProcessorBuilder", e);
+    }
+  }
 }
@@ -19,12 +19,15 @@ import static org.mockito.Mockito.when;
 import io.opentelemetry.api.internal.GuardedBy;
 import io.opentelemetry.internal.testing.slf4j.SuppressLogger;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.internal.QueueOverflowPolicy;
 import io.opentelemetry.sdk.logs.SdkLoggerProvider;
 import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.internal.SdkLoggerProviderUtil;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -78,6 +81,13 @@ class BatchLogRecordProcessorTest {
         .isEqualTo(
             TimeUnit.MILLISECONDS.toNanos(
                 BatchLogRecordProcessorBuilder.DEFAULT_EXPORT_TIMEOUT_MILLIS));
+    assertThat(builder.getMaxConcurrentExports())
+        .isEqualTo(BatchLogRecordProcessorBuilder.DEFAULT_MAX_CONCURRENT_EXPORTS);
+    assertThat(builder.getOverflowPolicy()).isEqualTo(QueueOverflowPolicy.DROP_NEWEST);
+    assertThat(builder.getOverflowBlockTimeoutNanos())
+        .isEqualTo(
+            TimeUnit.MILLISECONDS.toNanos(
+                BatchLogRecordProcessorBuilder.DEFAULT_OVERFLOW_BLOCK_TIMEOUT_MILLIS));
   }
 
   @Test
@@ -111,6 +121,54 @@ class BatchLogRecordProcessorTest {
             () -> BatchLogRecordProcessor.builder(mockLogRecordExporter).setExporterTimeout(null))
         .isInstanceOf(NullPointerException.class)
         .hasMessage("timeout");
+    assertThatThrownBy(
+            () -> BatchLogRecordProcessor.builder(mockLogRecordExporter).setMaxConcurrentExports(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxConcurrentExports must be positive.");
+    assertThatThrownBy(
+            () -> BatchLogRecordProcessor.builder(mockLogRecordExporter).setOverflowPolicy(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("overflowPolicy");
+    assertThatThrownBy(
+            () ->
+                BatchLogRecordProcessor.builder(mockLogRecordExporter)
+                    .setOverflowBlockTimeout(-1, TimeUnit.MILLISECONDS))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("timeout must be non-negative");
+  }
+
+  @Test
+  void concurrentExports() {
+    List<CompletableResultCode> results = new CopyOnWriteArrayList<>();
+    when(mockLogRecordExporter.export(anyList()))
+        .thenAnswer(
+            invocation -> {
+              CompletableResultCode result = new CompletableResultCode();
+              results.add(result);
+              return result;
+            });
+    BatchLogRecordProcessorBuilder processorBuilder =
+        BatchLogRecordProcessor.builder(mockLogRecordExporter)
+            .setMaxExportBatchSize(1)
+            .setScheduleDelay(MAX_SCHEDULE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    SdkLoggerProviderUtil.setMaxConcurrentExports(processorBuilder, 3);
+    BatchLogRecordProcessor batchLogRecordProcessor = processorBuilder.build();
+    SdkLoggerProvider loggerProvider =
+        SdkLoggerProvider.builder().addLogRecordProcessor(batchLogRecordProcessor).build();
+
+    emitLog(loggerProvider, LOG_MESSAGE_1);
+    emitLog(loggerProvider, LOG_MESSAGE_2);
+    emitLog(loggerProvider, LOG_MESSAGE_1);
+    // Each export starts without waiting for the previous ones to complete.
+    await().untilAsserted(() -> assertThat(results).hasSize(3));
+
+    CompletableResultCode flushResult = batchLogRecordProcessor.forceFlush();
+    assertThat(flushResult.isDone()).isFalse();
+    // Exports may complete in any order.
+    results.get(2).succeed();
+    results.get(0).succeed();
+    results.get(1).succeed();
+    assertThat(flushResult.join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
   }
 
   @Test
@@ -286,6 +344,53 @@ class BatchLogRecordProcessorTest {
     assertThat(exported).hasSize(maxQueuedLogs);
   }
 
+  @Test
+  void emitMoreLogsThanTheMaximumLimit_dropOldest() {
+    int maxQueuedLogs = 8;
+    BlockingLogRecordExporter blockingLogRecordExporter = new BlockingLogRecordExporter();
+    WaitingLogRecordExporter waitingLogRecordExporter =
+        new WaitingLogRecordExporter(maxQueuedLogs + 1, CompletableResultCode.ofSuccess());
+    SdkLoggerProvider sdkLoggerProvider =
+        SdkLoggerProvider.builder()
+            .addLogRecordProcessor(
+                BatchLogRecordProcessor.builder(
+                        LogRecordExporter.composite(
+                            Arrays.asList(blockingLogRecordExporter, waitingLogRecordExporter)))
+                    .setScheduleDelay(MAX_SCHEDULE_DELAY_MILLIS, TimeUnit.MILLISECONDS)
+                    .setMaxQueueSize(maxQueuedLogs)
+                    .setMaxExportBatchSize(maxQueuedLogs / 2)
+                    .setOverflowPolicy(QueueOverflowPolicy.DROP_OLDEST)
+                    .build())
+            .build();
+
+    emitLog(sdkLoggerProvider, "blocking log");
+    blockingLogRecordExporter.waitUntilIsBlocked();
+
+    for (int i = 0; i < maxQueuedLogs; i++) {
+      emitLog(sdkLoggerProvider, "log_1_" + i);
+    }
+    // The second round displaces all but the newest log of the first round.
+    for (int i = 0; i < maxQueuedLogs - 1; i++) {
+      emitLog(sdkLoggerProvider, "log_2_" + i);
+    }
+
+    blockingLogRecordExporter.unblock();
+
+    List<LogRecordData> exported = waitingLogRecordExporter.waitForExport();
+    assertThat(exported).isNotNull();
+    assertThat(exported)
+        .satisfiesExactly(
+            logRecordData -> assertThat(logRecordData).hasBody("blocking log"),
+            logRecordData -> assertThat(logRecordData).hasBody("log_1_7"),
+            logRecordData -> assertThat(logRecordData).hasBody("log_2_0"),
+            logRecordData -> assertThat(logRecordData).hasBody("log_2_1"),
+            logRecordData -> assertThat(logRecordData).hasBody("log_2_2"),
+            logRecordData -> assertThat(logRecordData).hasBody("log_2_3"),
+            logRecordData -> assertThat(logRecordData).hasBody("log_2_4"),
+            logRecordData -> assertThat(logRecordData).hasBody("log_2_5"),
+            logRecordData -> assertThat(logRecordData).hasBody("log_2_6"));
+  }
+
   @Test
   void ignoresNullLogs() {
     BatchLogRecordProcessor processor =
@@ -330,6 +435,7 @@ class BatchLogRecordProcessorTest {
 
   @Test
   @Timeout(5)
+  @SuppressLogger(BatchLogRecordProcessor.class)
   public void continuesIfExporterTimesOut() throws InterruptedException {
     int exporterTimeoutMillis = 10;
     BatchLogRecordProcessor blp =
@@ -435,6 +541,8 @@ class BatchLogRecordProcessorTest {
                 + ", scheduleDelayNanos=1000000000"
                 + ", maxExportBatchSize=512"
                 + ", exporterTimeoutNanos=30000000000"
+                + ", maxConcurrentExports=1"
+                + ", overflowPolicy=DROP_NEWEST"
                 + "}");
   }
 
@@ -5,7 +5,12 @@
 
 package io.opentelemetry.sdk.metrics;
 
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.internal.RandomSupplier;
+import io.opentelemetry.sdk.metrics.data.LongExemplarData;
+import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarReservoir;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -13,6 +18,9 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
 
 /**
@@ -20,6 +28,11 @@ import org.openjdk.jmh.annotations.Warmup;
  * obtain the measurement time when storing exemplar values. This benchmark illustrates the
  * performance impact of using the higher precision {@link Clock#now()} instead of {@link
  * Clock#now(boolean)} with {@code highPrecision=false}.
+ *
+ * <p>It also compares the cost of offering measurements from concurrent threads to the default
+ * fixed-size reservoir, which draws a random number for every measurement and synchronizes on the
+ * cells it samples into, and to the striped reservoir, which only uses the clock and the random
+ * number generator for the measurements it samples.
  */
 @BenchmarkMode({Mode.AverageTime})
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
@@ -29,6 +42,17 @@ import org.openjdk.jmh.annotations.Warmup;
 public class ExemplarClockBenchmarks {
 
   private static final Clock clock = Clock.getDefault();
+  private static final int RESERVOIR_SIZE = Runtime.getRuntime().availableProcessors();
+
+  @State(Scope.Benchmark)
+  public static class ReservoirState {
+    final ExemplarReservoir<LongExemplarData> fixedSizeReservoir =
+        ExemplarReservoir.longFixedSizeReservoir(
+            clock, RESERVOIR_SIZE, RandomSupplier.platformDefault());
+    final ExemplarReservoir<LongExemplarData> stripedReservoir =
+        ExemplarReservoir.longStripedReservoir(
+            clock, RESERVOIR_SIZE, RandomSupplier.platformDefault());
+  }
 
   @SuppressWarnings("ReturnValueIgnored")
   @Benchmark
@@ -41,4 +65,16 @@ public class ExemplarClockBenchmarks {
   public void now_highPrecision() {
     clock.now(true);
   }
+
+  @Benchmark
+  @Threads(4)
+  public void offer_fixedSizeReservoir(ReservoirState state) {
+    state.fixedSizeReservoir.offerLongMeasurement(1, Attributes.empty(), Context.root());
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void offer_stripedReservoir(ReservoirState state) {
+    state.stripedReservoir.offerLongMeasurement(1, Attributes.empty(), Context.root());
+  }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.internal.SdkMeterProviderUtil;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the latency of collecting a provider with many instruments spread across meters,
+ * depending on the collection parallelism.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ManyInstrumentsCollectBenchmark {
+
+  private static final int meterCount = 10;
+  private static final int seriesPerInstrument = 10;
+
+  @Param({"100", "1000", "5000"})
+  int instrumentCount;
+
+  @Param({"1", "2", "4"})
+  int collectionParallelism;
+
+  private SdkMeterProvider sdkMeterProvider;
+  private InMemoryMetricReader reader;
+  private final List<LongCounter> counters = new ArrayList<>();
+  private final List<Attributes> attributesList = new ArrayList<>();
+
+  @Setup
+  public void setup() {
+    reader = InMemoryMetricReader.create();
+    SdkMeterProviderBuilder builder = SdkMeterProvider.builder().registerMetricReader(reader);
+    SdkMeterProviderUtil.setCollectionParallelism(builder, collectionParallelism);
+    sdkMeterProvider = builder.build();
+
+    for (int i = 0; i < instrumentCount; i++) {
+      Meter meter = sdkMeterProvider.get("meter" + (i % meterCount));
+      counters.add(meter.counterBuilder("counter" + i).build());
+    }
+    for (int i = 0; i < seriesPerInstrument; i++) {
+      attributesList.add(Attributes.of(AttributeKey.longKey("key"), (long) i));
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    sdkMeterProvider.shutdown().join(10, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public Collection<MetricData> recordAndCollect() {
+    for (LongCounter counter : counters) {
+      for (Attributes attributes : attributesList) {
+        counter.add(1, attributes);
+      }
+    }
+    return reader.collectAllMetrics();
+  }
+}
@@ -109,4 +109,16 @@ public class MetricsBenchmarks {
   public void eightThreadsSeparateLabelSets(ThreadState threadState) {
     threadState.op.perform(threadState.threadUniqueLabelSet);
   }
+
+  @Benchmark
+  @Threads(32)
+  public void thirtyTwoThreadsCommonLabelSet(ThreadState threadState) {
+    threadState.op.perform(threadState.sharedLabelSet);
+  }
+
+  @Benchmark
+  @Threads(128)
+  public void oneHundredTwentyEightThreadsCommonLabelSet(ThreadState threadState) {
+    threadState.op.perform(threadState.sharedLabelSet);
+  }
 }
@@ -9,6 +9,7 @@ import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.metrics.internal.SdkMeterProviderUtil;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
@@ -63,6 +64,34 @@ public enum TestSdk {
               .build()
               .get("io.opentelemetry.sdk.metrics");
         }
+      }),
+  SDK_THREAD_LOCAL_AGGREGATION(
+      new SdkBuilder() {
+        @Override
+        Meter build() {
+          SdkMeterProviderBuilder builder =
+              SdkMeterProvider.builder()
+                  .setClock(Clock.getDefault())
+                  .setResource(Resource.empty())
+                  // Must register reader for real SDK.
+                  .registerMetricReader(InMemoryMetricReader.createDelta());
+          SdkMeterProviderUtil.setMaxThreadLocalSeries(builder, 10_000);
+          return builder.build().get("io.opentelemetry.sdk.metrics");
+        }
+      }),
+  SDK_COLUMNAR_STORAGE(
+      new SdkBuilder() {
+        @Override
+        Meter build() {
+          SdkMeterProviderBuilder builder =
+              SdkMeterProvider.builder()
+                  .setClock(Clock.getDefault())
+                  .setResource(Resource.empty())
+                  // Must register reader for real SDK.
+                  .registerMetricReader(InMemoryMetricReader.createDelta());
+          SdkMeterProviderUtil.setColumnarStorageEnabled(builder, true);
+          return builder.build().get("io.opentelemetry.sdk.metrics");
+        }
       });
 
   private final SdkBuilder sdkBuilder;
@@ -0,0 +1,94 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.aggregator;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures runtime cost of computing bucket indexes for explicit bucket histograms, with the
+ * default boundaries and with 100 evenly spaced, exponential or irregular boundaries of custom
+ * views.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 5, time = 1)
+@Warmup(iterations = 5, time = 1)
+@Fork(1)
+public class ExplicitBucketHistogramIndexerBenchmark {
+
+  private static final int NUM_VALUES = 2000;
+
+  @State(Scope.Thread)
+  public static class ThreadState {
+    @Param({"DEFAULT", "EVENLY_SPACED_100", "EXPONENTIAL_100", "IRREGULAR_100"})
+    String boundaryLayout;
+
+    private double[] boundaries;
+    private double[] values;
+    private ExplicitBucketHistogramIndexer indexer;
+
+    @Setup(Level.Trial)
+    public final void setup() {
+      boundaries = boundaries(boundaryLayout);
+      Random random = new Random();
+      values = new double[NUM_VALUES];
+      for (int i = 0; i < NUM_VALUES; i++) {
+        values[i] = random.nextDouble() * boundaries[boundaries.length - 1] * 1.1;
+      }
+      indexer = ExplicitBucketHistogramIndexer.create(boundaries);
+    }
+
+    private static double[] boundaries(String boundaryLayout) {
+      if (boundaryLayout.equals("DEFAULT")) {
+        return ExplicitBucketHistogramUtils.createBoundaryArray(
+            ExplicitBucketHistogramUtils.DEFAULT_HISTOGRAM_BUCKET_BOUNDARIES);
+      }
+      double[] boundaries = new double[100];
+      for (int i = 0; i < boundaries.length; i++) {
+        switch (boundaryLayout) {
+          case "EVENLY_SPACED_100":
+            boundaries[i] = i * 10;
+            break;
+          case "EXPONENTIAL_100":
+            boundaries[i] = Math.pow(1.1, i);
+            break;
+          default:
+            boundaries[i] = i * i + (i % 3);
+        }
+      }
+      return boundaries;
+    }
+  }
+
+  @Benchmark
+  public void linearScan(ThreadState threadState, Blackhole blackhole) {
+    for (double value : threadState.values) {
+      blackhole.consume(
+          ExplicitBucketHistogramUtils.findBucketIndex(threadState.boundaries, value));
+    }
+  }
+
+  @Benchmark
+  public void indexer(ThreadState threadState, Blackhole blackhole) {
+    for (double value : threadState.values) {
+      blackhole.consume(threadState.indexer.findBucketIndex(value));
+    }
+  }
+}
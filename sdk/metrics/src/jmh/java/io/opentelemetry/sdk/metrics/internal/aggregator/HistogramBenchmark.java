@@ -21,7 +21,10 @@ import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
 
-/** Measures runtime cost of histogram aggregations. */
+/**
+ * Measures runtime cost of histogram aggregations, with a handle per thread, or with a handle
+ * shared by all threads as when recording measurements with the same attributes concurrently.
+ */
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
 @Measurement(iterations = 10, time = 1)
@@ -50,6 +53,37 @@ public class HistogramBenchmark {
     }
   }
 
+  @State(Scope.Benchmark)
+  public static class SharedHandleState {
+    @Param HistogramAggregationParam aggregation;
+    private AggregatorHandle<?, ?> aggregatorHandle;
+
+    @Setup(Level.Trial)
+    public final void setup() {
+      aggregatorHandle = aggregation.getAggregator().createHandle();
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ContendedThreadState {
+    @Param HistogramValueGenerator valueGen;
+    private AggregatorHandle<?, ?> aggregatorHandle;
+    private DoubleSupplier valueSupplier;
+
+    @Setup(Level.Trial)
+    public final void setup(SharedHandleState sharedHandleState) {
+      aggregatorHandle = sharedHandleState.aggregatorHandle;
+      valueSupplier = valueGen.supplier();
+    }
+
+    public void record() {
+      // Record a number of samples.
+      for (int i = 0; i < 2000; i++) {
+        this.aggregatorHandle.recordDouble(valueSupplier.getAsDouble());
+      }
+    }
+  }
+
   @Benchmark
   @Threads(value = 10)
   public void aggregate_10Threads(ThreadState threadState) {
@@ -67,4 +101,16 @@ public class HistogramBenchmark {
   public void aggregate_1Threads(ThreadState threadState) {
     threadState.record();
   }
+
+  @Benchmark
+  @Threads(value = 200)
+  public void aggregateContended_200Threads(ContendedThreadState threadState) {
+    threadState.record();
+  }
+
+  @Benchmark
+  @Threads(value = 10)
+  public void aggregateContended_10Threads(ContendedThreadState threadState) {
+    threadState.record();
+  }
 }
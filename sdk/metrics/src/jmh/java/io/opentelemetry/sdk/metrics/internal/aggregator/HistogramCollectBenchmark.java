@@ -57,6 +57,9 @@ public class HistogramCollectBenchmark {
     @Param private AggregationTemporality aggregationTemporality;
     @Param private AggregationGenerator aggregationGenerator;
 
+    @Param({"1", "4"})
+    private int collectionParallelism;
+
     private SdkMeterProvider sdkMeterProvider;
     private DoubleHistogram histogram;
     private Random random;
@@ -77,6 +80,7 @@ public class HistogramCollectBenchmark {
                       .build());
       // Disable examplars
       SdkMeterProviderUtil.setExemplarFilter(builder, ExemplarFilter.alwaysOff());
+      SdkMeterProviderUtil.setCollectionParallelism(builder, collectionParallelism);
       sdkMeterProvider = builder.build();
       histogram = sdkMeterProvider.get("meter").histogramBuilder("histogram").build();
 
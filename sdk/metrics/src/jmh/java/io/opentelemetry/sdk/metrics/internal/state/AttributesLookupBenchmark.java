@@ -0,0 +1,93 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of finding the series of a measurement in a metric storage map, depending on
+ * the number of attributes and on whether the recorded attributes are the instance used as key, an
+ * equal instance, a new instance, or an instance interned by {@link AttributesInterner}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AttributesLookupBenchmark {
+
+  @Param({"1", "5", "10", "20"})
+  int attributeCount;
+
+  // A processor which copies the attributes, like views filtering attribute keys.
+  private final AttributesProcessor attributesProcessor =
+      AttributesProcessor.filterByKeyName(unused -> true);
+  private final ConcurrentHashMap<Attributes, Object> series = new ConcurrentHashMap<>();
+  private AttributesInterner interner;
+  private Attributes keyAttributes;
+  private Attributes equalAttributes;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    interner = new AttributesInterner(attributesProcessor, 1_000);
+    // Attributes reused by the caller, distinct from the series key.
+    equalAttributes = newAttributes();
+    keyAttributes = interner.process(equalAttributes, Context.root());
+    series.put(keyAttributes, new Object());
+  }
+
+  @Benchmark
+  public Object sameInstance() {
+    return series.get(keyAttributes);
+  }
+
+  @Benchmark
+  public Object processed() {
+    return series.get(attributesProcessor.process(equalAttributes, Context.root()));
+  }
+
+  @Benchmark
+  public Object newInstanceProcessed() {
+    return series.get(attributesProcessor.process(newAttributes(), Context.root()));
+  }
+
+  @Benchmark
+  public Object interned() {
+    return series.get(interner.process(equalAttributes, Context.root()));
+  }
+
+  @Benchmark
+  public Object newInstanceInterned() {
+    return series.get(interner.process(newAttributes(), Context.root()));
+  }
+
+  private Attributes newAttributes() {
+    AttributesBuilder builder = Attributes.builder();
+    for (int i = 0; i < attributeCount; i++) {
+      builder.put(AttributeKey.stringKey("key" + i), "value" + i);
+    }
+    return builder.build();
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.metrics.InstrumentSelector;
+import io.opentelemetry.sdk.metrics.InstrumentType;
+import io.opentelemetry.sdk.metrics.InstrumentValueType;
+import io.opentelemetry.sdk.metrics.View;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.export.CollectionRegistration;
+import io.opentelemetry.sdk.metrics.export.MetricReader;
+import io.opentelemetry.sdk.metrics.internal.debug.SourceInfo;
+import io.opentelemetry.sdk.metrics.internal.descriptor.Advice;
+import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
+import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
+import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
+import io.opentelemetry.sdk.metrics.internal.view.RegisteredView;
+import io.opentelemetry.sdk.metrics.internal.view.ViewRegistry;
+import io.opentelemetry.sdk.resources.Resource;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Run this through {@link AsynchronousMetricStorageGarbageCollectionBenchmarkTest}, as it runs it
+ * embedded with the GC profiler which what this test designed for.
+ *
+ * <p>Each operation records a measurement for each of 1000 attribute sets to the storage of an
+ * asynchronous counter, as its callback would, and collects it. Unlike {@link
+ * InstrumentGarbageCollectionBenchmark}, it exercises the storage directly, so that the allocations
+ * of the collection pipeline around it, such as the {@link MetricData} of each collection, are not
+ * measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 10, time = 1)
+@Warmup(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AsynchronousMetricStorageGarbageCollectionBenchmark {
+
+  static final int CARDINALITY = 1000;
+
+  @Param public AggregationTemporality aggregationTemporality;
+  @Param public MemoryMode memoryMode;
+
+  private final MutableMeasurement mutableMeasurement = new MutableMeasurement();
+  private AsynchronousMetricStorage<?, ?> storage;
+  private List<Attributes> attributesList;
+  private long epochNanos;
+
+  @Setup
+  public void setup() {
+    RegisteredReader registeredReader =
+        RegisteredReader.create(
+            new NoopMetricReader(aggregationTemporality, memoryMode), ViewRegistry.create());
+    storage =
+        AsynchronousMetricStorage.create(
+            registeredReader,
+            RegisteredView.create(
+                InstrumentSelector.builder().setName("*").build(),
+                View.builder().build(),
+                AttributesProcessor.noop(),
+                CARDINALITY + 1,
+                SourceInfo.noSourceInfo()),
+            InstrumentDescriptor.create(
+                "counter",
+                "description",
+                "unit",
+                InstrumentType.OBSERVABLE_COUNTER,
+                InstrumentValueType.LONG,
+                Advice.empty()));
+    attributesList = AttributesGenerator.generate(CARDINALITY);
+  }
+
+  @SuppressWarnings("ForLoopReplaceableByForEach") // This is for GC sensitivity testing: no streams
+  @Benchmark
+  public MetricData recordAndCollect() {
+    epochNanos += 10;
+    for (int i = 0; i < attributesList.size(); i++) {
+      Attributes attributes = attributesList.get(i);
+      if (memoryMode == MemoryMode.REUSABLE_DATA) {
+        MutableMeasurement.setLongMeasurement(
+            mutableMeasurement, 0, epochNanos, epochNanos + i, attributes);
+        storage.record(mutableMeasurement);
+      } else {
+        storage.record(ImmutableMeasurement.createLong(0, epochNanos, epochNanos + i, attributes));
+      }
+    }
+    return storage.collect(Resource.empty(), InstrumentationScopeInfo.empty(), 0, epochNanos);
+  }
+
+  private static class NoopMetricReader implements MetricReader {
+    private final AggregationTemporality aggregationTemporality;
+    private final MemoryMode memoryMode;
+
+    private NoopMetricReader(AggregationTemporality aggregationTemporality, MemoryMode memoryMode) {
+      this.aggregationTemporality = aggregationTemporality;
+      this.memoryMode = memoryMode;
+    }
+
+    @Override
+    public void register(CollectionRegistration registration) {}
+
+    @Override
+    public CompletableResultCode forceFlush() {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public AggregationTemporality getAggregationTemporality(InstrumentType instrumentType) {
+      return aggregationTemporality;
+    }
+
+    @Override
+    public MemoryMode getMemoryMode() {
+      return memoryMode;
+    }
+  }
+}
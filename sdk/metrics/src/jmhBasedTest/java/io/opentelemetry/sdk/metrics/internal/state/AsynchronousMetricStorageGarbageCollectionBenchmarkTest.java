@@ -0,0 +1,67 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import java.util.Collection;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.BenchmarkResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+public class AsynchronousMetricStorageGarbageCollectionBenchmarkTest {
+
+  /**
+   * This test validates that in {@link MemoryMode#REUSABLE_DATA}, recording the same series to an
+   * {@link AsynchronousMetricStorage} and collecting it does not allocate per series in steady
+   * state, in both aggregation temporalities.
+   *
+   * <p>It runs the JMH test {@link AsynchronousMetricStorageGarbageCollectionBenchmark} with GC
+   * profiler, and checks that the normalized allocation rate (bytes allocated per operation) is
+   * less than a byte per series, which leaves room for the few objects allocated once per
+   * collection.
+   */
+  @Test
+  public void normalizedAllocationRateTest() throws RunnerException {
+    // Only run in CI, see InstrumentGarbageCollectionBenchmarkTest.
+    Assumptions.assumeTrue(
+        "true".equals(System.getenv("RUN_JMH_BASED_TESTS")),
+        "This test should only run in GitHub CI since it's long");
+
+    Options opt =
+        new OptionsBuilder()
+            .include(AsynchronousMetricStorageGarbageCollectionBenchmark.class.getSimpleName())
+            .param("memoryMode", MemoryMode.REUSABLE_DATA.toString())
+            .addProfiler("gc")
+            .shouldFailOnError(true)
+            .jvmArgs("-Xmx1500m")
+            .build();
+    Collection<RunResult> results = new Runner(opt).run();
+
+    assertThat(results).isNotEmpty();
+    for (RunResult result : results) {
+      for (BenchmarkResult benchmarkResult : result.getBenchmarkResults()) {
+        Result allocRateNorm = benchmarkResult.getSecondaryResults().get("gc.alloc.rate.norm");
+        assertThat(allocRateNorm)
+            .describedAs(
+                "Allocation rate in secondary results: %s", benchmarkResult.getSecondaryResults())
+            .isNotNull();
+        assertThat(allocRateNorm.getScore())
+            .describedAs(
+                "Aggregation temporality = %s",
+                benchmarkResult.getParams().getParam("aggregationTemporality"))
+            .isLessThan(AsynchronousMetricStorageGarbageCollectionBenchmark.CARDINALITY);
+      }
+    }
+  }
+}
@@ -7,6 +7,7 @@ package io.opentelemetry.sdk.metrics;
 
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.incubator.metrics.BoundDoubleCounter;
 import io.opentelemetry.api.incubator.metrics.ExtendedDoubleCounter;
 import io.opentelemetry.api.incubator.metrics.ExtendedDoubleCounterBuilder;
 import io.opentelemetry.api.metrics.DoubleCounterBuilder;
@@ -16,6 +17,7 @@ import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.internal.ThrottlingLogger;
 import io.opentelemetry.sdk.metrics.internal.descriptor.Advice;
 import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
+import io.opentelemetry.sdk.metrics.internal.state.BoundStorageHandle;
 import io.opentelemetry.sdk.metrics.internal.state.MeterProviderSharedState;
 import io.opentelemetry.sdk.metrics.internal.state.MeterSharedState;
 import io.opentelemetry.sdk.metrics.internal.state.WriteableMetricStorage;
@@ -68,6 +70,37 @@ final class SdkDoubleCounter extends AbstractInstrument implements ExtendedDoubl
     return meterSharedState.isMeterEnabled() && storage.isEnabled();
   }
 
+  @Override
+  public BoundDoubleCounter bind(Attributes attributes) {
+    return new SdkBoundDoubleCounter(storage.bind(attributes));
+  }
+
+  private final class SdkBoundDoubleCounter implements BoundDoubleCounter {
+    private final BoundStorageHandle handle;
+
+    private SdkBoundDoubleCounter(BoundStorageHandle handle) {
+      this.handle = handle;
+    }
+
+    @Override
+    public void add(double increment, Context context) {
+      if (increment < 0) {
+        throttlingLogger.log(
+            Level.WARNING,
+            "Counters can only increase. Instrument "
+                + getDescriptor().getName()
+                + " has recorded a negative value.");
+        return;
+      }
+      handle.recordDouble(increment, context);
+    }
+
+    @Override
+    public void add(double increment) {
+      add(increment, Context.current());
+    }
+  }
+
   static final class SdkDoubleCounterBuilder implements ExtendedDoubleCounterBuilder {
 
     private final InstrumentBuilder builder;
@@ -7,6 +7,7 @@ package io.opentelemetry.sdk.metrics;
 
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.incubator.metrics.BoundLongCounter;
 import io.opentelemetry.api.incubator.metrics.ExtendedLongCounter;
 import io.opentelemetry.api.incubator.metrics.ExtendedLongCounterBuilder;
 import io.opentelemetry.api.metrics.DoubleCounterBuilder;
@@ -16,6 +17,7 @@ import io.opentelemetry.api.metrics.ObservableLongMeasurement;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.internal.ThrottlingLogger;
 import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
+import io.opentelemetry.sdk.metrics.internal.state.BoundStorageHandle;
 import io.opentelemetry.sdk.metrics.internal.state.MeterProviderSharedState;
 import io.opentelemetry.sdk.metrics.internal.state.MeterSharedState;
 import io.opentelemetry.sdk.metrics.internal.state.WriteableMetricStorage;
@@ -69,6 +71,37 @@ final class SdkLongCounter extends AbstractInstrument implements ExtendedLongCou
     return meterSharedState.isMeterEnabled() && storage.isEnabled();
   }
 
+  @Override
+  public BoundLongCounter bind(Attributes attributes) {
+    return new SdkBoundLongCounter(storage.bind(attributes));
+  }
+
+  private final class SdkBoundLongCounter implements BoundLongCounter {
+    private final BoundStorageHandle handle;
+
+    private SdkBoundLongCounter(BoundStorageHandle handle) {
+      this.handle = handle;
+    }
+
+    @Override
+    public void add(long increment, Context context) {
+      if (increment < 0) {
+        throttlingLogger.log(
+            Level.WARNING,
+            "Counters can only increase. Instrument "
+                + getDescriptor().getName()
+                + " has recorded a negative value.");
+        return;
+      }
+      handle.recordLong(increment, context);
+    }
+
+    @Override
+    public void add(long increment) {
+      add(increment, Context.current());
+    }
+  }
+
   static final class SdkLongCounterBuilder implements ExtendedLongCounterBuilder {
 
     private final InstrumentBuilder builder;
@@ -27,9 +27,11 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
+import javax.annotation.Nullable;
 
 /** {@link SdkMeter} is SDK implementation of {@link Meter}. */
 final class SdkMeter implements Meter {
@@ -75,7 +77,17 @@ final class SdkMeter implements Meter {
 
   /** Collect all metrics for the meter. */
   Collection<MetricData> collectAll(RegisteredReader registeredReader, long epochNanos) {
-    return meterSharedState.collectAll(registeredReader, meterProviderSharedState, epochNanos);
+    return collectAll(registeredReader, epochNanos, null);
+  }
+
+  /**
+   * Collect all metrics for the meter, collecting its storages in the {@code collectionPool} if not
+   * {@code null}.
+   */
+  Collection<MetricData> collectAll(
+      RegisteredReader registeredReader, long epochNanos, @Nullable ForkJoinPool collectionPool) {
+    return meterSharedState.collectAll(
+        registeredReader, meterProviderSharedState, epochNanos, collectionPool);
   }
 
   /** Reset the meter, clearing all registered instruments. */
@@ -22,6 +22,7 @@ import io.opentelemetry.sdk.metrics.internal.MeterConfig;
 import io.opentelemetry.sdk.metrics.internal.SdkMeterProviderUtil;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
 import io.opentelemetry.sdk.metrics.internal.export.CardinalityLimitSelector;
+import io.opentelemetry.sdk.metrics.internal.export.CumulativeCollectionMode;
 import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
 import io.opentelemetry.sdk.metrics.internal.state.MeterProviderSharedState;
 import io.opentelemetry.sdk.metrics.internal.view.RegisteredView;
@@ -33,9 +34,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * SDK implementation for {@link MeterProvider}.
@@ -53,6 +57,7 @@ public final class SdkMeterProvider implements MeterProvider, Closeable {
   private final MeterProviderSharedState sharedState;
   private final ComponentRegistry<SdkMeter> registry;
   private final ScopeConfigurator<MeterConfig> meterConfigurator;
+  @Nullable private final ForkJoinPool collectionPool;
   private final AtomicBoolean isClosed = new AtomicBoolean(false);
 
   /** Returns a new {@link SdkMeterProviderBuilder} for {@link SdkMeterProvider}. */
@@ -67,7 +72,13 @@ public final class SdkMeterProvider implements MeterProvider, Closeable {
       Clock clock,
       Resource resource,
       ExemplarFilter exemplarFilter,
-      ScopeConfigurator<MeterConfig> meterConfigurator) {
+      ScopeConfigurator<MeterConfig> meterConfigurator,
+      int maxThreadLocalSeries,
+      int maxInternedAttributes,
+      boolean columnarStorageEnabled,
+      boolean stripedExemplarReservoirEnabled,
+      int collectionParallelism,
+      CumulativeCollectionMode cumulativeCollectionMode) {
     long startEpochNanos = clock.now();
     this.registeredViews = registeredViews;
     this.registeredReaders =
@@ -80,7 +91,16 @@ public final class SdkMeterProvider implements MeterProvider, Closeable {
             .collect(toList());
     this.metricProducers = metricProducers;
     this.sharedState =
-        MeterProviderSharedState.create(clock, resource, exemplarFilter, startEpochNanos);
+        MeterProviderSharedState.create(
+            clock,
+            resource,
+            exemplarFilter,
+            startEpochNanos,
+            maxThreadLocalSeries,
+            maxInternedAttributes,
+            columnarStorageEnabled,
+            stripedExemplarReservoirEnabled,
+            cumulativeCollectionMode);
     this.registry =
         new ComponentRegistry<>(
             instrumentationLibraryInfo ->
@@ -90,9 +110,18 @@ public final class SdkMeterProvider implements MeterProvider, Closeable {
                     registeredReaders,
                     getMeterConfig(instrumentationLibraryInfo)));
     this.meterConfigurator = meterConfigurator;
+    this.collectionPool =
+        collectionParallelism > 1 && !registeredReaders.isEmpty()
+            ? new ForkJoinPool(
+                collectionParallelism,
+                SdkMeterProvider::newCollectionThread,
+                /* handler= */ null,
+                /* asyncMode= */ false)
+            : null;
     for (RegisteredReader registeredReader : registeredReaders) {
       List<MetricProducer> readerMetricProducers = new ArrayList<>(metricProducers);
-      readerMetricProducers.add(new LeasedMetricProducer(registry, sharedState, registeredReader));
+      readerMetricProducers.add(
+          new LeasedMetricProducer(registry, sharedState, registeredReader, collectionPool));
       registeredReader
           .getReader()
           .register(new SdkCollectionRegistration(readerMetricProducers, sharedState));
@@ -100,6 +129,12 @@ public final class SdkMeterProvider implements MeterProvider, Closeable {
     }
   }
 
+  private static ForkJoinWorkerThread newCollectionThread(ForkJoinPool pool) {
+    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+    thread.setName("SdkMeterProvider_collect-" + thread.getPoolIndex());
+    return thread;
+  }
+
   private MeterConfig getMeterConfig(InstrumentationScopeInfo instrumentationScopeInfo) {
     MeterConfig meterConfig = meterConfigurator.apply(instrumentationScopeInfo);
     return meterConfig == null ? MeterConfig.defaultConfig() : meterConfig;
@@ -158,7 +193,12 @@ public final class SdkMeterProvider implements MeterProvider, Closeable {
     for (RegisteredReader info : registeredReaders) {
       results.add(info.getReader().shutdown());
     }
-    return CompletableResultCode.ofAll(results);
+    CompletableResultCode result = CompletableResultCode.ofAll(results);
+    if (collectionPool != null) {
+      // Readers may collect a last time on shutdown
+      result.whenComplete(collectionPool::shutdown);
+    }
+    return result;
   }
 
   /** Close the meter provider. Calls {@link #shutdown()} and blocks waiting for it to complete. */
@@ -189,14 +229,17 @@ public final class SdkMeterProvider implements MeterProvider, Closeable {
     private final ComponentRegistry<SdkMeter> registry;
     private final MeterProviderSharedState sharedState;
     private final RegisteredReader registeredReader;
+    @Nullable private final ForkJoinPool collectionPool;
 
     LeasedMetricProducer(
         ComponentRegistry<SdkMeter> registry,
         MeterProviderSharedState sharedState,
-        RegisteredReader registeredReader) {
+        RegisteredReader registeredReader,
+        @Nullable ForkJoinPool collectionPool) {
       this.registry = registry;
       this.sharedState = sharedState;
       this.registeredReader = registeredReader;
+      this.collectionPool = collectionPool;
     }
 
     @Override
@@ -204,8 +247,15 @@ public final class SdkMeterProvider implements MeterProvider, Closeable {
       Collection<SdkMeter> meters = registry.getComponents();
       List<MetricData> result = new ArrayList<>();
       long collectTime = sharedState.getClock().now();
+      // Meters are collected one after the other, so that callbacks are invoked sequentially. Only
+      // the storages of a meter are collected in parallel. Once the provider is shut down, a last
+      // collection is sequential.
+      ForkJoinPool collectionPool =
+          this.collectionPool != null && !this.collectionPool.isShutdown()
+              ? this.collectionPool
+              : null;
       for (SdkMeter meter : meters) {
-        result.addAll(meter.collectAll(registeredReader, collectTime));
+        result.addAll(meter.collectAll(registeredReader, collectTime, collectionPool));
       }
       registeredReader.setLastCollectEpochNanos(collectTime);
       return Collections.unmodifiableCollection(result);
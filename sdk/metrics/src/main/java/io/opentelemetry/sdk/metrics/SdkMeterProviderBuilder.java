@@ -16,6 +16,7 @@ import io.opentelemetry.sdk.metrics.internal.SdkMeterProviderUtil;
 import io.opentelemetry.sdk.metrics.internal.debug.SourceInfo;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
 import io.opentelemetry.sdk.metrics.internal.export.CardinalityLimitSelector;
+import io.opentelemetry.sdk.metrics.internal.export.CumulativeCollectionMode;
 import io.opentelemetry.sdk.metrics.internal.view.RegisteredView;
 import io.opentelemetry.sdk.resources.Resource;
 import java.util.ArrayList;
@@ -47,6 +48,12 @@ public final class SdkMeterProviderBuilder {
   private ExemplarFilter exemplarFilter = DEFAULT_EXEMPLAR_FILTER;
   private ScopeConfiguratorBuilder<MeterConfig> meterConfiguratorBuilder =
       MeterConfig.configuratorBuilder();
+  private int maxThreadLocalSeries = 0;
+  private int maxInternedAttributes = 0;
+  private boolean columnarStorageEnabled = false;
+  private boolean stripedExemplarReservoirEnabled = false;
+  private int collectionParallelism = 1;
+  private CumulativeCollectionMode cumulativeCollectionMode = CumulativeCollectionMode.ALL_SERIES;
 
   SdkMeterProviderBuilder() {}
 
@@ -91,6 +98,119 @@ public final class SdkMeterProviderBuilder {
     return this;
   }
 
+  /**
+   * Enables aggregating measurements of sum aggregations in thread-local buffers, instead of in
+   * storage shared by all recording threads. Each recording thread accumulates into its own
+   * uncontended series, which are merged into the shared storage on collection. This avoids
+   * contention between threads recording to the same instruments, at the cost of memory for each
+   * combination of thread and series, and without exemplars for these measurements.
+   *
+   * <p>The number of thread-local series of each metric storage, across all threads, is capped by
+   * {@code maxThreadLocalSeries}. Once reached, measurements for new series are recorded to the
+   * shared storage, and a warning is logged. Series of terminated threads, and series not
+   * recorded to since the previous collection, are released on collection. If unset or {@code 0},
+   * measurements are always recorded to the shared storage.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkMeterProviderUtil#setMaxThreadLocalSeries(SdkMeterProviderBuilder, int)}.
+   */
+  SdkMeterProviderBuilder setMaxThreadLocalSeries(int maxThreadLocalSeries) {
+    if (maxThreadLocalSeries < 0) {
+      throw new IllegalArgumentException("maxThreadLocalSeries must be non-negative");
+    }
+    this.maxThreadLocalSeries = maxThreadLocalSeries;
+    return this;
+  }
+
+  /**
+   * Enables interning the attributes of synchronous measurements. Each metric storage remembers
+   * the processed attributes of up to {@code maxInternedAttributes} distinct attribute sets, so
+   * that recording repeated attribute sets reuses the same processed instance, which is compared
+   * by identity and has its hash code cached, instead of processing, hashing and comparing every
+   * attribute again. Attributes are not interned for views whose attributes processor depends on
+   * the context. If unset or {@code 0}, attributes are not interned.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkMeterProviderUtil#setMaxInternedAttributes(SdkMeterProviderBuilder, int)}.
+   */
+  SdkMeterProviderBuilder setMaxInternedAttributes(int maxInternedAttributes) {
+    if (maxInternedAttributes < 0) {
+      throw new IllegalArgumentException("maxInternedAttributes must be non-negative");
+    }
+    this.maxInternedAttributes = maxInternedAttributes;
+    return this;
+  }
+
+  /**
+   * Enables storing the series of synchronous instruments with a sum or last value aggregation in
+   * primitive arrays indexed by attributes, instead of in an object per series. This reduces the
+   * memory and garbage collection cost of high cardinality metrics. No exemplars are sampled for
+   * these instruments, whatever the exemplar filter, and a warning is logged once if the exemplar
+   * filter is not {@code ExemplarFilter.alwaysOff()}. It takes precedence over thread-local
+   * aggregation. Disabled by default.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkMeterProviderUtil#setColumnarStorageEnabled(SdkMeterProviderBuilder, boolean)}.
+   */
+  SdkMeterProviderBuilder setColumnarStorageEnabled(boolean columnarStorageEnabled) {
+    this.columnarStorageEnabled = columnarStorageEnabled;
+    return this;
+  }
+
+  /**
+   * Enables sampling the exemplars of synchronous instruments with a sum aggregation in a reservoir
+   * with one sampling stripe per exemplar, chosen by recording thread. Threads recording
+   * concurrently to the same series then do not contend on the reservoir, at the cost of sampling
+   * each stripe separately. Disabled by default.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkMeterProviderUtil#setStripedExemplarReservoirEnabled(SdkMeterProviderBuilder, boolean)}.
+   */
+  SdkMeterProviderBuilder setStripedExemplarReservoirEnabled(
+      boolean stripedExemplarReservoirEnabled) {
+    this.stripedExemplarReservoirEnabled = stripedExemplarReservoirEnabled;
+    return this;
+  }
+
+  /**
+   * Sets the number of threads collecting metrics. If greater than {@code 1}, the metric storages
+   * of each meter are collected concurrently by a pool of up to {@code collectionParallelism}
+   * daemon threads owned by the provider, which is shut down with it. Meters are still collected
+   * one after the other, so callbacks of asynchronous instruments are invoked sequentially, and
+   * the collected metrics are returned in the same order as with sequential collection. This
+   * reduces the collection latency of meters with many instruments. If unset or {@code 1}, metrics
+   * are collected on the thread of the reader.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkMeterProviderUtil#setCollectionParallelism(SdkMeterProviderBuilder, int)}.
+   */
+  SdkMeterProviderBuilder setCollectionParallelism(int collectionParallelism) {
+    if (collectionParallelism < 1) {
+      throw new IllegalArgumentException("collectionParallelism must be positive");
+    }
+    this.collectionParallelism = collectionParallelism;
+    return this;
+  }
+
+  /**
+   * Sets how synchronous instruments collected with cumulative temporality produce the points of
+   * series which were not recorded to since the previous collection. Instead of aggregating every
+   * series on every collection, series can track whether they were recorded to, so that
+   * collections only aggregate changed series, and either reuse the previous points of the others
+   * or omit them. Does not apply to instruments stored in primitive arrays. Defaults to {@link
+   * CumulativeCollectionMode#ALL_SERIES}.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkMeterProviderUtil#setCumulativeCollectionMode(SdkMeterProviderBuilder,
+   * CumulativeCollectionMode)}.
+   */
+  SdkMeterProviderBuilder setCumulativeCollectionMode(
+      CumulativeCollectionMode cumulativeCollectionMode) {
+    Objects.requireNonNull(cumulativeCollectionMode, "cumulativeCollectionMode");
+    this.cumulativeCollectionMode = cumulativeCollectionMode;
+    return this;
+  }
+
   /**
    * Register a {@link View}.
    *
@@ -210,6 +330,12 @@ public final class SdkMeterProviderBuilder {
         clock,
         resource,
         exemplarFilter,
-        meterConfiguratorBuilder.build());
+        meterConfiguratorBuilder.build(),
+        maxThreadLocalSeries,
+        maxInternedAttributes,
+        columnarStorageEnabled,
+        stripedExemplarReservoirEnabled,
+        collectionParallelism,
+        cumulativeCollectionMode);
   }
 }
@@ -13,6 +13,7 @@ import io.opentelemetry.sdk.metrics.ViewBuilder;
 import io.opentelemetry.sdk.metrics.export.MetricReader;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
 import io.opentelemetry.sdk.metrics.internal.export.CardinalityLimitSelector;
+import io.opentelemetry.sdk.metrics.internal.export.CumulativeCollectionMode;
 import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
 import io.opentelemetry.sdk.metrics.internal.view.StringPredicates;
 import java.lang.reflect.InvocationTargetException;
@@ -104,6 +105,125 @@ public final class SdkMeterProviderUtil {
     }
   }
 
+  /**
+   * Reflectively set the maximum number of thread-local series per metric storage on the {@link
+   * SdkMeterProviderBuilder}.
+   *
+   * @param sdkMeterProviderBuilder the builder
+   */
+  public static void setMaxThreadLocalSeries(
+      SdkMeterProviderBuilder sdkMeterProviderBuilder, int maxThreadLocalSeries) {
+    try {
+      Method method =
+          SdkMeterProviderBuilder.class.getDeclaredMethod("setMaxThreadLocalSeries", int.class);
+      method.setAccessible(true);
+      method.invoke(sdkMeterProviderBuilder, maxThreadLocalSeries);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setMaxThreadLocalSeries on SdkMeterProviderBuilder", e);
+    }
+  }
+
+  /**
+   * Reflectively set the maximum number of interned attributes per metric storage on the {@link
+   * SdkMeterProviderBuilder}.
+   *
+   * @param sdkMeterProviderBuilder the builder
+   */
+  public static void setMaxInternedAttributes(
+      SdkMeterProviderBuilder sdkMeterProviderBuilder, int maxInternedAttributes) {
+    try {
+      Method method =
+          SdkMeterProviderBuilder.class.getDeclaredMethod("setMaxInternedAttributes", int.class);
+      method.setAccessible(true);
+      method.invoke(sdkMeterProviderBuilder, maxInternedAttributes);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setMaxInternedAttributes on SdkMeterProviderBuilder", e);
+    }
+  }
+
+  /**
+   * Reflectively enable storing sums and last values in primitive arrays on the {@link
+   * SdkMeterProviderBuilder}. No exemplars are sampled for these instruments, whatever the {@link
+   * ExemplarFilter}.
+   *
+   * @param sdkMeterProviderBuilder the builder
+   */
+  public static void setColumnarStorageEnabled(
+      SdkMeterProviderBuilder sdkMeterProviderBuilder, boolean columnarStorageEnabled) {
+    try {
+      Method method =
+          SdkMeterProviderBuilder.class.getDeclaredMethod(
+              "setColumnarStorageEnabled", boolean.class);
+      method.setAccessible(true);
+      method.invoke(sdkMeterProviderBuilder, columnarStorageEnabled);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setColumnarStorageEnabled on SdkMeterProviderBuilder", e);
+    }
+  }
+
+  /**
+   * Reflectively enable sampling the exemplars of sums with a reservoir striped by recording thread
+   * on the {@link SdkMeterProviderBuilder}.
+   *
+   * @param sdkMeterProviderBuilder the builder
+   */
+  public static void setStripedExemplarReservoirEnabled(
+      SdkMeterProviderBuilder sdkMeterProviderBuilder, boolean stripedExemplarReservoirEnabled) {
+    try {
+      Method method =
+          SdkMeterProviderBuilder.class.getDeclaredMethod(
+              "setStripedExemplarReservoirEnabled", boolean.class);
+      method.setAccessible(true);
+      method.invoke(sdkMeterProviderBuilder, stripedExemplarReservoirEnabled);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setStripedExemplarReservoirEnabled on SdkMeterProviderBuilder", e);
+    }
+  }
+
+  /**
+   * Reflectively set the number of threads collecting metrics on the {@link
+   * SdkMeterProviderBuilder}.
+   *
+   * @param sdkMeterProviderBuilder the builder
+   */
+  public static void setCollectionParallelism(
+      SdkMeterProviderBuilder sdkMeterProviderBuilder, int collectionParallelism) {
+    try {
+      Method method =
+          SdkMeterProviderBuilder.class.getDeclaredMethod("setCollectionParallelism", int.class);
+      method.setAccessible(true);
+      method.invoke(sdkMeterProviderBuilder, collectionParallelism);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setCollectionParallelism on SdkMeterProviderBuilder", e);
+    }
+  }
+
+  /**
+   * Reflectively set how synchronous instruments collected with cumulative temporality produce the
+   * points of unchanged series on the {@link SdkMeterProviderBuilder}.
+   *
+   * @param sdkMeterProviderBuilder the builder
+   */
+  public static void setCumulativeCollectionMode(
+      SdkMeterProviderBuilder sdkMeterProviderBuilder,
+      CumulativeCollectionMode cumulativeCollectionMode) {
+    try {
+      Method method =
+          SdkMeterProviderBuilder.class.getDeclaredMethod(
+              "setCumulativeCollectionMode", CumulativeCollectionMode.class);
+      method.setAccessible(true);
+      method.invoke(sdkMeterProviderBuilder, cumulativeCollectionMode);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setCumulativeCollectionMode on SdkMeterProviderBuilder", e);
+    }
+  }
+
   /**
    * Reflectively add an {@link AttributesProcessor} to the {@link ViewBuilder} which appends
    * key-values from baggage to all measurements.
@@ -97,6 +97,17 @@ public interface Aggregator<T extends PointData, U extends ExemplarData> {
     throw new UnsupportedOperationException("This aggregator does not support toPoint.");
   }
 
+  /**
+   * Returns a point with the values of {@code point}, previously collected from a handle of this
+   * aggregator, and the given {@code epochNanos}. Reusable points are updated in place.
+   *
+   * <p>Aggregators MUST implement it if they can be used with {@link
+   * io.opentelemetry.sdk.metrics.internal.export.CumulativeCollectionMode#CACHE_UNCHANGED_SERIES}.
+   */
+  default T withEpochNanos(T point, long epochNanos) {
+    throw new UnsupportedOperationException("This aggregator does not support withEpochNanos.");
+  }
+
   /**
    * Returns the {@link MetricData} that this {@code Aggregation} will produce.
    *
@@ -36,6 +36,21 @@ public interface AggregatorFactory {
       ExemplarFilter exemplarFilter,
       MemoryMode memoryMode);
 
+  /**
+   * Returns a new {@link Aggregator}, like {@link #createAggregator(InstrumentDescriptor,
+   * ExemplarFilter, MemoryMode)}.
+   *
+   * @param stripedExemplarReservoir whether to sample the exemplars of sums with a reservoir
+   *     striped by recording thread. Other aggregations ignore it.
+   */
+  default <T extends PointData, U extends ExemplarData> Aggregator<T, U> createAggregator(
+      InstrumentDescriptor instrumentDescriptor,
+      ExemplarFilter exemplarFilter,
+      MemoryMode memoryMode,
+      boolean stripedExemplarReservoir) {
+    return createAggregator(instrumentDescriptor, exemplarFilter, memoryMode);
+  }
+
   /**
    * Determine if the {@link Aggregator} produced by {@link #createAggregator(InstrumentDescriptor,
    * ExemplarFilter, MemoryMode)} is compatible with the {@code instrumentDescriptor}.
@@ -29,6 +29,9 @@ public abstract class AggregatorHandle<T extends PointData, U extends ExemplarDa
   // A reservoir of sampled exemplars for this time period.
   private final ExemplarReservoir<U> exemplarReservoir;
   private volatile boolean valuesRecorded = false;
+  // Whether values were recorded since the last call to resetChanged(). Only written by recording
+  // threads when not already set, so that recording to a changed series only reads it.
+  private volatile boolean changed = false;
 
   protected AggregatorHandle(ExemplarReservoir<U> exemplarReservoir) {
     this.exemplarReservoir = exemplarReservoir;
@@ -75,6 +78,7 @@ public abstract class AggregatorHandle<T extends PointData, U extends ExemplarDa
   public final void recordLong(long value) {
     doRecordLong(value);
     valuesRecorded = true;
+    markChanged();
   }
 
   /**
@@ -101,6 +105,7 @@ public abstract class AggregatorHandle<T extends PointData, U extends ExemplarDa
   public final void recordDouble(double value) {
     doRecordDouble(value);
     valuesRecorded = true;
+    markChanged();
   }
 
   /**
@@ -112,6 +117,25 @@ public abstract class AggregatorHandle<T extends PointData, U extends ExemplarDa
         "This aggregator does not support recording double values.");
   }
 
+  private void markChanged() {
+    if (!changed) {
+      changed = true;
+    }
+  }
+
+  /**
+   * Returns whether values were recorded since the previous call, and resets it. Values recorded
+   * concurrently are either aggregated by the following {@link #aggregateThenMaybeReset(long, long,
+   * Attributes, boolean)}, or reported as changed by the next call.
+   */
+  public boolean resetChanged() {
+    if (changed) {
+      changed = false;
+      return true;
+    }
+    return false;
+  }
+
   /**
    * Checks whether this handle has values recorded.
    *
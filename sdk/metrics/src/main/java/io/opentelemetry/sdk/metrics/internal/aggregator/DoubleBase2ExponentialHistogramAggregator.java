@@ -63,6 +63,42 @@ public final class DoubleBase2ExponentialHistogramAggregator
     return new Handle(reservoirSupplier.get(), maxBuckets, maxScale, memoryMode);
   }
 
+  @Override
+  public ExponentialHistogramPointData withEpochNanos(
+      ExponentialHistogramPointData point, long epochNanos) {
+    if (point instanceof MutableExponentialHistogramPointData) {
+      return ((MutableExponentialHistogramPointData) point)
+          .set(
+              point.getScale(),
+              point.getSum(),
+              point.getZeroCount(),
+              point.hasMin(),
+              point.getMin(),
+              point.hasMax(),
+              point.getMax(),
+              point.getPositiveBuckets(),
+              point.getNegativeBuckets(),
+              point.getStartEpochNanos(),
+              epochNanos,
+              point.getAttributes(),
+              point.getExemplars());
+    }
+    return ImmutableExponentialHistogramPointData.create(
+        point.getScale(),
+        point.getSum(),
+        point.getZeroCount(),
+        point.hasMin(),
+        point.getMin(),
+        point.hasMax(),
+        point.getMax(),
+        point.getPositiveBuckets(),
+        point.getNegativeBuckets(),
+        point.getStartEpochNanos(),
+        epochNanos,
+        point.getAttributes(),
+        point.getExemplars());
+  }
+
   @Override
   public MetricData toMetricData(
       Resource resource,
@@ -26,6 +26,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 
@@ -38,6 +41,7 @@ import javax.annotation.Nullable;
 public final class DoubleExplicitBucketHistogramAggregator
     implements Aggregator<HistogramPointData, DoubleExemplarData> {
   private final double[] boundaries;
+  private final ExplicitBucketHistogramIndexer indexer;
   private final MemoryMode memoryMode;
 
   // a cache for converting to MetricData
@@ -57,6 +61,7 @@ public final class DoubleExplicitBucketHistogramAggregator
       Supplier<ExemplarReservoir<DoubleExemplarData>> reservoirSupplier,
       MemoryMode memoryMode) {
     this.boundaries = boundaries;
+    this.indexer = ExplicitBucketHistogramIndexer.create(boundaries);
     this.memoryMode = memoryMode;
 
     List<Double> boundaryList = new ArrayList<>(this.boundaries.length);
@@ -69,7 +74,27 @@ public final class DoubleExplicitBucketHistogramAggregator
 
   @Override
   public AggregatorHandle<HistogramPointData, DoubleExemplarData> createHandle() {
-    return new Handle(this.boundaryList, this.boundaries, reservoirSupplier.get(), memoryMode);
+    return new Handle(
+        this.boundaryList, this.boundaries, indexer, reservoirSupplier.get(), memoryMode);
+  }
+
+  @Override
+  public HistogramPointData withEpochNanos(HistogramPointData point, long epochNanos) {
+    if (point instanceof MutableHistogramPointData) {
+      return ((MutableHistogramPointData) point).setEpochNanos(epochNanos);
+    }
+    return ImmutableHistogramPointData.create(
+        point.getStartEpochNanos(),
+        epochNanos,
+        point.getAttributes(),
+        point.getSum(),
+        point.hasMin(),
+        point.getMin(),
+        point.hasMax(),
+        point.getMax(),
+        point.getBoundaries(),
+        point.getCounts(),
+        point.getExemplars());
   }
 
   @Override
@@ -88,28 +113,43 @@ public final class DoubleExplicitBucketHistogramAggregator
         ImmutableHistogramData.create(temporality, pointData));
   }
 
+  /**
+   * A handle recording measurements without locking. Measurements are recorded to one of several
+   * stripes, each with its own bucket counts, sum, min and max, which are merged on collection.
+   * There is one stripe initially, and the number of stripes doubles each time threads recording
+   * concurrently contend on one, up to the number of available processors.
+   *
+   * <p>A collection which resets the handle swaps in a second set of stripes, and waits for the
+   * measurements being recorded to the first set before collecting it, so that the bucket counts,
+   * sum, min and max it reports always cover the same measurements. The collected stripes are
+   * reset, and swapped back in by the next collection. A collection which does not reset the
+   * handle reads the stripes while measurements are recorded, so its sum may include measurements
+   * that are not yet counted.
+   */
   static final class Handle extends AggregatorHandle<HistogramPointData, DoubleExemplarData> {
+    private static final int MAX_STRIPES = maxStripes();
+
     // read-only
     private final List<Double> boundaryList;
     // read-only
     private final double[] boundaries;
+    private final ExplicitBucketHistogramIndexer indexer;
 
-    private final Object lock = new Object();
-
-    @GuardedBy("lock")
-    private double sum;
+    // Grows, and is swapped with spareStripes by collections which reset the handle.
+    private volatile Stripe[] stripes;
 
-    @GuardedBy("lock")
-    private double min;
+    // Serializes collections, recordings do not lock.
+    private final Object collectLock = new Object();
 
-    @GuardedBy("lock")
-    private double max;
+    // The stripes collected by the previous collection which reset the handle.
+    @GuardedBy("collectLock")
+    @Nullable
+    private Stripe[] spareStripes;
 
-    @GuardedBy("lock")
-    private long count;
-
-    @GuardedBy("lock")
-    private final long[] counts;
+    // Used only when MemoryMode = REUSABLE_DATA
+    @GuardedBy("collectLock")
+    @Nullable
+    private final long[] reusableCounts;
 
     // Used only when MemoryMode = REUSABLE_DATA
     @Nullable private MutableHistogramPointData reusablePoint;
@@ -117,18 +157,19 @@ public final class DoubleExplicitBucketHistogramAggregator
     Handle(
         List<Double> boundaryList,
         double[] boundaries,
+        ExplicitBucketHistogramIndexer indexer,
         ExemplarReservoir<DoubleExemplarData> reservoir,
         MemoryMode memoryMode) {
       super(reservoir);
       this.boundaryList = boundaryList;
       this.boundaries = boundaries;
-      this.counts = new long[this.boundaries.length + 1];
-      this.sum = 0;
-      this.min = Double.MAX_VALUE;
-      this.max = -1;
-      this.count = 0;
+      this.indexer = indexer;
+      this.stripes = newStripes(1);
       if (memoryMode == MemoryMode.REUSABLE_DATA) {
-        this.reusablePoint = new MutableHistogramPointData(counts.length);
+        this.reusableCounts = new long[this.boundaries.length + 1];
+        this.reusablePoint = new MutableHistogramPointData(reusableCounts.length);
+      } else {
+        this.reusableCounts = null;
       }
     }
 
@@ -139,58 +180,97 @@ public final class DoubleExplicitBucketHistogramAggregator
         Attributes attributes,
         List<DoubleExemplarData> exemplars,
         boolean reset) {
-      synchronized (lock) {
-        HistogramPointData pointData;
-        if (reusablePoint == null) {
-          pointData =
-              ImmutableHistogramPointData.create(
-                  startEpochNanos,
-                  epochNanos,
-                  attributes,
-                  sum,
-                  this.count > 0,
-                  this.min,
-                  this.count > 0,
-                  this.max,
-                  boundaryList,
-                  PrimitiveLongList.wrap(Arrays.copyOf(counts, counts.length)),
-                  exemplars);
-        } else /* REUSABLE_DATA */ {
-          pointData =
-              reusablePoint.set(
-                  startEpochNanos,
-                  epochNanos,
-                  attributes,
-                  sum,
-                  this.count > 0,
-                  this.min,
-                  this.count > 0,
-                  this.max,
-                  boundaryList,
-                  counts,
-                  exemplars);
+      synchronized (collectLock) {
+        long[] counts;
+        if (reusableCounts == null) {
+          counts = new long[boundaries.length + 1];
+        } else {
+          counts = reusableCounts;
+          Arrays.fill(counts, 0);
         }
+        Stripe[] collected = this.stripes;
         if (reset) {
-          this.sum = 0;
-          this.min = Double.MAX_VALUE;
-          this.max = -1;
-          this.count = 0;
-          Arrays.fill(this.counts, 0);
+          Stripe[] next = spareStripes;
+          if (next != null && next.length == collected.length) {
+            for (Stripe stripe : next) {
+              stripe.reactivate();
+            }
+          } else {
+            next = newStripes(collected.length);
+          }
+          // Measurements are recorded to the other stripes from now on.
+          this.stripes = next;
+          for (Stripe stripe : collected) {
+            stripe.retire();
+          }
+        }
+        double sum = 0;
+        double min = Double.MAX_VALUE;
+        double max = -1;
+        for (Stripe stripe : collected) {
+          // Counts first: a measurement counted by a collection which does not reset the handle
+          // was added to the sum, min and max already.
+          stripe.collectCounts(counts, reset);
+          sum += stripe.sum.collect(reset);
+          min = Math.min(min, stripe.min.collect(reset));
+          max = Math.max(max, stripe.max.collect(reset));
+        }
+        if (reset) {
+          // Left retired, so that threads which read the stripes before the swap record to the
+          // current ones.
+          spareStripes = collected;
+        }
+        long count = 0;
+        for (long bucketCount : counts) {
+          count += bucketCount;
+        }
+
+        if (reusablePoint == null) {
+          return ImmutableHistogramPointData.create(
+              startEpochNanos,
+              epochNanos,
+              attributes,
+              sum,
+              count > 0,
+              min,
+              count > 0,
+              max,
+              boundaryList,
+              PrimitiveLongList.wrap(counts),
+              exemplars);
+        } else /* REUSABLE_DATA */ {
+          return reusablePoint.set(
+              startEpochNanos,
+              epochNanos,
+              attributes,
+              sum,
+              count > 0,
+              min,
+              count > 0,
+              max,
+              boundaryList,
+              counts,
+              exemplars);
         }
-        return pointData;
       }
     }
 
     @Override
     protected void doRecordDouble(double value) {
-      int bucketIndex = ExplicitBucketHistogramUtils.findBucketIndex(this.boundaries, value);
-
-      synchronized (lock) {
-        this.sum += value;
-        this.min = Math.min(this.min, value);
-        this.max = Math.max(this.max, value);
-        this.count++;
-        this.counts[bucketIndex]++;
+      int bucketIndex = indexer.findBucketIndex(value);
+
+      Stripe[] stripes;
+      Stripe stripe;
+      do {
+        // A stripe is only retired after being swapped out, so re-reading the stripes finds an
+        // active one.
+        stripes = this.stripes;
+        stripe = stripes[stripeIndex(stripes.length)];
+      } while (!stripe.startRecord());
+      boolean contended = !stripe.record(value, bucketIndex);
+      stripe.endRecord();
+      if (contended && stripes.length < MAX_STRIPES) {
+        grow(stripes);
       }
     }
 
@@ -198,5 +278,150 @@ public final class DoubleExplicitBucketHistogramAggregator
     protected void doRecordLong(long value) {
       doRecordDouble((double) value);
     }
+
+    private void grow(Stripe[] current) {
+      synchronized (collectLock) {
+        if (this.stripes != current) {
+          // Another thread grew the stripes already.
+          return;
+        }
+        Stripe[] grown = Arrays.copyOf(current, current.length * 2);
+        for (int i = current.length; i < grown.length; i++) {
+          grown[i] = new Stripe(this.boundaries.length + 1);
+        }
+        this.stripes = grown;
+      }
+    }
+
+    private Stripe[] newStripes(int stripeCount) {
+      Stripe[] created = new Stripe[stripeCount];
+      for (int i = 0; i < stripeCount; i++) {
+        created[i] = new Stripe(this.boundaries.length + 1);
+      }
+      return created;
+    }
+
+    private static int stripeIndex(int stripeCount) {
+      // Spread thread IDs, which are usually sequential, over the stripes.
+      long id = Thread.currentThread().getId();
+      int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+      return (hash ^ (hash >>> 16)) & (stripeCount - 1);
+    }
+
+    private static int maxStripes() {
+      int processors = Runtime.getRuntime().availableProcessors();
+      // The stripe index is computed with a mask, so the count must be a power of two.
+      return processors <= 1 ? 1 : Integer.highestOneBit(processors - 1) << 1;
+    }
+  }
+
+  /** Measurements recorded to one stripe of a {@link Handle}. */
+  private static final class Stripe {
+    private final AtomicLongArray counts;
+    private final AtomicDouble sum = new AtomicDouble(0);
+    private final AtomicDouble min = new AtomicDouble(Double.MAX_VALUE);
+    private final AtomicDouble max = new AtomicDouble(-1);
+    // Incremented by 2 while a measurement is recorded, and made odd while a collection waits for
+    // the recordings to complete, like the recordsInProgress of DefaultSynchronousMetricStorage.
+    private final AtomicInteger recordsInProgress = new AtomicInteger();
+
+    private Stripe(int bucketCount) {
+      this.counts = new AtomicLongArray(bucketCount);
+    }
+
+    /** Returns {@code false} if the stripe is being collected and must not be recorded to. */
+    private boolean startRecord() {
+      if (recordsInProgress.addAndGet(2) % 2 == 0) {
+        return true;
+      }
+      recordsInProgress.addAndGet(-2);
+      return false;
+    }
+
+    private void endRecord() {
+      recordsInProgress.addAndGet(-2);
+    }
+
+    /** Stops new recordings, and waits for the recordings in progress to complete. */
+    private void retire() {
+      int inProgress = recordsInProgress.addAndGet(1);
+      while (inProgress > 1) {
+        inProgress = recordsInProgress.get();
+      }
+    }
+
+    private void reactivate() {
+      recordsInProgress.addAndGet(-1);
+    }
+
+    /**
+     * Records the measurement, returning {@code false} if another thread was recording to this
+     * stripe at the same time.
+     */
+    private boolean record(double value, int bucketIndex) {
+      boolean uncontended = sum.add(value);
+      min.updateMin(value);
+      max.updateMax(value);
+      // Counted last, see doAggregateThenMaybeReset.
+      counts.incrementAndGet(bucketIndex);
+      return uncontended;
+    }
+
+    private void collectCounts(long[] result, boolean reset) {
+      for (int i = 0; i < result.length; i++) {
+        result[i] += reset ? counts.getAndSet(i, 0) : counts.get(i);
+      }
+    }
+  }
+
+  /** A {@code double} updated with compare-and-set, stored as its raw long bits. */
+  private static final class AtomicDouble {
+    private final double initialValue;
+    private final AtomicLong bits;
+
+    private AtomicDouble(double initialValue) {
+      this.initialValue = initialValue;
+      this.bits = new AtomicLong(Double.doubleToRawLongBits(initialValue));
+    }
+
+    /** Adds the value, returning {@code false} if a compare-and-set had to be retried. */
+    private boolean add(double value) {
+      long current = bits.get();
+      if (bits.compareAndSet(
+          current, Double.doubleToRawLongBits(Double.longBitsToDouble(current) + value))) {
+        return true;
+      }
+      do {
+        current = bits.get();
+      } while (!bits.compareAndSet(
+          current, Double.doubleToRawLongBits(Double.longBitsToDouble(current) + value)));
+      return false;
+    }
+
+    private void updateMin(double value) {
+      while (true) {
+        long current = bits.get();
+        if (value >= Double.longBitsToDouble(current)
+            || bits.compareAndSet(current, Double.doubleToRawLongBits(value))) {
+          return;
+        }
+      }
+    }
+
+    private void updateMax(double value) {
+      while (true) {
+        long current = bits.get();
+        if (value <= Double.longBitsToDouble(current)
+            || bits.compareAndSet(current, Double.doubleToRawLongBits(value))) {
+          return;
+        }
+      }
+    }
+
+    /** Returns the current value, resetting it to its initial value if {@code reset}. */
+    private double collect(boolean reset) {
+      long current = reset ? bits.getAndSet(Double.doubleToRawLongBits(initialValue)) : bits.get();
+      return Double.longBitsToDouble(current);
+    }
   }
 }
@@ -111,6 +111,26 @@ public final class DoubleSumAggregator
     ((MutableDoublePointData) toReusablePoint).set(point);
   }
 
+  @Override
+  public DoublePointData withEpochNanos(DoublePointData point, long epochNanos) {
+    if (point instanceof MutableDoublePointData) {
+      ((MutableDoublePointData) point)
+          .set(
+              point.getStartEpochNanos(),
+              epochNanos,
+              point.getAttributes(),
+              point.getValue(),
+              point.getExemplars());
+      return point;
+    }
+    return ImmutableDoublePointData.create(
+        point.getStartEpochNanos(),
+        epochNanos,
+        point.getAttributes(),
+        point.getValue(),
+        point.getExemplars());
+  }
+
   @Override
   public MetricData toMetricData(
       Resource resource,
@@ -0,0 +1,191 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.aggregator;
+
+/**
+ * Computes the bucket index of values for a set of explicit bucket boundaries, choosing a strategy
+ * suited to the layout of the boundaries when the indexer is created.
+ *
+ * <ul>
+ *   <li>Fewer than {@value #MAX_LINEAR_SCAN_BOUNDARIES} boundaries, like the default boundaries,
+ *       are scanned linearly.
+ *   <li>Evenly spaced boundaries compute an estimate of the index from the value, corrected against
+ *       the boundaries next to it.
+ *   <li>Positive boundaries with few boundaries per power of two, like exponentially growing
+ *       boundaries, look up the first boundary of the power of two of the value in a table and scan
+ *       from there.
+ *   <li>Other boundaries are binary searched.
+ * </ul>
+ *
+ * <p>All strategies return the same index as {@link
+ * ExplicitBucketHistogramUtils#findBucketIndex(double[], double)}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class ExplicitBucketHistogramIndexer {
+
+  private static final int MAX_LINEAR_SCAN_BOUNDARIES = 16;
+  private static final int MAX_BOUNDARIES_PER_EXPONENT = 8;
+  private static final int MAX_EXPONENT_TABLE_SIZE = 1024;
+
+  private static final int LINEAR_SCAN = 0;
+  private static final int EVENLY_SPACED = 1;
+  private static final int EXPONENT_TABLE = 2;
+  private static final int BINARY_SEARCH = 3;
+
+  private final double[] boundaries;
+  private final int strategy;
+
+  // Used only when strategy = EVENLY_SPACED
+  private final double inverseSpacing;
+
+  // Used only when strategy = EXPONENT_TABLE, the index of the first boundary greater than or equal
+  // to 2^(minExponent + i) at index i.
+  private final int minExponent;
+  private final int[] firstIndexByExponent;
+
+  private ExplicitBucketHistogramIndexer(
+      double[] boundaries,
+      int strategy,
+      double inverseSpacing,
+      int minExponent,
+      int[] firstIndexByExponent) {
+    this.boundaries = boundaries;
+    this.strategy = strategy;
+    this.inverseSpacing = inverseSpacing;
+    this.minExponent = minExponent;
+    this.firstIndexByExponent = firstIndexByExponent;
+  }
+
+  /**
+   * Creates an indexer for the given boundaries.
+   *
+   * @param boundaries the array of bucket boundaries, validated by {@link
+   *     ExplicitBucketHistogramUtils#validateBucketBoundaries(java.util.List)}.
+   */
+  public static ExplicitBucketHistogramIndexer create(double[] boundaries) {
+    int length = boundaries.length;
+    if (length < MAX_LINEAR_SCAN_BOUNDARIES) {
+      return new ExplicitBucketHistogramIndexer(boundaries, LINEAR_SCAN, 0, 0, new int[0]);
+    }
+    double spacing = (boundaries[length - 1] - boundaries[0]) / (length - 1);
+    if (isEvenlySpaced(boundaries, spacing)) {
+      return new ExplicitBucketHistogramIndexer(
+          boundaries, EVENLY_SPACED, 1 / spacing, 0, new int[0]);
+    }
+    if (boundaries[0] > 0) {
+      int minExponent = Math.getExponent(boundaries[0]);
+      int tableSize = Math.getExponent(boundaries[length - 1]) - minExponent + 1;
+      if (tableSize <= MAX_EXPONENT_TABLE_SIZE) {
+        int[] firstIndexByExponent = new int[tableSize];
+        int index = 0;
+        int maxBoundariesPerExponent = 0;
+        for (int i = 0; i < tableSize; i++) {
+          double lowerBound = Math.scalb(1d, minExponent + i);
+          int previousIndex = index;
+          while (boundaries[index] < lowerBound) {
+            index++;
+          }
+          firstIndexByExponent[i] = index;
+          maxBoundariesPerExponent = Math.max(maxBoundariesPerExponent, index - previousIndex);
+        }
+        maxBoundariesPerExponent = Math.max(maxBoundariesPerExponent, length - index);
+        if (maxBoundariesPerExponent <= MAX_BOUNDARIES_PER_EXPONENT) {
+          return new ExplicitBucketHistogramIndexer(
+              boundaries, EXPONENT_TABLE, 0, minExponent, firstIndexByExponent);
+        }
+      }
+    }
+    return new ExplicitBucketHistogramIndexer(boundaries, BINARY_SEARCH, 0, 0, new int[0]);
+  }
+
+  /**
+   * Finds the bucket index for a value.
+   *
+   * @param value The current measurement value
+   * @return The bucket index where the value should be recorded.
+   */
+  public int findBucketIndex(double value) {
+    switch (strategy) {
+      case EVENLY_SPACED:
+        return findEvenlySpaced(value);
+      case EXPONENT_TABLE:
+        return findByExponent(value);
+      case BINARY_SEARCH:
+        return binarySearch(value);
+      default:
+        return ExplicitBucketHistogramUtils.findBucketIndex(boundaries, value);
+    }
+  }
+
+  private int findEvenlySpaced(double value) {
+    double[] boundaries = this.boundaries;
+    int length = boundaries.length;
+    // Also handles NaN, which belongs to the last bucket
+    if (!(value > boundaries[0])) {
+      return value <= boundaries[0] ? 0 : length;
+    }
+    if (value > boundaries[length - 1]) {
+      return length;
+    }
+    int index = (int) Math.ceil((value - boundaries[0]) * inverseSpacing);
+    index = Math.max(1, Math.min(length - 1, index));
+    while (value <= boundaries[index - 1]) {
+      index--;
+    }
+    while (value > boundaries[index]) {
+      index++;
+    }
+    return index;
+  }
+
+  private int findByExponent(double value) {
+    double[] boundaries = this.boundaries;
+    int length = boundaries.length;
+    // Also handles NaN, which belongs to the last bucket
+    if (!(value > boundaries[0])) {
+      return value <= boundaries[0] ? 0 : length;
+    }
+    if (value > boundaries[length - 1]) {
+      return length;
+    }
+    int index = firstIndexByExponent[Math.getExponent(value) - minExponent];
+    while (value > boundaries[index]) {
+      index++;
+    }
+    return index;
+  }
+
+  private int binarySearch(double value) {
+    double[] boundaries = this.boundaries;
+    int low = 0;
+    int high = boundaries.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (value <= boundaries[mid]) {
+        high = mid;
+      } else {
+        low = mid + 1;
+      }
+    }
+    return low;
+  }
+
+  private static boolean isEvenlySpaced(double[] boundaries, double spacing) {
+    if (!(spacing > 0) || Double.isInfinite(spacing) || Double.isInfinite(1 / spacing)) {
+      return false;
+    }
+    // Allow rounding errors in configured boundaries, such as 0.1, 0.2, 0.30000000000000004
+    double tolerance = spacing / 2;
+    for (int i = 1; i < boundaries.length - 1; i++) {
+      if (Math.abs(boundaries[i] - (boundaries[0] + i * spacing)) > tolerance) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -104,6 +104,26 @@ public final class LongSumAggregator
     ((MutableLongPointData) toReusablePoint).set(point);
   }
 
+  @Override
+  public LongPointData withEpochNanos(LongPointData point, long epochNanos) {
+    if (point instanceof MutableLongPointData) {
+      ((MutableLongPointData) point)
+          .set(
+              point.getStartEpochNanos(),
+              epochNanos,
+              point.getAttributes(),
+              point.getValue(),
+              point.getExemplars());
+      return point;
+    }
+    return ImmutableLongPointData.create(
+        point.getStartEpochNanos(),
+        epochNanos,
+        point.getAttributes(),
+        point.getValue(),
+        point.getExemplars());
+  }
+
   @Override
   public MetricData toMetricData(
       Resource resource,
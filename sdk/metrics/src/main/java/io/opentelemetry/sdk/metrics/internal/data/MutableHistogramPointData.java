@@ -93,6 +93,12 @@ public final class MutableHistogramPointData implements HistogramPointData {
     return this;
   }
 
+  /** Sets the epoch of the point, keeping its other values. */
+  public MutableHistogramPointData setEpochNanos(long epochNanos) {
+    this.epochNanos = epochNanos;
+    return this;
+  }
+
   @Override
   public long getStartEpochNanos() {
     return startEpochNanos;
@@ -79,6 +79,40 @@ public interface ExemplarReservoir<T extends ExemplarData> {
     return RandomFixedSizeExemplarReservoir.createLong(clock, size, randomSupplier);
   }
 
+  /**
+   * A double reservoir with fixed size that stores the given number of exemplars, spreading
+   * measurements over one sampling stripe per exemplar by recording thread.
+   *
+   * <p>Unlike {@link #doubleFixedSizeReservoir(Clock, int, Supplier)}, threads recording
+   * concurrently do not contend, and measurements which are not sampled do not use the random
+   * number generator nor the clock.
+   *
+   * @param clock The clock to use when annotating measurements with time.
+   * @param size The maximum number of exemplars to preserve.
+   * @param randomSupplier The random number generator to use for sampling.
+   */
+  static ExemplarReservoir<DoubleExemplarData> doubleStripedReservoir(
+      Clock clock, int size, Supplier<Random> randomSupplier) {
+    return StripedExemplarReservoir.createDouble(clock, size, randomSupplier);
+  }
+
+  /**
+   * A long reservoir with fixed size that stores the given number of exemplars, spreading
+   * measurements over one sampling stripe per exemplar by recording thread.
+   *
+   * <p>Unlike {@link #longFixedSizeReservoir(Clock, int, Supplier)}, threads recording
+   * concurrently do not contend, and measurements which are not sampled do not use the random
+   * number generator nor the clock.
+   *
+   * @param clock The clock to use when annotating measurements with time.
+   * @param size The maximum number of exemplars to preserve.
+   * @param randomSupplier The random number generator to use for sampling.
+   */
+  static ExemplarReservoir<LongExemplarData> longStripedReservoir(
+      Clock clock, int size, Supplier<Random> randomSupplier) {
+    return StripedExemplarReservoir.createLong(clock, size, randomSupplier);
+  }
+
   /**
    * A Reservoir sampler that preserves the latest seen measurement per-histogram bucket.
    *
@@ -9,6 +9,7 @@ import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.Clock;
 import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
+import io.opentelemetry.sdk.metrics.internal.aggregator.ExplicitBucketHistogramIndexer;
 import io.opentelemetry.sdk.metrics.internal.aggregator.ExplicitBucketHistogramUtils;
 import java.util.List;
 
@@ -30,10 +31,12 @@ class HistogramExemplarReservoir extends FixedSizeExemplarReservoir<DoubleExempl
 
   static class HistogramCellSelector implements ReservoirCellSelector {
 
-    private final double[] boundaries;
+    private final ExplicitBucketHistogramIndexer indexer;
 
     private HistogramCellSelector(List<Double> boundaries) {
-      this.boundaries = ExplicitBucketHistogramUtils.createBoundaryArray(boundaries);
+      this.indexer =
+          ExplicitBucketHistogramIndexer.create(
+              ExplicitBucketHistogramUtils.createBoundaryArray(boundaries));
     }
 
     @Override
@@ -45,7 +48,7 @@ class HistogramExemplarReservoir extends FixedSizeExemplarReservoir<DoubleExempl
     @Override
     public int reservoirCellIndexFor(
         ReservoirCell[] cells, double value, Attributes attributes, Context context) {
-      return ExplicitBucketHistogramUtils.findBucketIndex(boundaries, value);
+      return indexer.findBucketIndex(value);
     }
 
     @Override
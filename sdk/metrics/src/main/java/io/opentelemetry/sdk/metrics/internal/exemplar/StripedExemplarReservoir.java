@@ -0,0 +1,136 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.exemplar;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
+import io.opentelemetry.sdk.metrics.data.ExemplarData;
+import io.opentelemetry.sdk.metrics.data.LongExemplarData;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * A fixed-size exemplar reservoir which spreads measurements over stripes by recording thread, each
+ * stripe keeping a single exemplar, so that threads recording concurrently do not share state.
+ *
+ * <p>Each stripe samples the measurements it is offered with the probability of a reservoir of one
+ * exemplar, the n-th measurement replacing the exemplar with probability 1/n. Rather than drawing a
+ * random number for every measurement, a stripe draws the index of the next measurement to sample
+ * when it samples one, so that measurements which are not sampled only increment a counter. The
+ * {@link Clock} and the random number generator are only used for sampled measurements.
+ *
+ * <p>When measurements are collected via {@link #collectAndReset(Attributes)}, the measurement
+ * counts are reset, making the probability of sampling the next measurement of each stripe 1.0.
+ */
+final class StripedExemplarReservoir<T extends ExemplarData> implements ExemplarReservoir<T> {
+
+  private final Stripe[] stripes;
+  private final BiFunction<ReservoirCell, Attributes, T> mapAndResetCell;
+  private volatile boolean hasMeasurements = false;
+
+  private StripedExemplarReservoir(
+      Clock clock,
+      int size,
+      Supplier<Random> randomSupplier,
+      BiFunction<ReservoirCell, Attributes, T> mapAndResetCell) {
+    this.stripes = new Stripe[size];
+    for (int i = 0; i < size; ++i) {
+      this.stripes[i] = new Stripe(new ReservoirCell(clock), randomSupplier);
+    }
+    this.mapAndResetCell = mapAndResetCell;
+  }
+
+  static StripedExemplarReservoir<LongExemplarData> createLong(
+      Clock clock, int size, Supplier<Random> randomSupplier) {
+    return new StripedExemplarReservoir<>(
+        clock, size, randomSupplier, ReservoirCell::getAndResetLong);
+  }
+
+  static StripedExemplarReservoir<DoubleExemplarData> createDouble(
+      Clock clock, int size, Supplier<Random> randomSupplier) {
+    return new StripedExemplarReservoir<>(
+        clock, size, randomSupplier, ReservoirCell::getAndResetDouble);
+  }
+
+  @Override
+  public void offerLongMeasurement(long value, Attributes attributes, Context context) {
+    Stripe stripe = currentStripe();
+    if (stripe.sample()) {
+      stripe.cell.recordLongMeasurement(value, attributes, context);
+      this.hasMeasurements = true;
+    }
+  }
+
+  @Override
+  public void offerDoubleMeasurement(double value, Attributes attributes, Context context) {
+    Stripe stripe = currentStripe();
+    if (stripe.sample()) {
+      stripe.cell.recordDoubleMeasurement(value, attributes, context);
+      this.hasMeasurements = true;
+    }
+  }
+
+  @Override
+  public List<T> collectAndReset(Attributes pointAttributes) {
+    if (!hasMeasurements) {
+      return Collections.emptyList();
+    }
+    this.hasMeasurements = false;
+    // Note: we are collecting exemplars from stripes piecemeal, but we
+    // could still be sampling exemplars during this process.
+    List<T> results = new ArrayList<>();
+    for (Stripe stripe : stripes) {
+      stripe.reset();
+      T result = mapAndResetCell.apply(stripe.cell, pointAttributes);
+      if (result != null) {
+        results.add(result);
+      }
+    }
+    return Collections.unmodifiableList(results);
+  }
+
+  private Stripe currentStripe() {
+    return stripes[(int) (Thread.currentThread().getId() % stripes.length)];
+  }
+
+  private static final class Stripe {
+    private final ReservoirCell cell;
+    private final Supplier<Random> randomSupplier;
+    // Not synchronized: a stripe is mostly offered measurements by a single thread, and updates
+    // lost when threads share a stripe only skew which measurements are sampled.
+    private long count;
+    private long nextSample = 1;
+
+    private Stripe(ReservoirCell cell, Supplier<Random> randomSupplier) {
+      this.cell = cell;
+      this.randomSupplier = randomSupplier;
+    }
+
+    /** Returns whether the measurement being offered should replace the stripe's exemplar. */
+    private boolean sample() {
+      long offered = ++count;
+      if (offered < nextSample) {
+        return false;
+      }
+      // Draw the next measurement to sample so that it comes after any m with probability
+      // offered / m, the probability that none of the measurements up to m replaces this one.
+      double uniform = 1.0 - randomSupplier.get().nextDouble();
+      nextSample = Math.max(offered + 1, (long) Math.ceil(offered / uniform));
+      return true;
+    }
+
+    private void reset() {
+      count = 0;
+      nextSample = 1;
+    }
+  }
+}
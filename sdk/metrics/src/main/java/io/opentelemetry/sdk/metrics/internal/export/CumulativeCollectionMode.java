@@ -0,0 +1,37 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.export;
+
+import io.opentelemetry.sdk.metrics.SdkMeterProviderBuilder;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.PointData;
+import io.opentelemetry.sdk.metrics.internal.SdkMeterProviderUtil;
+
+/**
+ * How synchronous instruments collected with {@link AggregationTemporality#CUMULATIVE} produce the
+ * points of series which were not recorded to since the previous collection. Set via {@link
+ * SdkMeterProviderUtil#setCumulativeCollectionMode(SdkMeterProviderBuilder,
+ * CumulativeCollectionMode)}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public enum CumulativeCollectionMode {
+  /** The points of all series are aggregated on every collection. This is the default. */
+  ALL_SERIES,
+  /**
+   * Only the points of series recorded to since the previous collection are aggregated. The other
+   * series reuse the values and exemplars of the {@link PointData} of the collection which last
+   * aggregated them, with the timestamp of the current collection.
+   */
+  CACHE_UNCHANGED_SERIES,
+  /**
+   * Only the points of series recorded to since the previous collection are aggregated and
+   * collected. This is a hint for exporters to backends which keep the last value of each
+   * cumulative series, so that unchanged series need not be exported again.
+   */
+  CHANGED_SERIES_ONLY
+}
@@ -29,11 +29,12 @@ import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
 import io.opentelemetry.sdk.metrics.internal.view.RegisteredView;
 import io.opentelemetry.sdk.resources.Resource;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * Stores aggregated {@link MetricData} for asynchronous instruments.
@@ -58,13 +59,14 @@ final class AsynchronousMetricStorage<T extends PointData, U extends ExemplarDat
    */
   private final int maxCardinality;
 
-  private Map<Attributes, T> points;
+  // The series observed in the current or previous collection, in the order they were first
+  // observed. Series which are not observed in a collection are removed at the end of it, so that
+  // in steady state, observing and collecting series does not modify the map nor allocate.
+  private final Map<Attributes, Slot<T>> slotsByAttributes = new HashMap<>();
+  private final ArrayList<Slot<T>> slots = new ArrayList<>();
 
-  // Only populated if aggregationTemporality == DELTA
-  private Map<Attributes, T> lastPoints;
-
-  // Only populated if memoryMode == REUSABLE_DATA
-  private final ObjectPool<T> reusablePointsPool;
+  // The number of series observed in the current collection.
+  private int observedCount;
 
   // Only populated if memoryMode == REUSABLE_DATA
   private final ArrayList<T> reusableResultList = new ArrayList<>();
@@ -87,14 +89,6 @@ final class AsynchronousMetricStorage<T extends PointData, U extends ExemplarDat
     this.aggregator = aggregator;
     this.attributesProcessor = attributesProcessor;
     this.maxCardinality = maxCardinality - 1;
-    this.reusablePointsPool = new ObjectPool<>(aggregator::createReusablePoint);
-    if (memoryMode == REUSABLE_DATA) {
-      lastPoints = new PooledHashMap<>();
-      points = new PooledHashMap<>();
-    } else {
-      lastPoints = new HashMap<>();
-      points = new HashMap<>();
-    }
   }
 
   /**
@@ -140,7 +134,8 @@ final class AsynchronousMetricStorage<T extends PointData, U extends ExemplarDat
   }
 
   private void recordPoint(Attributes attributes, Measurement measurement) {
-    if (points.size() >= maxCardinality) {
+    Slot<T> slot;
+    if (observedCount >= maxCardinality) {
       throttlingLogger.log(
           Level.WARNING,
           "Instrument "
@@ -150,26 +145,40 @@ final class AsynchronousMetricStorage<T extends PointData, U extends ExemplarDat
               + ").");
       attributes = MetricStorage.CARDINALITY_OVERFLOW;
       measurement = measurement.withAttributes(attributes);
-    } else if (points.containsKey(
-        attributes)) { // Check there is not already a recording for the attributes
-      throttlingLogger.log(
-          Level.WARNING,
-          "Instrument "
-              + metricDescriptor.getSourceInstrument().getName()
-              + " has recorded multiple values for the same attributes: "
-              + attributes);
-      return;
+      slot = slotsByAttributes.get(attributes);
+    } else {
+      slot = slotsByAttributes.get(attributes);
+      // Check there is not already a recording for the attributes
+      if (slot != null && slot.observed) {
+        throttlingLogger.log(
+            Level.WARNING,
+            "Instrument "
+                + metricDescriptor.getSourceInstrument().getName()
+                + " has recorded multiple values for the same attributes: "
+                + attributes);
+        return;
+      }
     }
 
     T dataPoint;
     if (memoryMode == REUSABLE_DATA) {
-      dataPoint = reusablePointsPool.borrowObject();
+      dataPoint = slot == null ? aggregator.createReusablePoint() : slot.point;
       aggregator.toPoint(measurement, dataPoint);
     } else {
       dataPoint = aggregator.toPoint(measurement);
     }
 
-    points.put(attributes, dataPoint);
+    if (slot == null) {
+      slot = new Slot<>(attributes, dataPoint);
+      slotsByAttributes.put(attributes, slot);
+      slots.add(slot);
+    } else {
+      slot.point = dataPoint;
+    }
+    if (!slot.observed) {
+      slot.observed = true;
+      observedCount++;
+    }
   }
 
   @Override
@@ -188,80 +197,84 @@ final class AsynchronousMetricStorage<T extends PointData, U extends ExemplarDat
       InstrumentationScopeInfo instrumentationScopeInfo,
       long startEpochNanos,
       long epochNanos) {
+    List<T> result;
     if (memoryMode == REUSABLE_DATA) {
       // Collect can not run concurrently for same reader, hence we safely assume
       // the previous collect result has been used and done with
-      reusableResultList.forEach(reusablePointsPool::returnObject);
       reusableResultList.clear();
+      result = reusableResultList;
+    } else {
+      result = new ArrayList<>(observedCount);
     }
 
-    Collection<T> result;
-    if (aggregationTemporality == AggregationTemporality.DELTA) {
-      Map<Attributes, T> points = this.points;
-      Map<Attributes, T> lastPoints = this.lastPoints;
-
-      Collection<T> deltaPoints;
-      if (memoryMode == REUSABLE_DATA) {
-        deltaPoints = reusableResultList;
-      } else {
-        deltaPoints = new ArrayList<>();
+    int observedSlots = 0;
+    for (int i = 0; i < slots.size(); i++) {
+      Slot<T> slot = slots.get(i);
+      if (!slot.observed) {
+        slotsByAttributes.remove(slot.attributes);
+        continue;
       }
+      slot.observed = false;
+      result.add(
+          aggregationTemporality == AggregationTemporality.DELTA ? collectDelta(slot) : slot.point);
+      slots.set(observedSlots++, slot);
+    }
+    // Remove the slots of series which were not observed, from the end of the list
+    for (int i = slots.size() - 1; i >= observedSlots; i--) {
+      slots.remove(i);
+    }
+    observedCount = 0;
 
-      points.forEach(
-          (k, v) -> {
-            T lastPoint = lastPoints.get(k);
-
-            T deltaPoint;
-            if (lastPoint == null) {
-              if (memoryMode == REUSABLE_DATA) {
-                deltaPoint = reusablePointsPool.borrowObject();
-                aggregator.copyPoint(v, deltaPoint);
-              } else {
-                deltaPoint = v;
-              }
-            } else {
-              if (memoryMode == REUSABLE_DATA) {
-                aggregator.diffInPlace(lastPoint, v);
-                deltaPoint = lastPoint;
-
-                // Remaining last points are returned to reusablePointsPool, but
-                // this reusable point is still used, so don't return it to pool yet
-                lastPoints.remove(k);
-              } else {
-                deltaPoint = aggregator.diff(lastPoint, v);
-              }
-            }
-
-            deltaPoints.add(deltaPoint);
-          });
-
-      if (memoryMode == REUSABLE_DATA) {
-        lastPoints.forEach((k, v) -> reusablePointsPool.returnObject(v));
-        lastPoints.clear();
-        this.points = lastPoints;
-      } else {
-        this.points = new HashMap<>();
-      }
+    return aggregator.toMetricData(
+        resource, instrumentationScopeInfo, metricDescriptor, result, aggregationTemporality);
+  }
 
-      this.lastPoints = points;
-      result = deltaPoints;
-    } else /* CUMULATIVE */ {
-      if (memoryMode == REUSABLE_DATA) {
-        points.forEach((k, v) -> reusableResultList.add(v));
-        points.clear();
-        result = reusableResultList;
+  /**
+   * Returns the delta between the point observed in this collection and the point observed in the
+   * previous one, which is then replaced by the point observed in this collection.
+   */
+  private T collectDelta(Slot<T> slot) {
+    T point = slot.point;
+    T lastPoint = slot.lastPoint;
+    if (memoryMode == REUSABLE_DATA) {
+      T deltaPoint;
+      if (lastPoint == null) {
+        deltaPoint = point;
+        // The next observation is written to another point, so that this one is kept as the last
+        // point. Only allocated for the second collection of a series.
+        slot.point = aggregator.createReusablePoint();
       } else {
-        result = points.values();
-        points = new HashMap<>();
+        // The delta is computed in place of the last point, which then receives the next
+        // observation.
+        aggregator.diffInPlace(lastPoint, point);
+        deltaPoint = lastPoint;
+        slot.point = lastPoint;
       }
+      slot.lastPoint = point;
+      return deltaPoint;
     }
-
-    return aggregator.toMetricData(
-        resource, instrumentationScopeInfo, metricDescriptor, result, aggregationTemporality);
+    slot.lastPoint = point;
+    return lastPoint == null ? point : aggregator.diff(lastPoint, point);
   }
 
   @Override
   public boolean isEmpty() {
     return aggregator == Aggregator.drop();
   }
+
+  private static final class Slot<T> {
+    private final Attributes attributes;
+    // The point of the last observation. Overwritten by observations if memoryMode ==
+    // REUSABLE_DATA.
+    private T point;
+    // The point observed in the previous collection, only used if aggregationTemporality == DELTA.
+    @Nullable private T lastPoint;
+    // Whether the series was observed in the current collection.
+    private boolean observed;
+
+    private Slot(Attributes attributes, T point) {
+      this.attributes = attributes;
+      this.point = point;
+    }
+  }
 }
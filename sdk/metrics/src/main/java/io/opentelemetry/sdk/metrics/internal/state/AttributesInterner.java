@@ -0,0 +1,66 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Processes attributes with an {@link AttributesProcessor} which does not depend on the context,
+ * remembering the result for a bounded number of distinct attribute sets.
+ *
+ * <p>Equal attributes are processed to the same instance, so that metric storage maps keyed by the
+ * processed attributes find them by identity, with their hash code already computed. Once the
+ * bound is reached, attributes which were not seen yet are processed without being interned.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+final class AttributesInterner {
+
+  private final AttributesProcessor attributesProcessor;
+  private final int maxSize;
+  // The processed attributes by incoming attributes.
+  private final ConcurrentHashMap<Attributes, Attributes> processedByIncoming =
+      new ConcurrentHashMap<>();
+  // The interned instance of each processed attributes, shared by incoming attributes processed to
+  // equal attributes.
+  private final ConcurrentHashMap<Attributes, Attributes> interned = new ConcurrentHashMap<>();
+
+  AttributesInterner(AttributesProcessor attributesProcessor, int maxSize) {
+    if (attributesProcessor.usesContext()) {
+      throw new IllegalArgumentException("attributesProcessor must not use the context");
+    }
+    this.attributesProcessor = attributesProcessor;
+    this.maxSize = maxSize;
+  }
+
+  /** Returns the interned result of processing the given attributes. */
+  Attributes process(Attributes incoming, Context context) {
+    Attributes processed = processedByIncoming.get(incoming);
+    if (processed != null) {
+      return processed;
+    }
+    processed = attributesProcessor.process(incoming, context);
+    // The bound is approximate, as concurrent calls may add attributes past it.
+    if (processedByIncoming.size() >= maxSize) {
+      return processed;
+    }
+    Attributes existing = interned.putIfAbsent(processed, processed);
+    if (existing != null) {
+      processed = existing;
+    }
+    existing = processedByIncoming.putIfAbsent(incoming, processed);
+    return existing != null ? existing : processed;
+  }
+
+  // Visible for testing
+  int size() {
+    return processedByIncoming.size();
+  }
+}
@@ -0,0 +1,448 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import static io.opentelemetry.sdk.common.export.MemoryMode.REUSABLE_DATA;
+import static io.opentelemetry.sdk.metrics.data.AggregationTemporality.DELTA;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.internal.GuardedBy;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.internal.ThrottlingLogger;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.ExemplarData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.data.PointData;
+import io.opentelemetry.sdk.metrics.internal.aggregator.Aggregator;
+import io.opentelemetry.sdk.metrics.internal.aggregator.DoubleLastValueAggregator;
+import io.opentelemetry.sdk.metrics.internal.aggregator.DoubleSumAggregator;
+import io.opentelemetry.sdk.metrics.internal.aggregator.EmptyMetricData;
+import io.opentelemetry.sdk.metrics.internal.aggregator.LongLastValueAggregator;
+import io.opentelemetry.sdk.metrics.internal.aggregator.LongSumAggregator;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableDoublePointData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableLongPointData;
+import io.opentelemetry.sdk.metrics.internal.data.MutableDoublePointData;
+import io.opentelemetry.sdk.metrics.internal.data.MutableLongPointData;
+import io.opentelemetry.sdk.metrics.internal.descriptor.MetricDescriptor;
+import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
+import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
+import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
+import io.opentelemetry.sdk.resources.Resource;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/**
+ * Stores aggregated {@link MetricData} for synchronous instruments with a sum or last value
+ * aggregation in primitive arrays, instead of in an {@link
+ * io.opentelemetry.sdk.metrics.internal.aggregator.AggregatorHandle} per series.
+ *
+ * <p>Each series is assigned a slot, found through an index from processed attributes to the
+ * slot and its generation. The value of a slot, whether it was recorded to since the previous
+ * collection, and its state are stored in chunks of {@code long} arrays, allocated as series are
+ * added. Points are only created on collection, or are reused across collections in {@link
+ * MemoryMode#REUSABLE_DATA}. Each series therefore costs an index entry, with its boxed key, and
+ * three {@code long}s, instead of an index entry and a handle with its own cells and exemplar
+ * reservoir. No exemplars are sampled, whatever the exemplar filter, which is logged once.
+ *
+ * <p>Recording to an existing series does not lock. It follows the same handshake as the
+ * aggregator holders of {@link DefaultSynchronousMetricStorage}, on the state of the slot:
+ * recording threads add 2 to it while recording, and a collection adds 1 to it, then waits for the
+ * recordings in progress to complete. A recording thread which finds the state odd, or of another
+ * generation than the one it looked up, looks the slot up again. In DELTA temporality, each slot
+ * is reset this way, so that its value and recorded flag are read and cleared together. When the
+ * cardinality limit is reached, series which were not recorded to since the previous collection
+ * are removed from the index and their slot is freed, after which its generation is incremented so
+ * that a recording thread which looked it up before cannot write to it once reused.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+final class ColumnarSynchronousMetricStorage<T extends PointData, U extends ExemplarData>
+    implements SynchronousMetricStorage {
+
+  private static final Logger internalLogger =
+      Logger.getLogger(ColumnarSynchronousMetricStorage.class.getName());
+
+  private static final AtomicBoolean exemplarsIgnoredLogged = new AtomicBoolean();
+
+  // Slots per chunk, as a power of two.
+  private static final int CHUNK_SHIFT = 8;
+  private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+  private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+  // Longs per slot in a chunk: the value, whether it was recorded to, and the state.
+  private static final int SLOT_STRIDE = 3;
+  private static final int RECORDED = 1;
+  // The generation of the slot in the upper 32 bits, then twice the number of recordings in
+  // progress, plus 1 while the slot is collected or free.
+  private static final int STATE = 2;
+
+  private final ThrottlingLogger logger = new ThrottlingLogger(internalLogger);
+  private final RegisteredReader registeredReader;
+  private final MetricDescriptor metricDescriptor;
+  private final AggregationTemporality aggregationTemporality;
+  private final Aggregator<T, U> aggregator;
+  private final AttributesProcessor attributesProcessor;
+  private final MemoryMode memoryMode;
+  private final boolean isDouble;
+  private final boolean isLastValue;
+
+  /**
+   * This field is set to 1 less than the actual intended cardinality limit, allowing the last slot
+   * to be filled by the {@link MetricStorage#CARDINALITY_OVERFLOW} series.
+   */
+  private final int maxCardinality;
+
+  // The slot of each series, in the lower 32 bits, and its generation, in the upper 32 bits.
+  private final ConcurrentHashMap<Attributes, Long> slots = new ConcurrentHashMap<>();
+  // Chunks are only added while holding lock, before publishing their slots through slots.
+  private final AtomicLongArray[] chunks;
+
+  private final Object lock = new Object();
+
+  // The attributes of each slot, or null for free slots.
+  @GuardedBy("lock")
+  private Attributes[] slotAttributes;
+
+  @GuardedBy("lock")
+  private int slotCount;
+
+  @GuardedBy("lock")
+  private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+
+  // Only used if memoryMode == REUSABLE_DATA
+  private final List<T> reusablePoints = new ArrayList<>();
+  private final List<T> reusableResultList = new ArrayList<>();
+
+  ColumnarSynchronousMetricStorage(
+      RegisteredReader registeredReader,
+      MetricDescriptor metricDescriptor,
+      Aggregator<T, U> aggregator,
+      AttributesProcessor attributesProcessor,
+      int maxCardinality,
+      ExemplarFilter exemplarFilter) {
+    this.registeredReader = registeredReader;
+    this.metricDescriptor = metricDescriptor;
+    this.aggregationTemporality =
+        registeredReader
+            .getReader()
+            .getAggregationTemporality(metricDescriptor.getSourceInstrument().getType());
+    this.aggregator = aggregator;
+    this.attributesProcessor = attributesProcessor;
+    this.memoryMode = registeredReader.getReader().getMemoryMode();
+    this.isDouble =
+        aggregator instanceof DoubleSumAggregator
+            || aggregator instanceof DoubleLastValueAggregator;
+    this.isLastValue =
+        aggregator instanceof LongLastValueAggregator
+            || aggregator instanceof DoubleLastValueAggregator;
+    this.maxCardinality = maxCardinality - 1;
+    // Removed series free their slot immediately, so there are at most as many slots as series.
+    this.chunks = new AtomicLongArray[(maxCardinality + CHUNK_SIZE - 1) >> CHUNK_SHIFT];
+    this.slotAttributes = new Attributes[Math.min(maxCardinality, CHUNK_SIZE)];
+    if (exemplarFilter != ExemplarFilter.alwaysOff()
+        && exemplarsIgnoredLogged.compareAndSet(false, true)) {
+      internalLogger.log(
+          Level.WARNING,
+          "Columnar metric storage does not sample exemplars. The exemplar filter is ignored for "
+              + "synchronous instruments with a sum or last value aggregation.");
+    }
+  }
+
+  /** Returns whether the storage supports the given aggregator. */
+  static boolean isSupported(Aggregator<?, ?> aggregator) {
+    return aggregator instanceof LongSumAggregator
+        || aggregator instanceof DoubleSumAggregator
+        || aggregator instanceof LongLastValueAggregator
+        || aggregator instanceof DoubleLastValueAggregator;
+  }
+
+  @Override
+  public void recordLong(long value, Attributes attributes, Context context) {
+    Attributes processedAttributes = processAttributes(attributes, context);
+    while (true) {
+      long key = getSlot(processedAttributes);
+      int slot = (int) key;
+      AtomicLongArray chunk = chunks[slot >> CHUNK_SHIFT];
+      int index = (slot & CHUNK_MASK) * SLOT_STRIDE;
+      if (!startRecord(chunk, index, key)) {
+        continue;
+      }
+      try {
+        if (isLastValue) {
+          chunk.set(index, value);
+        } else {
+          chunk.getAndAdd(index, value);
+        }
+        markRecorded(chunk, index);
+      } finally {
+        chunk.addAndGet(index + STATE, -2);
+      }
+      return;
+    }
+  }
+
+  @Override
+  public void recordDouble(double value, Attributes attributes, Context context) {
+    if (Double.isNaN(value)) {
+      logger.log(
+          Level.FINE,
+          "Instrument "
+              + metricDescriptor.getSourceInstrument().getName()
+              + " has recorded measurement Not-a-Number (NaN) value with attributes "
+              + attributes
+              + ". Dropping measurement.");
+      return;
+    }
+    Attributes processedAttributes = processAttributes(attributes, context);
+    while (true) {
+      long key = getSlot(processedAttributes);
+      int slot = (int) key;
+      AtomicLongArray chunk = chunks[slot >> CHUNK_SHIFT];
+      int index = (slot & CHUNK_MASK) * SLOT_STRIDE;
+      if (!startRecord(chunk, index, key)) {
+        continue;
+      }
+      try {
+        if (isLastValue) {
+          chunk.set(index, Double.doubleToRawLongBits(value));
+        } else {
+          while (true) {
+            long bits = chunk.get(index);
+            long newBits = Double.doubleToRawLongBits(Double.longBitsToDouble(bits) + value);
+            if (chunk.compareAndSet(index, bits, newBits)) {
+              break;
+            }
+          }
+        }
+        markRecorded(chunk, index);
+      } finally {
+        chunk.addAndGet(index + STATE, -2);
+      }
+      return;
+    }
+  }
+
+  /**
+   * Registers a recording to the slot of {@code key}, returning {@code false} if the slot is being
+   * collected, is free, or was reused by another series since {@code key} was looked up.
+   */
+  private static boolean startRecord(AtomicLongArray chunk, int index, long key) {
+    long state = chunk.addAndGet(index + STATE, 2);
+    if ((state & 1) == 0 && (state >>> 32) == (key >>> 32)) {
+      return true;
+    }
+    chunk.addAndGet(index + STATE, -2);
+    return false;
+  }
+
+  private static void markRecorded(AtomicLongArray chunk, int index) {
+    // Avoid writing to the shared cache line when already marked.
+    if (chunk.get(index + RECORDED) == 0) {
+      chunk.lazySet(index + RECORDED, 1);
+    }
+  }
+
+  /**
+   * Adds 1 to the state of a slot, then waits for the recordings in progress to complete. Recording
+   * threads then look the slot up again until the state is decremented.
+   */
+  private static void retire(AtomicLongArray chunk, int index) {
+    long state = chunk.addAndGet(index + STATE, 1);
+    while ((state & 0xFFFFFFFFL) > 1) {
+      state = chunk.get(index + STATE);
+    }
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  private Attributes processAttributes(Attributes attributes, Context context) {
+    Objects.requireNonNull(attributes, "attributes");
+    return attributesProcessor.process(attributes, context);
+  }
+
+  private long getSlot(Attributes processedAttributes) {
+    Long key = slots.get(processedAttributes);
+    if (key != null) {
+      return key;
+    }
+    synchronized (lock) {
+      key = slots.get(processedAttributes);
+      if (key != null) {
+        return key;
+      }
+      if (slots.size() >= maxCardinality) {
+        logger.log(
+            Level.WARNING,
+            "Instrument "
+                + metricDescriptor.getSourceInstrument().getName()
+                + " has exceeded the maximum allowed cardinality ("
+                + maxCardinality
+                + ").");
+        processedAttributes = MetricStorage.CARDINALITY_OVERFLOW;
+        key = slots.get(processedAttributes);
+        if (key != null) {
+          return key;
+        }
+      }
+      long newKey = allocateSlot(processedAttributes);
+      slots.put(processedAttributes, newKey);
+      return newKey;
+    }
+  }
+
+  /** Returns the key of a free slot, assigned to the attributes. */
+  @GuardedBy("lock")
+  private long allocateSlot(Attributes attributes) {
+    Integer free = freeSlots.poll();
+    int slot;
+    long generation;
+    if (free != null) {
+      slot = free;
+      // Free slots are retired and cleared, and their generation was incremented.
+      AtomicLongArray chunk = chunks[slot >> CHUNK_SHIFT];
+      long state = chunk.addAndGet((slot & CHUNK_MASK) * SLOT_STRIDE + STATE, -1);
+      generation = state >>> 32;
+    } else {
+      slot = slotCount++;
+      generation = 0;
+      int chunkIndex = slot >> CHUNK_SHIFT;
+      if (chunks[chunkIndex] == null) {
+        chunks[chunkIndex] = new AtomicLongArray(CHUNK_SIZE * SLOT_STRIDE);
+      }
+      if (slot == slotAttributes.length) {
+        Attributes[] grown = new Attributes[slotAttributes.length * 2];
+        System.arraycopy(slotAttributes, 0, grown, 0, slotAttributes.length);
+        slotAttributes = grown;
+      }
+    }
+    slotAttributes[slot] = attributes;
+    return (generation << 32) | slot;
+  }
+
+  @Override
+  public MetricData collect(
+      Resource resource,
+      InstrumentationScopeInfo instrumentationScopeInfo,
+      long startEpochNanos,
+      long epochNanos) {
+    boolean reset = aggregationTemporality == DELTA;
+    long start = reset ? registeredReader.getLastCollectEpochNanos() : startEpochNanos;
+
+    List<T> points;
+    if (memoryMode == REUSABLE_DATA) {
+      reusableResultList.clear();
+      points = reusableResultList;
+    } else {
+      points = new ArrayList<>();
+    }
+
+    synchronized (lock) {
+      boolean removeIdle = reset && slots.size() >= maxCardinality;
+      for (int slot = 0; slot < slotCount; slot++) {
+        Attributes attributes = slotAttributes[slot];
+        if (attributes == null) {
+          continue;
+        }
+        AtomicLongArray chunk = chunks[slot >> CHUNK_SHIFT];
+        int index = (slot & CHUNK_MASK) * SLOT_STRIDE;
+        if (!reset) {
+          if (chunk.get(index + RECORDED) != 0) {
+            points.add(toPoint(points.size(), start, epochNanos, attributes, chunk.get(index)));
+          }
+          continue;
+        }
+        retire(chunk, index);
+        if (chunk.get(index + RECORDED) != 0) {
+          long value = chunk.get(index);
+          chunk.set(index + RECORDED, 0);
+          if (!isLastValue) {
+            chunk.set(index, 0);
+          }
+          points.add(toPoint(points.size(), start, epochNanos, attributes, value));
+        } else if (removeIdle) {
+          slots.remove(attributes);
+          freeSlot(slot, chunk, index);
+          continue;
+        }
+        chunk.addAndGet(index + STATE, -1);
+      }
+    }
+
+    if (points.isEmpty()) {
+      return EmptyMetricData.getInstance();
+    }
+    return aggregator.toMetricData(
+        resource, instrumentationScopeInfo, metricDescriptor, points, aggregationTemporality);
+  }
+
+  /**
+   * Frees a retired slot, incrementing its generation so that recording threads which looked it up
+   * before never write to it once reused.
+   */
+  @GuardedBy("lock")
+  private void freeSlot(int slot, AtomicLongArray chunk, int index) {
+    chunk.set(index, 0);
+    chunk.set(index + RECORDED, 0);
+    chunk.addAndGet(index + STATE, 1L << 32);
+    slotAttributes[slot] = null;
+    freeSlots.add(slot);
+  }
+
+  @SuppressWarnings("unchecked")
+  private T toPoint(
+      int pointIndex, long startEpochNanos, long epochNanos, Attributes attributes, long value) {
+    if (memoryMode != REUSABLE_DATA) {
+      return (T)
+          (isDouble
+              ? ImmutableDoublePointData.create(
+                  startEpochNanos, epochNanos, attributes, Double.longBitsToDouble(value))
+              : ImmutableLongPointData.create(startEpochNanos, epochNanos, attributes, value));
+    }
+    if (pointIndex == reusablePoints.size()) {
+      reusablePoints.add(
+          (T) (isDouble ? new MutableDoublePointData() : new MutableLongPointData()));
+    }
+    T point = reusablePoints.get(pointIndex);
+    if (isDouble) {
+      ((MutableDoublePointData) point)
+          .set(startEpochNanos, epochNanos, attributes, Double.longBitsToDouble(value));
+    } else {
+      ((MutableLongPointData) point).set(startEpochNanos, epochNanos, attributes, value);
+    }
+    return point;
+  }
+
+  @Override
+  public MetricDescriptor getMetricDescriptor() {
+    return metricDescriptor;
+  }
+
+  // Visible for testing
+  int getSlotCount() {
+    synchronized (lock) {
+      return slotCount;
+    }
+  }
+
+  // Visible for testing
+  @Nullable
+  Long getSlotKey(Attributes processedAttributes) {
+    return slots.get(processedAttributes);
+  }
+}
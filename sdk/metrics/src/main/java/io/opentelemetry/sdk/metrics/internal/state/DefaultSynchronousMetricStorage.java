@@ -8,6 +8,8 @@ package io.opentelemetry.sdk.metrics.internal.state;
 import static io.opentelemetry.sdk.common.export.MemoryMode.IMMUTABLE_DATA;
 import static io.opentelemetry.sdk.common.export.MemoryMode.REUSABLE_DATA;
 import static io.opentelemetry.sdk.metrics.data.AggregationTemporality.DELTA;
+import static io.opentelemetry.sdk.metrics.internal.export.CumulativeCollectionMode.ALL_SERIES;
+import static io.opentelemetry.sdk.metrics.internal.export.CumulativeCollectionMode.CHANGED_SERIES_ONLY;
 
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.context.Context;
@@ -22,18 +24,23 @@ import io.opentelemetry.sdk.metrics.internal.aggregator.Aggregator;
 import io.opentelemetry.sdk.metrics.internal.aggregator.AggregatorHandle;
 import io.opentelemetry.sdk.metrics.internal.aggregator.EmptyMetricData;
 import io.opentelemetry.sdk.metrics.internal.descriptor.MetricDescriptor;
+import io.opentelemetry.sdk.metrics.internal.export.CumulativeCollectionMode;
 import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
 import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
 import io.opentelemetry.sdk.resources.Resource;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * Stores aggregated {@link MetricData} for synchronous instruments.
@@ -54,8 +61,14 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
   private final Aggregator<T, U> aggregator;
   private volatile AggregatorHolder<T, U> aggregatorHolder = new AggregatorHolder<>();
   private final AttributesProcessor attributesProcessor;
+  @Nullable private final AttributesInterner attributesInterner;
 
   private final MemoryMode memoryMode;
+  private final CumulativeCollectionMode cumulativeCollectionMode;
+
+  // The last point aggregated from each handle, only populated if aggregationTemporality is
+  // CUMULATIVE and cumulativeCollectionMode is CACHE_UNCHANGED_SERIES. Only accessed by collect.
+  private final Map<AggregatorHandle<T, U>, T> cachedPoints = new IdentityHashMap<>();
 
   // Only populated if memoryMode == REUSABLE_DATA
   private final ArrayList<T> reusableResultList = new ArrayList<>();
@@ -80,6 +93,24 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
       Aggregator<T, U> aggregator,
       AttributesProcessor attributesProcessor,
       int maxCardinality) {
+    this(
+        registeredReader,
+        metricDescriptor,
+        aggregator,
+        attributesProcessor,
+        maxCardinality,
+        /* maxInternedAttributes= */ 0,
+        ALL_SERIES);
+  }
+
+  DefaultSynchronousMetricStorage(
+      RegisteredReader registeredReader,
+      MetricDescriptor metricDescriptor,
+      Aggregator<T, U> aggregator,
+      AttributesProcessor attributesProcessor,
+      int maxCardinality,
+      int maxInternedAttributes,
+      CumulativeCollectionMode cumulativeCollectionMode) {
     this.registeredReader = registeredReader;
     this.metricDescriptor = metricDescriptor;
     this.aggregationTemporality =
@@ -88,8 +119,13 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
             .getAggregationTemporality(metricDescriptor.getSourceInstrument().getType());
     this.aggregator = aggregator;
     this.attributesProcessor = attributesProcessor;
+    this.attributesInterner =
+        maxInternedAttributes > 0 && !attributesProcessor.usesContext()
+            ? new AttributesInterner(attributesProcessor, maxInternedAttributes)
+            : null;
     this.maxCardinality = maxCardinality - 1;
     this.memoryMode = registeredReader.getReader().getMemoryMode();
+    this.cumulativeCollectionMode = cumulativeCollectionMode;
   }
 
   // Visible for testing
@@ -111,14 +147,7 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
 
   @Override
   public void recordDouble(double value, Attributes attributes, Context context) {
-    if (Double.isNaN(value)) {
-      logger.log(
-          Level.FINE,
-          "Instrument "
-              + metricDescriptor.getSourceInstrument().getName()
-              + " has recorded measurement Not-a-Number (NaN) value with attributes "
-              + attributes
-              + ". Dropping measurement.");
+    if (isNaN(value, attributes)) {
       return;
     }
     AggregatorHolder<T, U> aggregatorHolder = getHolderForRecord();
@@ -131,11 +160,77 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
     }
   }
 
+  /**
+   * Records a value to the series of the given attributes, which were already processed by the
+   * {@link AttributesProcessor} of this storage. No exemplar is offered for the value, since it
+   * may aggregate several measurements.
+   */
+  void recordProcessedLong(long value, Attributes processedAttributes) {
+    AggregatorHolder<T, U> aggregatorHolder = getHolderForRecord();
+    try {
+      getProcessedAggregatorHandle(aggregatorHolder.aggregatorHandles, processedAttributes)
+          .recordLong(value);
+    } finally {
+      releaseHolderForRecord(aggregatorHolder);
+    }
+  }
+
+  /**
+   * Records a value to the series of the given attributes, which were already processed by the
+   * {@link AttributesProcessor} of this storage. No exemplar is offered for the value, since it
+   * may aggregate several measurements.
+   */
+  void recordProcessedDouble(double value, Attributes processedAttributes) {
+    AggregatorHolder<T, U> aggregatorHolder = getHolderForRecord();
+    try {
+      getProcessedAggregatorHandle(aggregatorHolder.aggregatorHandles, processedAttributes)
+          .recordDouble(value);
+    } finally {
+      releaseHolderForRecord(aggregatorHolder);
+    }
+  }
+
   @Override
   public boolean isEnabled() {
     return true;
   }
 
+  /**
+   * Returns a handle recording to the {@link AggregatorHandle} of the given attributes without
+   * processing them or looking up their handle on each measurement.
+   *
+   * <p>The attributes are processed once, when binding. The handle of the processed attributes is
+   * only looked up on the first measurement recorded to each aggregator holder, so that an idle
+   * bound handle does not take a slot towards the cardinality limit. Bound measurements follow the
+   * same handshake with collection as other measurements. The storage keeps no reference to bound
+   * handles, which are released once unreachable.
+   *
+   * <p>When the {@link AttributesProcessor} uses the context, the attributes are processed with the
+   * context of each measurement instead.
+   */
+  @Override
+  public BoundStorageHandle bind(Attributes attributes) {
+    Objects.requireNonNull(attributes, "attributes");
+    if (attributesProcessor.usesContext()) {
+      return SynchronousMetricStorage.super.bind(attributes);
+    }
+    return new BoundHandle(processAttributes(attributes, Context.current()), attributes);
+  }
+
+  private boolean isNaN(double value, Attributes attributes) {
+    if (Double.isNaN(value)) {
+      logger.log(
+          Level.FINE,
+          "Instrument "
+              + metricDescriptor.getSourceInstrument().getName()
+              + " has recorded measurement Not-a-Number (NaN) value with attributes "
+              + attributes
+              + ". Dropping measurement.");
+      return true;
+    }
+    return false;
+  }
+
   /**
    * Obtain the AggregatorHolder for recording measurements, re-reading the volatile
    * this.aggregatorHolder until we access one where recordsInProgress is even. Collect sets
@@ -171,7 +266,20 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
       Attributes attributes,
       Context context) {
     Objects.requireNonNull(attributes, "attributes");
-    attributes = attributesProcessor.process(attributes, context);
+    return getProcessedAggregatorHandle(aggregatorHandles, processAttributes(attributes, context));
+  }
+
+  /** Returns the attributes of the series the given measurement attributes are recorded to. */
+  Attributes processAttributes(Attributes attributes, Context context) {
+    if (attributesInterner != null) {
+      return attributesInterner.process(attributes, context);
+    }
+    return attributesProcessor.process(attributes, context);
+  }
+
+  private AggregatorHandle<T, U> getProcessedAggregatorHandle(
+      ConcurrentHashMap<Attributes, AggregatorHandle<T, U>> aggregatorHandles,
+      Attributes attributes) {
     AggregatorHandle<T, U> handle = aggregatorHandles.get(attributes);
     if (handle != null) {
       return handle;
@@ -206,6 +314,23 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
       InstrumentationScopeInfo instrumentationScopeInfo,
       long startEpochNanos,
       long epochNanos) {
+    return collect(
+        resource, instrumentationScopeInfo, startEpochNanos, epochNanos, /* pending= */ null);
+  }
+
+  /**
+   * Collects like {@link #collect(Resource, InstrumentationScopeInfo, long, long)}, after adding
+   * the {@code pending} measurements to the handles being collected. In DELTA temporality, they are
+   * added once the recordings to the collected holder are complete, so that they do not go through
+   * the handshake of each record operation. No exemplar is offered for them, since each may
+   * aggregate several measurements.
+   */
+  MetricData collect(
+      Resource resource,
+      InstrumentationScopeInfo instrumentationScopeInfo,
+      long startEpochNanos,
+      long epochNanos,
+      @Nullable Consumer<ProcessedRecorder> pending) {
     boolean reset = aggregationTemporality == DELTA;
     long start =
         aggregationTemporality == DELTA
@@ -232,6 +357,9 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
     } else {
       aggregatorHandles = this.aggregatorHolder.aggregatorHandles;
     }
+    if (pending != null) {
+      pending.accept(new HandlesRecorder(aggregatorHandles));
+    }
 
     List<T> points;
     if (memoryMode == REUSABLE_DATA) {
@@ -272,7 +400,12 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
           if (!handle.hasRecordedValues()) {
             return;
           }
-          T point = handle.aggregateThenMaybeReset(start, epochNanos, attributes, reset);
+          T point;
+          if (reset || cumulativeCollectionMode == ALL_SERIES) {
+            point = handle.aggregateThenMaybeReset(start, epochNanos, attributes, reset);
+          } else {
+            point = collectCumulative(handle, start, epochNanos, attributes);
+          }
 
           if (reset && memoryMode == IMMUTABLE_DATA) {
             // Return the aggregator to the pool.
@@ -307,11 +440,129 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
         resource, instrumentationScopeInfo, metricDescriptor, points, aggregationTemporality);
   }
 
+  /**
+   * Returns the point of a handle in CUMULATIVE temporality, only aggregating it if recorded to
+   * since the previous collection, or {@code null} if it is not to be collected.
+   */
+  @Nullable
+  private T collectCumulative(
+      AggregatorHandle<T, U> handle, long start, long epochNanos, Attributes attributes) {
+    if (!handle.resetChanged()) {
+      if (cumulativeCollectionMode == CHANGED_SERIES_ONLY) {
+        return null;
+      }
+      // The cached point is missing if the series was not collected yet
+      T cachedPoint = cachedPoints.get(handle);
+      if (cachedPoint != null) {
+        // Reported again with the time of this collection
+        T point = aggregator.withEpochNanos(cachedPoint, epochNanos);
+        cachedPoints.put(handle, point);
+        return point;
+      }
+    }
+    T point = handle.aggregateThenMaybeReset(start, epochNanos, attributes, /* reset= */ false);
+    if (cumulativeCollectionMode != CHANGED_SERIES_ONLY) {
+      cachedPoints.put(handle, point);
+    }
+    return point;
+  }
+
   @Override
   public MetricDescriptor getMetricDescriptor() {
     return metricDescriptor;
   }
 
+  private final class BoundHandle implements BoundStorageHandle {
+    private final Attributes processedAttributes;
+    // The attributes before processing, offered to exemplar reservoirs like unbound measurements.
+    private final Attributes attributes;
+    // The handle of the processed attributes in the holder last recorded to. Racing recordings
+    // look up the same handle, so the last one to set it wins.
+    @Nullable private volatile Binding<T, U> binding;
+
+    private BoundHandle(Attributes processedAttributes, Attributes attributes) {
+      this.processedAttributes = processedAttributes;
+      this.attributes = attributes;
+    }
+
+    @Override
+    public void recordLong(long value, Context context) {
+      AggregatorHolder<T, U> aggregatorHolder = getHolderForRecord();
+      try {
+        getHandle(aggregatorHolder).recordLong(value, attributes, context);
+      } finally {
+        releaseHolderForRecord(aggregatorHolder);
+      }
+    }
+
+    @Override
+    public void recordDouble(double value, Context context) {
+      if (isNaN(value, attributes)) {
+        return;
+      }
+      AggregatorHolder<T, U> aggregatorHolder = getHolderForRecord();
+      try {
+        getHandle(aggregatorHolder).recordDouble(value, attributes, context);
+      } finally {
+        releaseHolderForRecord(aggregatorHolder);
+      }
+    }
+
+    /**
+     * Returns the handle of the bound attributes in the given holder, looking it up on the first
+     * measurement recorded to the holder. Must be called between {@link
+     * DefaultSynchronousMetricStorage#getHolderForRecord()} and {@link
+     * DefaultSynchronousMetricStorage#releaseHolderForRecord(AggregatorHolder)}, so that the holder
+     * is not collected yet.
+     */
+    private AggregatorHandle<T, U> getHandle(AggregatorHolder<T, U> aggregatorHolder) {
+      Binding<T, U> binding = this.binding;
+      if (binding != null && binding.holder == aggregatorHolder) {
+        return binding.handle;
+      }
+      AggregatorHandle<T, U> handle =
+          getProcessedAggregatorHandle(aggregatorHolder.aggregatorHandles, processedAttributes);
+      this.binding = new Binding<>(aggregatorHolder, handle);
+      return handle;
+    }
+  }
+
+  /** Records values to the series of attributes already processed by the storage. */
+  interface ProcessedRecorder {
+    void recordLong(long value, Attributes processedAttributes);
+
+    void recordDouble(double value, Attributes processedAttributes);
+  }
+
+  private final class HandlesRecorder implements ProcessedRecorder {
+    private final ConcurrentHashMap<Attributes, AggregatorHandle<T, U>> aggregatorHandles;
+
+    private HandlesRecorder(ConcurrentHashMap<Attributes, AggregatorHandle<T, U>> handles) {
+      this.aggregatorHandles = handles;
+    }
+
+    @Override
+    public void recordLong(long value, Attributes processedAttributes) {
+      getProcessedAggregatorHandle(aggregatorHandles, processedAttributes).recordLong(value);
+    }
+
+    @Override
+    public void recordDouble(double value, Attributes processedAttributes) {
+      getProcessedAggregatorHandle(aggregatorHandles, processedAttributes).recordDouble(value);
+    }
+  }
+
+  /** The handle of bound attributes in an aggregator holder. */
+  private static final class Binding<T extends PointData, U extends ExemplarData> {
+    private final AggregatorHolder<T, U> holder;
+    private final AggregatorHandle<T, U> handle;
+
+    private Binding(AggregatorHolder<T, U> holder, AggregatorHandle<T, U> handle) {
+      this.holder = holder;
+      this.handle = handle;
+    }
+  }
+
   private static class AggregatorHolder<T extends PointData, U extends ExemplarData> {
     private final ConcurrentHashMap<Attributes, AggregatorHandle<T, U>> aggregatorHandles;
     // Recording threads grab the current interval (AggregatorHolder) and atomically increment
@@ -9,6 +9,7 @@ import com.google.auto.value.AutoValue;
 import io.opentelemetry.sdk.common.Clock;
 import io.opentelemetry.sdk.metrics.SdkMeterProvider;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
+import io.opentelemetry.sdk.metrics.internal.export.CumulativeCollectionMode;
 import io.opentelemetry.sdk.resources.Resource;
 import javax.annotation.concurrent.Immutable;
 
@@ -24,8 +25,39 @@ public abstract class MeterProviderSharedState {
 
   public static MeterProviderSharedState create(
       Clock clock, Resource resource, ExemplarFilter exemplarFilter, long startEpochNanos) {
+    return create(
+        clock,
+        resource,
+        exemplarFilter,
+        startEpochNanos,
+        0,
+        0,
+        false,
+        false,
+        CumulativeCollectionMode.ALL_SERIES);
+  }
+
+  public static MeterProviderSharedState create(
+      Clock clock,
+      Resource resource,
+      ExemplarFilter exemplarFilter,
+      long startEpochNanos,
+      int maxThreadLocalSeries,
+      int maxInternedAttributes,
+      boolean columnarStorageEnabled,
+      boolean stripedExemplarReservoirEnabled,
+      CumulativeCollectionMode cumulativeCollectionMode) {
     MeterProviderSharedState sharedState =
-        new AutoValue_MeterProviderSharedState(clock, resource, startEpochNanos, exemplarFilter);
+        new AutoValue_MeterProviderSharedState(
+            clock,
+            resource,
+            startEpochNanos,
+            exemplarFilter,
+            maxThreadLocalSeries,
+            maxInternedAttributes,
+            columnarStorageEnabled,
+            stripedExemplarReservoirEnabled,
+            cumulativeCollectionMode);
     return sharedState;
   }
 
@@ -42,4 +74,28 @@ public abstract class MeterProviderSharedState {
 
   /** Returns the {@link ExemplarFilter} for remembering synchronous measurements. */
   abstract ExemplarFilter getExemplarFilter();
+
+  /**
+   * Returns the maximum number of series per storage aggregated in thread-local buffers, or
+   * {@code 0} if measurements are always aggregated in shared storage.
+   */
+  abstract int getMaxThreadLocalSeries();
+
+  /**
+   * Returns the maximum number of attributes interned per storage, or {@code 0} if attributes are
+   * not interned.
+   */
+  abstract int getMaxInternedAttributes();
+
+  /** Returns whether sums and last values are stored in primitive arrays. */
+  abstract boolean isColumnarStorageEnabled();
+
+  /** Returns whether the exemplars of sums are sampled with a reservoir striped by thread. */
+  abstract boolean isStripedExemplarReservoirEnabled();
+
+  /**
+   * Returns how synchronous instruments collected with cumulative temporality produce the points of
+   * unchanged series.
+   */
+  abstract CumulativeCollectionMode getCumulativeCollectionMode();
 }
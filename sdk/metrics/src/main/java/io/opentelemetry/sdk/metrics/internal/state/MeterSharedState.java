@@ -21,7 +21,11 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Function;
+import javax.annotation.Nullable;
 
 /**
  * State for a {@code Meter}.
@@ -31,6 +35,11 @@ import java.util.function.Function;
  */
 public class MeterSharedState {
 
+  // Storages are collected in parallel in tasks of at least this many storages, and in up to this
+  // many tasks per thread, to balance the load of storages with different numbers of series.
+  private static final int MIN_STORAGES_PER_TASK = 8;
+  private static final int TASKS_PER_THREAD = 4;
+
   private final Object collectLock = new Object();
   private final Object callbackLock = new Object();
 
@@ -98,6 +107,18 @@ public class MeterSharedState {
       RegisteredReader registeredReader,
       MeterProviderSharedState meterProviderSharedState,
       long epochNanos) {
+    return collectAll(registeredReader, meterProviderSharedState, epochNanos, null);
+  }
+
+  /**
+   * Collects all metrics, collecting the storages in parallel in the {@code collectionPool} if not
+   * {@code null}. The collected metrics are in the same order as when collected sequentially.
+   */
+  public List<MetricData> collectAll(
+      RegisteredReader registeredReader,
+      MeterProviderSharedState meterProviderSharedState,
+      long epochNanos,
+      @Nullable ForkJoinPool collectionPool) {
     // Short circuit collection process if meter is disabled
     if (!meterEnabled) {
       return Collections.emptyList();
@@ -113,16 +134,47 @@ public class MeterSharedState {
             registeredReader, meterProviderSharedState.getStartEpochNanos(), epochNanos);
       }
 
-      Collection<MetricStorage> storages =
-          Objects.requireNonNull(readerStorageRegistries.get(registeredReader)).getStorages();
-      List<MetricData> result = new ArrayList<>(storages.size());
-      for (MetricStorage storage : storages) {
-        MetricData current =
-            storage.collect(
-                meterProviderSharedState.getResource(),
-                getInstrumentationScopeInfo(),
-                meterProviderSharedState.getStartEpochNanos(),
-                epochNanos);
+      MetricStorage[] storages =
+          Objects.requireNonNull(readerStorageRegistries.get(registeredReader))
+              .getStorages()
+              .toArray(new MetricStorage[0]);
+      MetricData[] collected = new MetricData[storages.length];
+      int taskCount =
+          collectionPool == null
+              ? 1
+              : Math.min(
+                  collectionPool.getParallelism() * TASKS_PER_THREAD,
+                  storages.length / MIN_STORAGES_PER_TASK);
+      if (collectionPool == null || taskCount <= 1) {
+        collect(storages, collected, 0, storages.length, meterProviderSharedState, epochNanos);
+      } else {
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(taskCount - 1);
+        for (int i = 0; i < taskCount - 1; i++) {
+          int from = (int) ((long) storages.length * i / taskCount);
+          int to = (int) ((long) storages.length * (i + 1) / taskCount);
+          ForkJoinTask<?> task =
+              ForkJoinTask.adapt(
+                  () ->
+                      collect(
+                          storages, collected, from, to, meterProviderSharedState, epochNanos));
+          try {
+            collectionPool.execute(task);
+          } catch (RejectedExecutionException e) {
+            // The provider was shut down concurrently, collect the range in this thread instead
+            task.invoke();
+          }
+          tasks.add(task);
+        }
+        // The last range is collected by this thread while the pool collects the others
+        int from = (int) ((long) storages.length * (taskCount - 1) / taskCount);
+        collect(storages, collected, from, storages.length, meterProviderSharedState, epochNanos);
+        for (ForkJoinTask<?> task : tasks) {
+          task.join();
+        }
+      }
+
+      List<MetricData> result = new ArrayList<>(collected.length);
+      for (MetricData current : collected) {
         // Ignore if the metric data doesn't have any data points, for example when aggregation is
         // Aggregation#drop()
         if (!current.isEmpty()) {
@@ -133,6 +185,23 @@ public class MeterSharedState {
     }
   }
 
+  private void collect(
+      MetricStorage[] storages,
+      MetricData[] collected,
+      int from,
+      int to,
+      MeterProviderSharedState meterProviderSharedState,
+      long epochNanos) {
+    for (int i = from; i < to; i++) {
+      collected[i] =
+          storages[i].collect(
+              meterProviderSharedState.getResource(),
+              getInstrumentationScopeInfo(),
+              meterProviderSharedState.getStartEpochNanos(),
+              epochNanos);
+    }
+  }
+
   /** Reset the meter state, clearing all registered callbacks and storages. */
   public void resetForTest() {
     synchronized (collectLock) {
@@ -163,7 +232,12 @@ public class MeterSharedState {
                     reader,
                     registeredView,
                     instrument,
-                    meterProviderSharedState.getExemplarFilter())));
+                    meterProviderSharedState.getExemplarFilter(),
+                    meterProviderSharedState.getMaxThreadLocalSeries(),
+                    meterProviderSharedState.getMaxInternedAttributes(),
+                    meterProviderSharedState.isColumnarStorageEnabled(),
+                    meterProviderSharedState.isStripedExemplarReservoirEnabled(),
+                    meterProviderSharedState.getCumulativeCollectionMode())));
       }
     }
 
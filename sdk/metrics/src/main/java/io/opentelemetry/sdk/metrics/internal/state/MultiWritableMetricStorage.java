@@ -39,4 +39,27 @@ class MultiWritableMetricStorage implements WriteableMetricStorage {
     }
     return false;
   }
+
+  @Override
+  public BoundStorageHandle bind(Attributes attributes) {
+    BoundStorageHandle[] handles = new BoundStorageHandle[storages.size()];
+    for (int i = 0; i < handles.length; i++) {
+      handles[i] = storages.get(i).bind(attributes);
+    }
+    return new BoundStorageHandle() {
+      @Override
+      public void recordLong(long value, Context context) {
+        for (BoundStorageHandle handle : handles) {
+          handle.recordLong(value, context);
+        }
+      }
+
+      @Override
+      public void recordDouble(double value, Context context) {
+        for (BoundStorageHandle handle : handles) {
+          handle.recordDouble(value, context);
+        }
+      }
+    };
+  }
 }
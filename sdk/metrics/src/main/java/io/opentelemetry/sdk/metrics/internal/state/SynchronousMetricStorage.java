@@ -11,9 +11,12 @@ import io.opentelemetry.sdk.metrics.data.MetricData;
 import io.opentelemetry.sdk.metrics.data.PointData;
 import io.opentelemetry.sdk.metrics.internal.aggregator.Aggregator;
 import io.opentelemetry.sdk.metrics.internal.aggregator.AggregatorFactory;
+import io.opentelemetry.sdk.metrics.internal.aggregator.DoubleSumAggregator;
+import io.opentelemetry.sdk.metrics.internal.aggregator.LongSumAggregator;
 import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
 import io.opentelemetry.sdk.metrics.internal.descriptor.MetricDescriptor;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
+import io.opentelemetry.sdk.metrics.internal.export.CumulativeCollectionMode;
 import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
 import io.opentelemetry.sdk.metrics.internal.view.RegisteredView;
 
@@ -33,6 +36,16 @@ public interface SynchronousMetricStorage extends MetricStorage, WriteableMetric
   /**
    * Constructs metric storage for a given synchronous instrument and view.
    *
+   * @param maxThreadLocalSeries the maximum number of series aggregated in thread-local buffers
+   *     before recording to the shared storage, or {@code 0} to always record to the shared
+   *     storage. Only applies to sum aggregations.
+   * @param maxInternedAttributes the maximum number of interned attributes, or {@code 0} to not
+   *     intern attributes
+   * @param columnarStorageEnabled whether to store sums and last values in primitive arrays
+   * @param stripedExemplarReservoir whether to sample the exemplars of sums with a reservoir
+   *     striped by recording thread
+   * @param cumulativeCollectionMode how the points of series not recorded to since the previous
+   *     collection are produced in cumulative temporality
    * @return The storage, or {@link EmptyMetricStorage#empty()} if the instrument should not be
    *     recorded.
    */
@@ -40,23 +53,51 @@ public interface SynchronousMetricStorage extends MetricStorage, WriteableMetric
       RegisteredReader registeredReader,
       RegisteredView registeredView,
       InstrumentDescriptor instrumentDescriptor,
-      ExemplarFilter exemplarFilter) {
+      ExemplarFilter exemplarFilter,
+      int maxThreadLocalSeries,
+      int maxInternedAttributes,
+      boolean columnarStorageEnabled,
+      boolean stripedExemplarReservoir,
+      CumulativeCollectionMode cumulativeCollectionMode) {
     View view = registeredView.getView();
     MetricDescriptor metricDescriptor =
         MetricDescriptor.create(view, registeredView.getViewSourceInfo(), instrumentDescriptor);
     Aggregator<T, U> aggregator =
         ((AggregatorFactory) view.getAggregation())
             .createAggregator(
-                instrumentDescriptor, exemplarFilter, registeredReader.getReader().getMemoryMode());
+                instrumentDescriptor,
+                exemplarFilter,
+                registeredReader.getReader().getMemoryMode(),
+                stripedExemplarReservoir);
     // We won't be storing this metric.
     if (Aggregator.drop() == aggregator) {
       return empty();
     }
-    return new DefaultSynchronousMetricStorage<>(
-        registeredReader,
-        metricDescriptor,
-        aggregator,
-        registeredView.getViewAttributesProcessor(),
-        registeredView.getCardinalityLimit());
+    if (columnarStorageEnabled && ColumnarSynchronousMetricStorage.isSupported(aggregator)) {
+      return new ColumnarSynchronousMetricStorage<>(
+          registeredReader,
+          metricDescriptor,
+          aggregator,
+          registeredView.getViewAttributesProcessor(),
+          registeredView.getCardinalityLimit(),
+          exemplarFilter);
+    }
+    DefaultSynchronousMetricStorage<T, U> storage =
+        new DefaultSynchronousMetricStorage<>(
+            registeredReader,
+            metricDescriptor,
+            aggregator,
+            registeredView.getViewAttributesProcessor(),
+            registeredView.getCardinalityLimit(),
+            maxInternedAttributes,
+            cumulativeCollectionMode);
+    // Thread-local buffers are merged into the storage by adding them up, which is only correct
+    // for sums.
+    if (maxThreadLocalSeries > 0
+        && (aggregator instanceof LongSumAggregator || aggregator instanceof DoubleSumAggregator)) {
+      return new ThreadLocalSynchronousMetricStorage<>(
+          storage, maxThreadLocalSeries, aggregator instanceof LongSumAggregator);
+    }
+    return storage;
   }
 }
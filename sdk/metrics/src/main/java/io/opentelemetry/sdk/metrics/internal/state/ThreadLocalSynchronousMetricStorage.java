@@ -0,0 +1,351 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.internal.ThrottlingLogger;
+import io.opentelemetry.sdk.metrics.data.ExemplarData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.data.PointData;
+import io.opentelemetry.sdk.metrics.internal.descriptor.MetricDescriptor;
+import io.opentelemetry.sdk.metrics.internal.state.DefaultSynchronousMetricStorage.ProcessedRecorder;
+import io.opentelemetry.sdk.resources.Resource;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/**
+ * Stores aggregated {@link MetricData} for synchronous instruments with a sum aggregation, by
+ * aggregating the measurements of each recording thread into a private buffer.
+ *
+ * <p>A recording thread only writes to its own buffer, without synchronizing with other recording
+ * threads. On collection, the sum accumulated by each buffered series since the previous
+ * collection is swapped with zero and added to a {@link DefaultSynchronousMetricStorage}, which
+ * produces the collected {@link MetricData}. The sums are added once the delegate is ready to
+ * collect, without going through the handshake of its record operations. Measurements recorded
+ * concurrently with a collection may be collected with the next one.
+ *
+ * <p>The number of series buffered across all threads is capped. Once reached, measurements for
+ * series which are not buffered by the recording thread yet are recorded to the shared storage
+ * directly. Series which were not recorded to since the previous collection, and the buffers of
+ * terminated threads, are released on collection. The number of buffered series is logged at
+ * {@link Level#FINE} on each collection. No exemplars are sampled for buffered measurements.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+final class ThreadLocalSynchronousMetricStorage<T extends PointData, U extends ExemplarData>
+    implements SynchronousMetricStorage {
+
+  private static final Logger internalLogger =
+      Logger.getLogger(ThreadLocalSynchronousMetricStorage.class.getName());
+
+  private final ThrottlingLogger logger = new ThrottlingLogger(internalLogger);
+  private final DefaultSynchronousMetricStorage<T, U> delegate;
+  private final int maxThreadLocalSeries;
+  private final boolean isLongSum;
+
+  // The number of series buffered across all threads.
+  private final AtomicInteger threadLocalSeries = new AtomicInteger();
+  private final Queue<ThreadBuffer> threadBuffers = new ConcurrentLinkedQueue<>();
+  private final ThreadLocal<ThreadBuffer> threadBuffer =
+      ThreadLocal.withInitial(this::newThreadBuffer);
+
+  ThreadLocalSynchronousMetricStorage(
+      DefaultSynchronousMetricStorage<T, U> delegate,
+      int maxThreadLocalSeries,
+      boolean isLongSum) {
+    this.delegate = delegate;
+    this.maxThreadLocalSeries = maxThreadLocalSeries;
+    this.isLongSum = isLongSum;
+  }
+
+  // Visible for testing
+  int getThreadLocalSeries() {
+    return threadLocalSeries.get();
+  }
+
+  @Override
+  public void recordLong(long value, Attributes attributes, Context context) {
+    Cell cell = threadBuffer.get().getCell(attributes, context);
+    if (cell == null) {
+      delegate.recordLong(value, attributes, context);
+      return;
+    }
+    if (!cell.addLong(value)) {
+      // Evicted by a concurrent collection, which may not have merged the value.
+      long sum = cell.takeSum();
+      if (sum != 0) {
+        delegate.recordProcessedLong(sum, cell.attributes);
+      }
+    }
+  }
+
+  @Override
+  public void recordDouble(double value, Attributes attributes, Context context) {
+    if (Double.isNaN(value)) {
+      // Dropped and logged by the delegate.
+      delegate.recordDouble(value, attributes, context);
+      return;
+    }
+    Cell cell = threadBuffer.get().getCell(attributes, context);
+    if (cell == null) {
+      delegate.recordDouble(value, attributes, context);
+      return;
+    }
+    if (!cell.addDouble(value)) {
+      // Evicted by a concurrent collection, which may not have merged the value.
+      long sum = cell.takeSum();
+      if (sum != 0) {
+        delegate.recordProcessedDouble(Double.longBitsToDouble(sum), cell.attributes);
+      }
+    }
+  }
+
+  @Override
+  public BoundStorageHandle bind(Attributes attributes) {
+    return delegate.bind(attributes);
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public MetricData collect(
+      Resource resource,
+      InstrumentationScopeInfo instrumentationScopeInfo,
+      long startEpochNanos,
+      long epochNanos) {
+    return delegate.collect(
+        resource, instrumentationScopeInfo, startEpochNanos, epochNanos, this::mergeBuffers);
+  }
+
+  @Override
+  public MetricDescriptor getMetricDescriptor() {
+    return delegate.getMetricDescriptor();
+  }
+
+  private void mergeBuffers(ProcessedRecorder recorder) {
+    int buffers = 0;
+    Iterator<ThreadBuffer> iterator = threadBuffers.iterator();
+    while (iterator.hasNext()) {
+      ThreadBuffer buffer = iterator.next();
+      // Checked before merging, so that the last measurements of a terminated thread are merged.
+      boolean terminated = buffer.isTerminated();
+      buffer.merge(recorder);
+      if (terminated) {
+        iterator.remove();
+        threadLocalSeries.addAndGet(-buffer.mergedCells.size());
+      } else {
+        buffers++;
+      }
+    }
+    if (internalLogger.isLoggable(Level.FINE)) {
+      internalLogger.log(
+          Level.FINE,
+          "Instrument "
+              + delegate.getMetricDescriptor().getSourceInstrument().getName()
+              + " buffers "
+              + threadLocalSeries.get()
+              + " thread-local series across "
+              + buffers
+              + " threads.");
+    }
+  }
+
+  private ThreadBuffer newThreadBuffer() {
+    ThreadBuffer buffer = new ThreadBuffer(Thread.currentThread());
+    threadBuffers.add(buffer);
+    return buffer;
+  }
+
+  /** The series recorded by a thread. */
+  private final class ThreadBuffer {
+    // Weakly referenced so that the buffer does not keep a terminated thread reachable.
+    private final WeakReference<Thread> owner;
+    // Only accessed by the owner thread.
+    private final Map<Attributes, Cell> cells = new HashMap<>();
+    // Cells added by the owner thread which were not merged yet.
+    private final Queue<Cell> newCells = new ConcurrentLinkedQueue<>();
+    // Only accessed by the collecting thread.
+    private final List<Cell> mergedCells = new ArrayList<>();
+    // Set by the collecting thread when it evicts cells, which the owner thread then removes.
+    private volatile boolean hasEvictedCells;
+
+    private ThreadBuffer(Thread owner) {
+      this.owner = new WeakReference<>(owner);
+    }
+
+    /**
+     * Returns the cell of the given attributes, or {@code null} if the maximum number of
+     * thread-local series is reached.
+     */
+    @Nullable
+    private Cell getCell(Attributes attributes, Context context) {
+      Objects.requireNonNull(attributes, "attributes");
+      if (hasEvictedCells) {
+        hasEvictedCells = false;
+        cells.values().removeIf(Cell::isEvicted);
+      }
+      Attributes processedAttributes = delegate.processAttributes(attributes, context);
+      Cell cell = cells.get(processedAttributes);
+      if (cell != null && !cell.isEvicted()) {
+        return cell;
+      }
+      if (threadLocalSeries.incrementAndGet() > maxThreadLocalSeries) {
+        threadLocalSeries.decrementAndGet();
+        logger.log(
+            Level.WARNING,
+            "Instrument "
+                + delegate.getMetricDescriptor().getSourceInstrument().getName()
+                + " has exceeded the maximum number of thread-local series ("
+                + maxThreadLocalSeries
+                + "). Recording to shared storage instead.");
+        return null;
+      }
+      cell = new Cell(processedAttributes);
+      cells.put(processedAttributes, cell);
+      newCells.add(cell);
+      return cell;
+    }
+
+    private boolean isTerminated() {
+      Thread thread = owner.get();
+      return thread == null || !thread.isAlive();
+    }
+
+    /**
+     * Adds the values recorded since the previous merge with the recorder, and evicts the cells
+     * which were not recorded to since then.
+     */
+    private void merge(ProcessedRecorder recorder) {
+      Cell cell;
+      while ((cell = newCells.poll()) != null) {
+        mergedCells.add(cell);
+      }
+      int retained = 0;
+      for (int i = 0; i < mergedCells.size(); i++) {
+        cell = mergedCells.get(i);
+        if (cell.merge(recorder, isLongSum)) {
+          mergedCells.set(retained++, cell);
+        }
+      }
+      int evicted = mergedCells.size() - retained;
+      if (evicted > 0) {
+        mergedCells.subList(retained, mergedCells.size()).clear();
+        threadLocalSeries.addAndGet(-evicted);
+        hasEvictedCells = true;
+      }
+    }
+  }
+
+  /**
+   * The sum of a series recorded by a thread since the previous merge. The owner thread adds to the
+   * sum atomically, and the collecting thread swaps it with zero, so that a merge only adds the
+   * measurements of the last interval to the shared storage.
+   *
+   * <p>The owner thread marks the cell dirty after adding to the sum. A merge evicts a cell which
+   * is not dirty, after which the owner thread no longer adds to it.
+   */
+  private static final class Cell {
+    private static final AtomicLongFieldUpdater<Cell> SUM =
+        AtomicLongFieldUpdater.newUpdater(Cell.class, "sum");
+    private static final AtomicIntegerFieldUpdater<Cell> STATE =
+        AtomicIntegerFieldUpdater.newUpdater(Cell.class, "state");
+
+    // No value was added since the previous merge.
+    private static final int CLEAN = 0;
+    private static final int DIRTY = 1;
+    private static final int EVICTED = 2;
+
+    private final Attributes attributes;
+
+    // Holds the bits of a double for double sums.
+    private volatile long sum;
+    private volatile int state;
+
+    private Cell(Attributes attributes) {
+      this.attributes = attributes;
+    }
+
+    /** Adds the value, returning {@code false} if the cell was evicted. */
+    private boolean addLong(long value) {
+      SUM.getAndAdd(this, value);
+      return markDirty();
+    }
+
+    /** Adds the value, returning {@code false} if the cell was evicted. */
+    private boolean addDouble(double value) {
+      long current;
+      do {
+        current = sum;
+      } while (!SUM.compareAndSet(
+          this, current, Double.doubleToRawLongBits(Double.longBitsToDouble(current) + value)));
+      return markDirty();
+    }
+
+    private boolean markDirty() {
+      return state == DIRTY || STATE.compareAndSet(this, CLEAN, DIRTY);
+    }
+
+    private boolean isEvicted() {
+      return state == EVICTED;
+    }
+
+    /** Swaps the sum with zero. */
+    private long takeSum() {
+      return SUM.getAndSet(this, 0);
+    }
+
+    /**
+     * Adds the sum since the previous merge with the recorder, or evicts the cell if it was not
+     * recorded to since then. Returns {@code false} if the cell was evicted.
+     */
+    private boolean merge(ProcessedRecorder recorder, boolean isLongSum) {
+      if (state == CLEAN) {
+        if (!STATE.compareAndSet(this, CLEAN, EVICTED)) {
+          // Recorded to concurrently, merged with the next collection.
+          return true;
+        }
+        // A value added before the owner thread saw the eviction is merged by whichever of the
+        // two threads takes it first.
+        long residual = takeSum();
+        if (residual != 0) {
+          record(recorder, isLongSum, residual);
+        }
+        return false;
+      }
+      // Cleared before taking the sum, so that a value added after it marks the cell dirty again.
+      state = CLEAN;
+      record(recorder, isLongSum, takeSum());
+      return true;
+    }
+
+    private void record(ProcessedRecorder recorder, boolean isLongSum, long sum) {
+      if (isLongSum) {
+        recorder.recordLong(sum, attributes);
+      } else {
+        recorder.recordDouble(Double.longBitsToDouble(sum), attributes);
+      }
+    }
+  }
+}
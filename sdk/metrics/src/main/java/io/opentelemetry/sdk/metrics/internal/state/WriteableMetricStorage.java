@@ -28,4 +28,22 @@ public interface WriteableMetricStorage {
    * otherwise (i.e. noop / empty metric storage is installed).
    */
   boolean isEnabled();
+
+  /**
+   * Returns a handle recording measurements with the given attributes. Storages may resolve the
+   * attributes once, instead of on each measurement.
+   */
+  default BoundStorageHandle bind(Attributes attributes) {
+    return new BoundStorageHandle() {
+      @Override
+      public void recordLong(long value, Context context) {
+        WriteableMetricStorage.this.recordLong(value, attributes, context);
+      }
+
+      @Override
+      public void recordDouble(double value, Context context) {
+        WriteableMetricStorage.this.recordDouble(value, attributes, context);
+      }
+    };
+  }
 }
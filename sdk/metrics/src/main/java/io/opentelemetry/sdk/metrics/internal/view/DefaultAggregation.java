@@ -66,6 +66,17 @@ public final class DefaultAggregation implements Aggregation, AggregatorFactory
         .createAggregator(instrumentDescriptor, exemplarFilter, memoryMode);
   }
 
+  @Override
+  public <T extends PointData, U extends ExemplarData> Aggregator<T, U> createAggregator(
+      InstrumentDescriptor instrumentDescriptor,
+      ExemplarFilter exemplarFilter,
+      MemoryMode memoryMode,
+      boolean stripedExemplarReservoir) {
+    return ((AggregatorFactory) resolve(instrumentDescriptor, /* withAdvice= */ true))
+        .createAggregator(
+            instrumentDescriptor, exemplarFilter, memoryMode, stripedExemplarReservoir);
+  }
+
   @Override
   public boolean isCompatibleWithInstrument(InstrumentDescriptor instrumentDescriptor) {
     // This should always return true
@@ -38,11 +38,21 @@ public final class SumAggregation implements Aggregation, AggregatorFactory {
   private SumAggregation() {}
 
   @Override
-  @SuppressWarnings("unchecked")
   public <T extends PointData, U extends ExemplarData> Aggregator<T, U> createAggregator(
       InstrumentDescriptor instrumentDescriptor,
       ExemplarFilter exemplarFilter,
       MemoryMode memoryMode) {
+    return createAggregator(
+        instrumentDescriptor, exemplarFilter, memoryMode, /* stripedExemplarReservoir= */ false);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T extends PointData, U extends ExemplarData> Aggregator<T, U> createAggregator(
+      InstrumentDescriptor instrumentDescriptor,
+      ExemplarFilter exemplarFilter,
+      MemoryMode memoryMode,
+      boolean stripedExemplarReservoir) {
     switch (instrumentDescriptor.getValueType()) {
       case LONG:
         {
@@ -50,10 +60,15 @@ public final class SumAggregation implements Aggregation, AggregatorFactory {
               () ->
                   ExemplarReservoir.filtered(
                       exemplarFilter,
-                      ExemplarReservoir.longFixedSizeReservoir(
-                          Clock.getDefault(),
-                          Runtime.getRuntime().availableProcessors(),
-                          RandomSupplier.platformDefault()));
+                      stripedExemplarReservoir
+                          ? ExemplarReservoir.longStripedReservoir(
+                              Clock.getDefault(),
+                              Runtime.getRuntime().availableProcessors(),
+                              RandomSupplier.platformDefault())
+                          : ExemplarReservoir.longFixedSizeReservoir(
+                              Clock.getDefault(),
+                              Runtime.getRuntime().availableProcessors(),
+                              RandomSupplier.platformDefault()));
           return (Aggregator<T, U>)
               new LongSumAggregator(instrumentDescriptor, reservoirFactory, memoryMode);
         }
@@ -63,10 +78,15 @@ public final class SumAggregation implements Aggregation, AggregatorFactory {
               () ->
                   ExemplarReservoir.filtered(
                       exemplarFilter,
-                      ExemplarReservoir.doubleFixedSizeReservoir(
-                          Clock.getDefault(),
-                          Runtime.getRuntime().availableProcessors(),
-                          RandomSupplier.platformDefault()));
+                      stripedExemplarReservoir
+                          ? ExemplarReservoir.doubleStripedReservoir(
+                              Clock.getDefault(),
+                              Runtime.getRuntime().availableProcessors(),
+                              RandomSupplier.platformDefault())
+                          : ExemplarReservoir.doubleFixedSizeReservoir(
+                              Clock.getDefault(),
+                              Runtime.getRuntime().availableProcessors(),
+                              RandomSupplier.platformDefault()));
           return (Aggregator<T, U>)
               new DoubleSumAggregator(instrumentDescriptor, reservoirFactory, memoryMode);
         }
@@ -12,8 +12,11 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.github.netmikey.logunit.api.LogCapturer;
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.incubator.metrics.BoundLongCounter;
+import io.opentelemetry.api.incubator.metrics.ExtendedLongCounter;
 import io.opentelemetry.api.metrics.LongCounter;
 import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.context.Context;
 import io.opentelemetry.internal.testing.slf4j.SuppressLogger;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.resources.Resource;
@@ -164,6 +167,45 @@ class SdkLongCounterTest {
         "Counters can only increase. Instrument testCounter has recorded a negative value.");
   }
 
+  @Test
+  void collectMetrics_WithBoundCounter() {
+    long startTime = testClock.now();
+    ExtendedLongCounter longCounter =
+        (ExtendedLongCounter) sdkMeter.counterBuilder("testCounter").build();
+    BoundLongCounter boundCounter = longCounter.bind(Attributes.builder().put("K", "V").build());
+    boundCounter.add(12);
+    longCounter.add(21, Attributes.builder().put("K", "V").build());
+    boundCounter.add(100, Context.root());
+    testClock.advance(Duration.ofNanos(SECOND_NANOS));
+    assertThat(sdkMeterReader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasName("testCounter")
+                    .hasLongSumSatisfying(
+                        longSum ->
+                            longSum
+                                .isCumulative()
+                                .hasPointsSatisfying(
+                                    point ->
+                                        point
+                                            .hasStartEpochNanos(startTime)
+                                            .hasEpochNanos(testClock.now())
+                                            .hasAttributes(attributeEntry("K", "V"))
+                                            .hasValue(133))));
+  }
+
+  @Test
+  @SuppressLogger(SdkLongCounter.class)
+  void boundCounterAdd_Monotonicity() {
+    ExtendedLongCounter longCounter =
+        (ExtendedLongCounter) sdkMeter.counterBuilder("testCounter").build();
+    longCounter.bind(Attributes.empty()).add(-45);
+    assertThat(sdkMeterReader.collectAllMetrics()).hasSize(0);
+    logs.assertContains(
+        "Counters can only increase. Instrument testCounter has recorded a negative value.");
+  }
+
   @Test
   void stressTest() {
     LongCounter longCounter = sdkMeter.counterBuilder("testCounter").build();
@@ -28,15 +28,20 @@ import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.metrics.data.DoublePointData;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
 import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.data.PointData;
 import io.opentelemetry.sdk.metrics.export.MetricReader;
 import io.opentelemetry.sdk.metrics.internal.SdkMeterProviderUtil;
+import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
 import io.opentelemetry.sdk.metrics.internal.view.ViewRegistry;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
 import io.opentelemetry.sdk.testing.time.TestClock;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
@@ -46,7 +51,9 @@ import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.RegisterExtension;
@@ -1038,4 +1045,110 @@ class SdkMeterProviderTest {
           View.builder().setAggregation(aggregation).build());
     }
   }
+
+  @Test
+  void stripedExemplarReservoir_SamplesSumExemplars() {
+    InMemoryMetricReader reader = InMemoryMetricReader.create();
+    SdkMeterProviderBuilder builder = SdkMeterProvider.builder().registerMetricReader(reader);
+    SdkMeterProviderUtil.setExemplarFilter(builder, ExemplarFilter.alwaysOn());
+    SdkMeterProviderUtil.setStripedExemplarReservoirEnabled(builder, true);
+    SdkMeterProvider meterProvider = builder.build();
+
+    meterProvider.get("meter").counterBuilder("counter").build().add(5);
+
+    assertThat(reader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.hasPointsSatisfying(
+                                point ->
+                                    point
+                                        .hasValue(5)
+                                        .hasExemplarsSatisfying(
+                                            exemplar -> exemplar.hasValue(5)))));
+  }
+
+  @Test
+  void collectionParallelism_CollectsInSequentialOrder() {
+    InMemoryMetricReader sequentialReader = InMemoryMetricReader.create();
+    InMemoryMetricReader parallelReader = InMemoryMetricReader.create();
+    SdkMeterProvider sequentialProvider =
+        SdkMeterProvider.builder().registerMetricReader(sequentialReader).build();
+    SdkMeterProviderBuilder parallelProviderBuilder =
+        SdkMeterProvider.builder().registerMetricReader(parallelReader);
+    SdkMeterProviderUtil.setCollectionParallelism(parallelProviderBuilder, 4);
+    SdkMeterProvider parallelProvider = parallelProviderBuilder.build();
+
+    for (SdkMeterProvider meterProvider : Arrays.asList(sequentialProvider, parallelProvider)) {
+      for (int i = 0; i < 5; i++) {
+        Meter meter = meterProvider.get("meter" + i);
+        for (int j = 0; j < 100; j++) {
+          meter.counterBuilder("counter" + j).build().add(i * j);
+        }
+        meter.gaugeBuilder("gauge").buildWithCallback(observable -> observable.record(1));
+      }
+    }
+
+    List<MetricData> sequential = new ArrayList<>(sequentialReader.collectAllMetrics());
+    List<MetricData> parallel = new ArrayList<>(parallelReader.collectAllMetrics());
+    assertThat(parallel).hasSize(505);
+    for (int i = 0; i < sequential.size(); i++) {
+      assertThat(parallel.get(i).getInstrumentationScopeInfo())
+          .isEqualTo(sequential.get(i).getInstrumentationScopeInfo());
+      assertThat(parallel.get(i).getName()).isEqualTo(sequential.get(i).getName());
+      assertThat(parallel.get(i).getData().getPoints())
+          .map(SdkMeterProviderTest::value)
+          .isEqualTo(
+              sequential.get(i).getData().getPoints().stream()
+                  .map(SdkMeterProviderTest::value)
+                  .collect(Collectors.toList()));
+    }
+
+    assertThat(parallelProvider.shutdown().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    sequentialProvider.shutdown();
+  }
+
+  @Test
+  void collectionParallelism_InvokesCallbacksSequentially() {
+    InMemoryMetricReader reader = InMemoryMetricReader.create();
+    SdkMeterProviderBuilder builder = SdkMeterProvider.builder().registerMetricReader(reader);
+    SdkMeterProviderUtil.setCollectionParallelism(builder, 4);
+    SdkMeterProvider meterProvider = builder.build();
+    AtomicInteger callbacksInProgress = new AtomicInteger();
+    AtomicInteger maxCallbacksInProgress = new AtomicInteger();
+    for (int i = 0; i < 8; i++) {
+      Meter meter = meterProvider.get("meter" + i);
+      for (int j = 0; j < 20; j++) {
+        meter.counterBuilder("counter" + j).build().add(1);
+      }
+      meter
+          .gaugeBuilder("gauge")
+          .buildWithCallback(
+              observable -> {
+                maxCallbacksInProgress.accumulateAndGet(
+                    callbacksInProgress.incrementAndGet(), Math::max);
+                try {
+                  Thread.sleep(1);
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+                observable.record(1);
+                callbacksInProgress.decrementAndGet();
+              });
+    }
+
+    assertThat(reader.collectAllMetrics()).hasSize(8 * 21);
+    assertThat(maxCallbacksInProgress.get()).isEqualTo(1);
+
+    assertThat(meterProvider.shutdown().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+  }
+
+  private static Object value(PointData point) {
+    if (point instanceof LongPointData) {
+      return ((LongPointData) point).getValue();
+    }
+    return ((DoublePointData) point).getValue();
+  }
 }
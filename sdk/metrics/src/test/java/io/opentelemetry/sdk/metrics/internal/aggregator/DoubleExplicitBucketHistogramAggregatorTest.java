@@ -26,12 +26,17 @@ import io.opentelemetry.sdk.metrics.internal.data.MutableHistogramPointData;
 import io.opentelemetry.sdk.metrics.internal.descriptor.MetricDescriptor;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarReservoir;
 import io.opentelemetry.sdk.resources.Resource;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
 import java.util.stream.Collectors;
 import java.util.stream.DoubleStream;
 import org.junit.jupiter.api.Test;
@@ -175,6 +180,31 @@ class DoubleExplicitBucketHistogramAggregatorTest {
                 Arrays.asList(1L, 0L, 0L, 0L)));
   }
 
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void withEpochNanos(MemoryMode memoryMode) {
+    init(memoryMode);
+    AggregatorHandle<HistogramPointData, DoubleExemplarData> aggregatorHandle =
+        aggregator.createHandle();
+    aggregatorHandle.recordLong(100);
+    HistogramPointData point =
+        aggregatorHandle.aggregateThenMaybeReset(0, 1, Attributes.empty(), /* reset= */ false);
+
+    assertThat(aggregator.withEpochNanos(point, 2))
+        .isEqualTo(
+            ImmutableHistogramPointData.create(
+                0,
+                2,
+                Attributes.empty(),
+                100,
+                /* hasMin= */ true,
+                100d,
+                /* hasMax= */ true,
+                100d,
+                boundariesList,
+                Arrays.asList(0L, 1L, 0L, 0L)));
+  }
+
   @ParameterizedTest
   @EnumSource(MemoryMode.class)
   void toMetricData(MemoryMode memoryMode) {
@@ -303,6 +333,88 @@ class DoubleExplicitBucketHistogramAggregatorTest {
                 Arrays.asList(50000L, 50000L, 0L, 0L)));
   }
 
+  @Test
+  void testMultithreadedUpdates_WithReset() throws InterruptedException {
+    init(MemoryMode.IMMUTABLE_DATA);
+    AggregatorHandle<HistogramPointData, DoubleExemplarData> aggregatorHandle =
+        aggregator.createHandle();
+    ImmutableList<Long> updates = ImmutableList.of(1L, 2L, 3L, 5L, 7L, 11L, 13L, 17L, 19L, 23L);
+    int numberOfThreads = updates.size();
+    int numberOfUpdates = 10000;
+    ThreadPoolExecutor executor =
+        (ThreadPoolExecutor) Executors.newFixedThreadPool(numberOfThreads);
+    AtomicLong collectedCount = new AtomicLong();
+    DoubleAdder collectedSum = new DoubleAdder();
+
+    executor.invokeAll(
+        updates.stream()
+            .map(
+                v ->
+                    Executors.callable(
+                        () -> {
+                          for (int j = 0; j < numberOfUpdates; j++) {
+                            aggregatorHandle.recordLong(v);
+                            if (ThreadLocalRandom.current().nextInt(10) == 0) {
+                              HistogramPointData point =
+                                  aggregatorHandle.aggregateThenMaybeReset(
+                                      0, 1, Attributes.empty(), /* reset= */ true);
+                              collectedCount.addAndGet(point.getCount());
+                              collectedSum.add(point.getSum());
+                            }
+                          }
+                        }))
+            .collect(Collectors.toList()));
+    HistogramPointData point =
+        aggregatorHandle.aggregateThenMaybeReset(0, 1, Attributes.empty(), /* reset= */ true);
+    collectedCount.addAndGet(point.getCount());
+    collectedSum.add(point.getSum());
+
+    // No measurement is lost or reported twice across collections.
+    assertThat(collectedCount.get()).isEqualTo(100000);
+    assertThat(collectedSum.sum()).isEqualTo(1010000);
+  }
+
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void testConcurrentRecordAndCollect(MemoryMode memoryMode) throws Exception {
+    init(memoryMode);
+    AggregatorHandle<HistogramPointData, DoubleExemplarData> aggregatorHandle =
+        aggregator.createHandle();
+    int numberOfThreads = 4;
+    int numberOfUpdates = 100000;
+    ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+    List<Future<?>> recordings = new ArrayList<>();
+    for (int i = 0; i < numberOfThreads; i++) {
+      recordings.add(
+          executor.submit(
+              () -> {
+                for (int j = 0; j < numberOfUpdates; j++) {
+                  aggregatorHandle.recordDouble(1);
+                }
+              }));
+    }
+
+    long collectedCount = 0;
+    boolean recording = true;
+    while (recording) {
+      recording = recordings.stream().anyMatch(future -> !future.isDone());
+      HistogramPointData point =
+          aggregatorHandle.aggregateThenMaybeReset(0, 1, Attributes.empty(), /* reset= */ true);
+      // Every point covers the same measurements in its counts, sum, min and max.
+      assertThat(point.getSum()).isEqualTo(point.getCount());
+      assertThat(point.getCounts().stream().mapToLong(Long::longValue).sum())
+          .isEqualTo(point.getCount());
+      if (point.getCount() > 0) {
+        assertThat(point.getMin()).isEqualTo(1);
+        assertThat(point.getMax()).isEqualTo(1);
+      }
+      collectedCount += point.getCount();
+    }
+    executor.shutdown();
+
+    assertThat(collectedCount).isEqualTo((long) numberOfThreads * numberOfUpdates);
+  }
+
   @Test
   void testReusableDataMemoryMode() {
     init(MemoryMode.REUSABLE_DATA);
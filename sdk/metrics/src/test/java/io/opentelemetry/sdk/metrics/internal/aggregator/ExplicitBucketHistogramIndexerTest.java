@@ -0,0 +1,69 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.aggregator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ExplicitBucketHistogramIndexerTest {
+
+  private static Stream<Arguments> boundaries() {
+    double[] evenlySpaced = new double[100];
+    double[] exponential = new double[100];
+    double[] other = new double[100];
+    for (int i = 0; i < 100; i++) {
+      evenlySpaced[i] = -5 + i * 0.1;
+      exponential[i] = 0.001 * Math.pow(1.2, i);
+      other[i] = (i - 50) * Math.abs(i - 50) + (i > 50 ? 0.5 : 0);
+    }
+    return Stream.of(
+        Arguments.of(
+            ExplicitBucketHistogramUtils.createBoundaryArray(
+                ExplicitBucketHistogramUtils.DEFAULT_HISTOGRAM_BUCKET_BOUNDARIES)),
+        Arguments.of(new double[0]),
+        Arguments.of(evenlySpaced),
+        Arguments.of(exponential),
+        Arguments.of(other));
+  }
+
+  @ParameterizedTest
+  @MethodSource("boundaries")
+  void findBucketIndex_MatchesLinearScan(double[] boundaries) {
+    ExplicitBucketHistogramIndexer indexer = ExplicitBucketHistogramIndexer.create(boundaries);
+
+    List<Double> values = new ArrayList<>();
+    values.add(Double.NaN);
+    values.add(Double.NEGATIVE_INFINITY);
+    values.add(Double.POSITIVE_INFINITY);
+    values.add(-0d);
+    values.add(0d);
+    values.add(Double.MIN_VALUE);
+    values.add(Double.MAX_VALUE);
+    for (double boundary : boundaries) {
+      values.add(boundary);
+      values.add(Math.nextDown(boundary));
+      values.add(Math.nextUp(boundary));
+    }
+    Random random = new Random(0);
+    for (int i = 0; i < 10_000; i++) {
+      values.add((random.nextDouble() - 0.5) * 20_000);
+      values.add(random.nextDouble() * 100);
+    }
+
+    for (double value : values) {
+      assertThat(indexer.findBucketIndex(value))
+          .describedAs("value %s", value)
+          .isEqualTo(ExplicitBucketHistogramUtils.findBucketIndex(boundaries, value));
+    }
+  }
+}
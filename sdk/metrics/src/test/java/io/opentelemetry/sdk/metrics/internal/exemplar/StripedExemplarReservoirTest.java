@@ -0,0 +1,90 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.exemplar;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.internal.RandomSupplier;
+import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
+import io.opentelemetry.sdk.metrics.data.LongExemplarData;
+import io.opentelemetry.sdk.testing.time.TestClock;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class StripedExemplarReservoirTest {
+
+  @Test
+  public void noMeasurement_returnsEmpty() {
+    ExemplarReservoir<LongExemplarData> reservoir =
+        StripedExemplarReservoir.createLong(
+            TestClock.create(), 1, RandomSupplier.platformDefault());
+    assertThat(reservoir.collectAndReset(Attributes.empty())).isEmpty();
+  }
+
+  @Test
+  public void oneMeasurement_alwaysSamplesFirstMeasurement() {
+    TestClock clock = TestClock.create();
+    ExemplarReservoir<DoubleExemplarData> reservoir =
+        StripedExemplarReservoir.createDouble(clock, 1, RandomSupplier.platformDefault());
+    reservoir.offerDoubleMeasurement(1.1, Attributes.empty(), Context.root());
+    assertThat(reservoir.collectAndReset(Attributes.empty()))
+        .satisfiesExactly(
+            exemplar -> {
+              assertThat(exemplar.getEpochNanos()).isEqualTo(clock.now());
+              assertThat(exemplar.getValue()).isEqualTo(1.1);
+            });
+
+    // Measurement count is reset, we should sample a new measurement (and only one)
+    clock.advance(Duration.ofSeconds(1));
+    reservoir.offerDoubleMeasurement(2.2, Attributes.empty(), Context.root());
+    assertThat(reservoir.collectAndReset(Attributes.empty()))
+        .satisfiesExactly(
+            exemplar -> {
+              assertThat(exemplar.getEpochNanos()).isEqualTo(clock.now());
+              assertThat(exemplar.getValue()).isEqualTo(2.2);
+            });
+  }
+
+  @Test
+  public void multiMeasurements_skipsUntilNextSample() {
+    AtomicInteger nowCalls = new AtomicInteger();
+    Clock clock =
+        new Clock() {
+          @Override
+          public long now() {
+            nowCalls.incrementAndGet();
+            return 0;
+          }
+
+          @Override
+          public long nanoTime() {
+            return 0;
+          }
+        };
+    // We cannot mock random in latest jdk, so we create an override.
+    Random random =
+        new Random() {
+          @Override
+          public double nextDouble() {
+            // Sample the measurements 1, 2, 4, 8, ...
+            return 0.5;
+          }
+        };
+    ExemplarReservoir<LongExemplarData> reservoir =
+        StripedExemplarReservoir.createLong(clock, 1, () -> random);
+    for (long i = 1; i <= 7; i++) {
+      reservoir.offerLongMeasurement(i, Attributes.empty(), Context.root());
+    }
+    assertThat(nowCalls.get()).isEqualTo(3);
+    assertThat(reservoir.collectAndReset(Attributes.empty()))
+        .satisfiesExactly(exemplar -> assertThat(exemplar.getValue()).isEqualTo(4));
+  }
+}
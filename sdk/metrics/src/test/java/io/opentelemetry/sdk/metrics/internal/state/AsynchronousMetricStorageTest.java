@@ -36,7 +36,9 @@ import io.opentelemetry.sdk.metrics.internal.view.RegisteredView;
 import io.opentelemetry.sdk.metrics.internal.view.ViewRegistry;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.testing.time.TestClock;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.RegisterExtension;
@@ -377,6 +379,47 @@ class AsynchronousMetricStorageTest {
                                 .hasAttributes(Attributes.builder().put("key", "value2").build())));
   }
 
+  @Test
+  void collect_reusableData_DeltaReusesPointsInSteadyState() {
+    setup(REUSABLE_DATA);
+
+    when(reader.getAggregationTemporality(any())).thenReturn(AggregationTemporality.DELTA);
+    longCounterStorage =
+        AsynchronousMetricStorage.create(
+            registeredReader,
+            registeredView,
+            InstrumentDescriptor.create(
+                "long-counter",
+                "description",
+                "unit",
+                InstrumentType.COUNTER,
+                InstrumentValueType.LONG,
+                Advice.empty()));
+    Attributes attributes = Attributes.builder().put("key", "a").build();
+
+    List<PointData> collectedPoints = new ArrayList<>();
+    for (int i = 1; i <= 4; i++) {
+      long value = i * i;
+      long expectedDelta = i == 1 ? 1 : value - (i - 1) * (i - 1);
+      longCounterStorage.record(createLong(0, i * 10, value, attributes));
+      MetricData metricData = longCounterStorage.collect(resource, scope, 0, 0);
+      assertThat(metricData)
+          .hasLongSumSatisfying(
+              sum -> sum.hasPointsSatisfying(point -> point.hasValue(expectedDelta)));
+      collectedPoints.add(metricData.getData().getPoints().iterator().next());
+      registeredReader.setLastCollectEpochNanos(i * 10);
+    }
+    // In steady state, the points of a series alternate between two instances
+    assertThat(collectedPoints.get(3)).isSameAs(collectedPoints.get(1));
+    assertThat(collectedPoints.get(2)).isNotSameAs(collectedPoints.get(1));
+
+    // A series which is not observed is forgotten, then reported as new if observed again
+    assertThat(longCounterStorage.collect(resource, scope, 0, 0).getData().getPoints()).isEmpty();
+    longCounterStorage.record(createLong(0, 60, 20, attributes));
+    assertThat(longCounterStorage.collect(resource, scope, 0, 0))
+        .hasLongSumSatisfying(sum -> sum.hasPointsSatisfying(point -> point.hasValue(20)));
+  }
+
   @Test
   void collect_reusableData_reusedObjectsAreReturnedOnSecondCall() {
     setup(REUSABLE_DATA);
@@ -0,0 +1,62 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
+import org.junit.jupiter.api.Test;
+
+class AttributesInternerTest {
+
+  @Test
+  void process_InternsEqualAttributes() {
+    AttributesInterner interner = new AttributesInterner(AttributesProcessor.noop(), 10);
+
+    Attributes first = Attributes.of(stringKey("K"), "V");
+    Attributes second = Attributes.of(stringKey("K"), "V");
+    assertThat(interner.process(first, Context.root())).isSameAs(first);
+    assertThat(interner.process(second, Context.root())).isSameAs(first);
+    assertThat(interner.size()).isEqualTo(1);
+  }
+
+  @Test
+  void process_InternsEqualProcessedAttributes() {
+    AttributesInterner interner =
+        new AttributesInterner(AttributesProcessor.filterByKeyName("K"::equals), 10);
+
+    Attributes processed =
+        interner.process(Attributes.of(stringKey("K"), "V", stringKey("A"), "1"), Context.root());
+    assertThat(processed).isEqualTo(Attributes.of(stringKey("K"), "V"));
+    assertThat(
+            interner.process(
+                Attributes.of(stringKey("K"), "V", stringKey("A"), "2"), Context.root()))
+        .isSameAs(processed);
+  }
+
+  @Test
+  void process_AtLimitDoesNotIntern() {
+    AttributesInterner interner = new AttributesInterner(AttributesProcessor.noop(), 1);
+    interner.process(Attributes.of(stringKey("K"), "V1"), Context.root());
+
+    Attributes first = Attributes.of(stringKey("K"), "V2");
+    Attributes second = Attributes.of(stringKey("K"), "V2");
+    assertThat(interner.process(first, Context.root())).isSameAs(first);
+    assertThat(interner.process(second, Context.root())).isSameAs(second);
+    assertThat(interner.size()).isEqualTo(1);
+  }
+
+  @Test
+  void contextDependentProcessor_Rejected() {
+    AttributesProcessor processor = AttributesProcessor.appendBaggageByKeyName(unused -> true);
+    assertThatThrownBy(() -> new AttributesInterner(processor, 10))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
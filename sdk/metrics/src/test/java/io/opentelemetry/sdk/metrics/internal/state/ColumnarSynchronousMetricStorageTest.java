@@ -0,0 +1,308 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.internal.testing.slf4j.SuppressLogger;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.metrics.Aggregation;
+import io.opentelemetry.sdk.metrics.InstrumentType;
+import io.opentelemetry.sdk.metrics.InstrumentValueType;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.ExemplarData;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.data.PointData;
+import io.opentelemetry.sdk.metrics.internal.aggregator.Aggregator;
+import io.opentelemetry.sdk.metrics.internal.aggregator.AggregatorFactory;
+import io.opentelemetry.sdk.metrics.internal.aggregator.EmptyMetricData;
+import io.opentelemetry.sdk.metrics.internal.descriptor.Advice;
+import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
+import io.opentelemetry.sdk.metrics.internal.descriptor.MetricDescriptor;
+import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
+import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
+import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
+import io.opentelemetry.sdk.metrics.internal.view.ViewRegistry;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+@SuppressLogger(ColumnarSynchronousMetricStorage.class)
+class ColumnarSynchronousMetricStorageTest {
+  private static final Resource RESOURCE = Resource.empty();
+  private static final InstrumentationScopeInfo INSTRUMENTATION_SCOPE_INFO =
+      InstrumentationScopeInfo.create("test");
+  private static final MetricDescriptor METRIC_DESCRIPTOR =
+      MetricDescriptor.create("name", "description", "unit");
+  private static final Attributes ATTRIBUTES = Attributes.of(AttributeKey.stringKey("K"), "V");
+
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void longSum_Cumulative(MemoryMode memoryMode) {
+    ColumnarSynchronousMetricStorage<?, ?> storage =
+        storage(
+            AggregationTemporality.CUMULATIVE,
+            memoryMode,
+            InstrumentValueType.LONG,
+            Aggregation.sum(),
+            25);
+
+    storage.recordLong(1, ATTRIBUTES, Context.current());
+    storage.recordLong(2, ATTRIBUTES, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10))
+        .hasLongSumSatisfying(
+            sum ->
+                sum.isCumulative()
+                    .isMonotonic()
+                    .hasPointsSatisfying(
+                        point ->
+                            point
+                                .hasStartEpochNanos(0)
+                                .hasEpochNanos(10)
+                                .hasValue(3)
+                                .hasAttributes(ATTRIBUTES)));
+
+    storage.recordLong(3, ATTRIBUTES, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 20))
+        .hasLongSumSatisfying(
+            sum -> sum.hasPointsSatisfying(point -> point.hasEpochNanos(20).hasValue(6)));
+  }
+
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void doubleSum_DeltaResets(MemoryMode memoryMode) {
+    RegisteredReader reader = reader(AggregationTemporality.DELTA, memoryMode);
+    ColumnarSynchronousMetricStorage<?, ?> storage =
+        storage(reader, memoryMode, InstrumentValueType.DOUBLE, Aggregation.sum(), 25);
+
+    storage.recordDouble(1.5, ATTRIBUTES, Context.current());
+    storage.recordDouble(2, ATTRIBUTES, Context.current());
+    storage.recordDouble(Double.NaN, ATTRIBUTES, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10))
+        .hasDoubleSumSatisfying(
+            sum -> sum.isDelta().hasPointsSatisfying(point -> point.hasValue(3.5)));
+    reader.setLastCollectEpochNanos(10);
+
+    // Nothing recorded, nothing collected
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 20))
+        .isEqualTo(EmptyMetricData.getInstance());
+    reader.setLastCollectEpochNanos(20);
+
+    storage.recordDouble(0, ATTRIBUTES, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 30))
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.isDelta()
+                    .hasPointsSatisfying(
+                        point -> point.hasStartEpochNanos(20).hasEpochNanos(30).hasValue(0)));
+  }
+
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void lastValue_Delta(MemoryMode memoryMode) {
+    ColumnarSynchronousMetricStorage<?, ?> storage =
+        storage(
+            AggregationTemporality.DELTA,
+            memoryMode,
+            InstrumentValueType.LONG,
+            Aggregation.lastValue(),
+            25);
+
+    storage.recordLong(3, ATTRIBUTES, Context.current());
+    storage.recordLong(1, ATTRIBUTES, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10))
+        .hasLongGaugeSatisfying(gauge -> gauge.hasPointsSatisfying(point -> point.hasValue(1)));
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 20))
+        .isEqualTo(EmptyMetricData.getInstance());
+  }
+
+  @Test
+  void reusableData_ReusesPoints() {
+    ColumnarSynchronousMetricStorage<?, ?> storage =
+        storage(
+            AggregationTemporality.CUMULATIVE,
+            MemoryMode.REUSABLE_DATA,
+            InstrumentValueType.LONG,
+            Aggregation.sum(),
+            25);
+
+    storage.recordLong(1, ATTRIBUTES, Context.current());
+    PointData first = firstPoint(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10));
+    storage.recordLong(1, ATTRIBUTES, Context.current());
+    MetricData metricData = storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 20);
+    assertThat(firstPoint(metricData)).isSameAs(first);
+    assertThat(metricData)
+        .hasLongSumSatisfying(sum -> sum.hasPointsSatisfying(point -> point.hasValue(2)));
+  }
+
+  @Test
+  void recordAtLimit_RecordsToOverflow() {
+    ColumnarSynchronousMetricStorage<?, ?> storage =
+        storage(
+            AggregationTemporality.CUMULATIVE,
+            MemoryMode.IMMUTABLE_DATA,
+            InstrumentValueType.LONG,
+            Aggregation.sum(),
+            3);
+
+    for (int i = 0; i < 5; i++) {
+      storage.recordLong(1, attributes(i), Context.root());
+    }
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10))
+        .hasLongSumSatisfying(
+            sum ->
+                sum.hasPointsSatisfying(
+                    point -> point.hasValue(1).hasAttributes(attributes(0)),
+                    point -> point.hasValue(1).hasAttributes(attributes(1)),
+                    point -> point.hasValue(3).hasAttributes(MetricStorage.CARDINALITY_OVERFLOW)));
+  }
+
+  @Test
+  void deltaAtLimit_ReusesSlotsOfIdleSeries() {
+    RegisteredReader reader = reader(AggregationTemporality.DELTA, MemoryMode.IMMUTABLE_DATA);
+    ColumnarSynchronousMetricStorage<?, ?> storage =
+        storage(reader, MemoryMode.IMMUTABLE_DATA, InstrumentValueType.LONG, Aggregation.sum(), 3);
+    Attributes idle = Attributes.of(AttributeKey.stringKey("K"), "idle");
+    Attributes other = Attributes.of(AttributeKey.stringKey("K"), "other");
+
+    storage.recordLong(1, ATTRIBUTES, Context.root());
+    storage.recordLong(1, idle, Context.root());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10))
+        .hasLongSumSatisfying(sum -> sum.hasPointsSatisfying(point -> {}, point -> {}));
+    Long idleKey = storage.getSlotKey(idle);
+    assertThat(idleKey).isNotNull();
+
+    // The idle series is removed from the index and its slot is freed
+    storage.recordLong(1, ATTRIBUTES, Context.root());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 20))
+        .hasLongSumSatisfying(
+            sum -> sum.hasPointsSatisfying(point -> point.hasAttributes(ATTRIBUTES)));
+    assertThat(storage.getSlotKey(idle)).isNull();
+
+    // The slot is reused by a new series, with another generation
+    storage.recordLong(2, other, Context.root());
+    assertThat(storage.getSlotCount()).isEqualTo(2);
+    Long otherKey = storage.getSlotKey(other);
+    assertThat(otherKey).isNotNull();
+    assertThat(otherKey.intValue()).isEqualTo(idleKey.intValue());
+    assertThat(otherKey).isNotEqualTo(idleKey);
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 30))
+        .hasLongSumSatisfying(
+            sum -> sum.hasPointsSatisfying(point -> point.hasValue(2).hasAttributes(other)));
+  }
+
+  @Test
+  void delta_recordAndCollect_concurrentStressTest() throws InterruptedException {
+    RegisteredReader reader = reader(AggregationTemporality.DELTA, MemoryMode.IMMUTABLE_DATA);
+    ColumnarSynchronousMetricStorage<?, ?> storage =
+        storage(reader, MemoryMode.IMMUTABLE_DATA, InstrumentValueType.LONG, Aggregation.sum(), 4);
+    int threadCount = 4;
+    int recordsPerThread = 10_000;
+    AtomicLong collected = new AtomicLong();
+    AtomicBoolean zeroPointCollected = new AtomicBoolean();
+    Consumer<MetricData> collect =
+        metricData ->
+            metricData.getLongSumData().getPoints().stream()
+                .mapToLong(LongPointData::getValue)
+                .forEach(
+                    value -> {
+                      if (value == 0) {
+                        zeroPointCollected.set(true);
+                      }
+                      collected.addAndGet(value);
+                    });
+
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < threadCount; i++) {
+      int threadIndex = i;
+      Thread thread =
+          new Thread(
+              () -> {
+                for (int j = 0; j < recordsPerThread; j++) {
+                  // More series than the cardinality limit, so that idle series are removed
+                  storage.recordLong(1, attributes((threadIndex + j) % 8), Context.root());
+                }
+              });
+      thread.start();
+      threads.add(thread);
+    }
+    for (Thread thread : threads) {
+      while (thread.isAlive()) {
+        collect.accept(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10));
+      }
+      thread.join();
+    }
+    collect.accept(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10));
+
+    assertThat(collected.get()).isEqualTo((long) threadCount * recordsPerThread);
+    assertThat(zeroPointCollected.get()).isFalse();
+  }
+
+  private static Attributes attributes(int i) {
+    return Attributes.of(AttributeKey.longKey("key"), (long) i);
+  }
+
+  private static PointData firstPoint(MetricData metricData) {
+    return metricData.getData().getPoints().iterator().next();
+  }
+
+  private static RegisteredReader reader(
+      AggregationTemporality aggregationTemporality, MemoryMode memoryMode) {
+    return RegisteredReader.create(
+        InMemoryMetricReader.builder()
+            .setAggregationTemporalitySelector(unused -> aggregationTemporality)
+            .setMemoryMode(memoryMode)
+            .build(),
+        ViewRegistry.create());
+  }
+
+  private static ColumnarSynchronousMetricStorage<?, ?> storage(
+      AggregationTemporality aggregationTemporality,
+      MemoryMode memoryMode,
+      InstrumentValueType valueType,
+      Aggregation aggregation,
+      int cardinalityLimit) {
+    return storage(
+        reader(aggregationTemporality, memoryMode),
+        memoryMode,
+        valueType,
+        aggregation,
+        cardinalityLimit);
+  }
+
+  private static ColumnarSynchronousMetricStorage<?, ?> storage(
+      RegisteredReader reader,
+      MemoryMode memoryMode,
+      InstrumentValueType valueType,
+      Aggregation aggregation,
+      int cardinalityLimit) {
+    InstrumentDescriptor descriptor =
+        InstrumentDescriptor.create(
+            "name", "description", "unit", InstrumentType.COUNTER, valueType, Advice.empty());
+    Aggregator<PointData, ExemplarData> aggregator =
+        ((AggregatorFactory) aggregation)
+            .createAggregator(descriptor, ExemplarFilter.alwaysOff(), memoryMode);
+    return new ColumnarSynchronousMetricStorage<>(
+        reader,
+        METRIC_DESCRIPTOR,
+        aggregator,
+        AttributesProcessor.noop(),
+        cardinalityLimit,
+        ExemplarFilter.alwaysOff());
+  }
+}
@@ -16,6 +16,7 @@ import static org.mockito.Mockito.verify;
 import com.google.common.util.concurrent.AtomicDouble;
 import com.google.common.util.concurrent.Uninterruptibles;
 import io.github.netmikey.logunit.api.LogCapturer;
+import io.opentelemetry.api.baggage.Baggage;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.context.Context;
@@ -38,6 +39,7 @@ import io.opentelemetry.sdk.metrics.internal.descriptor.Advice;
 import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
 import io.opentelemetry.sdk.metrics.internal.descriptor.MetricDescriptor;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
+import io.opentelemetry.sdk.metrics.internal.export.CumulativeCollectionMode;
 import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
 import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
 import io.opentelemetry.sdk.metrics.internal.view.ViewRegistry;
@@ -350,6 +352,231 @@ public class SynchronousMetricStorageTest {
                                 })));
   }
 
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void recordAndCollect_CumulativeCachesUnchangedSeries(MemoryMode memoryMode) {
+    initialize(memoryMode);
+
+    DefaultSynchronousMetricStorage<?, ?> storage =
+        new DefaultSynchronousMetricStorage<>(
+            cumulativeReader,
+            METRIC_DESCRIPTOR,
+            aggregator,
+            attributesProcessor,
+            CARDINALITY_LIMIT,
+            /* maxInternedAttributes= */ 0,
+            CumulativeCollectionMode.CACHE_UNCHANGED_SERIES);
+    Attributes changed = Attributes.of(AttributeKey.stringKey("series"), "changed");
+    Attributes unchanged = Attributes.of(AttributeKey.stringKey("series"), "unchanged");
+
+    storage.recordDouble(1, changed, Context.current());
+    storage.recordDouble(2, unchanged, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10))
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.isCumulative()
+                    .hasPointsSatisfying(
+                        point -> point.hasEpochNanos(10).hasValue(1).hasAttributes(changed),
+                        point -> point.hasEpochNanos(10).hasValue(2).hasAttributes(unchanged)));
+
+    // Only the changed series is aggregated, the other one reuses the values of its point
+    storage.recordDouble(3, changed, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 20))
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.isCumulative()
+                    .hasPointsSatisfying(
+                        point -> point.hasEpochNanos(20).hasValue(4).hasAttributes(changed),
+                        point -> point.hasEpochNanos(20).hasValue(2).hasAttributes(unchanged)));
+
+    storage.recordDouble(1, unchanged, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 30))
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.isCumulative()
+                    .hasPointsSatisfying(
+                        point -> point.hasEpochNanos(30).hasValue(4).hasAttributes(changed),
+                        point -> point.hasEpochNanos(30).hasValue(3).hasAttributes(unchanged)));
+  }
+
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void recordAndCollect_CumulativeChangedSeriesOnly(MemoryMode memoryMode) {
+    initialize(memoryMode);
+
+    DefaultSynchronousMetricStorage<?, ?> storage =
+        new DefaultSynchronousMetricStorage<>(
+            cumulativeReader,
+            METRIC_DESCRIPTOR,
+            aggregator,
+            attributesProcessor,
+            CARDINALITY_LIMIT,
+            /* maxInternedAttributes= */ 0,
+            CumulativeCollectionMode.CHANGED_SERIES_ONLY);
+    Attributes changed = Attributes.of(AttributeKey.stringKey("series"), "changed");
+    Attributes unchanged = Attributes.of(AttributeKey.stringKey("series"), "unchanged");
+
+    storage.recordDouble(1, changed, Context.current());
+    storage.recordDouble(2, unchanged, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10))
+        .hasDoubleSumSatisfying(sum -> sum.hasPointsSatisfying(point -> {}, point -> {}));
+
+    // Only the changed series is collected, with its cumulative value
+    storage.recordDouble(3, changed, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 20))
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.isCumulative()
+                    .hasPointsSatisfying(
+                        point ->
+                            point
+                                .hasStartEpochNanos(0)
+                                .hasEpochNanos(20)
+                                .hasValue(4)
+                                .hasAttributes(changed)));
+
+    // Nothing recorded, nothing collected
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 30))
+        .isEqualTo(EmptyMetricData.getInstance());
+  }
+
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void bind_DeltaRecordsAcrossCollections(MemoryMode memoryMode) {
+    initialize(memoryMode);
+
+    DefaultSynchronousMetricStorage<?, ?> storage =
+        new DefaultSynchronousMetricStorage<>(
+            deltaReader, METRIC_DESCRIPTOR, aggregator, attributesProcessor, CARDINALITY_LIMIT);
+    Attributes attributes = Attributes.of(AttributeKey.stringKey("foo"), "bar");
+    BoundStorageHandle bound = storage.bind(attributes);
+
+    // Bound and unbound measurements with the same attributes are recorded to the same handle
+    bound.recordDouble(3, Context.current());
+    storage.recordDouble(1, attributes, Context.current());
+    verify(aggregator, times(1)).createHandle();
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10))
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.isDelta()
+                    .hasPointsSatisfying(
+                        point -> point.hasEpochNanos(10).hasValue(4).hasAttributes(attributes)));
+    deltaReader.setLastCollectEpochNanos(10);
+
+    // Nothing recorded, nothing collected
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 20))
+        .isEqualTo(EmptyMetricData.getInstance());
+    deltaReader.setLastCollectEpochNanos(20);
+
+    // The bound handle records to the handle of each new holder
+    for (int i = 1; i <= 3; i++) {
+      bound.recordDouble(i, Context.current());
+      storage.recordDouble(1, attributes, Context.current());
+      long epochNanos = 20 + i * 10;
+      double expectedValue = i + 1;
+      assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, epochNanos))
+          .hasDoubleSumSatisfying(
+              sum ->
+                  sum.isDelta()
+                      .hasPointsSatisfying(
+                          point ->
+                              point
+                                  .hasStartEpochNanos(epochNanos - 10)
+                                  .hasEpochNanos(epochNanos)
+                                  .hasValue(expectedValue)));
+      deltaReader.setLastCollectEpochNanos(epochNanos);
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void bind_IdleCreatesNoHandle(MemoryMode memoryMode) {
+    initialize(memoryMode);
+
+    DefaultSynchronousMetricStorage<?, ?> storage =
+        new DefaultSynchronousMetricStorage<>(
+            deltaReader, METRIC_DESCRIPTOR, aggregator, attributesProcessor, CARDINALITY_LIMIT);
+    BoundStorageHandle bound = storage.bind(Attributes.of(AttributeKey.stringKey("foo"), "bar"));
+
+    // The bound attributes take no slot until recorded to
+    for (int i = 1; i <= 3; i++) {
+      assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, i * 10))
+          .isEqualTo(EmptyMetricData.getInstance());
+      deltaReader.setLastCollectEpochNanos(i * 10);
+    }
+    verify(aggregator, never()).createHandle();
+
+    bound.recordDouble(1, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 40))
+        .hasDoubleSumSatisfying(
+            sum -> sum.hasPointsSatisfying(point -> point.hasEpochNanos(40).hasValue(1)));
+    verify(aggregator, times(1)).createHandle();
+  }
+
+  @Test
+  void bind_ContextDependentProcessor() {
+    initialize(IMMUTABLE_DATA);
+
+    DefaultSynchronousMetricStorage<?, ?> storage =
+        new DefaultSynchronousMetricStorage<>(
+            cumulativeReader,
+            METRIC_DESCRIPTOR,
+            aggregator,
+            AttributesProcessor.appendBaggageByKeyName(unused -> true),
+            CARDINALITY_LIMIT);
+    BoundStorageHandle bound = storage.bind(Attributes.of(AttributeKey.stringKey("K"), "V"));
+
+    // The attributes are processed with the context of each measurement
+    bound.recordDouble(1, Context.root().with(Baggage.builder().put("baggage", "1").build()));
+    bound.recordDouble(2, Context.root().with(Baggage.builder().put("baggage", "2").build()));
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10))
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.hasPointsSatisfying(
+                    point ->
+                        point
+                            .hasValue(1)
+                            .hasAttributes(
+                                attributeEntry("K", "V"), attributeEntry("baggage", "1")),
+                    point ->
+                        point
+                            .hasValue(2)
+                            .hasAttributes(
+                                attributeEntry("K", "V"), attributeEntry("baggage", "2"))));
+  }
+
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void bind_AtLimitBindsOverflow(MemoryMode memoryMode) {
+    initialize(memoryMode);
+
+    DefaultSynchronousMetricStorage<?, ?> storage =
+        new DefaultSynchronousMetricStorage<>(
+            cumulativeReader,
+            METRIC_DESCRIPTOR,
+            aggregator,
+            attributesProcessor,
+            CARDINALITY_LIMIT);
+    for (int i = 0; i < CARDINALITY_LIMIT - 1; i++) {
+      storage.recordDouble(1, Attributes.builder().put("key", "value" + i).build(), Context.root());
+    }
+
+    storage.bind(Attributes.builder().put("key", "bound").build()).recordDouble(5, Context.root());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10))
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.satisfies(
+                    sumData ->
+                        assertThat(sumData.getPoints())
+                            .hasSize(CARDINALITY_LIMIT)
+                            .satisfiesOnlyOnce(
+                                point -> {
+                                  assertThat(point.getAttributes())
+                                      .isEqualTo(MetricStorage.CARDINALITY_OVERFLOW);
+                                  assertThat(point.getValue()).isEqualTo(5);
+                                })));
+  }
+
   @ParameterizedTest
   @EnumSource(MemoryMode.class)
   void recordAndCollect_CumulativeAtLimit(MemoryMode memoryMode) {
@@ -743,6 +970,22 @@ public class SynchronousMetricStorageTest {
   @MethodSource("concurrentStressTestArguments")
   void recordAndCollect_concurrentStressTest(
       DefaultSynchronousMetricStorage<?, ?> storage, BiConsumer<Double, AtomicDouble> collect) {
+    runConcurrentStressTest(
+        storage, collect, () -> storage.recordDouble(1.0, Attributes.empty(), Context.current()));
+  }
+
+  @ParameterizedTest
+  @MethodSource("concurrentStressTestArguments")
+  void bind_recordAndCollect_concurrentStressTest(
+      DefaultSynchronousMetricStorage<?, ?> storage, BiConsumer<Double, AtomicDouble> collect) {
+    BoundStorageHandle bound = storage.bind(Attributes.empty());
+    runConcurrentStressTest(storage, collect, () -> bound.recordDouble(1.0, Context.current()));
+  }
+
+  private static void runConcurrentStressTest(
+      DefaultSynchronousMetricStorage<?, ?> storage,
+      BiConsumer<Double, AtomicDouble> collect,
+      Runnable record) {
     // Define record threads. Each records a value of 1.0, 2000 times
     List<Thread> threads = new ArrayList<>();
     CountDownLatch latch = new CountDownLatch(4);
@@ -751,7 +994,7 @@ public class SynchronousMetricStorageTest {
           new Thread(
               () -> {
                 for (int j = 0; j < 2000; j++) {
-                  storage.recordDouble(1.0, Attributes.empty(), Context.current());
+                  record.run();
                   Uninterruptibles.sleepUninterruptibly(Duration.ofMillis(1));
                 }
                 latch.countDown();
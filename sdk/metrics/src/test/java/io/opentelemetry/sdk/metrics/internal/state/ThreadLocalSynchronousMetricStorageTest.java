@@ -0,0 +1,259 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.internal.testing.slf4j.SuppressLogger;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.metrics.Aggregation;
+import io.opentelemetry.sdk.metrics.InstrumentType;
+import io.opentelemetry.sdk.metrics.InstrumentValueType;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
+import io.opentelemetry.sdk.metrics.data.DoublePointData;
+import io.opentelemetry.sdk.metrics.data.LongExemplarData;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.metrics.internal.aggregator.Aggregator;
+import io.opentelemetry.sdk.metrics.internal.aggregator.AggregatorFactory;
+import io.opentelemetry.sdk.metrics.internal.aggregator.EmptyMetricData;
+import io.opentelemetry.sdk.metrics.internal.descriptor.Advice;
+import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
+import io.opentelemetry.sdk.metrics.internal.descriptor.MetricDescriptor;
+import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
+import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
+import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
+import io.opentelemetry.sdk.metrics.internal.view.ViewRegistry;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+@SuppressLogger(ThreadLocalSynchronousMetricStorage.class)
+class ThreadLocalSynchronousMetricStorageTest {
+  private static final Resource RESOURCE = Resource.empty();
+  private static final InstrumentationScopeInfo INSTRUMENTATION_SCOPE_INFO =
+      InstrumentationScopeInfo.create("test");
+  private static final InstrumentDescriptor DESCRIPTOR =
+      InstrumentDescriptor.create(
+          "name",
+          "description",
+          "unit",
+          InstrumentType.COUNTER,
+          InstrumentValueType.LONG,
+          Advice.empty());
+  private static final MetricDescriptor METRIC_DESCRIPTOR =
+      MetricDescriptor.create("name", "description", "unit");
+  private static final int CARDINALITY_LIMIT = 25;
+  private static final Attributes ATTRIBUTES = Attributes.of(AttributeKey.stringKey("K"), "V");
+
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void recordAndCollect_DeltaMergesThreads(MemoryMode memoryMode) throws InterruptedException {
+    RegisteredReader reader = reader(AggregationTemporality.DELTA, memoryMode);
+    ThreadLocalSynchronousMetricStorage<?, ?> storage = storage(reader, memoryMode, 10);
+
+    recordFromThreads(storage, 4, 100);
+    storage.recordLong(1, ATTRIBUTES, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10))
+        .hasLongSumSatisfying(
+            sum ->
+                sum.isDelta()
+                    .hasPointsSatisfying(
+                        point -> point.hasEpochNanos(10).hasValue(401).hasAttributes(ATTRIBUTES)));
+    reader.setLastCollectEpochNanos(10);
+
+    // Only the values recorded since the previous collection are merged
+    storage.recordLong(2, ATTRIBUTES, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 20))
+        .hasLongSumSatisfying(
+            sum ->
+                sum.isDelta()
+                    .hasPointsSatisfying(
+                        point -> point.hasStartEpochNanos(10).hasEpochNanos(20).hasValue(2)));
+    reader.setLastCollectEpochNanos(20);
+
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 30))
+        .isEqualTo(EmptyMetricData.getInstance());
+  }
+
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void recordAndCollect_CumulativeMergesThreads(MemoryMode memoryMode)
+      throws InterruptedException {
+    RegisteredReader reader = reader(AggregationTemporality.CUMULATIVE, memoryMode);
+    ThreadLocalSynchronousMetricStorage<?, ?> storage = storage(reader, memoryMode, 10);
+
+    storage.recordLong(1, ATTRIBUTES, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10))
+        .hasLongSumSatisfying(
+            sum -> sum.isCumulative().hasPointsSatisfying(point -> point.hasValue(1)));
+
+    recordFromThreads(storage, 4, 100);
+    storage.recordLong(1, ATTRIBUTES, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 20))
+        .hasLongSumSatisfying(
+            sum ->
+                sum.isCumulative()
+                    .hasPointsSatisfying(
+                        point -> point.hasStartEpochNanos(0).hasEpochNanos(20).hasValue(402)));
+  }
+
+  @Test
+  void recordZero_ProducesPoint() {
+    RegisteredReader reader = reader(AggregationTemporality.DELTA, MemoryMode.IMMUTABLE_DATA);
+    ThreadLocalSynchronousMetricStorage<?, ?> storage =
+        storage(reader, MemoryMode.IMMUTABLE_DATA, 10);
+
+    storage.recordLong(0, ATTRIBUTES, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10))
+        .hasLongSumSatisfying(sum -> sum.hasPointsSatisfying(point -> point.hasValue(0)));
+  }
+
+  @Test
+  void recordAtLimit_RecordsToSharedStorage() {
+    RegisteredReader reader = reader(AggregationTemporality.CUMULATIVE, MemoryMode.IMMUTABLE_DATA);
+    ThreadLocalSynchronousMetricStorage<?, ?> storage =
+        storage(reader, MemoryMode.IMMUTABLE_DATA, 1);
+    Attributes other = Attributes.of(AttributeKey.stringKey("K"), "other");
+
+    storage.recordLong(1, ATTRIBUTES, Context.current());
+    storage.recordLong(2, other, Context.current());
+    storage.recordLong(2, other, Context.current());
+    assertThat(storage.getThreadLocalSeries()).isEqualTo(1);
+
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10))
+        .hasLongSumSatisfying(
+            sum ->
+                sum.hasPointsSatisfying(
+                    point -> point.hasValue(1).hasAttributes(ATTRIBUTES),
+                    point -> point.hasValue(4).hasAttributes(other)));
+  }
+
+  @Test
+  void collect_ReleasesTerminatedThreads() throws InterruptedException {
+    RegisteredReader reader = reader(AggregationTemporality.CUMULATIVE, MemoryMode.IMMUTABLE_DATA);
+    ThreadLocalSynchronousMetricStorage<?, ?> storage =
+        storage(reader, MemoryMode.IMMUTABLE_DATA, 10);
+
+    recordFromThreads(storage, 4, 1);
+    assertThat(storage.getThreadLocalSeries()).isEqualTo(4);
+
+    // The last values of terminated threads are merged before their series are released
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10))
+        .hasLongSumSatisfying(sum -> sum.hasPointsSatisfying(point -> point.hasValue(4)));
+    assertThat(storage.getThreadLocalSeries()).isEqualTo(0);
+  }
+
+  @Test
+  void collect_EvictsIdleSeries() {
+    RegisteredReader reader = reader(AggregationTemporality.CUMULATIVE, MemoryMode.IMMUTABLE_DATA);
+    ThreadLocalSynchronousMetricStorage<?, ?> storage =
+        storage(reader, MemoryMode.IMMUTABLE_DATA, 1);
+    Attributes other = Attributes.of(AttributeKey.stringKey("K"), "other");
+
+    storage.recordLong(1, ATTRIBUTES, Context.current());
+    storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10);
+    assertThat(storage.getThreadLocalSeries()).isEqualTo(1);
+
+    // Not recorded to since the previous collection
+    storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 20);
+    assertThat(storage.getThreadLocalSeries()).isEqualTo(0);
+
+    storage.recordLong(2, other, Context.current());
+    storage.recordLong(3, ATTRIBUTES, Context.current());
+    assertThat(storage.getThreadLocalSeries()).isEqualTo(1);
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 30))
+        .hasLongSumSatisfying(
+            sum ->
+                sum.hasPointsSatisfying(
+                    point -> point.hasValue(4).hasAttributes(ATTRIBUTES),
+                    point -> point.hasValue(2).hasAttributes(other)));
+  }
+
+  @Test
+  void recordDouble_MergesIncrementsSmallerThanPreviousSum() {
+    RegisteredReader reader = reader(AggregationTemporality.DELTA, MemoryMode.IMMUTABLE_DATA);
+    InstrumentDescriptor descriptor =
+        InstrumentDescriptor.create(
+            "name",
+            "description",
+            "unit",
+            InstrumentType.COUNTER,
+            InstrumentValueType.DOUBLE,
+            Advice.empty());
+    Aggregator<DoublePointData, DoubleExemplarData> aggregator =
+        ((AggregatorFactory) Aggregation.sum())
+            .createAggregator(descriptor, ExemplarFilter.alwaysOff(), MemoryMode.IMMUTABLE_DATA);
+    ThreadLocalSynchronousMetricStorage<?, ?> storage =
+        new ThreadLocalSynchronousMetricStorage<>(
+            new DefaultSynchronousMetricStorage<>(
+                reader,
+                METRIC_DESCRIPTOR,
+                aggregator,
+                AttributesProcessor.noop(),
+                CARDINALITY_LIMIT),
+            10,
+            /* isLongSum= */ false);
+
+    storage.recordDouble(1e17, ATTRIBUTES, Context.current());
+    storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10);
+    reader.setLastCollectEpochNanos(10);
+
+    storage.recordDouble(1, ATTRIBUTES, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 20))
+        .hasDoubleSumSatisfying(sum -> sum.hasPointsSatisfying(point -> point.hasValue(1)));
+  }
+
+  private static RegisteredReader reader(
+      AggregationTemporality aggregationTemporality, MemoryMode memoryMode) {
+    return RegisteredReader.create(
+        InMemoryMetricReader.builder()
+            .setAggregationTemporalitySelector(unused -> aggregationTemporality)
+            .setMemoryMode(memoryMode)
+            .build(),
+        ViewRegistry.create());
+  }
+
+  private static ThreadLocalSynchronousMetricStorage<?, ?> storage(
+      RegisteredReader reader, MemoryMode memoryMode, int maxThreadLocalSeries) {
+    Aggregator<LongPointData, LongExemplarData> aggregator =
+        ((AggregatorFactory) Aggregation.sum())
+            .createAggregator(DESCRIPTOR, ExemplarFilter.alwaysOff(), memoryMode);
+    DefaultSynchronousMetricStorage<LongPointData, LongExemplarData> delegate =
+        new DefaultSynchronousMetricStorage<>(
+            reader, METRIC_DESCRIPTOR, aggregator, AttributesProcessor.noop(), CARDINALITY_LIMIT);
+    return new ThreadLocalSynchronousMetricStorage<>(
+        delegate, maxThreadLocalSeries, /* isLongSum= */ true);
+  }
+
+  private static void recordFromThreads(
+      SynchronousMetricStorage storage, int threadCount, int recordsPerThread)
+      throws InterruptedException {
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < threadCount; i++) {
+      Thread thread =
+          new Thread(
+              () -> {
+                for (int j = 0; j < recordsPerThread; j++) {
+                  storage.recordLong(1, ATTRIBUTES, Context.current());
+                }
+              });
+      thread.start();
+      threads.add(thread);
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+  }
+}
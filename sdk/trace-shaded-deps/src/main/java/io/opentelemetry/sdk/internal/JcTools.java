@@ -3,8 +3,9 @@
  * SPDX-License-Identifier: Apache-2.0
  */
 
-package io.opentelemetry.sdk.trace.internal;
+package io.opentelemetry.sdk.internal;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
@@ -72,6 +73,28 @@ public final class JcTools {
     }
   }
 
+  /**
+   * Add as many elements of the {@link List}, in order, as fit in the {@link Queue}. On JCTools
+   * queues, space for the elements is claimed with a single operation.
+   *
+   * @return the number of elements added, starting from the first element of the list
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> int fill(Queue<T> queue, List<? extends T> elements) {
+    if (elements.isEmpty()) {
+      return 0;
+    }
+    if (queue instanceof MessagePassingQueue) {
+      int[] index = new int[1];
+      return ((MessagePassingQueue<T>) queue).fill(() -> elements.get(index[0]++), elements.size());
+    }
+    int added = 0;
+    while (added < elements.size() && queue.offer(elements.get(added))) {
+      added++;
+    }
+    return added;
+  }
+
   private static <T> void drainNonJcQueue(
       Queue<T> queue, int maxExportBatchSize, Consumer<T> consumer) {
     int polledCount = 0;
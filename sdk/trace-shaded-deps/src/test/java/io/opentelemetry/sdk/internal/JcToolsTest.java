@@ -3,11 +3,12 @@
  * SPDX-License-Identifier: Apache-2.0
  */
 
-package io.opentelemetry.sdk.trace.internal;
+package io.opentelemetry.sdk.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
 import org.jctools.queues.MpscArrayQueue;
@@ -70,6 +71,35 @@ class JcToolsTest {
     assertThat(queue).hasSize(1);
   }
 
+  @Test
+  void fill_ArrayBlockingQueue() {
+    // Arrange
+    Queue<String> queue = new ArrayBlockingQueue<>(2);
+    queue.add("Test1");
+
+    // Act
+    int added = JcTools.fill(queue, Arrays.asList("Test2", "Test3"));
+
+    // Assert
+    assertThat(added).isEqualTo(1);
+    assertThat(queue).containsExactly("Test1", "Test2");
+  }
+
+  @Test
+  void fill_MessagePassingQueue() {
+    // Arrange
+    Queue<String> queue = new MpscArrayQueue<>(4);
+    queue.add("Test1");
+
+    // Act
+    int added = JcTools.fill(queue, Arrays.asList("Test2", "Test3", "Test4", "Test5"));
+
+    // Assert
+    assertThat(added).isEqualTo(3);
+    JcTools.drain(queue, 10, batch::add);
+    assertThat(batch).containsExactly("Test1", "Test2", "Test3", "Test4");
+  }
+
   @Test
   void newFixedSize_MpscQueue() {
     // Arrange
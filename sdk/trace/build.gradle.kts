@@ -1,5 +1,3 @@
-import ru.vyarus.gradle.plugin.animalsniffer.AnimalSniffer
-
 plugins {
   id("otel.java-conventions")
   id("otel.publish-conventions")
@@ -11,19 +9,13 @@ plugins {
 description = "OpenTelemetry SDK For Tracing"
 otelJava.moduleName.set("io.opentelemetry.sdk.trace")
 
-sourceSets {
-  main {
-    val traceShadedDeps = project(":sdk:trace-shaded-deps")
-    output.dir(traceShadedDeps.file("build/extracted/shadow"), "builtBy" to ":sdk:trace-shaded-deps:extractShadowJar")
-  }
-}
-
 dependencies {
   api(project(":api:all"))
   api(project(":sdk:common"))
 
   implementation(project(":api:incubator"))
 
+  // Bundled into :sdk:common
   compileOnly(project(":sdk:trace-shaded-deps"))
 
   annotationProcessor("com.google.auto.value:auto-value")
@@ -64,11 +56,3 @@ dependencies {
   jmh("io.grpc:grpc-netty-shaded")
   jmh("org.testcontainers:testcontainers") // testContainer for OTLP collector
 }
-
-tasks {
-  withType<AnimalSniffer>().configureEach {
-    // We catch NoClassDefFoundError to fallback to non-jctools queues.
-    exclude("**/internal/shaded/jctools/**")
-    exclude("**/internal/JcTools*")
-  }
-}
@@ -7,14 +7,26 @@ package io.opentelemetry.sdk.trace;
 
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.sdk.internal.AttributesMap;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
 
+/**
+ * Measures recording attributes on a span. The {@code spanAttributesMap} and {@code attributesMap}
+ * benchmarks compare the attribute store used by {@link SdkSpan} with the {@link AttributesMap} it
+ * replaced, for the same number of attributes. Run with {@code -prof gc} to compare allocation.
+ */
 @Threads(value = 1)
 @Fork(3)
 @Warmup(iterations = 10, time = 1)
@@ -30,6 +42,27 @@ public class FillSpanBenchmark {
   private static final AttributeKey<String> KEY3 = AttributeKey.stringKey("key3");
   private static final AttributeKey<String> KEY4 = AttributeKey.stringKey("key4");
 
+  private static final int CAPACITY = SpanLimits.getDefault().getMaxNumberOfAttributes();
+  private static final int LENGTH_LIMIT = SpanLimits.getDefault().getMaxAttributeValueLength();
+
+  @State(Scope.Benchmark)
+  public static class Keys {
+
+    @Param({"4", "16", "64"})
+    int attributeCount;
+
+    AttributeKey<String>[] keys;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() {
+      keys = new AttributeKey[attributeCount];
+      for (int i = 0; i < attributeCount; i++) {
+        keys[i] = AttributeKey.stringKey("key" + i);
+      }
+    }
+  }
+
   @Benchmark
   public void setFourAttributes() {
     spanBuilder
@@ -39,4 +72,24 @@ public class FillSpanBenchmark {
         .setAttribute(KEY3, "value3")
         .setAttribute(KEY4, "value4");
   }
+
+  @Benchmark
+  public void spanAttributesMap(Keys keys, Blackhole blackhole) {
+    SpanAttributesMap attributes = SpanAttributesMap.create(CAPACITY, LENGTH_LIMIT);
+    for (AttributeKey<String> key : keys.keys) {
+      attributes.put(key, "value");
+    }
+    blackhole.consume(attributes.get(keys.keys[0]));
+    blackhole.consume(attributes);
+  }
+
+  @Benchmark
+  public void attributesMap(Keys keys, Blackhole blackhole) {
+    AttributesMap attributes = AttributesMap.create(CAPACITY, LENGTH_LIMIT);
+    for (AttributeKey<String> key : keys.keys) {
+      attributes.put(key, "value");
+    }
+    blackhole.consume(attributes.get(keys.keys[0]));
+    blackhole.consume(attributes);
+  }
 }
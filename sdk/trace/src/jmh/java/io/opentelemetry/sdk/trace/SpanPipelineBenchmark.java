@@ -48,6 +48,10 @@ public class SpanPipelineBenchmark {
 
     protected abstract void runThePipeline();
 
+    protected int getSpanEndBatchSize() {
+      return 1;
+    }
+
     protected void doWork() {
       for (int j = 0; j < 100; j++) {
         Span span = tracer.spanBuilder("PipelineBenchmarkSpan " + j).startSpan();
@@ -81,6 +85,7 @@ public class SpanPipelineBenchmark {
           SdkTracerProvider.builder()
               .setSampler(Sampler.alwaysOn())
               .addSpanProcessor(spanProcessor)
+              .setSpanEndBatchSize(getSpanEndBatchSize())
               .build();
 
       tracer = tracerProvider.get("PipelineBenchmarkTracer");
@@ -142,4 +147,12 @@ public class SpanPipelineBenchmark {
       doWork();
     }
   }
+
+  public static class EndBatchingBatchSpanProcessorBenchmark extends BatchSpanProcessorBenchmark {
+
+    @Override
+    protected int getSpanEndBatchSize() {
+      return 64;
+    }
+  }
 }
@@ -7,6 +7,7 @@ package io.opentelemetry.sdk.trace.export;
 
 import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.internal.QueueOverflowPolicy;
 import io.opentelemetry.sdk.metrics.SdkMeterProvider;
 import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
 import io.opentelemetry.sdk.trace.ReadableSpan;
@@ -18,6 +19,7 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -37,13 +39,20 @@ public class BatchSpanProcessorDroppedSpansBenchmark {
     private long droppedSpans;
     private int numThreads;
 
+    @Param({"DROP_NEWEST", "DROP_OLDEST", "BLOCK"})
+    private QueueOverflowPolicy overflowPolicy;
+
     @Setup(Level.Iteration)
     public final void setup() {
       metricReader = InMemoryMetricReader.create();
       MeterProvider meterProvider =
           SdkMeterProvider.builder().registerMetricReader(metricReader).build();
       SpanExporter exporter = new DelayingSpanExporter(0);
-      processor = BatchSpanProcessor.builder(exporter).setMeterProvider(meterProvider).build();
+      processor =
+          BatchSpanProcessor.builder(exporter)
+              .setMeterProvider(meterProvider)
+              .setOverflowPolicy(overflowPolicy)
+              .build();
 
       tracer = SdkTracerProvider.builder().build().get("benchmarkTracer");
     }
@@ -0,0 +1,208 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.api.internal.GuardedBy;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import io.opentelemetry.sdk.trace.internal.ExtendedSpanProcessor;
+import io.opentelemetry.sdk.trace.internal.RecyclableSpan;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A {@link SpanProcessor} that collects ended spans in a ring per ending thread, and notifies its
+ * delegate with {@link ExtendedSpanProcessor#onEndBatch(List)} each time a ring is full, instead of
+ * calling {@link SpanProcessor#onEnd(ReadableSpan)} for every span.
+ *
+ * <p>Spans are delivered to the delegate later than they end: when the ring of the ending thread
+ * fills up, when the oldest span of the ring has waited for the maximum delay, or on {@link
+ * #forceFlush()} and {@link #shutdown()}. Start events are forwarded immediately.
+ */
+final class EndBatchingSpanProcessor implements ExtendedSpanProcessor {
+
+  private static final Logger logger = Logger.getLogger(EndBatchingSpanProcessor.class.getName());
+
+  static final long DEFAULT_MAX_DELAY_MILLIS = 1000;
+
+  private final SpanProcessor delegate;
+  private final int batchSize;
+  private final long maxDelayNanos;
+  private final ThreadLocal<Ring> ring = ThreadLocal.withInitial(this::newRing);
+  // All rings, so that spans buffered on other threads can be flushed.
+  private final Set<Ring> rings = ConcurrentHashMap.newKeySet();
+  private final ScheduledExecutorService scheduler;
+
+  EndBatchingSpanProcessor(SpanProcessor delegate, int batchSize) {
+    this(delegate, batchSize, TimeUnit.MILLISECONDS.toNanos(DEFAULT_MAX_DELAY_MILLIS));
+  }
+
+  EndBatchingSpanProcessor(SpanProcessor delegate, int batchSize, long maxDelayNanos) {
+    this.delegate = delegate;
+    this.batchSize = batchSize;
+    this.maxDelayNanos = maxDelayNanos;
+    // Rings are checked twice per maximum delay, so that a span waits at most about that long even
+    // if its thread stops ending spans.
+    long checkIntervalNanos = Math.max(1, maxDelayNanos / 2);
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("SpanEndBatchFlusher"));
+    scheduler.scheduleAtFixedRate(
+        this::flushAgedRings, checkIntervalNanos, checkIntervalNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void onStart(Context parentContext, ReadWriteSpan span) {
+    delegate.onStart(parentContext, span);
+  }
+
+  @Override
+  public boolean isStartRequired() {
+    return delegate.isStartRequired();
+  }
+
+  @Override
+  public void onEnd(ReadableSpan span) {
+    // Keep the span storage until the delegate has been notified.
+    if (span instanceof RecyclableSpan) {
+      ((RecyclableSpan) span).retain();
+    }
+    ring.get().add(span);
+  }
+
+  @Override
+  public void onEndBatch(List<ReadableSpan> spans) {
+    ExtendedSpanProcessor.notifyEnd(delegate, spans);
+  }
+
+  @Override
+  public boolean isEndRequired() {
+    return delegate.isEndRequired();
+  }
+
+  @Override
+  public CompletableResultCode shutdown() {
+    scheduler.shutdown();
+    flushRings();
+    return delegate.shutdown();
+  }
+
+  @Override
+  public CompletableResultCode forceFlush() {
+    flushRings();
+    return delegate.forceFlush();
+  }
+
+  private Ring newRing() {
+    Ring newRing = new Ring();
+    rings.add(newRing);
+    return newRing;
+  }
+
+  private void flushRings() {
+    for (Iterator<Ring> iterator = rings.iterator(); iterator.hasNext(); ) {
+      Ring ring = iterator.next();
+      ring.flush();
+      // The ring of a terminated thread will not be used anymore.
+      if (ring.owner.get() == null) {
+        iterator.remove();
+      }
+    }
+  }
+
+  private void flushAgedRings() {
+    // Flush the rings whose oldest span will have waited for the maximum delay by the next check.
+    long flushBefore = System.nanoTime() - maxDelayNanos / 2;
+    try {
+      for (Iterator<Ring> iterator = rings.iterator(); iterator.hasNext(); ) {
+        Ring ring = iterator.next();
+        if (ring.owner.get() == null) {
+          // The ring of a terminated thread will not be filled anymore.
+          ring.flush();
+          iterator.remove();
+        } else {
+          ring.flushIfOlderThan(flushBefore);
+        }
+      }
+    } catch (Throwable t) {
+      // A failure must not cancel the next checks.
+      logger.log(Level.WARNING, "Exception thrown while flushing ended spans.", t);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "EndBatchingSpanProcessor{"
+        + "delegate="
+        + delegate
+        + ", batchSize="
+        + batchSize
+        + ", maxDelayNanos="
+        + maxDelayNanos
+        + '}';
+  }
+
+  private final class Ring {
+
+    private final WeakReference<Thread> owner = new WeakReference<>(Thread.currentThread());
+
+    @GuardedBy("this")
+    private final ReadableSpan[] spans = new ReadableSpan[batchSize];
+
+    private final List<ReadableSpan> spansView = Arrays.asList(spans);
+
+    @GuardedBy("this")
+    private int count;
+
+    // The System.nanoTime() at which the oldest span of the ring was added.
+    @GuardedBy("this")
+    private long oldestSpanNanos;
+
+    // Only contended when another thread flushes the rings.
+    private synchronized void add(ReadableSpan span) {
+      if (count == 0) {
+        oldestSpanNanos = System.nanoTime();
+      }
+      spans[count++] = span;
+      if (count == spans.length) {
+        flush();
+      }
+    }
+
+    private synchronized void flushIfOlderThan(long nanoTime) {
+      if (count > 0 && oldestSpanNanos - nanoTime <= 0) {
+        flush();
+      }
+    }
+
+    private synchronized void flush() {
+      if (count == 0) {
+        return;
+      }
+      try {
+        ExtendedSpanProcessor.notifyEnd(
+            delegate, count == spans.length ? spansView : spansView.subList(0, count));
+      } finally {
+        for (int i = 0; i < count; i++) {
+          if (spans[i] instanceof RecyclableSpan) {
+            ((RecyclableSpan) spans[i]).release();
+          }
+          spans[i] = null;
+        }
+        count = 0;
+      }
+    }
+  }
+}
@@ -7,6 +7,7 @@ package io.opentelemetry.sdk.trace;
 
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.internal.ExtendedSpanProcessor;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -16,7 +17,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * Implementation of the {@code SpanProcessor} that simply forwards all received events to a list of
  * {@code SpanProcessor}s.
  */
-final class MultiSpanProcessor implements SpanProcessor {
+final class MultiSpanProcessor implements ExtendedSpanProcessor {
   private final List<SpanProcessor> spanProcessorsStart;
   private final List<SpanProcessor> spanProcessorsEnd;
   private final List<SpanProcessor> spanProcessorsAll;
@@ -53,6 +54,13 @@ final class MultiSpanProcessor implements SpanProcessor {
     }
   }
 
+  @Override
+  public void onEndBatch(List<ReadableSpan> readableSpans) {
+    for (SpanProcessor spanProcessor : spanProcessorsEnd) {
+      ExtendedSpanProcessor.notifyEnd(spanProcessor, readableSpans);
+    }
+  }
+
   @Override
   public boolean isEndRequired() {
     return !spanProcessorsEnd.isEmpty();
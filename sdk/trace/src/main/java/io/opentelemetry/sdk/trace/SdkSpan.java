@@ -16,13 +16,13 @@ import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.Clock;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.internal.AttributeUtil;
-import io.opentelemetry.sdk.internal.AttributesMap;
 import io.opentelemetry.sdk.internal.InstrumentationScopeUtil;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.trace.data.EventData;
 import io.opentelemetry.sdk.trace.data.LinkData;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.data.StatusData;
+import io.opentelemetry.sdk.trace.internal.RecyclableSpan;
 import io.opentelemetry.sdk.trace.internal.data.ExceptionEventData;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -33,9 +33,22 @@ import java.util.logging.Logger;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
-/** Implementation for the {@link Span} class that records trace events. */
+/**
+ * Implementation for the {@link Span} class that records trace events.
+ *
+ * <p>This class also implements {@link SpanData} so that, once ended, it can be exported without
+ * taking a snapshot with {@link #toSpanData()}. While the span is still recording, the {@link
+ * SpanData} accessors return copies of the mutable state, like {@link #toSpanData()} does. Unlike
+ * other {@link SpanData}, spans keep the identity {@link #equals(Object)} and {@link #hashCode()}
+ * of a live object, so they can be used as keys while they are recording.
+ *
+ * <p>When created with a {@link SpanStoragePool}, the collections holding the attributes and
+ * events are returned to the pool once the span ended and all references to it were released, see
+ * {@link RecyclableSpan}. The attributes and events returned by the span and its snapshots are then
+ * always copies, so they stay valid after the span was recycled.
+ */
 @ThreadSafe
-final class SdkSpan implements ReadWriteSpan {
+final class SdkSpan implements ReadWriteSpan, SpanData, RecyclableSpan {
 
   private static final Logger logger = Logger.getLogger(SdkSpan.class.getName());
 
@@ -57,6 +70,8 @@ final class SdkSpan implements ReadWriteSpan {
   private final InstrumentationScopeInfo instrumentationScopeInfo;
   // The start time of the span.
   private final long startEpochNanos;
+  // The pool the attributes and events are recycled to, null if they are not recycled.
+  @Nullable private final SpanStoragePool storagePool;
   // Lock used to internally guard the mutable state of this instance
   private final Object lock = new Object();
 
@@ -66,7 +81,7 @@ final class SdkSpan implements ReadWriteSpan {
   // Set of recorded attributes. DO NOT CALL any other method that changes the ordering of events.
   @GuardedBy("lock")
   @Nullable
-  private AttributesMap attributes;
+  private SpanAttributesMap attributes;
 
   // List of recorded events.
   @GuardedBy("lock")
@@ -99,6 +114,19 @@ final class SdkSpan implements ReadWriteSpan {
   @GuardedBy("lock")
   private boolean hasEnded;
 
+  // Number of references to the attributes and events, starting with the one held by the SDK
+  // until the span processors were notified of the end of the span. Only used with a storagePool.
+  @GuardedBy("lock")
+  private int references = 1;
+
+  // True if the attributes and events were returned to the storagePool.
+  @GuardedBy("lock")
+  private boolean recycled;
+
+  @GuardedBy("lock")
+  @Nullable
+  private Runnable recycledCallback;
+
   private SdkSpan(
       SpanContext context,
       String name,
@@ -109,10 +137,11 @@ final class SdkSpan implements ReadWriteSpan {
       SpanProcessor spanProcessor,
       AnchoredClock clock,
       Resource resource,
-      @Nullable AttributesMap attributes,
+      @Nullable SpanAttributesMap attributes,
       @Nullable List<LinkData> links,
       int totalRecordedLinks,
-      long startEpochNanos) {
+      long startEpochNanos,
+      @Nullable SpanStoragePool storagePool) {
     this.context = context;
     this.instrumentationScopeInfo = instrumentationScopeInfo;
     this.parentSpanContext = parentSpanContext;
@@ -127,6 +156,7 @@ final class SdkSpan implements ReadWriteSpan {
     this.startEpochNanos = startEpochNanos;
     this.attributes = attributes;
     this.spanLimits = spanLimits;
+    this.storagePool = storagePool;
   }
 
   /**
@@ -142,6 +172,7 @@ final class SdkSpan implements ReadWriteSpan {
    * @param resource the resource associated with this span.
    * @param attributes the attributes set during span creation.
    * @param links the links set during span creation, may be truncated. The list MUST be immutable.
+   * @param storagePool the pool to recycle attributes and events to, or {@code null}.
    * @return a new and started span.
    */
   static SdkSpan startSpan(
@@ -155,10 +186,11 @@ final class SdkSpan implements ReadWriteSpan {
       SpanProcessor spanProcessor,
       Clock tracerClock,
       Resource resource,
-      @Nullable AttributesMap attributes,
+      @Nullable SpanAttributesMap attributes,
       @Nullable List<LinkData> links,
       int totalRecordedLinks,
-      long userStartEpochNanos) {
+      long userStartEpochNanos,
+      @Nullable SpanStoragePool storagePool) {
     boolean createdAnchoredClock;
     AnchoredClock clock;
     if (parentSpan instanceof SdkSpan) {
@@ -196,7 +228,8 @@ final class SdkSpan implements ReadWriteSpan {
             attributes,
             links,
             totalRecordedLinks,
-            startEpochNanos);
+            startEpochNanos,
+            storagePool);
     // Call onStart here instead of calling in the constructor to make sure the span is completely
     // initialized.
     if (spanProcessor.isStartRequired()) {
@@ -209,6 +242,9 @@ final class SdkSpan implements ReadWriteSpan {
   public SpanData toSpanData() {
     // Copy within synchronized context
     synchronized (lock) {
+      if (recycled) {
+        logger.log(Level.FINE, "Calling toSpanData() on a recycled Span.");
+      }
       return SpanWrapper.create(
           this,
           getImmutableLinks(),
@@ -235,7 +271,56 @@ final class SdkSpan implements ReadWriteSpan {
   @Override
   public Attributes getAttributes() {
     synchronized (lock) {
-      return attributes == null ? Attributes.empty() : attributes.immutableCopy();
+      return getImmutableAttributes();
+    }
+  }
+
+  @Override
+  public List<EventData> getEvents() {
+    synchronized (lock) {
+      return getImmutableTimedEvents();
+    }
+  }
+
+  @Override
+  public List<LinkData> getLinks() {
+    synchronized (lock) {
+      return getImmutableLinks();
+    }
+  }
+
+  @Override
+  public StatusData getStatus() {
+    synchronized (lock) {
+      return status;
+    }
+  }
+
+  @Override
+  public long getEndEpochNanos() {
+    synchronized (lock) {
+      return endEpochNanos;
+    }
+  }
+
+  @Override
+  public int getTotalRecordedEvents() {
+    synchronized (lock) {
+      return totalRecordedEvents;
+    }
+  }
+
+  @Override
+  public int getTotalRecordedLinks() {
+    synchronized (lock) {
+      return totalRecordedLinks;
+    }
+  }
+
+  @Override
+  public int getTotalAttributeCount() {
+    synchronized (lock) {
+      return attributes == null ? 0 : attributes.getTotalAddedValues();
     }
   }
 
@@ -309,8 +394,11 @@ final class SdkSpan implements ReadWriteSpan {
       }
       if (attributes == null) {
         attributes =
-            AttributesMap.create(
-                spanLimits.getMaxNumberOfAttributes(), spanLimits.getMaxAttributeValueLength());
+            storagePool == null
+                ? SpanAttributesMap.create(
+                    spanLimits.getMaxNumberOfAttributes(), spanLimits.getMaxAttributeValueLength())
+                : storagePool.acquireAttributes(
+                    spanLimits.getMaxNumberOfAttributes(), spanLimits.getMaxAttributeValueLength());
       }
 
       attributes.put(key, value);
@@ -385,7 +473,7 @@ final class SdkSpan implements ReadWriteSpan {
         return;
       }
       if (events == null) {
-        events = new ArrayList<>();
+        events = storagePool == null ? new ArrayList<>() : storagePool.acquireEvents();
       }
       if (events.size() < spanLimits.getMaxNumberOfEvents()) {
         events.add(timedEvent);
@@ -503,6 +591,69 @@ final class SdkSpan implements ReadWriteSpan {
     if (spanProcessor.isEndRequired()) {
       spanProcessor.onEnd(this);
     }
+    // Processors that need the span after onEnd have retained it by now.
+    release();
+  }
+
+  @Override
+  public boolean isRecyclable() {
+    return storagePool != null;
+  }
+
+  @Override
+  public void retain() {
+    if (storagePool == null) {
+      return;
+    }
+    synchronized (lock) {
+      if (recycled) {
+        logger.log(Level.FINE, "Calling retain() on a recycled Span.");
+        return;
+      }
+      references++;
+    }
+  }
+
+  @Override
+  public void release() {
+    SpanStoragePool storagePool = this.storagePool;
+    if (storagePool == null) {
+      return;
+    }
+    SpanAttributesMap attributes;
+    List<EventData> events;
+    Runnable callback;
+    synchronized (lock) {
+      if (recycled) {
+        logger.log(Level.FINE, "Calling release() on a recycled Span.");
+        return;
+      }
+      if (--references > 0) {
+        return;
+      }
+      recycled = true;
+      attributes = this.attributes;
+      events = this.events;
+      callback = recycledCallback;
+      this.attributes = null;
+      this.events = null;
+      recycledCallback = null;
+    }
+    storagePool.recycle(attributes, events);
+    if (callback != null) {
+      callback.run();
+    }
+  }
+
+  @Override
+  public void whenRecycled(Runnable callback) {
+    synchronized (lock) {
+      if (!recycled) {
+        recycledCallback = callback;
+        return;
+      }
+    }
+    callback.run();
   }
 
   @Override
@@ -512,7 +663,8 @@ final class SdkSpan implements ReadWriteSpan {
     }
   }
 
-  Resource getResource() {
+  @Override
+  public Resource getResource() {
     return resource;
   }
 
@@ -521,7 +673,8 @@ final class SdkSpan implements ReadWriteSpan {
     return kind;
   }
 
-  long getStartEpochNanos() {
+  @Override
+  public long getStartEpochNanos() {
     return startEpochNanos;
   }
 
@@ -533,7 +686,8 @@ final class SdkSpan implements ReadWriteSpan {
 
     // if the span has ended, then the events are unmodifiable
     // so we can return them directly and save copying all the data.
-    if (hasEnded) {
+    // Pooled events are copied, since the list is reused once the span is recycled.
+    if (hasEnded && storagePool == null) {
       return Collections.unmodifiableList(events);
     }
 
@@ -547,7 +701,8 @@ final class SdkSpan implements ReadWriteSpan {
     }
     // if the span has ended, then the attributes are unmodifiable,
     // so we can return them directly and save copying all the data.
-    if (hasEnded) {
+    // Pooled attributes are copied, since the map is reused once the span is recycled.
+    if (hasEnded && storagePool == null) {
       return attributes;
     }
     // otherwise, make a copy of the data into an immutable container.
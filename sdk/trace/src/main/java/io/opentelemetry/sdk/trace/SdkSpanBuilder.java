@@ -29,7 +29,6 @@ import io.opentelemetry.context.Scope;
 import io.opentelemetry.context.propagation.ContextPropagators;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.internal.AttributeUtil;
-import io.opentelemetry.sdk.internal.AttributesMap;
 import io.opentelemetry.sdk.trace.data.LinkData;
 import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
 import io.opentelemetry.sdk.trace.samplers.SamplingResult;
@@ -51,7 +50,7 @@ final class SdkSpanBuilder implements ExtendedSpanBuilder {
 
   @Nullable private Context parent; // null means: Use current context.
   private SpanKind spanKind = SpanKind.INTERNAL;
-  @Nullable private AttributesMap attributes;
+  @Nullable private SpanAttributesMap attributes;
   @Nullable private List<LinkData> links;
   private int totalNumberOfLinksAdded = 0;
   private long startEpochNanos = 0;
@@ -230,7 +229,7 @@ final class SdkSpanBuilder implements ExtendedSpanBuilder {
 
     // Avoid any possibility to modify the attributes by adding attributes to the Builder after the
     // startSpan is called. If that happens all the attributes will be added in a new map.
-    AttributesMap recordedAttributes = attributes;
+    SpanAttributesMap recordedAttributes = attributes;
     attributes = null;
 
     return SdkSpan.startSpan(
@@ -247,7 +246,8 @@ final class SdkSpanBuilder implements ExtendedSpanBuilder {
         recordedAttributes,
         currentLinks,
         totalNumberOfLinksAdded,
-        startEpochNanos);
+        startEpochNanos,
+        tracerSharedState.getSpanStoragePool());
   }
 
   @Override
@@ -288,12 +288,16 @@ final class SdkSpanBuilder implements ExtendedSpanBuilder {
         handleException);
   }
 
-  private AttributesMap attributes() {
-    AttributesMap attributes = this.attributes;
+  private SpanAttributesMap attributes() {
+    SpanAttributesMap attributes = this.attributes;
     if (attributes == null) {
+      SpanStoragePool spanStoragePool = tracerSharedState.getSpanStoragePool();
       this.attributes =
-          AttributesMap.create(
-              spanLimits.getMaxNumberOfAttributes(), spanLimits.getMaxAttributeValueLength());
+          spanStoragePool == null
+              ? SpanAttributesMap.create(
+                  spanLimits.getMaxNumberOfAttributes(), spanLimits.getMaxAttributeValueLength())
+              : spanStoragePool.acquireAttributes(
+                  spanLimits.getMaxNumberOfAttributes(), spanLimits.getMaxAttributeValueLength());
       attributes = this.attributes;
     }
     return attributes;
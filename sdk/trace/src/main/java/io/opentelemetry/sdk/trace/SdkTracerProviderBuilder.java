@@ -5,13 +5,17 @@
 
 package io.opentelemetry.sdk.trace;
 
+import static io.opentelemetry.api.internal.Utils.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import io.opentelemetry.sdk.common.Clock;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.internal.ScopeConfigurator;
 import io.opentelemetry.sdk.internal.ScopeConfiguratorBuilder;
 import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.internal.ExtendedSpanProcessor;
+import io.opentelemetry.sdk.trace.internal.RecyclableSpan;
 import io.opentelemetry.sdk.trace.internal.SdkTracerProviderUtil;
 import io.opentelemetry.sdk.trace.internal.TracerConfig;
 import io.opentelemetry.sdk.trace.samplers.Sampler;
@@ -34,6 +38,8 @@ public final class SdkTracerProviderBuilder {
   private Sampler sampler = DEFAULT_SAMPLER;
   private ScopeConfiguratorBuilder<TracerConfig> tracerConfiguratorBuilder =
       TracerConfig.configuratorBuilder();
+  private MemoryMode memoryMode = MemoryMode.IMMUTABLE_DATA;
+  private int spanEndBatchSize = 1;
 
   /**
    * Assign a {@link Clock}. {@link Clock} will be used each time a {@link
@@ -196,6 +202,43 @@ public final class SdkTracerProviderBuilder {
     return this;
   }
 
+  /**
+   * Set the {@link MemoryMode} of spans. If unset, defaults to {@link MemoryMode#IMMUTABLE_DATA}.
+   *
+   * <p>With {@link MemoryMode#REUSABLE_DATA}, the collections holding the attributes and events of
+   * a span are recycled once the span ended and every processor that retained it released it. See
+   * {@link RecyclableSpan} for the contract processors and exporters must follow in this mode.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkTracerProviderUtil#setMemoryMode(SdkTracerProviderBuilder, MemoryMode)}.
+   */
+  SdkTracerProviderBuilder setMemoryMode(MemoryMode memoryMode) {
+    requireNonNull(memoryMode, "memoryMode");
+    this.memoryMode = memoryMode;
+    return this;
+  }
+
+  /**
+   * Set the number of ended spans each thread collects before notifying the registered {@link
+   * SpanProcessor}s. Processors implementing {@link ExtendedSpanProcessor} are notified with {@link
+   * ExtendedSpanProcessor#onEndBatch(java.util.List)}, others with {@link
+   * SpanProcessor#onEnd(ReadableSpan)} for each span. If unset, defaults to {@code 1}, which
+   * notifies processors as each span ends.
+   *
+   * <p>Larger values let processors handle ended spans in groups, for example to enqueue them with
+   * a single queue operation, at the cost of delaying their notification until the ending thread
+   * has ended enough spans, a span has waited for one second, or the provider is flushed or shut
+   * down.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkTracerProviderUtil#setSpanEndBatchSize(SdkTracerProviderBuilder, int)}.
+   */
+  SdkTracerProviderBuilder setSpanEndBatchSize(int spanEndBatchSize) {
+    checkArgument(spanEndBatchSize > 0, "spanEndBatchSize must be positive");
+    this.spanEndBatchSize = spanEndBatchSize;
+    return this;
+  }
+
   /**
    * Create a new {@link SdkTracerProvider} instance with the configuration.
    *
@@ -209,7 +252,9 @@ public final class SdkTracerProviderBuilder {
         spanLimitsSupplier,
         sampler,
         spanProcessors,
-        tracerConfiguratorBuilder.build());
+        tracerConfiguratorBuilder.build(),
+        memoryMode,
+        spanEndBatchSize);
   }
 
   SdkTracerProviderBuilder() {}
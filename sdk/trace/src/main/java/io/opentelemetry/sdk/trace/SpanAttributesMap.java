@@ -0,0 +1,220 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.sdk.internal.AttributeUtil;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
+
+/**
+ * The attributes recorded on a {@link SdkSpan}. It has a fixed capacity and drops attributes when
+ * full, and truncates string and array string attribute values to the {@link #lengthLimit}, like
+ * {@link io.opentelemetry.sdk.internal.AttributesMap}.
+ *
+ * <p>Keys and values are stored in insertion order in two arrays. An open-addressed table of array
+ * positions is used to find existing keys. Unlike a {@link java.util.HashMap}, adding an attribute
+ * does not allocate an entry object, and iterating reads the arrays directly.
+ *
+ * <p>This class is not thread-safe. {@link SdkSpan} guards it with its lock, and {@link
+ * SdkSpanBuilder} only uses it from the thread building the span.
+ */
+final class SpanAttributesMap implements Attributes {
+
+  private static final int INITIAL_CAPACITY = 8;
+
+  private int capacity;
+  private int lengthLimit;
+  private int totalAddedValues = 0;
+  private int size = 0;
+  private AttributeKey<?>[] keys;
+  private Object[] values;
+  // Array positions plus one, where 0 marks an empty slot. The length is a power of two at least
+  // twice the length of the key array, so probing always finds an empty slot.
+  private int[] table;
+
+  private SpanAttributesMap(int capacity, int lengthLimit) {
+    this.capacity = capacity;
+    this.lengthLimit = lengthLimit;
+    int initialLength = Math.max(1, Math.min(INITIAL_CAPACITY, capacity));
+    this.keys = new AttributeKey<?>[initialLength];
+    this.values = new Object[initialLength];
+    this.table = new int[tableLengthFor(initialLength)];
+  }
+
+  /**
+   * Create an instance.
+   *
+   * @param capacity the max number of attribute entries
+   * @param lengthLimit the maximum length of string attributes
+   */
+  static SpanAttributesMap create(int capacity, int lengthLimit) {
+    return new SpanAttributesMap(capacity, lengthLimit);
+  }
+
+  /** Add the attribute key value pair, applying capacity and length limits. */
+  <T> void put(AttributeKey<T> key, T value) {
+    totalAddedValues++;
+    int slot = findSlot(key);
+    int position = table[slot] - 1;
+    if (position >= 0) {
+      values[position] = AttributeUtil.applyAttributeLengthLimit(value, lengthLimit);
+      return;
+    }
+    if (size >= capacity) {
+      return;
+    }
+    if (size == keys.length) {
+      grow();
+      slot = findSlot(key);
+    }
+    keys[size] = key;
+    values[size] = AttributeUtil.applyAttributeLengthLimit(value, lengthLimit);
+    table[slot] = ++size;
+  }
+
+  /** Removes all attributes, keeping the allocated arrays. */
+  void clear() {
+    Arrays.fill(keys, 0, size, null);
+    Arrays.fill(values, 0, size, null);
+    Arrays.fill(table, 0);
+    size = 0;
+    totalAddedValues = 0;
+  }
+
+  /** Sets the limits applied to attributes added from now on. Must be called on an empty map. */
+  void reset(int capacity, int lengthLimit) {
+    this.capacity = capacity;
+    this.lengthLimit = lengthLimit;
+  }
+
+  /** Get the total number of attributes added, including those dropped for capacity limits. */
+  int getTotalAddedValues() {
+    return totalAddedValues;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  @Nullable
+  public <T> T get(AttributeKey<T> key) {
+    if (key == null) {
+      return null;
+    }
+    int position = table[findSlot(key)] - 1;
+    return position < 0 ? null : (T) values[position];
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super AttributeKey<?>, ? super Object> consumer) {
+    for (int i = 0; i < size; i++) {
+      consumer.accept(keys[i], values[i]);
+    }
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public Map<AttributeKey<?>, Object> asMap() {
+    Map<AttributeKey<?>, Object> map = new LinkedHashMap<>();
+    forEach(map::put);
+    return Collections.unmodifiableMap(map);
+  }
+
+  @Override
+  public AttributesBuilder toBuilder() {
+    return Attributes.builder().putAll(this);
+  }
+
+  /** Create an immutable copy of the attributes in this map. */
+  Attributes immutableCopy() {
+    return Attributes.builder().putAll(this).build();
+  }
+
+  private int findSlot(AttributeKey<?> key) {
+    int mask = table.length - 1;
+    int hash = key.hashCode();
+    int slot = (hash ^ (hash >>> 16)) & mask;
+    while (true) {
+      int position = table[slot] - 1;
+      if (position < 0) {
+        return slot;
+      }
+      AttributeKey<?> existing = keys[position];
+      if (existing == key || existing.equals(key)) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  private void grow() {
+    int newLength = (int) Math.min(keys.length * 2L, capacity);
+    keys = Arrays.copyOf(keys, newLength);
+    values = Arrays.copyOf(values, newLength);
+    table = new int[tableLengthFor(newLength)];
+    for (int i = 0; i < size; i++) {
+      table[findSlot(keys[i])] = i + 1;
+    }
+  }
+
+  private static int tableLengthFor(int entries) {
+    int length = 2;
+    while (length < entries * 2) {
+      length <<= 1;
+    }
+    return length;
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof SpanAttributesMap)) {
+      return false;
+    }
+    return asMap().equals(((SpanAttributesMap) o).asMap());
+  }
+
+  @Override
+  public int hashCode() {
+    return asMap().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder data = new StringBuilder("{");
+    for (int i = 0; i < size; i++) {
+      if (i > 0) {
+        data.append(", ");
+      }
+      data.append(keys[i]).append('=').append(values[i]);
+    }
+    data.append('}');
+    return "SpanAttributesMap{"
+        + "data="
+        + data
+        + ", capacity="
+        + capacity
+        + ", totalAddedValues="
+        + totalAddedValues
+        + '}';
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.trace.data.DelegatingSpanData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+/**
+ * The equality of the {@link SpanData} implementations of the SDK, which compares the values of
+ * all {@link SpanData} properties like {@link DelegatingSpanData} does. Spans use identity
+ * equality, so this is also used explicitly to compare a span that is exported without a snapshot
+ * with its snapshot.
+ *
+ * <p>Attributes are compared by their key value pairs, since the attributes of a span and of its
+ * snapshot may be held by different {@link Attributes} implementations, which are only equal to
+ * themselves.
+ */
+final class SpanDataEquality {
+
+  private SpanDataEquality() {}
+
+  static boolean equals(SpanData spanData, SpanData that) {
+    return spanData.getSpanContext().equals(that.getSpanContext())
+        && spanData.getParentSpanContext().equals(that.getParentSpanContext())
+        && spanData.getResource().equals(that.getResource())
+        && spanData.getInstrumentationScopeInfo().equals(that.getInstrumentationScopeInfo())
+        && spanData.getName().equals(that.getName())
+        && spanData.getKind().equals(that.getKind())
+        && spanData.getStartEpochNanos() == that.getStartEpochNanos()
+        && spanData.getAttributes().asMap().equals(that.getAttributes().asMap())
+        && spanData.getEvents().equals(that.getEvents())
+        && spanData.getLinks().equals(that.getLinks())
+        && spanData.getStatus().equals(that.getStatus())
+        && spanData.getEndEpochNanos() == that.getEndEpochNanos()
+        && spanData.hasEnded() == that.hasEnded()
+        && spanData.getTotalRecordedEvents() == that.getTotalRecordedEvents()
+        && spanData.getTotalRecordedLinks() == that.getTotalRecordedLinks()
+        && spanData.getTotalAttributeCount() == that.getTotalAttributeCount();
+  }
+
+  static int hashCode(SpanData spanData) {
+    int code = 1;
+    code *= 1000003;
+    code ^= spanData.getSpanContext().hashCode();
+    code *= 1000003;
+    code ^= spanData.getParentSpanContext().hashCode();
+    code *= 1000003;
+    code ^= spanData.getResource().hashCode();
+    code *= 1000003;
+    code ^= spanData.getInstrumentationScopeInfo().hashCode();
+    code *= 1000003;
+    code ^= spanData.getName().hashCode();
+    code *= 1000003;
+    code ^= spanData.getKind().hashCode();
+    code *= 1000003;
+    code ^= (int) ((spanData.getStartEpochNanos() >>> 32) ^ spanData.getStartEpochNanos());
+    code *= 1000003;
+    code ^= spanData.getAttributes().asMap().hashCode();
+    code *= 1000003;
+    code ^= spanData.getEvents().hashCode();
+    code *= 1000003;
+    code ^= spanData.getLinks().hashCode();
+    code *= 1000003;
+    code ^= spanData.getStatus().hashCode();
+    code *= 1000003;
+    code ^= (int) ((spanData.getEndEpochNanos() >>> 32) ^ spanData.getEndEpochNanos());
+    code *= 1000003;
+    code ^= spanData.hasEnded() ? 1231 : 1237;
+    code *= 1000003;
+    code ^= spanData.getTotalRecordedEvents();
+    code *= 1000003;
+    code ^= spanData.getTotalRecordedLinks();
+    code *= 1000003;
+    code ^= spanData.getTotalAttributeCount();
+    return code;
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.trace.data.EventData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.annotation.Nullable;
+
+/**
+ * Pool of the collections backing the attributes and events of {@link SdkSpan}s, used when the
+ * tracer provider is configured with {@link MemoryMode#REUSABLE_DATA}.
+ *
+ * <p>Spans are started on any thread and usually recycled on an export thread, so the pool is split
+ * into stripes of bounded array queues, which do not allocate on offer or poll. A thread acquires
+ * collections from the stripe picked by its ID, so that threads starting spans concurrently rarely
+ * contend on the same queue, and collections are recycled to a random stripe, so that every stripe
+ * is refilled. When a stripe is empty a new collection is allocated, and when it is full the
+ * recycled collection is left to the garbage collector.
+ */
+final class SpanStoragePool {
+
+  // Visible for testing
+  static final int DEFAULT_MAX_POOLED_SPANS = 2048;
+
+  private final Stripe[] stripes;
+
+  SpanStoragePool(int maxPooledSpans) {
+    this(maxPooledSpans, maxStripes());
+  }
+
+  // Visible for testing
+  SpanStoragePool(int maxPooledSpans, int stripeCount) {
+    int stripeCapacity = Math.max(1, (maxPooledSpans + stripeCount - 1) / stripeCount);
+    this.stripes = new Stripe[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      stripes[i] = new Stripe(stripeCapacity);
+    }
+  }
+
+  /** Returns an empty attributes map with the given limits. */
+  SpanAttributesMap acquireAttributes(int capacity, int lengthLimit) {
+    SpanAttributesMap attributesMap = currentStripe().attributes.poll();
+    if (attributesMap == null) {
+      return SpanAttributesMap.create(capacity, lengthLimit);
+    }
+    attributesMap.reset(capacity, lengthLimit);
+    return attributesMap;
+  }
+
+  /** Returns an empty, mutable event list. */
+  List<EventData> acquireEvents() {
+    List<EventData> eventList = currentStripe().events.poll();
+    return eventList == null ? new ArrayList<>() : eventList;
+  }
+
+  /** Clears and returns the given collections to the pool. */
+  void recycle(@Nullable SpanAttributesMap attributesMap, @Nullable List<EventData> eventList) {
+    if (attributesMap == null && eventList == null) {
+      return;
+    }
+    Stripe stripe =
+        stripes.length == 1
+            ? stripes[0]
+            : stripes[ThreadLocalRandom.current().nextInt(stripes.length)];
+    if (attributesMap != null) {
+      attributesMap.clear();
+      stripe.attributes.offer(attributesMap);
+    }
+    if (eventList != null) {
+      eventList.clear();
+      stripe.events.offer(eventList);
+    }
+  }
+
+  private Stripe currentStripe() {
+    if (stripes.length == 1) {
+      return stripes[0];
+    }
+    // Spread thread IDs, which are usually sequential, over the stripes.
+    long id = Thread.currentThread().getId();
+    int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+    return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+  }
+
+  private static int maxStripes() {
+    int processors = Runtime.getRuntime().availableProcessors();
+    // The stripe index is computed with a mask, so the count must be a power of two.
+    return processors <= 1 ? 1 : Integer.highestOneBit(processors - 1) << 1;
+  }
+
+  private static final class Stripe {
+    private final BlockingQueue<SpanAttributesMap> attributes;
+    private final BlockingQueue<List<EventData>> events;
+
+    private Stripe(int capacity) {
+      this.attributes = new ArrayBlockingQueue<>(capacity);
+      this.events = new ArrayBlockingQueue<>(capacity);
+    }
+  }
+}
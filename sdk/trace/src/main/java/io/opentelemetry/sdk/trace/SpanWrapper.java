@@ -17,6 +17,7 @@ import io.opentelemetry.sdk.trace.data.LinkData;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.data.StatusData;
 import java.util.List;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 /**
@@ -170,6 +171,23 @@ abstract class SpanWrapper implements SpanData {
     return totalAttributeCount();
   }
 
+  // The delegate is not compared, so that snapshots of the same span state compare equal. Spans
+  // themselves use identity equality, so they are never equal to a snapshot.
+  @Override
+  public final boolean equals(@Nullable Object o) {
+    if (o == this) {
+      return true;
+    }
+    return o instanceof SpanData
+        && !(o instanceof SdkSpan)
+        && SpanDataEquality.equals(this, (SpanData) o);
+  }
+
+  @Override
+  public final int hashCode() {
+    return SpanDataEquality.hashCode(this);
+  }
+
   @Override
   public final String toString() {
     return "SpanData{"
@@ -7,6 +7,7 @@ package io.opentelemetry.sdk.trace;
 
 import io.opentelemetry.sdk.common.Clock;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.trace.samplers.Sampler;
 import java.util.List;
@@ -26,6 +27,7 @@ final class TracerSharedState {
   private final Supplier<SpanLimits> spanLimitsSupplier;
   private final Sampler sampler;
   private final SpanProcessor activeSpanProcessor;
+  @Nullable private final SpanStoragePool spanStoragePool;
 
   @Nullable private volatile CompletableResultCode shutdownResult = null;
 
@@ -35,14 +37,24 @@ final class TracerSharedState {
       Resource resource,
       Supplier<SpanLimits> spanLimitsSupplier,
       Sampler sampler,
-      List<SpanProcessor> spanProcessors) {
+      List<SpanProcessor> spanProcessors,
+      MemoryMode memoryMode,
+      int spanEndBatchSize) {
     this.clock = clock;
     this.idGenerator = idGenerator;
     this.idGeneratorSafeToSkipIdValidation = idGenerator instanceof RandomIdGenerator;
     this.resource = resource;
     this.spanLimitsSupplier = spanLimitsSupplier;
     this.sampler = sampler;
-    activeSpanProcessor = SpanProcessor.composite(spanProcessors);
+    SpanProcessor compositeProcessor = SpanProcessor.composite(spanProcessors);
+    activeSpanProcessor =
+        spanEndBatchSize > 1 && compositeProcessor.isEndRequired()
+            ? new EndBatchingSpanProcessor(compositeProcessor, spanEndBatchSize)
+            : compositeProcessor;
+    this.spanStoragePool =
+        memoryMode == MemoryMode.REUSABLE_DATA
+            ? new SpanStoragePool(SpanStoragePool.DEFAULT_MAX_POOLED_SPANS)
+            : null;
   }
 
   Clock getClock() {
@@ -66,6 +78,14 @@ final class TracerSharedState {
     return spanLimitsSupplier.get();
   }
 
+  /**
+   * Returns the pool used to recycle span storage, or {@code null} if spans are not recycled.
+   */
+  @Nullable
+  SpanStoragePool getSpanStoragePool() {
+    return spanStoragePool;
+  }
+
   /** Returns the configured {@link Sampler}. */
   Sampler getSampler() {
     return sampler;
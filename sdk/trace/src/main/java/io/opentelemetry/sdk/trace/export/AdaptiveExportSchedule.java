@@ -0,0 +1,98 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.export;
+
+/**
+ * Adjusts the export batch size and schedule delay of a {@link BatchSpanProcessor} worker from the
+ * observed rate at which spans are queued and the observed latency of the exporter.
+ *
+ * <p>The batch size targets the number of spans queued while an export is in progress, so that the
+ * next batch is complete about when the previous export finishes, and the schedule delay targets
+ * the time it takes to queue that many spans. Under bursty load this grows batches instead of
+ * sending many small requests, and under light load this waits for a reasonably sized batch instead
+ * of always waiting for the maximum delay. Both values stay within the configured bounds.
+ *
+ * <p>Observations are only recorded by the worker thread. The current values may be read by any
+ * thread, for example to report them as metrics.
+ */
+final class AdaptiveExportSchedule {
+
+  // Weight of the latest observation in the moving averages.
+  private static final double SMOOTHING_FACTOR = 0.25;
+
+  private final int minExportBatchSize;
+  private final int maxExportBatchSize;
+  private final long minScheduleDelayNanos;
+  private final long maxScheduleDelayNanos;
+
+  // Spans queued per nanosecond and export latency in nanoseconds, negative until observed.
+  private double queueRate = -1;
+  private double exportLatencyNanos = -1;
+
+  private volatile int exportBatchSize;
+  private volatile long scheduleDelayNanos;
+
+  AdaptiveExportSchedule(
+      int minExportBatchSize,
+      int maxExportBatchSize,
+      long minScheduleDelayNanos,
+      long maxScheduleDelayNanos) {
+    this.minExportBatchSize = Math.min(minExportBatchSize, maxExportBatchSize);
+    this.maxExportBatchSize = maxExportBatchSize;
+    this.minScheduleDelayNanos = Math.min(minScheduleDelayNanos, maxScheduleDelayNanos);
+    this.maxScheduleDelayNanos = maxScheduleDelayNanos;
+    // Start with the static configuration until there is something to adapt to.
+    this.exportBatchSize = maxExportBatchSize;
+    this.scheduleDelayNanos = maxScheduleDelayNanos;
+  }
+
+  /**
+   * Records an export.
+   *
+   * @param queuedSpans the number of spans queued since the previous export started
+   * @param intervalNanos the time since the previous export started
+   * @param latencyNanos the time the exporter took to complete the export
+   */
+  void recordExport(int queuedSpans, long intervalNanos, long latencyNanos) {
+    if (intervalNanos <= 0) {
+      return;
+    }
+    queueRate = average(queueRate, (double) queuedSpans / intervalNanos);
+    exportLatencyNanos = average(exportLatencyNanos, latencyNanos);
+
+    // Spans queued while an export is in progress, and at least while waiting the minimum delay.
+    double targetBatchSize = queueRate * Math.max(exportLatencyNanos, minScheduleDelayNanos);
+    int batchSize = (int) clamp(Math.ceil(targetBatchSize), minExportBatchSize, maxExportBatchSize);
+    // Time to queue a full batch, or the maximum delay when nothing is queued.
+    long delayNanos =
+        queueRate > 0
+            ? (long) clamp(batchSize / queueRate, minScheduleDelayNanos, maxScheduleDelayNanos)
+            : maxScheduleDelayNanos;
+    exportBatchSize = batchSize;
+    scheduleDelayNanos = delayNanos;
+  }
+
+  /** Returns the number of spans to export at once. */
+  int getExportBatchSize() {
+    return exportBatchSize;
+  }
+
+  /** Returns the maximum time to wait between two exports. */
+  long getScheduleDelayNanos() {
+    return scheduleDelayNanos;
+  }
+
+  private static double clamp(double value, double min, double max) {
+    return Math.max(min, Math.min(max, value));
+  }
+
+  private static double average(double current, double observed) {
+    if (current < 0) {
+      return observed;
+    }
+    return current + SMOOTHING_FACTOR * (observed - current);
+  }
+}
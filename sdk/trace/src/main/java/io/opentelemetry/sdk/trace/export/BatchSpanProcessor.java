@@ -13,35 +13,55 @@ import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import io.opentelemetry.sdk.internal.JcTools;
+import io.opentelemetry.sdk.internal.QueueOverflowPolicy;
 import io.opentelemetry.sdk.internal.ThrowableUtil;
 import io.opentelemetry.sdk.trace.ReadWriteSpan;
 import io.opentelemetry.sdk.trace.ReadableSpan;
 import io.opentelemetry.sdk.trace.SpanProcessor;
 import io.opentelemetry.sdk.trace.data.SpanData;
-import io.opentelemetry.sdk.trace.internal.JcTools;
+import io.opentelemetry.sdk.trace.internal.ExtendedSpanProcessor;
+import io.opentelemetry.sdk.trace.internal.RecyclableSpan;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.ToLongFunction;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * Implementation of the {@link SpanProcessor} that batches spans exported by the SDK then pushes
  * them to the exporter pipeline.
  *
  * <p>All spans reported by the SDK implementation are first added to a synchronized queue (with a
- * {@code maxQueueSize} maximum size, if queue is full spans are dropped). Spans are exported either
+ * {@code maxQueueSize} maximum size, if queue is full spans are handled according to the configured
+ * {@link QueueOverflowPolicy}, by default they are dropped). Spans are exported either
  * when there are {@code maxExportBatchSize} pending spans or {@code scheduleDelayNanos} has passed
  * since the last export finished.
+ *
+ * <p>When configured with more than one worker, spans are sharded across {@code workerCount}
+ * independent queues, each drained by its own worker thread. The queue is picked by the ending
+ * thread, so a given producer always contends on the same queue.
+ *
+ * <p>The number of exports running at the same time across all workers is bounded by {@code
+ * maxConcurrentExports}, which defaults to one export per worker. When a worker's share of it is
+ * greater than one, the worker assembles and starts exporting the next batch while previous exports
+ * are still in progress, instead of waiting for each export to complete. Exports may then complete
+ * in any order.
  */
-public final class BatchSpanProcessor implements SpanProcessor {
+public final class BatchSpanProcessor implements ExtendedSpanProcessor {
 
   private static final Logger logger = Logger.getLogger(BatchSpanProcessor.class.getName());
 
@@ -52,9 +72,13 @@ public final class BatchSpanProcessor implements SpanProcessor {
   private static final AttributeKey<Boolean> SPAN_PROCESSOR_DROPPED_LABEL =
       AttributeKey.booleanKey("dropped");
   private static final String SPAN_PROCESSOR_TYPE_VALUE = BatchSpanProcessor.class.getSimpleName();
+  // How long a producer parks between attempts to enqueue when blocking on a full queue.
+  private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
 
+  private final SpanExporter spanExporter;
   private final boolean exportUnsampledSpans;
-  private final Worker worker;
+  private final Worker[] workers;
+  private final int maxConcurrentExports;
   private final AtomicBoolean isShutdown = new AtomicBoolean(false);
 
   /**
@@ -75,18 +99,100 @@ public final class BatchSpanProcessor implements SpanProcessor {
       long scheduleDelayNanos,
       int maxQueueSize,
       int maxExportBatchSize,
-      long exporterTimeoutNanos) {
+      long exporterTimeoutNanos,
+      int workerCount,
+      int maxConcurrentExports,
+      QueueOverflowPolicy overflowPolicy,
+      long overflowBlockTimeoutNanos,
+      boolean exportEndedSpansWithoutCopy,
+      boolean adaptiveExport,
+      int minExportBatchSize,
+      long minScheduleDelayNanos) {
+    this.spanExporter = spanExporter;
     this.exportUnsampledSpans = exportUnsampledSpans;
-    this.worker =
-        new Worker(
-            spanExporter,
-            meterProvider,
-            scheduleDelayNanos,
-            maxExportBatchSize,
-            exporterTimeoutNanos,
-            JcTools.newFixedSizeQueue(maxQueueSize));
-    Thread workerThread = new DaemonThreadFactory(WORKER_THREAD_NAME).newThread(worker);
-    workerThread.start();
+    this.maxConcurrentExports = maxConcurrentExports;
+    this.workers = new Worker[workerCount];
+
+    Meter meter = meterProvider.meterBuilder("io.opentelemetry.sdk.trace").build();
+    LongCounter processedSpansCounter =
+        meter
+            .counterBuilder("processedSpans")
+            .setUnit("1")
+            .setDescription(
+                "The number of spans processed by the BatchSpanProcessor. "
+                    + "[dropped=true if they were dropped due to high throughput]")
+            .build();
+
+    // The exports are split evenly across the workers. The workers only need to coordinate when
+    // their shares add up to more than maxConcurrentExports.
+    int workerMaxConcurrentExports = (maxConcurrentExports + workerCount - 1) / workerCount;
+    Semaphore exportPermits =
+        workerMaxConcurrentExports * workerCount > maxConcurrentExports
+            ? new Semaphore(maxConcurrentExports)
+            : null;
+    // Split the configured capacity across the shards so the total stays close to maxQueueSize.
+    int shardQueueSize = (maxQueueSize + workerCount - 1) / workerCount;
+    DaemonThreadFactory threadFactory = new DaemonThreadFactory(WORKER_THREAD_NAME);
+    for (int i = 0; i < workerCount; i++) {
+      workers[i] =
+          new Worker(
+              spanExporter,
+              processedSpansCounter,
+              scheduleDelayNanos,
+              maxExportBatchSize,
+              exporterTimeoutNanos,
+              newQueue(overflowPolicy, shardQueueSize),
+              workerMaxConcurrentExports,
+              exportPermits,
+              overflowPolicy,
+              overflowBlockTimeoutNanos,
+              isShutdown,
+              exportEndedSpansWithoutCopy,
+              adaptiveExport
+                  ? new AdaptiveExportSchedule(
+                      minExportBatchSize,
+                      maxExportBatchSize,
+                      minScheduleDelayNanos,
+                      scheduleDelayNanos)
+                  : null);
+    }
+    meter
+        .gaugeBuilder("queueSize")
+        .ofLongs()
+        .setDescription("The number of items queued")
+        .setUnit("1")
+        .buildWithCallback(
+            result ->
+                result.record(
+                    queueSize(),
+                    Attributes.of(SPAN_PROCESSOR_TYPE_LABEL, SPAN_PROCESSOR_TYPE_VALUE)));
+    if (adaptiveExport) {
+      // With several workers, the batch sizes add up as the workers export concurrently, while the
+      // longest delay bounds how long a span may wait in a queue.
+      meter
+          .gaugeBuilder("exportBatchSize")
+          .ofLongs()
+          .setDescription("The number of spans the BatchSpanProcessor currently exports at once")
+          .setUnit("1")
+          .buildWithCallback(
+              result ->
+                  result.record(
+                      sumOf(Worker::exportBatchSize),
+                      Attributes.of(SPAN_PROCESSOR_TYPE_LABEL, SPAN_PROCESSOR_TYPE_VALUE)));
+      meter
+          .gaugeBuilder("scheduleDelay")
+          .ofLongs()
+          .setDescription("The current delay between two exports of the BatchSpanProcessor")
+          .setUnit("ms")
+          .buildWithCallback(
+              result ->
+                  result.record(
+                      TimeUnit.NANOSECONDS.toMillis(maxOf(Worker::scheduleDelayNanos)),
+                      Attributes.of(SPAN_PROCESSOR_TYPE_LABEL, SPAN_PROCESSOR_TYPE_VALUE)));
+    }
+    for (Worker worker : workers) {
+      threadFactory.newThread(worker).start();
+    }
   }
 
   @Override
@@ -99,9 +205,80 @@ public final class BatchSpanProcessor implements SpanProcessor {
 
   @Override
   public void onEnd(ReadableSpan span) {
-    if (span != null && (exportUnsampledSpans || span.getSpanContext().isSampled())) {
-      worker.addSpan(span);
+    if (isExported(span)) {
+      // Released by the worker once the span was exported or dropped.
+      RecyclableSpans.retain(span);
+      workerFor().addSpan(span);
+    }
+  }
+
+  @Override
+  public void onEndBatch(List<ReadableSpan> spans) {
+    int exported = 0;
+    for (int i = 0; i < spans.size(); i++) {
+      ReadableSpan span = spans.get(i);
+      if (isExported(span)) {
+        // Released by the worker once the span was exported or dropped.
+        RecyclableSpans.retain(span);
+        exported++;
+      }
+    }
+    Worker worker = workerFor();
+    if (exported == spans.size()) {
+      // Usually all spans are sampled, and are enqueued together without copying the list.
+      worker.addSpans(spans);
+      return;
+    }
+    for (int i = 0; i < spans.size(); i++) {
+      ReadableSpan span = spans.get(i);
+      if (isExported(span)) {
+        worker.addSpan(span);
+      }
+    }
+  }
+
+  private boolean isExported(@Nullable ReadableSpan span) {
+    return span != null && (exportUnsampledSpans || span.getSpanContext().isSampled());
+  }
+
+  private static Queue<ReadableSpan> newQueue(QueueOverflowPolicy overflowPolicy, int capacity) {
+    // Dropping the oldest span requires producers to poll the queue, which the single-consumer
+    // JcTools queue does not allow.
+    if (overflowPolicy == QueueOverflowPolicy.DROP_OLDEST) {
+      return new ArrayBlockingQueue<>(capacity);
+    }
+    return JcTools.newFixedSizeQueue(capacity);
+  }
+
+  private Worker workerFor() {
+    if (workers.length == 1) {
+      return workers[0];
+    }
+    return workers[(int) (Thread.currentThread().getId() % workers.length)];
+  }
+
+  private long sumOf(ToLongFunction<Worker> value) {
+    long sum = 0;
+    for (Worker worker : workers) {
+      sum += value.applyAsLong(worker);
+    }
+    return sum;
+  }
+
+  private long maxOf(ToLongFunction<Worker> value) {
+    long max = Long.MIN_VALUE;
+    for (Worker worker : workers) {
+      max = Math.max(max, value.applyAsLong(worker));
     }
+    return max;
+  }
+
+  private long queueSize() {
+    long size = 0;
+    for (Worker worker : workers) {
+      size += worker.queue.size();
+    }
+    return size;
   }
 
   @Override
@@ -114,12 +291,38 @@ public final class BatchSpanProcessor implements SpanProcessor {
     if (isShutdown.getAndSet(true)) {
       return CompletableResultCode.ofSuccess();
     }
-    return worker.shutdown();
+    CompletableResultCode result = new CompletableResultCode();
+
+    CompletableResultCode flushResult = forceFlush();
+    flushResult.whenComplete(
+        () -> {
+          for (Worker worker : workers) {
+            worker.continueWork = false;
+          }
+          CompletableResultCode shutdownResult = spanExporter.shutdown();
+          shutdownResult.whenComplete(
+              () -> {
+                if (!flushResult.isSuccess() || !shutdownResult.isSuccess()) {
+                  result.fail();
+                } else {
+                  result.succeed();
+                }
+              });
+        });
+
+    return result;
   }
 
   @Override
   public CompletableResultCode forceFlush() {
-    return worker.forceFlush();
+    if (workers.length == 1) {
+      return workers[0].forceFlush();
+    }
+    List<CompletableResultCode> results = new ArrayList<>(workers.length);
+    for (Worker worker : workers) {
+      results.add(worker.forceFlush());
+    }
+    return CompletableResultCode.ofAll(results);
   }
 
   /**
@@ -128,32 +331,55 @@ public final class BatchSpanProcessor implements SpanProcessor {
    * @since 1.37.0
    */
   public SpanExporter getSpanExporter() {
-    return worker.spanExporter;
+    return spanExporter;
   }
 
   // Visible for testing
   List<SpanData> getBatch() {
-    return worker.batch;
+    List<SpanData> batch = new ArrayList<>();
+    for (Worker worker : workers) {
+      batch.addAll(worker.batch);
+    }
+    return batch;
   }
 
   // Visible for testing
-  Queue<ReadableSpan> getQueue() {
-    return worker.queue;
+  List<ReadableSpan> getQueue() {
+    List<ReadableSpan> queue = new ArrayList<>();
+    for (Worker worker : workers) {
+      queue.addAll(worker.queue);
+    }
+    return queue;
+  }
+
+  // Visible for testing
+  int getWorkerCount() {
+    return workers.length;
   }
 
   @Override
   public String toString() {
     return "BatchSpanProcessor{"
         + "spanExporter="
-        + worker.spanExporter
+        + spanExporter
         + ", exportUnsampledSpans="
         + exportUnsampledSpans
         + ", scheduleDelayNanos="
-        + worker.scheduleDelayNanos
+        + workers[0].scheduleDelayNanos
         + ", maxExportBatchSize="
-        + worker.maxExportBatchSize
+        + workers[0].maxExportBatchSize
         + ", exporterTimeoutNanos="
-        + worker.exporterTimeoutNanos
+        + workers[0].exporterTimeoutNanos
+        + ", workerCount="
+        + workers.length
+        + ", maxConcurrentExports="
+        + maxConcurrentExports
+        + ", overflowPolicy="
+        + workers[0].overflowPolicy
+        + ", exportEndedSpansWithoutCopy="
+        + workers[0].exportEndedSpansWithoutCopy
+        + ", adaptiveExport="
+        + (workers[0].adaptiveSchedule != null)
         + '}';
   }
 
@@ -169,8 +395,25 @@ public final class BatchSpanProcessor implements SpanProcessor {
     private final long scheduleDelayNanos;
     private final int maxExportBatchSize;
     private final long exporterTimeoutNanos;
+    private final int maxConcurrentExports;
+    // Shared between all workers of a processor, null when exports need no coordination.
+    @Nullable private final Semaphore exportPermits;
+    private final QueueOverflowPolicy overflowPolicy;
+    private final long overflowBlockTimeoutNanos;
+    // The shutdown flag of the processor.
+    private final AtomicBoolean isShutdown;
+    private final boolean exportEndedSpansWithoutCopy;
+    // Null when the configured batch size and schedule delay are used for every export.
+    @Nullable private final AdaptiveExportSchedule adaptiveSchedule;
 
     private long nextExportTime;
+    private long lastExportStartNanos;
+    private int lastQueueSize;
+
+    // Exports in progress, oldest first.
+    private final ArrayDeque<PendingExport> pendingExports = new ArrayDeque<>();
+    // Batch lists of completed exports, reused to assemble the following batches.
+    private final ArrayDeque<ArrayList<SpanData>> freeBatches = new ArrayDeque<>();
 
     private final Queue<ReadableSpan> queue;
     // When waiting on the spans queue, exporter thread sets this atomic to the number of more
@@ -183,40 +426,39 @@ public final class BatchSpanProcessor implements SpanProcessor {
     private final BlockingQueue<Boolean> signal;
     private final AtomicReference<CompletableResultCode> flushRequested = new AtomicReference<>();
     private volatile boolean continueWork = true;
-    private final ArrayList<SpanData> batch;
+    private ArrayList<SpanData> batch;
+    // The spans of the current batch whose storage is recycled once the export completes.
+    private ArrayList<RecyclableSpan> recyclableSpans;
 
     private Worker(
         SpanExporter spanExporter,
-        MeterProvider meterProvider,
+        LongCounter processedSpansCounter,
         long scheduleDelayNanos,
         int maxExportBatchSize,
         long exporterTimeoutNanos,
-        Queue<ReadableSpan> queue) {
+        Queue<ReadableSpan> queue,
+        int maxConcurrentExports,
+        @Nullable Semaphore exportPermits,
+        QueueOverflowPolicy overflowPolicy,
+        long overflowBlockTimeoutNanos,
+        AtomicBoolean isShutdown,
+        boolean exportEndedSpansWithoutCopy,
+        @Nullable AdaptiveExportSchedule adaptiveSchedule) {
       this.spanExporter = spanExporter;
+      this.processedSpansCounter = processedSpansCounter;
       this.scheduleDelayNanos = scheduleDelayNanos;
       this.maxExportBatchSize = maxExportBatchSize;
       this.exporterTimeoutNanos = exporterTimeoutNanos;
       this.queue = queue;
+      this.maxConcurrentExports = maxConcurrentExports;
+      this.exportPermits = exportPermits;
+      this.overflowPolicy = overflowPolicy;
+      this.overflowBlockTimeoutNanos = overflowBlockTimeoutNanos;
+      this.isShutdown = isShutdown;
+      this.exportEndedSpansWithoutCopy = exportEndedSpansWithoutCopy;
+      this.adaptiveSchedule = adaptiveSchedule;
+      this.lastExportStartNanos = System.nanoTime();
       this.signal = new ArrayBlockingQueue<>(1);
-      Meter meter = meterProvider.meterBuilder("io.opentelemetry.sdk.trace").build();
-      meter
-          .gaugeBuilder("queueSize")
-          .ofLongs()
-          .setDescription("The number of items queued")
-          .setUnit("1")
-          .buildWithCallback(
-              result ->
-                  result.record(
-                      queue.size(),
-                      Attributes.of(SPAN_PROCESSOR_TYPE_LABEL, SPAN_PROCESSOR_TYPE_VALUE)));
-      processedSpansCounter =
-          meter
-              .counterBuilder("processedSpans")
-              .setUnit("1")
-              .setDescription(
-                  "The number of spans processed by the BatchSpanProcessor. "
-                      + "[dropped=true if they were dropped due to high throughput]")
-              .build();
       droppedAttrs =
           Attributes.of(
               SPAN_PROCESSOR_TYPE_LABEL,
@@ -231,11 +473,13 @@ public final class BatchSpanProcessor implements SpanProcessor {
               false);
 
       this.batch = new ArrayList<>(this.maxExportBatchSize);
+      this.recyclableSpans = new ArrayList<>();
     }
 
     private void addSpan(ReadableSpan span) {
-      if (!queue.offer(span)) {
+      if (!queue.offer(span) && !handleOverflow(span)) {
         processedSpansCounter.add(1, droppedAttrs);
+        RecyclableSpans.release(span);
       } else {
         if (queue.size() >= spansNeeded.get()) {
           signal.offer(true);
@@ -243,6 +487,54 @@ public final class BatchSpanProcessor implements SpanProcessor {
       }
     }
 
+    private void addSpans(List<ReadableSpan> spans) {
+      int added = JcTools.fill(queue, spans);
+      if (added < spans.size()) {
+        // The queue is full, apply the overflow policy to the remaining spans one at a time.
+        for (int i = added; i < spans.size(); i++) {
+          ReadableSpan span = spans.get(i);
+          if (!queue.offer(span) && !handleOverflow(span)) {
+            processedSpansCounter.add(1, droppedAttrs);
+            RecyclableSpans.release(span);
+          }
+        }
+      }
+      if (!spans.isEmpty() && queue.size() >= spansNeeded.get()) {
+        signal.offer(true);
+      }
+    }
+
+    // Returns whether the span was enqueued after the queue was found to be full.
+    private boolean handleOverflow(ReadableSpan span) {
+      switch (overflowPolicy) {
+        case DROP_OLDEST:
+          do {
+            ReadableSpan dropped = queue.poll();
+            if (dropped != null) {
+              processedSpansCounter.add(1, droppedAttrs);
+              RecyclableSpans.release(dropped);
+            }
+          } while (!queue.offer(span));
+          return true;
+        case BLOCK:
+          // Wake up the worker in case it is waiting for more spans before draining.
+          signal.offer(true);
+          long deadline = System.nanoTime() + overflowBlockTimeoutNanos;
+          do {
+            long remaining = deadline - System.nanoTime();
+            // The queue is no longer drained once the processor is shut down.
+            if (remaining <= 0 || isShutdown.get()) {
+              return false;
+            }
+            LockSupport.parkNanos(Math.min(remaining, BLOCK_PARK_NANOS));
+          } while (!queue.offer(span));
+          return true;
+        case DROP_NEWEST:
+          break;
+      }
+      return false;
+    }
+
     @Override
     public void run() {
       updateNextExportTime();
@@ -251,10 +543,13 @@ public final class BatchSpanProcessor implements SpanProcessor {
         if (flushRequested.get() != null) {
           flush();
         }
-        JcTools.drain(
-            queue, maxExportBatchSize - batch.size(), span -> batch.add(span.toSpanData()));
+        if (!pendingExports.isEmpty()) {
+          completeFinishedExports();
+        }
+        int exportBatchSize = exportBatchSize();
+        JcTools.drain(queue, exportBatchSize - batch.size(), span -> batch.add(toSpanData(span)));
 
-        if (batch.size() >= maxExportBatchSize || System.nanoTime() >= nextExportTime) {
+        if (batch.size() >= exportBatchSize || System.nanoTime() >= nextExportTime) {
           exportCurrentBatch();
           updateNextExportTime();
         }
@@ -262,7 +557,7 @@ public final class BatchSpanProcessor implements SpanProcessor {
           try {
             long pollWaitTime = nextExportTime - System.nanoTime();
             if (pollWaitTime > 0) {
-              spansNeeded.set(maxExportBatchSize - batch.size());
+              spansNeeded.set(exportBatchSize - batch.size());
               signal.poll(pollWaitTime, TimeUnit.NANOSECONDS);
               spansNeeded.set(Integer.MAX_VALUE);
             }
@@ -278,14 +573,20 @@ public final class BatchSpanProcessor implements SpanProcessor {
       int spansToFlush = queue.size();
       while (spansToFlush > 0) {
         ReadableSpan span = queue.poll();
-        assert span != null;
-        batch.add(span.toSpanData());
+        if (span == null) {
+          // Producers may remove spans concurrently when dropping the oldest span.
+          break;
+        }
+        batch.add(toSpanData(span));
         spansToFlush--;
         if (batch.size() >= maxExportBatchSize) {
           exportCurrentBatch();
         }
       }
       exportCurrentBatch();
+      while (!pendingExports.isEmpty()) {
+        awaitOldestExport();
+      }
       CompletableResultCode flushResult = flushRequested.get();
       if (flushResult != null) {
         flushResult.succeed();
@@ -293,29 +594,29 @@ public final class BatchSpanProcessor implements SpanProcessor {
       }
     }
 
-    private void updateNextExportTime() {
-      nextExportTime = System.nanoTime() + scheduleDelayNanos;
+    private SpanData toSpanData(ReadableSpan span) {
+      if (span instanceof RecyclableSpan && ((RecyclableSpan) span).isRecyclable()) {
+        recyclableSpans.add((RecyclableSpan) span);
+      }
+      // An ended SDK span no longer changes, so it can be exported directly without a snapshot.
+      if (exportEndedSpansWithoutCopy && span instanceof SpanData && span.hasEnded()) {
+        return (SpanData) span;
+      }
+      return span.toSpanData();
     }
 
-    private CompletableResultCode shutdown() {
-      CompletableResultCode result = new CompletableResultCode();
+    private void updateNextExportTime() {
+      nextExportTime = System.nanoTime() + scheduleDelayNanos();
+    }
 
-      CompletableResultCode flushResult = forceFlush();
-      flushResult.whenComplete(
-          () -> {
-            continueWork = false;
-            CompletableResultCode shutdownResult = spanExporter.shutdown();
-            shutdownResult.whenComplete(
-                () -> {
-                  if (!flushResult.isSuccess() || !shutdownResult.isSuccess()) {
-                    result.fail();
-                  } else {
-                    result.succeed();
-                  }
-                });
-          });
+    private int exportBatchSize() {
+      return adaptiveSchedule == null ? maxExportBatchSize : adaptiveSchedule.getExportBatchSize();
+    }
 
-      return result;
+    private long scheduleDelayNanos() {
+      return adaptiveSchedule == null
+          ? scheduleDelayNanos
+          : adaptiveSchedule.getScheduleDelayNanos();
     }
 
     private CompletableResultCode forceFlush() {
@@ -335,20 +636,176 @@ public final class BatchSpanProcessor implements SpanProcessor {
       if (batch.isEmpty()) {
         return;
       }
+      // Wait for the oldest export to complete when as many as allowed are in progress.
+      while (pendingExports.size() >= maxConcurrentExports) {
+        awaitOldestExport();
+      }
+      if (exportPermits != null && !acquireExportPermit(exportPermits)) {
+        dropCurrentBatch();
+        return;
+      }
+
+      long exportStartNanos = System.nanoTime();
+      int queueSize = queue.size();
+      // The spans queued since the previous export started are the spans of this batch, plus any
+      // growth of the queue in the meantime.
+      int queuedSpans = Math.max(0, batch.size() + queueSize - lastQueueSize);
+      PendingExport export =
+          new PendingExport(
+              batch,
+              recyclableSpans,
+              exportStartNanos,
+              queuedSpans,
+              exportStartNanos - lastExportStartNanos);
+      lastExportStartNanos = exportStartNanos;
+      lastQueueSize = queueSize;
+      ArrayList<SpanData> nextBatch = freeBatches.poll();
+      batch = nextBatch != null ? nextBatch : new ArrayList<>(maxExportBatchSize);
+      if (!recyclableSpans.isEmpty()) {
+        recyclableSpans = new ArrayList<>();
+      }
 
+      CompletableResultCode result;
       try {
-        CompletableResultCode result = spanExporter.export(Collections.unmodifiableList(batch));
-        result.join(exporterTimeoutNanos, TimeUnit.NANOSECONDS);
-        if (result.isSuccess()) {
-          processedSpansCounter.add(batch.size(), exportedAttrs);
-        } else {
-          logger.log(Level.FINE, "Exporter failed");
-        }
+        result = spanExporter.export(Collections.unmodifiableList(export.batch));
       } catch (Throwable t) {
         ThrowableUtil.propagateIfFatal(t);
         logger.log(Level.WARNING, "Exporter threw an Exception", t);
-      } finally {
-        batch.clear();
+        result = CompletableResultCode.ofFailure();
+      }
+      export.start(result);
+      pendingExports.add(export);
+      // Without concurrent exports, complete the export before assembling the next batch.
+      if (maxConcurrentExports == 1) {
+        awaitOldestExport();
+      }
+    }
+
+    // Returns whether a permit was acquired. Waits at most for the exporter timeout once this
+    // worker has no export of its own in progress, so that shutdown is not held up by the exports
+    // of other workers.
+    private boolean acquireExportPermit(Semaphore exportPermits) {
+      // Permits held by exports of this worker that timed out are only returned once this worker
+      // gives up on them, so wait on its own exports rather than only on the semaphore.
+      while (!exportPermits.tryAcquire()) {
+        if (pendingExports.isEmpty()) {
+          try {
+            if (exportPermits.tryAcquire(exporterTimeoutNanos, TimeUnit.NANOSECONDS)) {
+              return true;
+            }
+            logger.log(Level.WARNING, "Timed out waiting for the exports of other workers");
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return false;
+        }
+        awaitOldestExport();
+      }
+      return true;
+    }
+
+    private void dropCurrentBatch() {
+      processedSpansCounter.add(batch.size(), droppedAttrs);
+      batch.clear();
+      releaseSpans(recyclableSpans);
+      recyclableSpans.clear();
+    }
+
+    private void awaitOldestExport() {
+      PendingExport export = pendingExports.remove();
+      long remainingNanos = export.startNanos + exporterTimeoutNanos - System.nanoTime();
+      if (remainingNanos > 0) {
+        export.result.join(remainingNanos, TimeUnit.NANOSECONDS);
+      }
+      completeExport(export);
+    }
+
+    // Exports may complete in any order, so all of them are checked.
+    private void completeFinishedExports() {
+      long now = System.nanoTime();
+      for (Iterator<PendingExport> iterator = pendingExports.iterator(); iterator.hasNext(); ) {
+        PendingExport export = iterator.next();
+        if (export.result.isDone() || now - export.startNanos >= exporterTimeoutNanos) {
+          iterator.remove();
+          completeExport(export);
+        }
+      }
+    }
+
+    private void completeExport(PendingExport export) {
+      boolean exportDone = export.result.isDone();
+      if (export.result.isSuccess()) {
+        processedSpansCounter.add(export.batch.size(), exportedAttrs);
+      } else {
+        logger.log(Level.FINE, "Exporter failed");
+      }
+      if (adaptiveSchedule != null) {
+        long completionNanos = exportDone ? export.completionNanos : 0;
+        long latencyNanos =
+            (completionNanos != 0 ? completionNanos : System.nanoTime()) - export.startNanos;
+        adaptiveSchedule.recordExport(export.queuedSpans, export.intervalNanos, latencyNanos);
+      }
+      export.releasePermit();
+      if (exportDone) {
+        releaseSpans(export.recyclableSpans);
+        export.batch.clear();
+        freeBatches.add(export.batch);
+      } else if (!export.recyclableSpans.isEmpty()) {
+        // An export that timed out may still read the spans, so they are only released once it
+        // completes. The batch list is left to the garbage collector.
+        export.result.whenComplete(() -> releaseSpans(export.recyclableSpans));
+      }
+    }
+
+    private static void releaseSpans(List<RecyclableSpan> recyclableSpans) {
+      for (int i = 0; i < recyclableSpans.size(); i++) {
+        recyclableSpans.get(i).release();
+      }
+    }
+
+    // An export started by this worker whose completion was not yet handled.
+    private final class PendingExport {
+
+      private final ArrayList<SpanData> batch;
+      private final List<RecyclableSpan> recyclableSpans;
+      private final long startNanos;
+      private final int queuedSpans;
+      private final long intervalNanos;
+      private final AtomicBoolean permitHeld = new AtomicBoolean(true);
+      private CompletableResultCode result = CompletableResultCode.ofFailure();
+      private volatile long completionNanos;
+
+      private PendingExport(
+          ArrayList<SpanData> batch,
+          List<RecyclableSpan> recyclableSpans,
+          long startNanos,
+          int queuedSpans,
+          long intervalNanos) {
+        this.batch = batch;
+        this.recyclableSpans = recyclableSpans;
+        this.startNanos = startNanos;
+        this.queuedSpans = queuedSpans;
+        this.intervalNanos = intervalNanos;
+      }
+
+      private void start(CompletableResultCode result) {
+        this.result = result;
+        result.whenComplete(this::onComplete);
+      }
+
+      private void onComplete() {
+        completionNanos = System.nanoTime();
+        // Other workers may be waiting for the permit, and this worker for its pending export.
+        releasePermit();
+        if (maxConcurrentExports > 1) {
+          signal.offer(true);
+        }
+      }
+
+      private void releasePermit() {
+        if (exportPermits != null && permitHeld.getAndSet(false)) {
+          exportPermits.release();
+        }
       }
     }
   }
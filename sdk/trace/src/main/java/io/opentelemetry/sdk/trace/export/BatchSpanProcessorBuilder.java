@@ -9,6 +9,8 @@ import static io.opentelemetry.api.internal.Utils.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.sdk.internal.QueueOverflowPolicy;
+import io.opentelemetry.sdk.trace.internal.SdkTracerProviderUtil;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
@@ -23,6 +25,14 @@ public final class BatchSpanProcessorBuilder {
   static final int DEFAULT_MAX_EXPORT_BATCH_SIZE = 512;
   // Visible for testing
   static final int DEFAULT_EXPORT_TIMEOUT_MILLIS = 30_000;
+  // Visible for testing
+  static final int DEFAULT_WORKER_COUNT = 1;
+  // Visible for testing
+  static final long DEFAULT_OVERFLOW_BLOCK_TIMEOUT_MILLIS = 100;
+  // Visible for testing
+  static final int DEFAULT_MIN_EXPORT_BATCH_SIZE = 64;
+  // Visible for testing
+  static final long DEFAULT_MIN_SCHEDULE_DELAY_MILLIS = 200;
 
   private final SpanExporter spanExporter;
   private boolean exportUnsampledSpans = false;
@@ -30,6 +40,17 @@ public final class BatchSpanProcessorBuilder {
   private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
   private int maxExportBatchSize = DEFAULT_MAX_EXPORT_BATCH_SIZE;
   private long exporterTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_EXPORT_TIMEOUT_MILLIS);
+  private int workerCount = DEFAULT_WORKER_COUNT;
+  // 0 when unset, allowing one export in progress per worker.
+  private int maxConcurrentExports = 0;
+  private QueueOverflowPolicy overflowPolicy = QueueOverflowPolicy.DROP_NEWEST;
+  private long overflowBlockTimeoutNanos =
+      TimeUnit.MILLISECONDS.toNanos(DEFAULT_OVERFLOW_BLOCK_TIMEOUT_MILLIS);
+  private boolean exportEndedSpansWithoutCopy = false;
+  private boolean adaptiveExport = false;
+  private int minExportBatchSize = DEFAULT_MIN_EXPORT_BATCH_SIZE;
+  private long minScheduleDelayNanos =
+      TimeUnit.MILLISECONDS.toNanos(DEFAULT_MIN_SCHEDULE_DELAY_MILLIS);
   private MeterProvider meterProvider = MeterProvider.noop();
 
   BatchSpanProcessorBuilder(SpanExporter spanExporter) {
@@ -134,6 +155,210 @@ public final class BatchSpanProcessorBuilder {
     return this;
   }
 
+  /**
+   * Sets the number of worker threads, each draining its own queue. Spans are assigned to a queue
+   * based on the thread ending them, and {@code maxQueueSize} is split evenly across the queues.
+   * Using more than one worker reduces contention between producers and allows batches to be
+   * assembled in parallel on hosts with many cores.
+   *
+   * <p>Default value is {@code 1}.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkTracerProviderUtil#setWorkerCount(BatchSpanProcessorBuilder, int)}.
+   *
+   * @param workerCount the number of worker threads.
+   * @return this.
+   * @see BatchSpanProcessorBuilder#DEFAULT_WORKER_COUNT
+   */
+  BatchSpanProcessorBuilder setWorkerCount(int workerCount) {
+    checkArgument(workerCount > 0, "workerCount must be positive.");
+    this.workerCount = workerCount;
+    return this;
+  }
+
+  // Visible for testing
+  int getWorkerCount() {
+    return workerCount;
+  }
+
+  /**
+   * Sets the maximum number of exports that may be in progress at the same time across all workers.
+   * Values greater than {@code 1} require the {@link SpanExporter} to support concurrent calls to
+   * {@link SpanExporter#export(java.util.Collection)}.
+   *
+   * <p>The exports are split evenly across the workers. When a worker may have more than one
+   * export in progress, it starts exporting a batch without waiting for its previous exports to
+   * complete, which raises throughput when the exporter has a high round trip latency. Exports may
+   * complete in any order. Each export is still abandoned after the {@linkplain
+   * #setExporterTimeout(long, TimeUnit) exporter timeout}.
+   *
+   * <p>If unset, defaults to the {@linkplain #setWorkerCount(int) number of workers}, so that each
+   * worker has one export in progress at a time.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkTracerProviderUtil#setMaxConcurrentExports(BatchSpanProcessorBuilder, int)}.
+   *
+   * @param maxConcurrentExports the maximum number of concurrent exports.
+   * @return this.
+   */
+  BatchSpanProcessorBuilder setMaxConcurrentExports(int maxConcurrentExports) {
+    checkArgument(maxConcurrentExports > 0, "maxConcurrentExports must be positive.");
+    this.maxConcurrentExports = maxConcurrentExports;
+    return this;
+  }
+
+  // Visible for testing
+  int getMaxConcurrentExports() {
+    return maxConcurrentExports > 0 ? maxConcurrentExports : workerCount;
+  }
+
+  /**
+   * Sets the {@link QueueOverflowPolicy} applied when a span ends while the queue is full. If
+   * unset, defaults to {@link QueueOverflowPolicy#DROP_NEWEST}.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkTracerProviderUtil#setOverflowPolicy(BatchSpanProcessorBuilder, QueueOverflowPolicy)}.
+   */
+  BatchSpanProcessorBuilder setOverflowPolicy(QueueOverflowPolicy overflowPolicy) {
+    requireNonNull(overflowPolicy, "overflowPolicy");
+    this.overflowPolicy = overflowPolicy;
+    return this;
+  }
+
+  // Visible for testing
+  QueueOverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
+  }
+
+  /**
+   * Sets the maximum time a thread ending a span waits for space in a full queue when using {@link
+   * QueueOverflowPolicy#BLOCK}, after which the span is dropped. Spans ended after the processor
+   * was shut down are dropped without waiting. If unset, defaults to 100ms.
+   */
+  BatchSpanProcessorBuilder setOverflowBlockTimeout(long timeout, TimeUnit unit) {
+    requireNonNull(unit, "unit");
+    checkArgument(timeout >= 0, "timeout must be non-negative");
+    overflowBlockTimeoutNanos = unit.toNanos(timeout);
+    return this;
+  }
+
+  /**
+   * Sets the maximum time a thread ending a span waits for space in a full queue when using {@link
+   * QueueOverflowPolicy#BLOCK}, after which the span is dropped. Spans ended after the processor
+   * was shut down are dropped without waiting. If unset, defaults to 100ms.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkTracerProviderUtil#setOverflowBlockTimeout(BatchSpanProcessorBuilder, Duration)}.
+   */
+  BatchSpanProcessorBuilder setOverflowBlockTimeout(Duration timeout) {
+    requireNonNull(timeout, "timeout");
+    return setOverflowBlockTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  // Visible for testing
+  long getOverflowBlockTimeoutNanos() {
+    return overflowBlockTimeoutNanos;
+  }
+
+  /**
+   * Sets whether ended spans that already implement {@link
+   * io.opentelemetry.sdk.trace.data.SpanData}, such as the spans created by the SDK, are handed to
+   * the {@link SpanExporter} as is instead of being copied with {@link
+   * io.opentelemetry.sdk.trace.ReadableSpan#toSpanData()}. This avoids allocating a snapshot for
+   * every exported span. If unset, defaults to copying.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkTracerProviderUtil#setExportEndedSpansWithoutCopy(BatchSpanProcessorBuilder, boolean)}.
+   */
+  BatchSpanProcessorBuilder setExportEndedSpansWithoutCopy(boolean exportEndedSpansWithoutCopy) {
+    this.exportEndedSpansWithoutCopy = exportEndedSpansWithoutCopy;
+    return this;
+  }
+
+  // Visible for testing
+  boolean getExportEndedSpansWithoutCopy() {
+    return exportEndedSpansWithoutCopy;
+  }
+
+  /**
+   * Sets whether the export batch size and schedule delay adapt to the load. If unset, defaults to
+   * {@code false}, using the configured values for every export.
+   *
+   * <p>When enabled, the processor observes the rate at which spans are queued and the time the
+   * {@link SpanExporter} takes to complete exports. It uses larger batches when spans are queued
+   * faster than they can be exported one small batch at a time, and shorter delays when a batch
+   * fills quickly. The batch size stays between {@code minExportBatchSize} and {@code
+   * maxExportBatchSize}, and the delay between {@code minScheduleDelay} and {@code scheduleDelay}.
+   * The current values are reported through the {@code exportBatchSize} and {@code scheduleDelay}
+   * metrics.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkTracerProviderUtil#setAdaptiveExport(BatchSpanProcessorBuilder, boolean)}.
+   */
+  BatchSpanProcessorBuilder setAdaptiveExport(boolean adaptiveExport) {
+    this.adaptiveExport = adaptiveExport;
+    return this;
+  }
+
+  // Visible for testing
+  boolean getAdaptiveExport() {
+    return adaptiveExport;
+  }
+
+  /**
+   * Sets the minimum batch size used when {@linkplain #setAdaptiveExport(boolean) adaptive export}
+   * is enabled. Values greater than {@code maxExportBatchSize} are capped to it.
+   *
+   * <p>Default value is {@code 64}.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkTracerProviderUtil#setMinExportBatchSize(BatchSpanProcessorBuilder, int)}.
+   *
+   * @param minExportBatchSize the minimum batch size for adaptive exports.
+   * @return this.
+   * @see BatchSpanProcessorBuilder#DEFAULT_MIN_EXPORT_BATCH_SIZE
+   */
+  BatchSpanProcessorBuilder setMinExportBatchSize(int minExportBatchSize) {
+    checkArgument(minExportBatchSize > 0, "minExportBatchSize must be positive.");
+    this.minExportBatchSize = minExportBatchSize;
+    return this;
+  }
+
+  // Visible for testing
+  int getMinExportBatchSize() {
+    return minExportBatchSize;
+  }
+
+  /**
+   * Sets the minimum delay between two consecutive exports used when {@linkplain
+   * #setAdaptiveExport(boolean) adaptive export} is enabled. Values greater than the schedule delay
+   * are capped to it. If unset, defaults to 200ms.
+   */
+  BatchSpanProcessorBuilder setMinScheduleDelay(long delay, TimeUnit unit) {
+    requireNonNull(unit, "unit");
+    checkArgument(delay >= 0, "delay must be non-negative");
+    minScheduleDelayNanos = unit.toNanos(delay);
+    return this;
+  }
+
+  /**
+   * Sets the minimum delay between two consecutive exports used when {@linkplain
+   * #setAdaptiveExport(boolean) adaptive export} is enabled. Values greater than the schedule delay
+   * are capped to it. If unset, defaults to 200ms.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkTracerProviderUtil#setMinScheduleDelay(BatchSpanProcessorBuilder, Duration)}.
+   */
+  BatchSpanProcessorBuilder setMinScheduleDelay(Duration delay) {
+    requireNonNull(delay, "delay");
+    return setMinScheduleDelay(delay.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  // Visible for testing
+  long getMinScheduleDelayNanos() {
+    return minScheduleDelayNanos;
+  }
+
   /**
    * Sets the {@link MeterProvider} to use to collect metrics related to batch export. If not set,
    * metrics will not be collected.
@@ -163,6 +388,14 @@ public final class BatchSpanProcessorBuilder {
         scheduleDelayNanos,
         maxQueueSize,
         maxExportBatchSize,
-        exporterTimeoutNanos);
+        exporterTimeoutNanos,
+        workerCount,
+        getMaxConcurrentExports(),
+        overflowPolicy,
+        overflowBlockTimeoutNanos,
+        exportEndedSpansWithoutCopy,
+        adaptiveExport,
+        minExportBatchSize,
+        minScheduleDelayNanos);
   }
 }
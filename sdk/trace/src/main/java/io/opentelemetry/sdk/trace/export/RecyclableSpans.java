@@ -0,0 +1,39 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.export;
+
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.internal.RecyclableSpan;
+import javax.annotation.Nullable;
+
+/** Helpers for span processors that keep spans whose storage may be recycled. */
+final class RecyclableSpans {
+
+  /**
+   * Retains the span if its storage is recycled, and returns it so it can be released once no
+   * longer used. Returns {@code null} if the span does not need to be released.
+   */
+  @Nullable
+  static RecyclableSpan retain(ReadableSpan span) {
+    if (span instanceof RecyclableSpan) {
+      RecyclableSpan recyclableSpan = (RecyclableSpan) span;
+      if (recyclableSpan.isRecyclable()) {
+        recyclableSpan.retain();
+        return recyclableSpan;
+      }
+    }
+    return null;
+  }
+
+  /** Releases the span if its storage is recycled. */
+  static void release(ReadableSpan span) {
+    if (span instanceof RecyclableSpan) {
+      ((RecyclableSpan) span).release();
+    }
+  }
+
+  private RecyclableSpans() {}
+}
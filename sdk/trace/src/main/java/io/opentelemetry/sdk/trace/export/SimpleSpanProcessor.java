@@ -13,6 +13,7 @@ import io.opentelemetry.sdk.trace.ReadWriteSpan;
 import io.opentelemetry.sdk.trace.ReadableSpan;
 import io.opentelemetry.sdk.trace.SpanProcessor;
 import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.internal.RecyclableSpan;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -84,6 +85,8 @@ public final class SimpleSpanProcessor implements SpanProcessor {
   @Override
   public void onEnd(ReadableSpan span) {
     if (span != null && (exportUnsampledSpans || span.getSpanContext().isSampled())) {
+      // The exporter may still read the span data after onEnd returns.
+      RecyclableSpan recyclableSpan = RecyclableSpans.retain(span);
       try {
         List<SpanData> spans = Collections.singletonList(span.toSpanData());
         CompletableResultCode result = spanExporter.export(spans);
@@ -91,12 +94,18 @@ public final class SimpleSpanProcessor implements SpanProcessor {
         result.whenComplete(
             () -> {
               pendingExports.remove(result);
+              if (recyclableSpan != null) {
+                recyclableSpan.release();
+              }
               if (!result.isSuccess()) {
                 logger.log(Level.FINE, "Exporter failed");
               }
             });
       } catch (RuntimeException e) {
         logger.log(Level.WARNING, "Exporter threw an Exception", e);
+        if (recyclableSpan != null) {
+          recyclableSpan.release();
+        }
       }
     }
   }
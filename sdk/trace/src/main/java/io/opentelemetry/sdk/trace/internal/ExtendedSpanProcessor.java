@@ -0,0 +1,49 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.internal;
+
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import java.util.List;
+
+/**
+ * A {@link SpanProcessor} that can be notified of a group of ended spans at once. This happens when
+ * the tracer provider is configured with a span end batch size, see {@link
+ * SdkTracerProviderUtil#setSpanEndBatchSize(io.opentelemetry.sdk.trace.SdkTracerProviderBuilder,
+ * int)}. Processors that do not implement this interface are notified of each span of the group
+ * with {@link SpanProcessor#onEnd(ReadableSpan)}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface ExtendedSpanProcessor extends SpanProcessor {
+
+  /**
+   * Notifies {@code spanProcessor} of the ended {@code spans}, with {@link #onEndBatch(List)} if it
+   * is an {@link ExtendedSpanProcessor}, or else with {@link SpanProcessor#onEnd(ReadableSpan)} for
+   * each span, in order.
+   */
+  static void notifyEnd(SpanProcessor spanProcessor, List<ReadableSpan> spans) {
+    if (spanProcessor instanceof ExtendedSpanProcessor) {
+      ((ExtendedSpanProcessor) spanProcessor).onEndBatch(spans);
+      return;
+    }
+    for (int i = 0; i < spans.size(); i++) {
+      spanProcessor.onEnd(spans.get(i));
+    }
+  }
+
+  /**
+   * Called with a group of ended spans, instead of calling {@link
+   * SpanProcessor#onEnd(ReadableSpan)} for each of them.
+   *
+   * <p>The list is only valid for the duration of the call. Processors that keep the spans must
+   * copy them.
+   *
+   * @param spans the spans that ended.
+   */
+  void onEndBatch(List<ReadableSpan> spans);
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.internal;
+
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+
+/**
+ * A {@link ReadableSpan} whose internal storage, such as its attributes and events, is reused for
+ * other spans once it is no longer referenced. This is the case for spans of a tracer provider
+ * configured with {@link MemoryMode#REUSABLE_DATA}.
+ *
+ * <p>The storage is reference counted. The SDK holds a reference until every {@link SpanProcessor}
+ * has been notified that the span ended. A processor that reads the span, or data obtained from it
+ * with {@link ReadableSpan#toSpanData()}, after {@link SpanProcessor#onEnd(ReadableSpan)} returns
+ * must call {@link #retain()} from {@code onEnd} and {@link #release()} when done, for example
+ * once the export of the span completed. Reading a span after its storage was recycled returns
+ * empty attributes and events, or the data of another span.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface RecyclableSpan extends ReadableSpan {
+
+  /**
+   * Returns whether the storage of this span is recycled. When {@code false}, {@link #retain()} and
+   * {@link #release()} have no effect.
+   */
+  boolean isRecyclable();
+
+  /** Adds a reference to the storage of this span, preventing it from being recycled. */
+  void retain();
+
+  /**
+   * Removes a reference to the storage of this span. The storage is recycled when the last
+   * reference is released.
+   */
+  void release();
+
+  /**
+   * Registers a callback to run once the storage of this span has been recycled, replacing any
+   * previously registered callback. The callback runs immediately if the storage was already
+   * recycled.
+   */
+  void whenRecycled(Runnable callback);
+}
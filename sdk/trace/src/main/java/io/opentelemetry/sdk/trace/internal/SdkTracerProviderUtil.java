@@ -6,10 +6,14 @@
 package io.opentelemetry.sdk.trace.internal;
 
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.internal.QueueOverflowPolicy;
 import io.opentelemetry.sdk.internal.ScopeConfigurator;
 import io.opentelemetry.sdk.trace.SdkTracerProviderBuilder;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessorBuilder;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.function.Predicate;
 
 /**
@@ -55,4 +59,166 @@ public final class SdkTracerProviderUtil {
           "Error calling addTracerConfiguratorCondition on SdkTracerProviderBuilder", e);
     }
   }
+
+  /** Reflectively set the {@link MemoryMode} to the {@link SdkTracerProviderBuilder}. */
+  public static void setMemoryMode(
+      SdkTracerProviderBuilder sdkTracerProviderBuilder, MemoryMode memoryMode) {
+    try {
+      Method method =
+          SdkTracerProviderBuilder.class.getDeclaredMethod("setMemoryMode", MemoryMode.class);
+      method.setAccessible(true);
+      method.invoke(sdkTracerProviderBuilder, memoryMode);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException("Error calling setMemoryMode on SdkTracerProviderBuilder", e);
+    }
+  }
+
+  /**
+   * Reflectively set the number of ended spans collected per thread before notifying span
+   * processors to the {@link SdkTracerProviderBuilder}.
+   */
+  public static void setSpanEndBatchSize(
+      SdkTracerProviderBuilder sdkTracerProviderBuilder, int spanEndBatchSize) {
+    try {
+      Method method =
+          SdkTracerProviderBuilder.class.getDeclaredMethod("setSpanEndBatchSize", int.class);
+      method.setAccessible(true);
+      method.invoke(sdkTracerProviderBuilder, spanEndBatchSize);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setSpanEndBatchSize on SdkTracerProviderBuilder", e);
+    }
+  }
+
+  /** Reflectively set the number of workers to the {@link BatchSpanProcessorBuilder}. */
+  public static void setWorkerCount(
+      BatchSpanProcessorBuilder batchSpanProcessorBuilder, int workerCount) {
+    try {
+      Method method =
+          BatchSpanProcessorBuilder.class.getDeclaredMethod("setWorkerCount", int.class);
+      method.setAccessible(true);
+      method.invoke(batchSpanProcessorBuilder, workerCount);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setWorkerCount on BatchSpanProcessorBuilder", e);
+    }
+  }
+
+  /**
+   * Reflectively set the maximum number of concurrent exports to the {@link
+   * BatchSpanProcessorBuilder}.
+   */
+  public static void setMaxConcurrentExports(
+      BatchSpanProcessorBuilder batchSpanProcessorBuilder, int maxConcurrentExports) {
+    try {
+      Method method =
+          BatchSpanProcessorBuilder.class.getDeclaredMethod("setMaxConcurrentExports", int.class);
+      method.setAccessible(true);
+      method.invoke(batchSpanProcessorBuilder, maxConcurrentExports);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setMaxConcurrentExports on BatchSpanProcessorBuilder", e);
+    }
+  }
+
+  /** Reflectively set the {@link QueueOverflowPolicy} to the {@link BatchSpanProcessorBuilder}. */
+  public static void setOverflowPolicy(
+      BatchSpanProcessorBuilder batchSpanProcessorBuilder, QueueOverflowPolicy overflowPolicy) {
+    try {
+      Method method =
+          BatchSpanProcessorBuilder.class.getDeclaredMethod(
+              "setOverflowPolicy", QueueOverflowPolicy.class);
+      method.setAccessible(true);
+      method.invoke(batchSpanProcessorBuilder, overflowPolicy);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setOverflowPolicy on BatchSpanProcessorBuilder", e);
+    }
+  }
+
+  /**
+   * Reflectively set the maximum time to wait for space in a full queue to the {@link
+   * BatchSpanProcessorBuilder}.
+   */
+  public static void setOverflowBlockTimeout(
+      BatchSpanProcessorBuilder batchSpanProcessorBuilder, Duration timeout) {
+    try {
+      Method method =
+          BatchSpanProcessorBuilder.class.getDeclaredMethod(
+              "setOverflowBlockTimeout", Duration.class);
+      method.setAccessible(true);
+      method.invoke(batchSpanProcessorBuilder, timeout);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setOverflowBlockTimeout on BatchSpanProcessorBuilder", e);
+    }
+  }
+
+  /**
+   * Reflectively set whether ended spans are exported without a snapshot to the {@link
+   * BatchSpanProcessorBuilder}.
+   */
+  public static void setExportEndedSpansWithoutCopy(
+      BatchSpanProcessorBuilder batchSpanProcessorBuilder, boolean exportEndedSpansWithoutCopy) {
+    try {
+      Method method =
+          BatchSpanProcessorBuilder.class.getDeclaredMethod(
+              "setExportEndedSpansWithoutCopy", boolean.class);
+      method.setAccessible(true);
+      method.invoke(batchSpanProcessorBuilder, exportEndedSpansWithoutCopy);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setExportEndedSpansWithoutCopy on BatchSpanProcessorBuilder", e);
+    }
+  }
+
+  /**
+   * Reflectively set whether exports adapt to the load to the {@link BatchSpanProcessorBuilder}.
+   */
+  public static void setAdaptiveExport(
+      BatchSpanProcessorBuilder batchSpanProcessorBuilder, boolean adaptiveExport) {
+    try {
+      Method method =
+          BatchSpanProcessorBuilder.class.getDeclaredMethod("setAdaptiveExport", boolean.class);
+      method.setAccessible(true);
+      method.invoke(batchSpanProcessorBuilder, adaptiveExport);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setAdaptiveExport on BatchSpanProcessorBuilder", e);
+    }
+  }
+
+  /**
+   * Reflectively set the minimum batch size of adaptive exports to the {@link
+   * BatchSpanProcessorBuilder}.
+   */
+  public static void setMinExportBatchSize(
+      BatchSpanProcessorBuilder batchSpanProcessorBuilder, int minExportBatchSize) {
+    try {
+      Method method =
+          BatchSpanProcessorBuilder.class.getDeclaredMethod("setMinExportBatchSize", int.class);
+      method.setAccessible(true);
+      method.invoke(batchSpanProcessorBuilder, minExportBatchSize);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setMinExportBatchSize on BatchSpanProcessorBuilder", e);
+    }
+  }
+
+  /**
+   * Reflectively set the minimum delay between adaptive exports to the {@link
+   * BatchSpanProcessorBuilder}.
+   */
+  public static void setMinScheduleDelay(
+      BatchSpanProcessorBuilder batchSpanProcessorBuilder, Duration delay) {
+    try {
+      Method method =
+          BatchSpanProcessorBuilder.class.getDeclaredMethod("setMinScheduleDelay", Duration.class);
+      method.setAccessible(true);
+      method.invoke(batchSpanProcessorBuilder, delay);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setMinScheduleDelay on BatchSpanProcessorBuilder", e);
+    }
+  }
 }
@@ -0,0 +1,168 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.trace.internal.ExtendedSpanProcessor;
+import io.opentelemetry.sdk.trace.internal.RecyclableSpan;
+import io.opentelemetry.sdk.trace.internal.SdkTracerProviderUtil;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class EndBatchingSpanProcessorTest {
+
+  @Test
+  void notifiesWhenRingIsFull() {
+    RecordingSpanProcessor recording = new RecordingSpanProcessor();
+    SdkTracerProvider tracerProvider = newTracerProvider(recording, 2, MemoryMode.IMMUTABLE_DATA);
+    Tracer tracer = tracerProvider.get("test");
+
+    tracer.spanBuilder("span1").startSpan().end();
+    assertThat(recording.batches).isEmpty();
+
+    tracer.spanBuilder("span2").startSpan().end();
+    assertThat(recording.batches).containsExactly(Arrays.asList("span1", "span2"));
+
+    tracer.spanBuilder("span3").startSpan().end();
+    assertThat(recording.batches).hasSize(1);
+  }
+
+  @Test
+  void forceFlush_notifiesPartialRings() throws InterruptedException {
+    RecordingSpanProcessor recording = new RecordingSpanProcessor();
+    SdkTracerProvider tracerProvider = newTracerProvider(recording, 4, MemoryMode.IMMUTABLE_DATA);
+    Tracer tracer = tracerProvider.get("test");
+
+    tracer.spanBuilder("span1").startSpan().end();
+    Thread thread = new Thread(() -> tracer.spanBuilder("span2").startSpan().end());
+    thread.start();
+    thread.join();
+    assertThat(recording.batches).isEmpty();
+
+    assertThat(tracerProvider.forceFlush().isSuccess()).isTrue();
+    assertThat(recording.batches)
+        .containsExactlyInAnyOrder(singletonList("span1"), singletonList("span2"));
+
+    assertThat(tracerProvider.forceFlush().isSuccess()).isTrue();
+    assertThat(recording.batches).hasSize(2);
+  }
+
+  @Test
+  void notifiesAfterMaxDelay() throws InterruptedException {
+    RecordingSpanProcessor recording = new RecordingSpanProcessor();
+    EndBatchingSpanProcessor processor =
+        new EndBatchingSpanProcessor(recording, 4, TimeUnit.MILLISECONDS.toNanos(50));
+    SdkTracerProvider tracerProvider =
+        SdkTracerProvider.builder().addSpanProcessor(processor).build();
+
+    Thread thread =
+        new Thread(() -> tracerProvider.get("test").spanBuilder("span1").startSpan().end());
+    thread.start();
+    thread.join();
+    await().untilAsserted(() -> assertThat(recording.batches()).hasSize(1));
+    assertThat(recording.batches()).containsExactly(singletonList("span1"));
+
+    tracerProvider.shutdown();
+  }
+
+  @Test
+  void shutdown_notifiesPartialRings() {
+    RecordingSpanProcessor recording = new RecordingSpanProcessor();
+    SdkTracerProvider tracerProvider = newTracerProvider(recording, 4, MemoryMode.IMMUTABLE_DATA);
+
+    tracerProvider.get("test").spanBuilder("span1").startSpan().end();
+    assertThat(tracerProvider.shutdown().isSuccess()).isTrue();
+    assertThat(recording.batches).containsExactly(singletonList("span1"));
+  }
+
+  @Test
+  void reusableData_retainsUntilNotified() {
+    RecordingSpanProcessor recording = new RecordingSpanProcessor();
+    SdkTracerProvider tracerProvider = newTracerProvider(recording, 2, MemoryMode.REUSABLE_DATA);
+    Tracer tracer = tracerProvider.get("test");
+
+    Span span = tracer.spanBuilder("span1").startSpan();
+    AtomicBoolean recycled = new AtomicBoolean();
+    ((RecyclableSpan) span).whenRecycled(() -> recycled.set(true));
+    span.end();
+    assertThat(recycled).isFalse();
+
+    tracer.spanBuilder("span2").startSpan().end();
+    assertThat(recording.batches).containsExactly(Arrays.asList("span1", "span2"));
+    assertThat(recycled).isTrue();
+  }
+
+  @Test
+  void batchSizeOne_notWrapped() {
+    SdkTracerProviderBuilder builder =
+        SdkTracerProvider.builder().addSpanProcessor(new RecordingSpanProcessor());
+    SdkTracerProviderUtil.setSpanEndBatchSize(builder, 1);
+    assertThat(builder.build().toString()).doesNotContain("EndBatchingSpanProcessor");
+
+    assertThatThrownBy(() -> SdkTracerProvider.builder().setSpanEndBatchSize(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("spanEndBatchSize must be positive");
+  }
+
+  private static SdkTracerProvider newTracerProvider(
+      SpanProcessor spanProcessor, int spanEndBatchSize, MemoryMode memoryMode) {
+    SdkTracerProviderBuilder builder = SdkTracerProvider.builder().addSpanProcessor(spanProcessor);
+    SdkTracerProviderUtil.setSpanEndBatchSize(builder, spanEndBatchSize);
+    SdkTracerProviderUtil.setMemoryMode(builder, memoryMode);
+    return builder.build();
+  }
+
+  private static final class RecordingSpanProcessor implements ExtendedSpanProcessor {
+
+    private final List<List<String>> batches = new ArrayList<>();
+
+    private synchronized List<List<String>> batches() {
+      return new ArrayList<>(batches);
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {}
+
+    @Override
+    public boolean isStartRequired() {
+      return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+      throw new AssertionError("Expected onEndBatch");
+    }
+
+    @Override
+    public synchronized void onEndBatch(List<ReadableSpan> spans) {
+      batches.add(spans.stream().map(ReadableSpan::getName).collect(Collectors.toList()));
+    }
+
+    @Override
+    public boolean isEndRequired() {
+      return true;
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+      return CompletableResultCode.ofSuccess();
+    }
+  }
+}
@@ -14,8 +14,10 @@ import static org.mockito.Mockito.when;
 
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.internal.ExtendedSpanProcessor;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,6 +31,7 @@ import org.mockito.quality.Strictness;
 class MultiSpanProcessorTest {
   @Mock private SpanProcessor spanProcessor1;
   @Mock private SpanProcessor spanProcessor2;
+  @Mock private ExtendedSpanProcessor extendedSpanProcessor;
   @Mock private ReadableSpan readableSpan;
   @Mock private ReadWriteSpan readWriteSpan;
 
@@ -107,6 +110,23 @@ class MultiSpanProcessorTest {
     verify(spanProcessor2).shutdown();
   }
 
+  @Test
+  void twoSpanProcessor_EndBatch() {
+    when(spanProcessor1.isEndRequired()).thenReturn(false);
+    when(extendedSpanProcessor.isEndRequired()).thenReturn(true);
+    ExtendedSpanProcessor multiSpanProcessor =
+        (ExtendedSpanProcessor)
+            SpanProcessor.composite(
+                Arrays.asList(spanProcessor1, spanProcessor2, extendedSpanProcessor));
+
+    List<ReadableSpan> spans = Arrays.asList(readableSpan, readableSpan);
+    multiSpanProcessor.onEndBatch(spans);
+    verify(spanProcessor1, times(0)).onEnd(any(ReadableSpan.class));
+    verify(spanProcessor2, times(2)).onEnd(same(readableSpan));
+    verify(extendedSpanProcessor).onEndBatch(same(spans));
+    verify(extendedSpanProcessor, times(0)).onEnd(any(ReadableSpan.class));
+  }
+
   @Test
   void stringRepresentation() {
     when(spanProcessor1.toString()).thenReturn("spanProcessor1");
@@ -998,7 +998,8 @@ class SdkSpanBuilderTest {
                 + "kind=INTERNAL, "
                 + "startEpochNanos=[0-9]+, "
                 + "endEpochNanos=[0-9]+, "
-                + "attributes=AttributesMap\\{data=\\{[^}]*}, capacity=128, totalAddedValues=2}, "
+                + "attributes=SpanAttributesMap\\{data=\\{[^}]*}, "
+                + "capacity=128, totalAddedValues=2}, "
                 + "totalAttributeCount=2, "
                 + "events=\\[], "
                 + "totalRecordedEvents=0, "
@@ -34,7 +34,6 @@ import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
-import io.opentelemetry.sdk.internal.AttributesMap;
 import io.opentelemetry.sdk.internal.InstrumentationScopeUtil;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.testing.time.TestClock;
@@ -192,6 +191,39 @@ class SdkSpanTest {
         /* hasEnded= */ true);
   }
 
+  @Test
+  void endedSpanAsSpanData() {
+    SdkSpan span = createTestSpan(SpanKind.INTERNAL);
+    try {
+      spanDoWork(span, StatusCode.ERROR, "CANCELLED");
+    } finally {
+      span.end();
+    }
+    EventData event =
+        EventData.create(START_EPOCH_NANOS + NANOS_PER_SECOND, "event2", Attributes.empty(), 0);
+    verifySpanData(
+        span,
+        expectedAttributes,
+        Collections.singletonList(event),
+        Collections.singletonList(link),
+        SPAN_NEW_NAME,
+        START_EPOCH_NANOS,
+        testClock.now(),
+        StatusData.create(StatusCode.ERROR, "CANCELLED"),
+        /* hasEnded= */ true);
+    SpanData spanData = span.toSpanData();
+    assertThat(SpanDataEquality.equals(span, spanData)).isTrue();
+    assertThat(SpanDataEquality.hashCode(span)).isEqualTo(SpanDataEquality.hashCode(spanData));
+    assertThat(span).isNotEqualTo(spanData);
+    assertThat(spanData).isNotEqualTo(span);
+    assertThat(span.getTotalAttributeCount()).isEqualTo(spanData.getTotalAttributeCount());
+    assertThat(span.getTotalRecordedEvents()).isEqualTo(spanData.getTotalRecordedEvents());
+    assertThat(span.getTotalRecordedLinks()).isEqualTo(spanData.getTotalRecordedLinks());
+    assertThatThrownBy(
+            () -> span.getEvents().add(EventData.create(1000, "test", Attributes.empty())))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
   @Test
   void toSpanData_immutableLinks() {
     SdkSpan span = createTestSpan(SpanKind.INTERNAL);
@@ -939,7 +971,8 @@ class SdkSpanTest {
             null,
             null, // exercises the fault-in path
             0,
-            0);
+            0,
+            null);
     SdkSpan linkedSpan = createTestSpan(SpanKind.INTERNAL);
     span.addLink(linkedSpan.getSpanContext());
 
@@ -1222,11 +1255,12 @@ class SdkSpanTest {
             spanProcessor,
             testClock,
             resource,
-            AttributesMap.create(
+            SpanAttributesMap.create(
                 spanLimits.getMaxNumberOfAttributes(), spanLimits.getMaxAttributeValueLength()),
             Collections.emptyList(),
             1,
-            0);
+            0,
+            null);
     verify(spanProcessor, never()).onStart(any(), any());
 
     span.end();
@@ -1246,8 +1280,8 @@ class SdkSpanTest {
 
   private SdkSpan createTestSpanWithAttributes(Map<AttributeKey, Object> attributes) {
     SpanLimits spanLimits = SpanLimits.getDefault();
-    AttributesMap attributesMap =
-        AttributesMap.create(
+    SpanAttributesMap attributesMap =
+        SpanAttributesMap.create(
             spanLimits.getMaxNumberOfAttributes(), spanLimits.getMaxAttributeValueLength());
     attributes.forEach(attributesMap::put);
     return createTestSpan(
@@ -1281,7 +1315,7 @@ class SdkSpanTest {
       SpanKind kind,
       SpanLimits config,
       @Nullable String parentSpanId,
-      @Nullable AttributesMap attributes,
+      @Nullable SpanAttributesMap attributes,
       @Nullable List<LinkData> links) {
     List<LinkData> linksCopy = links == null ? new ArrayList<>() : new ArrayList<>(links);
 
@@ -1304,7 +1338,8 @@ class SdkSpanTest {
             attributes,
             linksCopy,
             linksCopy.size(),
-            0);
+            0,
+            null);
     Mockito.verify(spanProcessor, Mockito.times(1)).onStart(Context.root(), span);
     return span;
   }
@@ -1364,8 +1399,8 @@ class SdkSpanTest {
     TestClock clock = TestClock.create();
     Resource resource = this.resource;
     Attributes attributes = TestUtils.generateRandomAttributes();
-    AttributesMap attributesWithCapacity = AttributesMap.create(32, Integer.MAX_VALUE);
-    attributes.forEach(attributesWithCapacity::put);
+    SpanAttributesMap attributesWithCapacity = SpanAttributesMap.create(32, Integer.MAX_VALUE);
+    attributes.forEach((key, value) -> attributesWithCapacity.put((AttributeKey) key, value));
     Attributes event1Attributes = TestUtils.generateRandomAttributes();
     Attributes event2Attributes = TestUtils.generateRandomAttributes();
     SpanContext context =
@@ -1391,7 +1426,8 @@ class SdkSpanTest {
             attributesWithCapacity,
             Collections.singletonList(link1),
             1,
-            0);
+            0,
+            null);
     long startEpochNanos = clock.now();
     clock.advance(Duration.ofMillis(4));
     long firstEventEpochNanos = clock.now();
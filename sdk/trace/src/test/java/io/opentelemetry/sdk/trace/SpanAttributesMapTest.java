@@ -0,0 +1,69 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import static io.opentelemetry.api.common.AttributeKey.longKey;
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import io.opentelemetry.api.common.Attributes;
+import org.junit.jupiter.api.Test;
+
+class SpanAttributesMapTest {
+
+  @Test
+  void asMap() {
+    SpanAttributesMap attributesMap = SpanAttributesMap.create(2, Integer.MAX_VALUE);
+    attributesMap.put(longKey("one"), 1L);
+    attributesMap.put(longKey("two"), 2L);
+
+    assertThat(attributesMap.asMap())
+        .containsOnly(entry(longKey("one"), 1L), entry(longKey("two"), 2L));
+  }
+
+  @Test
+  void put_appliesLimits() {
+    SpanAttributesMap attributesMap = SpanAttributesMap.create(2, 3);
+    attributesMap.put(stringKey("one"), "value1");
+    attributesMap.put(longKey("two"), 2L);
+    attributesMap.put(longKey("three"), 3L);
+    // Replacing an existing key is allowed when full.
+    attributesMap.put(longKey("two"), 22L);
+
+    assertThat(attributesMap.size()).isEqualTo(2);
+    assertThat(attributesMap.getTotalAddedValues()).isEqualTo(4);
+    assertThat(attributesMap.get(stringKey("one"))).isEqualTo("val");
+    assertThat(attributesMap.get(longKey("two"))).isEqualTo(22L);
+    assertThat(attributesMap.get(longKey("three"))).isNull();
+  }
+
+  @Test
+  void put_grows() {
+    SpanAttributesMap attributesMap = SpanAttributesMap.create(100, Integer.MAX_VALUE);
+    for (long i = 0; i < 100; i++) {
+      attributesMap.put(longKey("key" + i), i);
+    }
+
+    assertThat(attributesMap.size()).isEqualTo(100);
+    for (long i = 0; i < 100; i++) {
+      assertThat(attributesMap.get(longKey("key" + i))).isEqualTo(i);
+    }
+    assertThat(attributesMap.immutableCopy())
+        .isEqualTo(attributesMap.toBuilder().build())
+        .satisfies(copy -> assertThat(copy.size()).isEqualTo(100));
+  }
+
+  @Test
+  void zeroCapacity() {
+    SpanAttributesMap attributesMap = SpanAttributesMap.create(0, Integer.MAX_VALUE);
+    attributesMap.put(longKey("one"), 1L);
+
+    assertThat(attributesMap.isEmpty()).isTrue();
+    assertThat(attributesMap.getTotalAddedValues()).isEqualTo(1);
+    assertThat(attributesMap.immutableCopy()).isEqualTo(Attributes.empty());
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.internal.RecyclableSpan;
+import io.opentelemetry.sdk.trace.internal.SdkTracerProviderUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class SpanStoragePoolTest {
+
+  @Test
+  void recycle() {
+    SpanStoragePool pool = new SpanStoragePool(1, 1);
+    SpanAttributesMap attributes = pool.acquireAttributes(1, Integer.MAX_VALUE);
+    attributes.put(stringKey("key"), "value");
+    List<EventData> events = pool.acquireEvents();
+    events.add(EventData.create(0, "event", Attributes.empty()));
+
+    pool.recycle(attributes, events);
+
+    SpanAttributesMap reusedAttributes = pool.acquireAttributes(2, 3);
+    assertThat(reusedAttributes).isSameAs(attributes);
+    assertThat(reusedAttributes.isEmpty()).isTrue();
+    assertThat(reusedAttributes.getTotalAddedValues()).isZero();
+    reusedAttributes.put(stringKey("key1"), "value1");
+    reusedAttributes.put(stringKey("key2"), "value2");
+    assertThat(reusedAttributes.get(stringKey("key1"))).isEqualTo("val");
+    assertThat(reusedAttributes.size()).isEqualTo(2);
+    assertThat(pool.acquireEvents()).isSameAs(events).isEmpty();
+
+    // The pool is empty, so new collections are allocated.
+    assertThat(pool.acquireAttributes(1, Integer.MAX_VALUE)).isNotSameAs(attributes);
+    assertThat(pool.acquireEvents()).isNotSameAs(events);
+  }
+
+  @Test
+  void reusableData_recyclesAfterRelease() {
+    List<RecyclableSpan> retained = new ArrayList<>();
+    SdkTracerProviderBuilder builder =
+        SdkTracerProvider.builder().addSpanProcessor(new RetainingSpanProcessor(retained));
+    SdkTracerProviderUtil.setMemoryMode(builder, MemoryMode.REUSABLE_DATA);
+    Tracer tracer = builder.build().get("test");
+
+    Span span = tracer.spanBuilder("span").setAttribute("key", "value").startSpan();
+    span.addEvent("event");
+    span.end();
+
+    RecyclableSpan recyclableSpan = retained.get(0);
+    assertThat(recyclableSpan.isRecyclable()).isTrue();
+    AtomicBoolean recycled = new AtomicBoolean();
+    recyclableSpan.whenRecycled(() -> recycled.set(true));
+    assertThat(recyclableSpan.toSpanData().getAttributes().get(stringKey("key")))
+        .isEqualTo("value");
+    assertThat(recyclableSpan.toSpanData().getEvents()).hasSize(1);
+    assertThat(recycled).isFalse();
+    SpanData spanData = recyclableSpan.toSpanData();
+
+    recyclableSpan.release();
+    assertThat(recycled).isTrue();
+    // Snapshots copy the pooled collections, so they are not affected by the recycling.
+    assertThat(spanData.getAttributes().get(stringKey("key"))).isEqualTo("value");
+    assertThat(spanData.getEvents()).hasSize(1);
+    assertThat(recyclableSpan.toSpanData().getAttributes().isEmpty()).isTrue();
+    assertThat(recyclableSpan.toSpanData().getEvents()).isEmpty();
+    // Releasing again has no effect.
+    recyclableSpan.release();
+  }
+
+  @Test
+  void immutableData_doesNotRecycle() {
+    List<RecyclableSpan> retained = new ArrayList<>();
+    Tracer tracer =
+        SdkTracerProvider.builder()
+            .addSpanProcessor(new RetainingSpanProcessor(retained))
+            .build()
+            .get("test");
+
+    Span span = tracer.spanBuilder("span").setAttribute("key", "value").startSpan();
+    span.end();
+
+    RecyclableSpan recyclableSpan = retained.get(0);
+    assertThat(recyclableSpan.isRecyclable()).isFalse();
+    recyclableSpan.release();
+    assertThat(recyclableSpan.toSpanData().getAttributes().get(stringKey("key")))
+        .isEqualTo("value");
+  }
+
+  private static final class RetainingSpanProcessor implements SpanProcessor {
+
+    private final List<RecyclableSpan> retained;
+
+    private RetainingSpanProcessor(List<RecyclableSpan> retained) {
+      this.retained = retained;
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {}
+
+    @Override
+    public boolean isStartRequired() {
+      return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+      RecyclableSpan recyclableSpan = (RecyclableSpan) span;
+      recyclableSpan.retain();
+      retained.add(recyclableSpan);
+    }
+
+    @Override
+    public boolean isEndRequired() {
+      return true;
+    }
+  }
+}
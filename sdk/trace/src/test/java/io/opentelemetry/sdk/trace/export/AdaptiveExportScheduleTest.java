@@ -0,0 +1,80 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveExportScheduleTest {
+
+  private static final long MIN_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+  private static final long MAX_DELAY_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+  private final AdaptiveExportSchedule schedule =
+      new AdaptiveExportSchedule(10, 500, MIN_DELAY_NANOS, MAX_DELAY_NANOS);
+
+  @Test
+  void initialValues() {
+    assertThat(schedule.getExportBatchSize()).isEqualTo(500);
+    assertThat(schedule.getScheduleDelayNanos()).isEqualTo(MAX_DELAY_NANOS);
+  }
+
+  @Test
+  void highLoad_usesLargeBatchesAndShortDelays() {
+    // 100 000 spans per second, exports taking 50ms.
+    schedule.recordExport(100_000, TimeUnit.SECONDS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(50));
+
+    assertThat(schedule.getExportBatchSize()).isEqualTo(500);
+    assertThat(schedule.getScheduleDelayNanos()).isEqualTo(MIN_DELAY_NANOS);
+  }
+
+  @Test
+  void moderateLoad_batchesSpansQueuedDuringExport() {
+    // 1 000 spans per second, exports taking 200ms.
+    schedule.recordExport(1_000, TimeUnit.SECONDS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(200));
+
+    assertThat(schedule.getExportBatchSize()).isEqualTo(200);
+    assertThat(schedule.getScheduleDelayNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+  }
+
+  @Test
+  void lowLoad_waitsForMinimumBatch() {
+    // 5 spans per second, exports taking 10ms.
+    schedule.recordExport(5, TimeUnit.SECONDS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(10));
+
+    assertThat(schedule.getExportBatchSize()).isEqualTo(10);
+    assertThat(schedule.getScheduleDelayNanos()).isEqualTo(TimeUnit.SECONDS.toNanos(2));
+  }
+
+  @Test
+  void idle_usesMaximumDelay() {
+    schedule.recordExport(0, TimeUnit.SECONDS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(10));
+
+    assertThat(schedule.getExportBatchSize()).isEqualTo(10);
+    assertThat(schedule.getScheduleDelayNanos()).isEqualTo(MAX_DELAY_NANOS);
+  }
+
+  @Test
+  void smoothsObservations() {
+    schedule.recordExport(1_000, TimeUnit.SECONDS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(200));
+    schedule.recordExport(0, TimeUnit.SECONDS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(200));
+
+    // The rate only drops by a quarter after a single idle interval.
+    assertThat(schedule.getExportBatchSize()).isEqualTo(150);
+  }
+
+  @Test
+  void minimumAboveMaximum_isCapped() {
+    AdaptiveExportSchedule capped =
+        new AdaptiveExportSchedule(1000, 500, MAX_DELAY_NANOS * 2, MAX_DELAY_NANOS);
+    capped.recordExport(0, TimeUnit.SECONDS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(10));
+
+    assertThat(capped.getExportBatchSize()).isEqualTo(500);
+    assertThat(capped.getScheduleDelayNanos()).isEqualTo(MAX_DELAY_NANOS);
+  }
+}
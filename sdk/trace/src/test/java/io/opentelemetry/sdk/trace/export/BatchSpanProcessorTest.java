@@ -21,15 +21,22 @@ import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.internal.testing.slf4j.SuppressLogger;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.internal.QueueOverflowPolicy;
 import io.opentelemetry.sdk.trace.ReadableSpan;
 import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SdkTracerProviderBuilder;
 import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.internal.RecyclableSpan;
+import io.opentelemetry.sdk.trace.internal.SdkTracerProviderUtil;
 import io.opentelemetry.sdk.trace.samplers.Sampler;
 import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -92,6 +99,21 @@ class BatchSpanProcessorTest {
     assertThat(builder.getExporterTimeoutNanos())
         .isEqualTo(
             TimeUnit.MILLISECONDS.toNanos(BatchSpanProcessorBuilder.DEFAULT_EXPORT_TIMEOUT_MILLIS));
+    assertThat(builder.getWorkerCount()).isEqualTo(BatchSpanProcessorBuilder.DEFAULT_WORKER_COUNT);
+    assertThat(builder.getMaxConcurrentExports()).isEqualTo(builder.getWorkerCount());
+    assertThat(builder.getOverflowPolicy()).isEqualTo(QueueOverflowPolicy.DROP_NEWEST);
+    assertThat(builder.getOverflowBlockTimeoutNanos())
+        .isEqualTo(
+            TimeUnit.MILLISECONDS.toNanos(
+                BatchSpanProcessorBuilder.DEFAULT_OVERFLOW_BLOCK_TIMEOUT_MILLIS));
+    assertThat(builder.getExportEndedSpansWithoutCopy()).isFalse();
+    assertThat(builder.getAdaptiveExport()).isFalse();
+    assertThat(builder.getMinExportBatchSize())
+        .isEqualTo(BatchSpanProcessorBuilder.DEFAULT_MIN_EXPORT_BATCH_SIZE);
+    assertThat(builder.getMinScheduleDelayNanos())
+        .isEqualTo(
+            TimeUnit.MILLISECONDS.toNanos(
+                BatchSpanProcessorBuilder.DEFAULT_MIN_SCHEDULE_DELAY_MILLIS));
   }
 
   @Test
@@ -121,6 +143,34 @@ class BatchSpanProcessorTest {
     assertThatThrownBy(() -> BatchSpanProcessor.builder(mockSpanExporter).setExporterTimeout(null))
         .isInstanceOf(NullPointerException.class)
         .hasMessage("timeout");
+    assertThatThrownBy(() -> BatchSpanProcessor.builder(mockSpanExporter).setWorkerCount(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("workerCount must be positive.");
+    assertThatThrownBy(
+            () -> BatchSpanProcessor.builder(mockSpanExporter).setMaxConcurrentExports(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxConcurrentExports must be positive.");
+    assertThatThrownBy(() -> BatchSpanProcessor.builder(mockSpanExporter).setOverflowPolicy(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("overflowPolicy");
+    assertThatThrownBy(
+            () ->
+                BatchSpanProcessor.builder(mockSpanExporter)
+                    .setOverflowBlockTimeout(-1, TimeUnit.MILLISECONDS))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("timeout must be non-negative");
+    assertThatThrownBy(() -> BatchSpanProcessor.builder(mockSpanExporter).setMinExportBatchSize(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("minExportBatchSize must be positive.");
+    assertThatThrownBy(
+            () ->
+                BatchSpanProcessor.builder(mockSpanExporter)
+                    .setMinScheduleDelay(-1, TimeUnit.MILLISECONDS))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("delay must be non-negative");
+    assertThatThrownBy(() -> BatchSpanProcessor.builder(mockSpanExporter).setMinScheduleDelay(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("delay");
   }
 
   @Test
@@ -186,6 +236,75 @@ class BatchSpanProcessorTest {
                         span6.toSpanData()));
   }
 
+  @Test
+  void concurrentExports() {
+    List<CompletableResultCode> results = new CopyOnWriteArrayList<>();
+    when(mockSpanExporter.export(anyList()))
+        .thenAnswer(
+            invocation -> {
+              CompletableResultCode result = new CompletableResultCode();
+              results.add(result);
+              return result;
+            });
+    BatchSpanProcessor batchSpanProcessor =
+        BatchSpanProcessor.builder(mockSpanExporter)
+            .setMaxExportBatchSize(1)
+            .setMaxConcurrentExports(3)
+            .setScheduleDelay(MAX_SCHEDULE_DELAY_MILLIS, TimeUnit.MILLISECONDS)
+            .build();
+    sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(batchSpanProcessor).build();
+
+    createEndedSpan(SPAN_NAME_1);
+    createEndedSpan(SPAN_NAME_2);
+    createEndedSpan(SPAN_NAME_1);
+    // Each export starts without waiting for the previous ones to complete.
+    await().untilAsserted(() -> assertThat(results).hasSize(3));
+
+    CompletableResultCode flushResult = batchSpanProcessor.forceFlush();
+    assertThat(flushResult.isDone()).isFalse();
+    // Exports may complete in any order.
+    results.get(2).succeed();
+    results.get(0).succeed();
+    results.get(1).succeed();
+    assertThat(flushResult.join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+  }
+
+  @Test
+  void exportWithMultipleWorkers() throws InterruptedException {
+    WaitingSpanExporter waitingSpanExporter =
+        new WaitingSpanExporter(200, CompletableResultCode.ofSuccess());
+    BatchSpanProcessorBuilder builder =
+        BatchSpanProcessor.builder(waitingSpanExporter)
+            .setMaxExportBatchSize(16)
+            .setScheduleDelay(10, TimeUnit.SECONDS);
+    SdkTracerProviderUtil.setWorkerCount(builder, 4);
+    // Each worker may have an export in progress unless configured otherwise.
+    assertThat(builder.getMaxConcurrentExports()).isEqualTo(4);
+    BatchSpanProcessor batchSpanProcessor = builder.build();
+    assertThat(batchSpanProcessor.getWorkerCount()).isEqualTo(4);
+
+    sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(batchSpanProcessor).build();
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      Thread thread =
+          new Thread(
+              () -> {
+                for (int j = 0; j < 25; j++) {
+                  createEndedSpan(SPAN_NAME_1);
+                }
+              });
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    batchSpanProcessor.forceFlush().join(10, TimeUnit.SECONDS);
+
+    List<SpanData> exported = waitingSpanExporter.waitForExport();
+    assertThat(exported).hasSize(200);
+  }
+
   @Test
   void forceExport() {
     WaitingSpanExporter waitingSpanExporter =
@@ -289,6 +408,145 @@ class BatchSpanProcessorTest {
     await().untilAsserted(() -> assertThat(batchSpanProcessor.getQueue()).isEmpty());
   }
 
+  @Test
+  void exportEndedSpansWithoutCopy() {
+    WaitingSpanExporter waitingSpanExporter =
+        new WaitingSpanExporter(2, CompletableResultCode.ofSuccess());
+    BatchSpanProcessorBuilder builder =
+        BatchSpanProcessor.builder(waitingSpanExporter)
+            .setScheduleDelay(MAX_SCHEDULE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    SdkTracerProviderUtil.setExportEndedSpansWithoutCopy(builder, true);
+    sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(builder.build()).build();
+
+    ReadableSpan span1 = createEndedSpan(SPAN_NAME_1);
+    ReadableSpan span2 = createEndedSpan(SPAN_NAME_2);
+    List<SpanData> exported = waitingSpanExporter.waitForExport();
+    assertThat(exported).hasSize(2);
+    assertThat(exported.get(0)).isSameAs(span1);
+    assertThat(exported.get(1)).isSameAs(span2);
+    assertThat(exported.get(0).getName()).isEqualTo(SPAN_NAME_1);
+    assertThat(exported.get(0).hasEnded()).isTrue();
+  }
+
+  @Test
+  void reusableData_recyclesSpansAfterExport() {
+    WaitingSpanExporter waitingSpanExporter =
+        new WaitingSpanExporter(1, CompletableResultCode.ofSuccess());
+    SdkTracerProviderBuilder builder =
+        SdkTracerProvider.builder()
+            .addSpanProcessor(
+                BatchSpanProcessor.builder(waitingSpanExporter)
+                    .setScheduleDelay(MAX_SCHEDULE_DELAY_MILLIS, TimeUnit.MILLISECONDS)
+                    .build());
+    SdkTracerProviderUtil.setMemoryMode(builder, MemoryMode.REUSABLE_DATA);
+    sdkTracerProvider = builder.build();
+
+    RecyclableSpan span = (RecyclableSpan) createEndedSpan(SPAN_NAME_1);
+    AtomicBoolean recycled = new AtomicBoolean();
+    span.whenRecycled(() -> recycled.set(true));
+
+    assertThat(waitingSpanExporter.waitForExport()).hasSize(1);
+    await().untilAsserted(() -> assertThat(recycled).isTrue());
+  }
+
+  @Test
+  void reusableData_recyclesSpansOnceTimedOutExportCompletes() {
+    CompletableResultCode timedOutResult = new CompletableResultCode();
+    List<Collection<SpanData>> exports = new CopyOnWriteArrayList<>();
+    when(mockSpanExporter.export(any()))
+        .thenAnswer(
+            invocation -> {
+              exports.add(invocation.getArgument(0));
+              return exports.size() == 1 ? timedOutResult : CompletableResultCode.ofSuccess();
+            });
+    SdkTracerProviderBuilder builder =
+        SdkTracerProvider.builder()
+            .addSpanProcessor(
+                BatchSpanProcessor.builder(mockSpanExporter)
+                    .setExporterTimeout(10, TimeUnit.MILLISECONDS)
+                    .setScheduleDelay(1, TimeUnit.MILLISECONDS)
+                    .build());
+    SdkTracerProviderUtil.setMemoryMode(builder, MemoryMode.REUSABLE_DATA);
+    sdkTracerProvider = builder.build();
+
+    RecyclableSpan span = (RecyclableSpan) createEndedSpan(SPAN_NAME_1);
+    AtomicBoolean recycled = new AtomicBoolean();
+    span.whenRecycled(() -> recycled.set(true));
+    await().untilAsserted(() -> assertThat(exports).hasSize(1));
+    // The next export only starts once the first one timed out.
+    createEndedSpan(SPAN_NAME_2);
+    await().untilAsserted(() -> assertThat(exports).hasSize(2));
+
+    // The exporter may still read the spans of the timed out export until it completes.
+    assertThat(recycled).isFalse();
+    timedOutResult.succeed();
+    assertThat(recycled).isTrue();
+  }
+
+  @Test
+  void spanEndBatch_exportsSpans() {
+    WaitingSpanExporter waitingSpanExporter =
+        new WaitingSpanExporter(2, CompletableResultCode.ofSuccess());
+    SdkTracerProviderBuilder builder =
+        SdkTracerProvider.builder()
+            .addSpanProcessor(
+                BatchSpanProcessor.builder(waitingSpanExporter)
+                    .setMaxExportBatchSize(2)
+                    .setScheduleDelay(MAX_SCHEDULE_DELAY_MILLIS, TimeUnit.MILLISECONDS)
+                    .build());
+    SdkTracerProviderUtil.setSpanEndBatchSize(builder, 2);
+    sdkTracerProvider = builder.build();
+
+    ReadableSpan span1 = createEndedSpan(SPAN_NAME_1);
+    ReadableSpan span2 = createEndedSpan(SPAN_NAME_2);
+    List<SpanData> exported = waitingSpanExporter.waitForExport();
+    assertThat(exported).containsExactly(span1.toSpanData(), span2.toSpanData());
+  }
+
+  @Test
+  void spanEndBatch_skipsNotSampledSpans() {
+    WaitingSpanExporter waitingSpanExporter =
+        new WaitingSpanExporter(1, CompletableResultCode.ofSuccess());
+    when(mockSampler.shouldSample(any(), any(), any(), any(), any(), anyList()))
+        .thenReturn(SamplingResult.recordOnly());
+    SdkTracerProviderBuilder builder =
+        SdkTracerProvider.builder()
+            .addSpanProcessor(
+                BatchSpanProcessor.builder(waitingSpanExporter)
+                    .setScheduleDelay(MAX_SCHEDULE_DELAY_MILLIS, TimeUnit.MILLISECONDS)
+                    .build())
+            .setSampler(mockSampler);
+    SdkTracerProviderUtil.setSpanEndBatchSize(builder, 2);
+    sdkTracerProvider = builder.build();
+
+    createEndedSpan(SPAN_NAME_1);
+    when(mockSampler.shouldSample(any(), any(), any(), any(), any(), anyList()))
+        .thenReturn(SamplingResult.recordAndSample());
+    ReadableSpan span = createEndedSpan(SPAN_NAME_2);
+    List<SpanData> exported = waitingSpanExporter.waitForExport();
+    assertThat(exported).containsExactly(span.toSpanData());
+  }
+
+  @Test
+  void adaptiveExport() {
+    WaitingSpanExporter waitingSpanExporter =
+        new WaitingSpanExporter(2, CompletableResultCode.ofSuccess());
+    BatchSpanProcessorBuilder processorBuilder =
+        BatchSpanProcessor.builder(waitingSpanExporter)
+            .setMaxExportBatchSize(2)
+            .setScheduleDelay(MAX_SCHEDULE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    SdkTracerProviderUtil.setAdaptiveExport(processorBuilder, true);
+    SdkTracerProviderUtil.setMinExportBatchSize(processorBuilder, 1);
+    SdkTracerProviderUtil.setMinScheduleDelay(processorBuilder, Duration.ZERO);
+    sdkTracerProvider =
+        SdkTracerProvider.builder().addSpanProcessor(processorBuilder.build()).build();
+
+    ReadableSpan span1 = createEndedSpan(SPAN_NAME_1);
+    ReadableSpan span2 = createEndedSpan(SPAN_NAME_2);
+    List<SpanData> exported = waitingSpanExporter.waitForExport();
+    assertThat(exported).containsExactly(span1.toSpanData(), span2.toSpanData());
+  }
+
   @Test
   void exportSpansToMultipleExporters() {
     WaitingSpanExporter waitingSpanExporter =
@@ -368,6 +626,123 @@ class BatchSpanProcessorTest {
     assertThat(exported).containsExactlyElementsOf(spansToExport);
   }
 
+  @Test
+  void exportMoreSpansThanTheMaximumLimit_dropOldest() {
+    int maxQueuedSpans = 8;
+    WaitingSpanExporter waitingSpanExporter =
+        new WaitingSpanExporter(maxQueuedSpans + 1, CompletableResultCode.ofSuccess());
+    sdkTracerProvider =
+        SdkTracerProvider.builder()
+            .addSpanProcessor(
+                BatchSpanProcessor.builder(
+                        SpanExporter.composite(
+                            Arrays.asList(blockingSpanExporter, waitingSpanExporter)))
+                    .setScheduleDelay(MAX_SCHEDULE_DELAY_MILLIS, TimeUnit.MILLISECONDS)
+                    .setMaxQueueSize(maxQueuedSpans)
+                    .setMaxExportBatchSize(maxQueuedSpans / 2)
+                    .setOverflowPolicy(QueueOverflowPolicy.DROP_OLDEST)
+                    .build())
+            .build();
+
+    List<SpanData> spansToExport = new ArrayList<>(maxQueuedSpans + 1);
+    spansToExport.add(createEndedSpan("blocking_span").toSpanData());
+    blockingSpanExporter.waitUntilIsBlocked();
+
+    ReadableSpan lastQueuedSpan = null;
+    for (int i = 0; i < maxQueuedSpans; i++) {
+      lastQueuedSpan = createEndedSpan("span_1_" + i);
+    }
+    // The second round displaces all but the newest span of the first round.
+    spansToExport.add(lastQueuedSpan.toSpanData());
+    for (int i = 0; i < maxQueuedSpans - 1; i++) {
+      spansToExport.add(createEndedSpan("span_2_" + i).toSpanData());
+    }
+
+    blockingSpanExporter.unblock();
+
+    List<SpanData> exported = waitingSpanExporter.waitForExport();
+    assertThat(exported).isNotNull();
+    assertThat(exported).containsExactlyElementsOf(spansToExport);
+  }
+
+  @Test
+  void exportMoreSpansThanTheMaximumLimit_block() throws InterruptedException {
+    int maxQueuedSpans = 8;
+    WaitingSpanExporter waitingSpanExporter =
+        new WaitingSpanExporter(2 * maxQueuedSpans, CompletableResultCode.ofSuccess());
+    sdkTracerProvider =
+        SdkTracerProvider.builder()
+            .addSpanProcessor(
+                BatchSpanProcessor.builder(
+                        SpanExporter.composite(
+                            Arrays.asList(blockingSpanExporter, waitingSpanExporter)))
+                    .setScheduleDelay(MAX_SCHEDULE_DELAY_MILLIS, TimeUnit.MILLISECONDS)
+                    .setMaxQueueSize(maxQueuedSpans)
+                    .setMaxExportBatchSize(maxQueuedSpans / 2)
+                    .setOverflowPolicy(QueueOverflowPolicy.BLOCK)
+                    .setOverflowBlockTimeout(10, TimeUnit.SECONDS)
+                    .build())
+            .build();
+
+    List<SpanData> spansToExport = new ArrayList<>(2 * maxQueuedSpans);
+    spansToExport.add(createEndedSpan("blocking_span").toSpanData());
+    blockingSpanExporter.waitUntilIsBlocked();
+
+    for (int i = 0; i < maxQueuedSpans; i++) {
+      spansToExport.add(createEndedSpan("span_1_" + i).toSpanData());
+    }
+
+    Thread unblocker =
+        new Thread(
+            () -> {
+              try {
+                Thread.sleep(100);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              blockingSpanExporter.unblock();
+            });
+    unblocker.start();
+    // The queue is full, so these wait for the worker to make room instead of being dropped.
+    for (int i = 0; i < maxQueuedSpans - 1; i++) {
+      spansToExport.add(createEndedSpan("span_2_" + i).toSpanData());
+    }
+    unblocker.join();
+
+    List<SpanData> exported = waitingSpanExporter.waitForExport();
+    assertThat(exported).isNotNull();
+    assertThat(exported).containsExactlyElementsOf(spansToExport);
+  }
+
+  @Test
+  void exportMoreSpansThanTheMaximumLimit_blockAfterShutdown() {
+    int maxQueuedSpans = 8;
+    BatchSpanProcessor batchSpanProcessor =
+        BatchSpanProcessor.builder(blockingSpanExporter)
+            .setScheduleDelay(MAX_SCHEDULE_DELAY_MILLIS, TimeUnit.MILLISECONDS)
+            .setMaxQueueSize(maxQueuedSpans)
+            .setMaxExportBatchSize(maxQueuedSpans / 2)
+            .setOverflowPolicy(QueueOverflowPolicy.BLOCK)
+            .setOverflowBlockTimeout(1, TimeUnit.MINUTES)
+            .build();
+    sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(batchSpanProcessor).build();
+
+    createEndedSpan("blocking_span");
+    blockingSpanExporter.waitUntilIsBlocked();
+    for (int i = 0; i < maxQueuedSpans; i++) {
+      createEndedSpan("span_" + i);
+    }
+    CompletableResultCode shutdownResult = batchSpanProcessor.shutdown();
+
+    // The queue is full and will not be drained for new spans, so the span is dropped right away.
+    long startNanos = System.nanoTime();
+    createEndedSpan("dropped_span");
+    assertThat(System.nanoTime() - startNanos).isLessThan(TimeUnit.SECONDS.toNanos(10));
+
+    blockingSpanExporter.unblock();
+    assertThat(shutdownResult.join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+  }
+
   @Test
   void ignoresNullSpans() {
     BatchSpanProcessor processor = BatchSpanProcessor.builder(mockSpanExporter).build();
@@ -412,6 +787,7 @@ class BatchSpanProcessorTest {
 
   @Test
   @Timeout(5)
+  @SuppressLogger(BatchSpanProcessor.class)
   public void continuesIfExporterTimesOut() throws InterruptedException {
     int exporterTimeoutMillis = 10;
     BatchSpanProcessor bsp =
@@ -610,7 +986,12 @@ class BatchSpanProcessorTest {
                 + "exportUnsampledSpans=false, "
                 + "scheduleDelayNanos=5000000000, "
                 + "maxExportBatchSize=512, "
-                + "exporterTimeoutNanos=30000000000}");
+                + "exporterTimeoutNanos=30000000000, "
+                + "workerCount=1, "
+                + "maxConcurrentExports=1, "
+                + "overflowPolicy=DROP_NEWEST, "
+                + "exportEndedSpansWithoutCopy=false, "
+                + "adaptiveExport=false}");
   }
 
   @Test
@@ -33,6 +33,7 @@ include(":extensions:kotlin")
 include(":extensions:trace-propagators")
 include(":exporters:common")
 include(":exporters:common:compile-stub")
+include(":exporters:compressors")
 include(":exporters:sender:grpc-managed-channel")
 include(":exporters:sender:jdk")
 include(":exporters:sender:okhttp")